@@ -0,0 +1,100 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.ContextoSimulacao;
+import simulador.eventos.AgendaEventos;
+import simulador.eventos.CalendarioHeap;
+import simulador.eventos.CalendarioLista;
+import simulador.eventos.Evento;
+import simulador.log.RegistroSimulacao;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a vazão da {@link AgendaEventos}: agendar um lote de eventos em tempos
+ * aleatórios, cancelar uma parte deles e processar o restante até esvaziar a
+ * agenda. A vazão é informada em eventos agendados por segundo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgendaEventosBenchmark {
+
+    /** Quantidade de eventos agendados por invocação. */
+    private static final int LOTE = 10_000;
+
+    /** Implementação de calendário usada pela agenda. */
+    @Param({"heap", "lista"})
+    public String implementacao;
+
+    /** A cada quantos eventos um é cancelado. */
+    @Param({"10"})
+    public int intervaloCancelamento;
+
+    private ContextoSimulacao contexto;
+    private SplittableRandom aleatorio;
+    private final Evento[] lote = new Evento[LOTE];
+
+    /**
+     * Evento que apenas conta as execuções.
+     */
+    private static final class EventoContador extends Evento {
+        static long execucoes;
+
+        EventoContador(int tempo) {
+            super(tempo);
+        }
+
+        @Override
+        public void executar(ContextoSimulacao contexto) {
+            execucoes++;
+        }
+    }
+
+    /**
+     * Cria o contexto silencioso e escolhe o calendário.
+     */
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new ContextoSimulacao(42, RegistroSimulacao.silencioso());
+        contexto.getAgenda().definirCalendario(implementacao.equals("lista") ? new CalendarioLista() : new CalendarioHeap());
+        aleatorio = new SplittableRandom(42);
+    }
+
+    /**
+     * Agenda, cancela e processa um lote de eventos.
+     *
+     * @return O total de execuções, para evitar eliminação de código morto.
+     */
+    @Benchmark
+    @OperationsPerInvocation(LOTE)
+    public long agendarEProcessar() {
+        AgendaEventos agenda = contexto.getAgenda();
+        agenda.resetar();
+        for (int i = 0; i < LOTE; i++) {
+            lote[i] = new EventoContador(aleatorio.nextInt(24 * 60));
+            agenda.adicionarEvento(lote[i]);
+        }
+        for (int i = 0; i < LOTE; i += intervaloCancelamento) {
+            agenda.removerEvento(lote[i]);
+        }
+        agenda.processarEventos(contexto);
+        return EventoContador.execucoes;
+    }
+}
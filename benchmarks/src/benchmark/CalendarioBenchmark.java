@@ -0,0 +1,90 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.ContextoSimulacao;
+import simulador.eventos.CalendarioEventos;
+import simulador.eventos.CalendarioHeap;
+import simulador.eventos.CalendarioLista;
+import simulador.eventos.Evento;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a vazão das implementações de {@link CalendarioEventos}.
+ * <p>
+ * Usa o modelo "hold" clássico de simulação discreta: o calendário é preenchido
+ * com {@code pendentes} eventos e cada operação remove o próximo evento e agenda
+ * um novo em um tempo futuro aleatório, mantendo o tamanho constante.
+ * Na lista encadeada cada operação custa O(n); no heap, O(log n).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarioBenchmark {
+
+    /** Quantidade de eventos pendentes mantidos no calendário. */
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int pendentes;
+
+    /** Implementação de calendário a ser medida. */
+    @Param({"heap", "lista"})
+    public String implementacao;
+
+    private CalendarioEventos calendario;
+    private SplittableRandom aleatorio;
+
+    /**
+     * Evento sem ação, usado apenas para ocupar o calendário.
+     */
+    private static final class EventoVazio extends Evento {
+        EventoVazio(int tempo) {
+            super(tempo);
+        }
+
+        @Override
+        public void executar(ContextoSimulacao contexto) {
+        }
+    }
+
+    /**
+     * Preenche o calendário com eventos em tempos crescentes, o que torna a
+     * carga inicial linear também para a lista encadeada.
+     */
+    @Setup(Level.Iteration)
+    public void preparar() {
+        calendario = implementacao.equals("lista") ? new CalendarioLista() : new CalendarioHeap();
+        aleatorio = new SplittableRandom(42);
+        int tempo = 0;
+        for (int i = 0; i < pendentes; i++) {
+            tempo += aleatorio.nextInt(3);
+            calendario.adicionar(new EventoVazio(tempo));
+        }
+    }
+
+    /**
+     * Remove o próximo evento e agenda outro à frente dele.
+     *
+     * @return O evento removido, para evitar eliminação de código morto.
+     */
+    @Benchmark
+    public Evento removerEAgendar() {
+        Evento proximo = calendario.removerProximo();
+        calendario.adicionar(new EventoVazio(proximo.getTempo() + 1 + aleatorio.nextInt(2 * pendentes)));
+        return proximo;
+    }
+}
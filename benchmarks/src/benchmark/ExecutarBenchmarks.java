@@ -0,0 +1,52 @@
+package benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Executa os benchmarks e grava os resultados em JSON, um arquivo por execução,
+ * em {@code benchmarks/resultados/}. Os arquivos podem ser comparados entre
+ * versões para saber se uma mudança deixou o simulador mais rápido ou mais lento.
+ * <p>
+ * Aceita as mesmas opções de linha de comando do JMH; por exemplo,
+ * {@code ExecutarBenchmarks SimuladorBenchmark -prof gc} roda apenas o
+ * benchmark do dia completo com o profiler de alocação.
+ */
+public class ExecutarBenchmarks {
+
+    /** Pasta onde os resultados são gravados. */
+    private static final String PASTA_RESULTADOS = "benchmarks/resultados";
+
+    /**
+     * Ponto de entrada.
+     *
+     * @param args Opções do JMH (filtro de benchmarks, profilers, parâmetros).
+     * @throws RunnerException            se a execução dos benchmarks falhar.
+     * @throws CommandLineOptionException se as opções forem inválidas.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        File pasta = new File(PASTA_RESULTADOS);
+        if (!pasta.isDirectory() && !pasta.mkdirs()) {
+            throw new IllegalStateException("Não foi possível criar a pasta " + pasta.getAbsolutePath());
+        }
+        String carimbo = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        File arquivo = new File(pasta, "jmh-" + carimbo + ".json");
+
+        Options opcoes = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(arquivo.getPath())
+                .build();
+        new Runner(opcoes).run();
+        System.out.println("Resultados gravados em " + arquivo.getPath());
+    }
+}
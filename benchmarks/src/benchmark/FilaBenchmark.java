@@ -0,0 +1,76 @@
+package benchmark;
+
+import estruturas.filas.Fila;
+import estruturas.filas.FilaCircular;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara {@link Fila} (nós encadeados) e {@link FilaCircular} (vetor circular)
+ * com a fila em regime: ela mantém {@code ocupacao} elementos e cada operação
+ * enfileira um elemento e desenfileira outro, como a fila de uma estação
+ * congestionada. Rodar com {@code -prof gc} mostra a alocação por operação.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilaBenchmark {
+
+    /** Quantidade de elementos mantidos na fila. */
+    @Param({"16", "1024"})
+    public int ocupacao;
+
+    private Fila<Integer> encadeada;
+    private FilaCircular<Integer> circular;
+    private final Integer elemento = 42;
+
+    /**
+     * Preenche as duas filas até a ocupação desejada.
+     */
+    @Setup(Level.Iteration)
+    public void preparar() {
+        encadeada = new Fila<>();
+        circular = new FilaCircular<>();
+        for (int i = 0; i < ocupacao; i++) {
+            encadeada.enqueue(elemento);
+            circular.enqueue(elemento);
+        }
+    }
+
+    /**
+     * Enfileira e desenfileira na fila encadeada.
+     *
+     * @return O elemento removido.
+     */
+    @Benchmark
+    public Integer encadeada() {
+        encadeada.enqueue(elemento);
+        return encadeada.poll();
+    }
+
+    /**
+     * Enfileira e desenfileira na fila circular.
+     *
+     * @return O elemento removido.
+     */
+    @Benchmark
+    public Integer circular() {
+        circular.enqueue(elemento);
+        return circular.poll();
+    }
+}
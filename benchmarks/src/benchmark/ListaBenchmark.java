@@ -0,0 +1,107 @@
+package benchmark;
+
+import estruturas.lista.EstruturaLista;
+import estruturas.lista.Lista;
+import estruturas.lista.ListaArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara as implementações de {@link EstruturaLista} nos padrões de uso do
+ * simulador: laço indexado com {@code getValor(i)}, inserção no fim,
+ * consumo pelo início com {@code removerHead()} e inserção ordenada.
+ * Na {@link Lista} encadeada o laço indexado custa O(n²); na {@link ListaArray}, O(n).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListaBenchmark {
+
+    /** Quantidade de elementos da lista. */
+    @Param({"100000"})
+    public int tamanho;
+
+    /** Implementação de lista a ser medida. */
+    @Param({"encadeada", "array"})
+    public String implementacao;
+
+    private EstruturaLista<Integer> lista;
+    private SplittableRandom aleatorio;
+
+    private EstruturaLista<Integer> novaLista() {
+        return implementacao.equals("array") ? new ListaArray<>() : new Lista<>();
+    }
+
+    /**
+     * Monta a lista usada pelo laço indexado.
+     */
+    @Setup(Level.Trial)
+    public void preparar() {
+        lista = novaLista();
+        aleatorio = new SplittableRandom(42);
+        for (int i = 0; i < tamanho; i++) {
+            lista.adicionar(i, i);
+        }
+    }
+
+    /**
+     * Percorre a lista inteira por índice, como os laços do simulador.
+     *
+     * @return A soma dos elementos, para evitar eliminação de código morto.
+     */
+    @Benchmark
+    public long percorrerPorIndice() {
+        long soma = 0;
+        for (int i = 0; i < lista.getTamanho(); i++) {
+            soma += lista.getValor(i);
+        }
+        return soma;
+    }
+
+    /**
+     * Insere todos os elementos no fim e depois os remove pelo início.
+     *
+     * @return A soma dos elementos removidos.
+     */
+    @Benchmark
+    public long adicionarERemover() {
+        EstruturaLista<Integer> nova = novaLista();
+        for (int i = 0; i < tamanho; i++) {
+            nova.adicionar(nova.getTamanho(), i);
+        }
+        long soma = 0;
+        while (!nova.estaVazia()) {
+            soma += nova.removerHead();
+        }
+        return soma;
+    }
+
+    /**
+     * Remove o menor elemento e insere outro em ordem à frente dele, mantendo
+     * o tamanho constante (o uso que a agenda faz de uma lista ordenada).
+     *
+     * @return O elemento removido.
+     */
+    @Benchmark
+    public Integer adicionarOrdenadoERemoverHead() {
+        Integer menor = lista.removerHead();
+        lista.adicionarOrdenado(menor + 1 + aleatorio.nextInt(2 * tamanho), Integer::compare);
+        return menor;
+    }
+}
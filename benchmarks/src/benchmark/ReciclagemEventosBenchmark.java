@@ -0,0 +1,59 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.ContextoSimulacao;
+import simulador.ResumoDia;
+import simulador.Simulador;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.log.RegistroSimulacao;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara uma semana de simulação com e sem a reciclagem de eventos da
+ * {@link simulador.eventos.FabricaEventos}, com a frota multiplicada por 10.
+ * O ganho aparece principalmente na taxa de alocação; rode com
+ * {@code ExecutarBenchmarks ReciclagemEventosBenchmark -prof gc} e compare
+ * {@code gc.alloc.rate.norm} entre os dois valores do parâmetro.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReciclagemEventosBenchmark {
+
+    /** Se os eventos executados são reaproveitados. */
+    @Param({"true", "false"})
+    public boolean reciclagem;
+
+    private ParametrosSimulacao parametros;
+
+    @Setup
+    public void preparar() {
+        parametros = ParametrosSimulacao.padrao().comFrotaEscalada(10);
+    }
+
+    /**
+     * Simula sete dias.
+     *
+     * @return Os resumos dos dias, para evitar eliminação de código morto.
+     */
+    @Benchmark
+    public ResumoDia[] semana() {
+        ContextoSimulacao contexto = new ContextoSimulacao(42, RegistroSimulacao.silencioso());
+        contexto.getFabricaEventos().setReciclagemAtiva(reciclagem);
+        return new Simulador(contexto, parametros).iniciarSimulacao(7);
+    }
+}
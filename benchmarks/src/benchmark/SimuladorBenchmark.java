@@ -0,0 +1,56 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.ContextoSimulacao;
+import simulador.ResumoDia;
+import simulador.Simulador;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.log.RegistroSimulacao;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede um dia completo de simulação sem interface e sem log, com a frota de
+ * caminhões pequenos da configuração multiplicada por 1, 10 e 100.
+ * A semente é fixa, então cada invocação simula exatamente o mesmo dia.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimuladorBenchmark {
+
+    /** Multiplicador das quantidades de caminhões de cada capacidade. */
+    @Param({"1", "10", "100"})
+    public int fatorFrota;
+
+    private ParametrosSimulacao parametros;
+
+    @Setup
+    public void preparar() {
+        parametros = ParametrosSimulacao.padrao().comFrotaEscalada(fatorFrota);
+    }
+
+    /**
+     * Simula um dia inteiro.
+     *
+     * @return Os resumos do dia, para evitar eliminação de código morto.
+     */
+    @Benchmark
+    public ResumoDia[] diaCompleto() {
+        ContextoSimulacao contexto = new ContextoSimulacao(42, RegistroSimulacao.silencioso());
+        return new Simulador(contexto, parametros).iniciarSimulacao(1);
+    }
+}
@@ -0,0 +1,68 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import simulador.aleatorio.GeradorAleatorio;
+import simulador.configTempo.GerenciadorTempo;
+import simulador.configTempo.TempoDetalhado;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.configuracao.configuracao;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o cálculo por intervalos de {@link GerenciadorTempo#estimarTempoViagem}
+ * com o laço minuto a minuto usado anteriormente, reproduzido aqui como referência,
+ * e mede {@link GerenciadorTempo#calcularTempoDetalhado}, chamado a cada coleta e transferência.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TempoViagemBenchmark {
+
+    /** Duração base da viagem, em minutos. */
+    @Param({"20", "60", "600"})
+    public int duracao;
+
+    /** Tempo de simulação em que a viagem começa; o padrão cruza o pico da tarde. */
+    @Param({"580"})
+    public int inicio;
+
+    private final GeradorAleatorio aleatorio = new GeradorAleatorio(42);
+
+    @Benchmark
+    public int intervalos() {
+        return GerenciadorTempo.estimarTempoViagem(inicio, duracao);
+    }
+
+    @Benchmark
+    public int lacoPorMinuto() {
+        int minutosRestantes = duracao;
+        int tempoAcumulado = 0;
+        int tempoAtual = 420 + inicio;
+        while (minutosRestantes > 0) {
+            boolean pico = (tempoAtual >= 360 && tempoAtual <= 540) || (tempoAtual >= 1020 && tempoAtual <= 1200);
+            double fator = pico ? configuracao.MULTIPLICADOR_TEMPO_PICO : configuracao.MULTIPLICADOR_TEMPO_FORA_PICO;
+            tempoAcumulado += (int) Math.ceil(fator);
+            tempoAtual++;
+            minutosRestantes--;
+        }
+        return tempoAcumulado;
+    }
+
+    @Benchmark
+    public TempoDetalhado calcularTempoDetalhado() {
+        return GerenciadorTempo.calcularTempoDetalhado(inicio, 8, true, aleatorio, ParametrosSimulacao.padrao());
+    }
+}
@@ -1,11 +1,20 @@
 package estruturas.filas;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Fila genérica (FIFO) baseada em nós encadeados.
+ * A iteração percorre os elementos do início ao fim da fila, sem removê-los.
  *
  * @param <T> Tipo dos elementos da fila.
  */
-public class Fila<T> {
+public class Fila<T> implements Iterable<T> {
 
     /**
      * Nó da fila, contém o valor e a referência para o próximo nó.
@@ -22,6 +31,8 @@ public class Fila<T> {
 
     private No<T> head, tail;
     private int tamanho;
+    /** Contador de alterações estruturais, usado pelos iteradores para falhar rapidamente. */
+    private int modificacoes;
 
     /**
      * Construtor. Inicializa a fila vazia.
@@ -48,6 +59,7 @@ public class Fila<T> {
             tail = novo;
         }
         tamanho++;
+        modificacoes++;
         return true;
     }
 
@@ -57,21 +69,11 @@ public class Fila<T> {
      * @return o valor removido, ou {@code null} se a fila estiver vazia
      */
     public T dequeue() {
-        if (head == null) {
-            System.out.println("Fila vazia");
-            return null;
-        }
-        T valor = head.valor;
-        head = head.prox;
-        if (head == null) {
-            tail = null;
-        }
-        tamanho--;
-        return valor;
+        return poll();
     }
 
     /**
-     * Remove e retorna o elemento no início da fila sem mensagens.
+     * Remove e retorna o elemento no início da fila.
      *
      * @return o valor removido, ou {@code null} se a fila estiver vazia
      */
@@ -85,6 +87,7 @@ public class Fila<T> {
             tail = null;
         }
         tamanho--;
+        modificacoes++;
         return valor;
     }
 
@@ -121,4 +124,55 @@ public class Fila<T> {
     public int size() {
         return tamanho;
     }
+
+    /**
+     * Retorna um iterador que percorre a fila do início ao fim.
+     *
+     * @return o iterador da fila
+     * @throws ConcurrentModificationException (no iterador) se a fila for alterada durante o percurso
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private No<T> proximo = head;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return proximo != null;
+            }
+
+            @Override
+            public T next() {
+                if (modificacoes != modificacoesEsperadas) {
+                    throw new ConcurrentModificationException();
+                }
+                if (proximo == null) {
+                    throw new NoSuchElementException();
+                }
+                T valor = proximo.valor;
+                proximo = proximo.prox;
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna um spliterator que informa o tamanho da fila.
+     *
+     * @return o spliterator da fila
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    /**
+     * Retorna um stream sequencial sobre os elementos da fila.
+     *
+     * @return o stream dos elementos, do início ao fim
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
 }
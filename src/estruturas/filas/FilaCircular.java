@@ -0,0 +1,194 @@
+package estruturas.filas;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Fila genérica (FIFO) sobre um vetor circular que dobra de tamanho quando enche.
+ * Tem o mesmo contrato de {@link Fila}, mas não aloca nada ao enfileirar ou
+ * desenfileirar enquanto houver espaço no vetor, o que a torna adequada para
+ * filas com entrada e saída constantes, como as das estações de transferência.
+ *
+ * @param <T> Tipo dos elementos da fila.
+ */
+public class FilaCircular<T> implements Iterable<T> {
+    private static final int CAPACIDADE_INICIAL = 8;
+
+    private Object[] elementos;
+    private int head;
+    private int tamanho;
+    /** Contador de alterações estruturais, usado pelos iteradores para falhar rapidamente. */
+    private int modificacoes;
+
+    /**
+     * Construtor. Inicializa a fila vazia.
+     */
+    public FilaCircular() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Inicializa a fila vazia com espaço para a quantidade de elementos informada.
+     *
+     * @param capacidadeInicial a quantidade de elementos prevista
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public FilaCircular(int capacidadeInicial) {
+        if (capacidadeInicial < 0) {
+            throw new IllegalArgumentException("Capacidade inválida: " + capacidadeInicial);
+        }
+        int capacidade = CAPACIDADE_INICIAL;
+        while (capacidade < capacidadeInicial) {
+            capacidade <<= 1;
+        }
+        elementos = new Object[capacidade];
+    }
+
+    /**
+     * Adiciona um elemento no final da fila.
+     *
+     * @param valor o valor a ser adicionado
+     * @return {@code true} se a inserção for bem-sucedida
+     */
+    public boolean enqueue(T valor) {
+        if (tamanho == elementos.length) {
+            crescer();
+        }
+        elementos[(head + tamanho) & (elementos.length - 1)] = valor;
+        tamanho++;
+        modificacoes++;
+        return true;
+    }
+
+    /**
+     * Remove e retorna o elemento no início da fila.
+     *
+     * @return o valor removido, ou {@code null} se a fila estiver vazia
+     */
+    public T dequeue() {
+        return poll();
+    }
+
+    /**
+     * Remove e retorna o elemento no início da fila.
+     *
+     * @return o valor removido, ou {@code null} se a fila estiver vazia
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (tamanho == 0) {
+            return null;
+        }
+        T valor = (T) elementos[head];
+        elementos[head] = null;
+        head = (head + 1) & (elementos.length - 1);
+        tamanho--;
+        modificacoes++;
+        return valor;
+    }
+
+    /**
+     * Retorna o elemento no início da fila sem removê-lo.
+     *
+     * @return o primeiro valor, ou {@code null} se a fila estiver vazia
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return tamanho == 0 ? null : (T) elementos[head];
+    }
+
+    /**
+     * Verifica se a fila está vazia.
+     *
+     * @return {@code true} se estiver vazia, {@code false} caso contrário
+     */
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Retorna o número de elementos na fila.
+     *
+     * @return o tamanho da fila
+     */
+    public int size() {
+        return tamanho;
+    }
+
+    /**
+     * Retorna quantos elementos cabem no vetor antes do próximo crescimento.
+     *
+     * @return a capacidade atual
+     */
+    public int getCapacidade() {
+        return elementos.length;
+    }
+
+    /**
+     * Dobra a capacidade do vetor, desfazendo a volta circular: os elementos
+     * passam a ocupar as posições a partir de zero, na ordem da fila.
+     */
+    private void crescer() {
+        Object[] novo = new Object[elementos.length << 1];
+        int ateOFim = elementos.length - head;
+        System.arraycopy(elementos, head, novo, 0, ateOFim);
+        System.arraycopy(elementos, 0, novo, ateOFim, head);
+        elementos = novo;
+        head = 0;
+    }
+
+    /**
+     * Retorna um iterador que percorre a fila do início ao fim.
+     *
+     * @return o iterador da fila
+     * @throws ConcurrentModificationException (no iterador) se a fila for alterada durante o percurso
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int posicao = 0;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return posicao < tamanho;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modificacoes != modificacoesEsperadas) {
+                    throw new ConcurrentModificationException();
+                }
+                if (posicao >= tamanho) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elementos[(head + posicao++) & (elementos.length - 1)];
+            }
+        };
+    }
+
+    /**
+     * Retorna um spliterator que informa o tamanho da fila.
+     *
+     * @return o spliterator da fila
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+
+    /**
+     * Retorna um stream sequencial sobre os elementos da fila.
+     *
+     * @return o stream dos elementos, do início ao fim
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -0,0 +1,176 @@
+package estruturas.filas;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * Fila de prioridade genérica baseada em um heap binário armazenado em vetor.
+ * O menor elemento, segundo o comparador informado, fica sempre na raiz.
+ * Inserção e remoção do mínimo custam O(log n).
+ *
+ * @param <T> Tipo dos elementos da fila.
+ */
+public class FilaPrioridade<T> {
+
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private Object[] heap;
+    private int tamanho;
+    private final Comparator<T> comparador;
+
+    /**
+     * Construtor. Inicializa a fila vazia.
+     *
+     * @param comparador o comparador que define a ordem dos elementos
+     * @throws IllegalArgumentException se o comparador for nulo
+     */
+    public FilaPrioridade(Comparator<T> comparador) {
+        if (comparador == null) {
+            throw new IllegalArgumentException("Comparador não pode ser nulo");
+        }
+        this.comparador = comparador;
+        this.heap = new Object[CAPACIDADE_INICIAL];
+        this.tamanho = 0;
+    }
+
+    /**
+     * Adiciona um elemento na fila, mantendo a propriedade de heap.
+     *
+     * @param valor o valor a ser adicionado
+     * @throws IllegalArgumentException se o valor for nulo
+     */
+    public void adicionar(T valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("Elemento não pode ser nulo");
+        }
+        if (tamanho == heap.length) {
+            Object[] maior = new Object[heap.length * 2];
+            System.arraycopy(heap, 0, maior, 0, tamanho);
+            heap = maior;
+        }
+        heap[tamanho] = valor;
+        subir(tamanho);
+        tamanho++;
+    }
+
+    /**
+     * Remove e retorna o menor elemento da fila.
+     *
+     * @return o menor elemento, ou {@code null} se a fila estiver vazia
+     */
+    public T removerMinimo() {
+        if (tamanho == 0) {
+            return null;
+        }
+        T minimo = elemento(0);
+        tamanho--;
+        heap[0] = heap[tamanho];
+        heap[tamanho] = null;
+        if (tamanho > 0) {
+            descer(0);
+        }
+        return minimo;
+    }
+
+    /**
+     * Retorna o menor elemento sem removê-lo.
+     *
+     * @return o menor elemento, ou {@code null} se a fila estiver vazia
+     */
+    public T getMinimo() {
+        return tamanho == 0 ? null : elemento(0);
+    }
+
+    /**
+     * Remove os elementos que satisfazem a condição e refaz o heap com os
+     * demais. Custa O(n), e refazer o heap também corrige a ordem dos
+     * elementos cuja comparação mudou desde que entraram na fila.
+     *
+     * @param condicao a condição dos elementos a remover
+     * @return o número de elementos removidos
+     */
+    public int removerSe(Predicate<? super T> condicao) {
+        int mantidos = 0;
+        for (int i = 0; i < tamanho; i++) {
+            if (!condicao.test(elemento(i))) {
+                heap[mantidos++] = heap[i];
+            }
+        }
+        for (int i = mantidos; i < tamanho; i++) {
+            heap[i] = null;
+        }
+        int removidos = tamanho - mantidos;
+        tamanho = mantidos;
+        for (int i = (tamanho >>> 1) - 1; i >= 0; i--) {
+            descer(i);
+        }
+        return removidos;
+    }
+
+    /**
+     * Remove todos os elementos da fila.
+     */
+    public void limpar() {
+        for (int i = 0; i < tamanho; i++) {
+            heap[i] = null;
+        }
+        tamanho = 0;
+    }
+
+    /**
+     * Retorna o número de elementos na fila.
+     *
+     * @return o tamanho da fila
+     */
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    /**
+     * Verifica se a fila está vazia.
+     *
+     * @return {@code true} se estiver vazia, {@code false} caso contrário
+     */
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    // ========== OPERAÇÕES INTERNAS DO HEAP ==========
+
+    private void subir(int pos) {
+        Object valor = heap[pos];
+        while (pos > 0) {
+            int pai = (pos - 1) >>> 1;
+            if (comparar(valor, heap[pai]) >= 0) break;
+            heap[pos] = heap[pai];
+            pos = pai;
+        }
+        heap[pos] = valor;
+    }
+
+    private void descer(int pos) {
+        Object valor = heap[pos];
+        int metade = tamanho >>> 1;
+        while (pos < metade) {
+            int filho = 2 * pos + 1;
+            int direito = filho + 1;
+            if (direito < tamanho && comparar(heap[direito], heap[filho]) < 0) {
+                filho = direito;
+            }
+            if (comparar(valor, heap[filho]) <= 0) break;
+            heap[pos] = heap[filho];
+            pos = filho;
+        }
+        heap[pos] = valor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int comparar(Object a, Object b) {
+        return comparador.compare((T) a, (T) b);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elemento(int pos) {
+        return (T) heap[pos];
+    }
+}
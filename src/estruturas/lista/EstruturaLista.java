@@ -0,0 +1,95 @@
+package estruturas.lista;
+
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Operações comuns às listas do projeto. Permite que o simulador escolha a
+ * implementação adequada ao uso: {@link Lista} (encadeada, inserção barata no
+ * meio) ou {@link ListaArray} (vetor, acesso por índice em O(1)).
+ * <p>
+ * As listas são iteráveis: os iteradores falham com
+ * {@link java.util.ConcurrentModificationException} se a lista for alterada
+ * durante o percurso, e o {@code spliterator()} informa o tamanho, o que
+ * permite processar os elementos com streams sequenciais ou paralelos.
+ *
+ * @param <T> o tipo dos elementos armazenados na lista
+ */
+public interface EstruturaLista<T> extends Iterable<T> {
+
+    /**
+     * Adiciona um elemento na posição especificada.
+     *
+     * @param pos a posição onde o elemento será inserido (0-based)
+     * @param valor o valor a ser inserido
+     * @return true se a inserção foi bem-sucedida, false caso contrário
+     * @throws IndexOutOfBoundsException se a posição for inválida (negativa ou maior que o tamanho)
+     */
+    boolean adicionar(int pos, T valor);
+
+    /**
+     * Adiciona um elemento na lista mantendo a ordem definida pelo comparador.
+     *
+     * @param elemento o elemento a ser adicionado
+     * @param comparador o comparador para definir a ordem
+     * @throws IllegalArgumentException se elemento ou comparador forem nulos
+     */
+    void adicionarOrdenado(T elemento, Comparator<T> comparador);
+
+    /**
+     * Remove e retorna o elemento no início da lista.
+     *
+     * @return o elemento removido, ou null se a lista estiver vazia
+     */
+    T removerHead();
+
+    /**
+     * Remove a primeira ocorrência do elemento informado.
+     *
+     * @param elemento o elemento a ser removido
+     * @return true se o elemento foi encontrado e removido
+     */
+    boolean removerProcurado(T elemento);
+
+    /**
+     * Retorna o valor armazenado na posição indicada.
+     *
+     * @param pos posição desejada (0-based)
+     * @return valor armazenado, ou null se a posição for inválida
+     */
+    T getValor(int pos);
+
+    /**
+     * Retorna a quantidade de elementos da lista.
+     *
+     * @return o tamanho da lista
+     */
+    int getTamanho();
+
+    /**
+     * Verifica se a lista está vazia.
+     *
+     * @return true se a lista estiver vazia, false caso contrário
+     */
+    boolean estaVazia();
+
+    /**
+     * Retorna um stream sequencial sobre os elementos da lista.
+     *
+     * @return o stream dos elementos, na ordem da lista
+     */
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Retorna um stream paralelo sobre os elementos da lista. Os elementos
+     * não devem ser alterados estruturalmente enquanto o stream é consumido.
+     *
+     * @return o stream paralelo dos elementos
+     */
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
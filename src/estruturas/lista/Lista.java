@@ -1,16 +1,24 @@
 package estruturas.lista;
 
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
  * Implementação de uma lista duplamente encadeada genérica.
+ * O acesso por índice percorre os nós; para laços indexados prefira {@link ListaArray}.
  *
  * @param <T> o tipo dos elementos armazenados na lista
  */
-public class Lista<T> {
+public class Lista<T> implements EstruturaLista<T> {
     private No<T> head;
     private No<T> tail;
     private int tamanho;
+    /** Contador de alterações estruturais, usado pelos iteradores para falhar rapidamente. */
+    private int modificacoes;
 
     /**
      * Constrói uma lista vazia.
@@ -31,6 +39,7 @@ public class Lista<T> {
      * @return true se a inserção foi bem-sucedida, false caso contrário
      * @throws IndexOutOfBoundsException se a posição for inválida (negativa ou maior que o tamanho)
      */
+    @Override
     public boolean adicionar(int pos, T valor) {
         if (pos < 0 || pos > tamanho) {
             throw new IndexOutOfBoundsException("Posição inválida: " + pos);
@@ -62,6 +71,7 @@ public class Lista<T> {
             novo.setPrev(atual);
         }
         tamanho++;
+        modificacoes++;
         return true;
     }
 
@@ -72,6 +82,7 @@ public class Lista<T> {
      * @param comparador o comparador para definir a ordem
      * @throws IllegalArgumentException se elemento ou comparador forem nulos
      */
+    @Override
     public void adicionarOrdenado(T elemento, Comparator<T> comparador) {
         if (elemento == null || comparador == null) {
             throw new IllegalArgumentException("Elemento e comparador não podem ser nulos");
@@ -105,6 +116,7 @@ public class Lista<T> {
      *
      * @return o elemento removido, ou null se a lista estiver vazia
      */
+    @Override
     public T removerHead() {
         if (head == null) {
             return null;
@@ -117,9 +129,11 @@ public class Lista<T> {
             tail = null; // Lista ficou vazia
         }
         tamanho--;
+        modificacoes++;
         return valor;
     }
 
+    @Override
     public boolean removerProcurado(T elemento) {
     if (elemento == null || head == null) return false;
 
@@ -144,6 +158,7 @@ public class Lista<T> {
             }
 
             tamanho--;
+            modificacoes++;
             return true;
         }
 
@@ -183,6 +198,7 @@ public class Lista<T> {
         return atual;
     }
 
+    @Override
     public int getTamanho() {
         return tamanho;
     }
@@ -192,6 +208,7 @@ public class Lista<T> {
      *
      * @return true se a lista estiver vazia, false caso contrário
      */
+    @Override
     public boolean estaVazia() {
         return tamanho == 0;
     }
@@ -202,8 +219,54 @@ public class Lista<T> {
      * @param pos posição desejada (0-based)
      * @return valor armazenado, ou null se a posição for inválida
      */
+    @Override
     public T getValor(int pos) {
         No<T> no = getNo(pos); // getNo já existe e percorre a lista corretamente
         return no != null ? no.getValor() : null;
     }
-}
\ No newline at end of file
+
+    // ========== ITERAÇÃO ==========
+
+    /**
+     * Retorna um iterador que percorre os nós do início ao fim.
+     *
+     * @return o iterador da lista
+     * @throws ConcurrentModificationException (no iterador) se a lista for alterada durante o percurso
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private No<T> proximo = head;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return proximo != null;
+            }
+
+            @Override
+            public T next() {
+                if (modificacoes != modificacoesEsperadas) {
+                    throw new ConcurrentModificationException();
+                }
+                if (proximo == null) {
+                    throw new NoSuchElementException();
+                }
+                T valor = proximo.getValor();
+                proximo = proximo.getProx();
+                return valor;
+            }
+        };
+    }
+
+    /**
+     * Retorna um spliterator que informa o tamanho da lista. A divisão para
+     * processamento paralelo copia blocos de elementos para vetores.
+     *
+     * @return o spliterator da lista
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), tamanho, Spliterator.ORDERED);
+    }
+}
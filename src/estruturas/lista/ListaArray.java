@@ -0,0 +1,275 @@
+package estruturas.lista;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Implementação de lista sobre um vetor circular que cresce conforme a necessidade.
+ * O acesso por índice ({@link #getValor(int)}), a inserção no fim e a remoção
+ * do início custam O(1); inserções e remoções no meio deslocam os elementos.
+ *
+ * @param <T> o tipo dos elementos armazenados na lista
+ */
+public class ListaArray<T> implements EstruturaLista<T> {
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private Object[] elementos;
+    private int inicio;
+    private int tamanho;
+    /** Contador de alterações estruturais, usado pelos iteradores para falhar rapidamente. */
+    private int modificacoes;
+
+    /**
+     * Constrói uma lista vazia.
+     */
+    public ListaArray() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Constrói uma lista vazia com espaço reservado para a quantidade de elementos informada.
+     *
+     * @param capacidadeInicial a quantidade de elementos prevista
+     * @throws IllegalArgumentException se a capacidade for negativa
+     */
+    public ListaArray(int capacidadeInicial) {
+        if (capacidadeInicial < 0) {
+            throw new IllegalArgumentException("Capacidade inválida: " + capacidadeInicial);
+        }
+        int capacidade = CAPACIDADE_INICIAL;
+        while (capacidade < capacidadeInicial) {
+            capacidade <<= 1;
+        }
+        elementos = new Object[capacidade];
+    }
+
+    // ========== OPERAÇÕES BÁSICAS ==========
+
+    @Override
+    public boolean adicionar(int pos, T valor) {
+        if (pos < 0 || pos > tamanho) {
+            throw new IndexOutOfBoundsException("Posição inválida: " + pos);
+        }
+        if (tamanho == elementos.length) {
+            crescer();
+        }
+
+        if (pos == tamanho) {
+            elementos[indice(tamanho)] = valor;
+        } else if (pos == 0) {
+            inicio = (inicio - 1) & (elementos.length - 1);
+            elementos[inicio] = valor;
+        } else {
+            for (int i = tamanho; i > pos; i--) {
+                elementos[indice(i)] = elementos[indice(i - 1)];
+            }
+            elementos[indice(pos)] = valor;
+        }
+        tamanho++;
+        modificacoes++;
+        return true;
+    }
+
+    @Override
+    public void adicionarOrdenado(T elemento, Comparator<T> comparador) {
+        if (elemento == null || comparador == null) {
+            throw new IllegalArgumentException("Elemento e comparador não podem ser nulos");
+        }
+
+        // Busca binária pela primeira posição com elemento maior que o novo
+        int baixo = 0;
+        int alto = tamanho;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (comparador.compare(elemento, getValor(meio)) >= 0) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        adicionar(baixo, elemento);
+    }
+
+    @Override
+    public T removerHead() {
+        if (tamanho == 0) {
+            return null;
+        }
+        T valor = getValor(0);
+        elementos[inicio] = null;
+        inicio = (inicio + 1) & (elementos.length - 1);
+        tamanho--;
+        modificacoes++;
+        return valor;
+    }
+
+    @Override
+    public boolean removerProcurado(T elemento) {
+        if (elemento == null) return false;
+
+        for (int i = 0; i < tamanho; i++) {
+            if (elemento.equals(elementos[indice(i)])) {
+                for (int j = i; j < tamanho - 1; j++) {
+                    elementos[indice(j)] = elementos[indice(j + 1)];
+                }
+                elementos[indice(tamanho - 1)] = null;
+                tamanho--;
+                modificacoes++;
+                return true;
+            }
+        }
+        return false; // elemento não encontrado
+    }
+
+    // ========== MÉTODOS DE CONSULTA ==========
+
+    @Override
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    @Override
+    public boolean estaVazia() {
+        return tamanho == 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getValor(int pos) {
+        if (pos < 0 || pos >= tamanho) {
+            return null;
+        }
+        return (T) elementos[indice(pos)];
+    }
+
+    // ========== ITERAÇÃO ==========
+
+    /**
+     * Retorna um iterador que percorre a lista por índice.
+     *
+     * @return o iterador da lista
+     * @throws ConcurrentModificationException (no iterador) se a lista for alterada durante o percurso
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int posicao = 0;
+            private final int modificacoesEsperadas = modificacoes;
+
+            @Override
+            public boolean hasNext() {
+                return posicao < tamanho;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (modificacoes != modificacoesEsperadas) {
+                    throw new ConcurrentModificationException();
+                }
+                if (posicao >= tamanho) {
+                    throw new NoSuchElementException();
+                }
+                return (T) elementos[indice(posicao++)];
+            }
+        };
+    }
+
+    /**
+     * Retorna um spliterator que divide a lista ao meio por faixas de índices,
+     * sem copiar elementos, e informa o tamanho exato de cada parte.
+     *
+     * @return o spliterator da lista
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SpliteratorFaixa(0, tamanho, modificacoes);
+    }
+
+    /**
+     * Percorre a faixa de posições [{@code origem}, {@code limite}) da lista.
+     */
+    private final class SpliteratorFaixa implements Spliterator<T> {
+        private int origem;
+        private final int limite;
+        private final int modificacoesEsperadas;
+
+        SpliteratorFaixa(int origem, int limite, int modificacoesEsperadas) {
+            this.origem = origem;
+            this.limite = limite;
+            this.modificacoesEsperadas = modificacoesEsperadas;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> acao) {
+            if (origem >= limite) {
+                return false;
+            }
+            acao.accept((T) elementos[indice(origem++)]);
+            verificarModificacoes();
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> acao) {
+            for (; origem < limite; origem++) {
+                acao.accept((T) elementos[indice(origem)]);
+            }
+            verificarModificacoes();
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            int meio = (origem + limite) >>> 1;
+            if (meio <= origem) {
+                return null;
+            }
+            Spliterator<T> primeiraMetade = new SpliteratorFaixa(origem, meio, modificacoesEsperadas);
+            origem = meio;
+            return primeiraMetade;
+        }
+
+        @Override
+        public long estimateSize() {
+            return limite - origem;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+
+        private void verificarModificacoes() {
+            if (modificacoes != modificacoesEsperadas) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    // ========== AUXILIARES ==========
+
+    /**
+     * Converte uma posição lógica da lista no índice do vetor circular.
+     */
+    private int indice(int pos) {
+        return (inicio + pos) & (elementos.length - 1);
+    }
+
+    /**
+     * Dobra a capacidade do vetor, reposicionando os elementos a partir do índice zero.
+     */
+    private void crescer() {
+        Object[] novo = new Object[elementos.length << 1];
+        for (int i = 0; i < tamanho; i++) {
+            novo[i] = elementos[indice(i)];
+        }
+        elementos = novo;
+        inicio = 0;
+    }
+}
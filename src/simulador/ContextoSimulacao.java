@@ -0,0 +1,386 @@
+package simulador;
+
+import estruturas.filas.FilaCircular;
+import simulador.aleatorio.GeradorAleatorio;
+import simulador.caminhoes.CaminhaoGrande;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.eventos.AgendaEventos;
+import simulador.eventos.FabricaEventos;
+import simulador.log.NivelLog;
+import simulador.log.RegistroSimulacao;
+import simulador.visualizacao.ObservadorNulo;
+import simulador.visualizacao.ObservadorSimulacao;
+import simulador.zona.VisaoZonas;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Reúne todo o estado mutável de uma execução da simulação: a agenda de eventos
+ * (e, com ela, o relógio), os geradores de identificadores, o gerador de números
+ * aleatórios, o registro de mensagens, o observador da visualização e as estatísticas do dia.
+ * <p>
+ * Cada {@link Simulador} trabalha sobre o seu próprio contexto, de modo que
+ * várias simulações independentes podem rodar ao mesmo tempo na mesma JVM,
+ * cada uma em sua thread, sem compartilhar estado.
+ */
+public class ContextoSimulacao {
+
+    /** A agenda de eventos desta simulação. */
+    private final AgendaEventos agenda = new AgendaEventos();
+
+    /** Reaproveita os eventos de coleta, transferência e chegada executados pela agenda. */
+    private final FabricaEventos fabricaEventos = new FabricaEventos();
+
+    /** As estatísticas acumuladas do dia corrente. */
+    private final EstatisticasDia estatisticas = new EstatisticasDia();
+
+    /** Próximo identificador a ser atribuído a um caminhão grande. */
+    private int proximoIdCaminhaoGrande = 1;
+
+    /** Distância entre dois identificadores consecutivos gerados por este contexto. */
+    private int passoIdCaminhaoGrande = 1;
+
+    /** Quantidade de caminhões grandes criados neste contexto. */
+    private int caminhoesGrandesCriados = 0;
+
+    /**
+     * Numa partição criada por {@link #criarParticao()}, o contexto que numera
+     * os seus caminhões grandes e os caminhões criados e ainda sem número, na
+     * ordem de criação; nos demais contextos, {@code null}.
+     */
+    private ContextoSimulacao numeracaoCaminhoesGrandes;
+    private FilaCircular<CaminhaoGrande> caminhoesGrandesSemId;
+
+    /** A semente usada para inicializar o gerador de números aleatórios. */
+    private final long semente;
+
+    /**
+     * O gerador raiz desta simulação. Zonas e caminhões não sorteiam com ele
+     * diretamente: cada um recebe um gerador próprio, dividido deste.
+     */
+    private final GeradorAleatorio aleatorio;
+
+    /** O destino das mensagens de acompanhamento da simulação. */
+    private final RegistroSimulacao registro;
+
+    /** Quem recebe as notificações de movimentação dos caminhões. */
+    private final ObservadorSimulacao observador;
+
+    /** Como os caminhões deste contexto enxergam o estado das zonas. */
+    private VisaoZonas visaoZonas = VisaoZonas.DIRETA;
+
+    /** Os parâmetros em vigor; podem ser trocados entre um dia e outro. */
+    private ParametrosSimulacao parametros = ParametrosSimulacao.padrao();
+
+    /**
+     * Cria um contexto com semente aleatória que escreve as tabelas detalhadas
+     * na saída padrão e não tem visualização.
+     */
+    public ContextoSimulacao() {
+        this(new SplittableRandom().nextLong(), new RegistroSimulacao(NivelLog.DETALHADO, System.out));
+    }
+
+    /**
+     * Cria um contexto sem visualização, com a semente e o registro informados.
+     * Duas simulações criadas com a mesma semente sorteiam os mesmos valores.
+     *
+     * @param semente  A semente do gerador de números aleatórios.
+     * @param registro O destino das mensagens de acompanhamento da simulação.
+     * @throws IllegalArgumentException se o registro for nulo.
+     */
+    public ContextoSimulacao(long semente, RegistroSimulacao registro) {
+        this(semente, registro, ObservadorNulo.INSTANCIA);
+    }
+
+    /**
+     * Cria um contexto com a semente, o registro e o observador informados.
+     *
+     * @param semente    A semente do gerador de números aleatórios.
+     * @param registro   O destino das mensagens de acompanhamento da simulação.
+     * @param observador Quem recebe as notificações de movimentação dos caminhões.
+     * @throws IllegalArgumentException se o registro ou o observador forem nulos.
+     */
+    public ContextoSimulacao(long semente, RegistroSimulacao registro, ObservadorSimulacao observador) {
+        if (registro == null || observador == null) {
+            throw new IllegalArgumentException("Registro e observador não podem ser nulos");
+        }
+        this.semente = semente;
+        this.aleatorio = new GeradorAleatorio(semente);
+        this.registro = registro;
+        this.observador = observador;
+    }
+
+    /**
+     * Cria o contexto de uma partição da execução paralela. A partição tem
+     * agenda, fábrica de eventos e estatísticas próprias, os parâmetros deste
+     * contexto, nenhum registro nem visualização, e gera os identificadores de
+     * caminhão grande {@code indice + 1}, {@code indice + 1 + total}, e assim
+     * por diante, para que partições diferentes nunca repitam um identificador.
+     *
+     * @param indice O índice da partição, de zero a {@code total - 1}.
+     * @param total  O número de partições.
+     * @return O contexto da partição.
+     * @throws IllegalArgumentException se o índice estiver fora do intervalo.
+     */
+    public ContextoSimulacao criarParticao(int indice, int total) {
+        if (indice < 0 || indice >= total) {
+            throw new IllegalArgumentException("Índice de partição inválido: " + indice + " de " + total);
+        }
+        ContextoSimulacao particao = new ContextoSimulacao(semente, RegistroSimulacao.silencioso());
+        particao.parametros = parametros;
+        particao.proximoIdCaminhaoGrande = indice + 1;
+        particao.passoIdCaminhaoGrande = total;
+        return particao;
+    }
+
+    /**
+     * Cria o contexto de uma partição da execução paralela que não numera os
+     * caminhões grandes que cria: eles ficam com o identificador 0 até que o
+     * motor chame {@link #numerarCaminhoesGrandes}, na ordem em que a execução
+     * sequencial os criaria, e recebem então os identificadores seguintes
+     * deste contexto. Quanto ao resto, é igual a {@link #criarParticao(int, int)}.
+     *
+     * @return O contexto da partição.
+     */
+    public ContextoSimulacao criarParticao() {
+        ContextoSimulacao particao = criarParticao(0, 1);
+        particao.numeracaoCaminhoesGrandes = this;
+        particao.caminhoesGrandesSemId = new FilaCircular<>();
+        return particao;
+    }
+
+    /**
+     * Retorna a agenda de eventos desta simulação.
+     *
+     * @return A {@link AgendaEventos} do contexto.
+     */
+    public AgendaEventos getAgenda() {
+        return agenda;
+    }
+
+    /**
+     * Retorna a fábrica que cria e reaproveita os eventos mais frequentes.
+     *
+     * @return A {@link FabricaEventos} do contexto.
+     */
+    public FabricaEventos getFabricaEventos() {
+        return fabricaEventos;
+    }
+
+    /**
+     * Retorna as estatísticas do dia corrente.
+     *
+     * @return O objeto {@link EstatisticasDia} do contexto.
+     */
+    public EstatisticasDia getEstatisticas() {
+        return estatisticas;
+    }
+
+    /**
+     * Retorna a semente usada pelo gerador de números aleatórios.
+     *
+     * @return A semente do contexto.
+     */
+    public long getSemente() {
+        return semente;
+    }
+
+    /**
+     * Retorna o gerador raiz desta simulação, usado para dividir os geradores
+     * das zonas e dos caminhões.
+     *
+     * @return O gerador do contexto.
+     */
+    public GeradorAleatorio getAleatorio() {
+        return aleatorio;
+    }
+
+    /**
+     * Retorna o destino das mensagens de acompanhamento da simulação.
+     *
+     * @return O {@link RegistroSimulacao} do contexto.
+     */
+    public RegistroSimulacao getRegistro() {
+        return registro;
+    }
+
+    /**
+     * Retorna o observador que acompanha a simulação.
+     *
+     * @return O observador do contexto.
+     */
+    public ObservadorSimulacao getObservador() {
+        return observador;
+    }
+
+    /**
+     * Retorna os parâmetros em vigor na simulação.
+     *
+     * @return Os {@link ParametrosSimulacao} do contexto.
+     */
+    public ParametrosSimulacao getParametros() {
+        return parametros;
+    }
+
+    /**
+     * Substitui os parâmetros da simulação. Deve ser chamado entre um dia e
+     * outro, nunca durante o processamento dos eventos.
+     *
+     * @param parametros Os novos parâmetros.
+     * @throws IllegalArgumentException se os parâmetros forem nulos.
+     */
+    public void setParametros(ParametrosSimulacao parametros) {
+        if (parametros == null) {
+            throw new IllegalArgumentException("Parâmetros não podem ser nulos");
+        }
+        this.parametros = parametros;
+    }
+
+    /**
+     * Retorna como os caminhões deste contexto enxergam o estado das zonas.
+     *
+     * @return A visão das zonas; {@link VisaoZonas#DIRETA} por padrão.
+     */
+    public VisaoZonas getVisaoZonas() {
+        return visaoZonas;
+    }
+
+    /**
+     * Define como os caminhões deste contexto enxergam o estado das zonas.
+     *
+     * @param visaoZonas A nova visão.
+     * @throws IllegalArgumentException se a visão for nula.
+     */
+    public void setVisaoZonas(VisaoZonas visaoZonas) {
+        if (visaoZonas == null) {
+            throw new IllegalArgumentException("Visão das zonas não pode ser nula");
+        }
+        this.visaoZonas = visaoZonas;
+    }
+
+    /**
+     * Retorna o tempo atual da simulação, dado pelo último evento executado.
+     *
+     * @return O tempo atual em minutos.
+     */
+    public int getTempoAtual() {
+        return agenda.getTempoUltimoEvento();
+    }
+
+    /**
+     * Gera um novo identificador único e sequencial para um caminhão grande.
+     *
+     * @return O identificador gerado.
+     */
+    public int gerarIdCaminhaoGrande() {
+        int id = proximoIdCaminhaoGrande;
+        proximoIdCaminhaoGrande += passoIdCaminhaoGrande;
+        caminhoesGrandesCriados++;
+        return id;
+    }
+
+    /**
+     * Cria um caminhão grande com um novo identificador, ou sem identificador
+     * numa partição criada por {@link #criarParticao()}.
+     *
+     * @return O caminhão criado.
+     */
+    public CaminhaoGrande criarCaminhaoGrande() {
+        if (caminhoesGrandesSemId == null) {
+            return new CaminhaoGrande(gerarIdCaminhaoGrande());
+        }
+        CaminhaoGrande caminhao = new CaminhaoGrande(0);
+        caminhoesGrandesCriados++;
+        caminhoesGrandesSemId.enqueue(caminhao);
+        return caminhao;
+    }
+
+    /**
+     * Dá aos caminhões grandes mais antigos ainda sem identificador desta
+     * partição os próximos identificadores do contexto que a criou.
+     *
+     * @param quantidade Quantos caminhões numerar.
+     * @throws IllegalStateException se não houver tantos caminhões sem identificador.
+     */
+    public void numerarCaminhoesGrandes(int quantidade) {
+        if (quantidade > getCaminhoesGrandesSemId()) {
+            throw new IllegalStateException("Caminhões grandes sem identificador insuficientes: " + quantidade);
+        }
+        for (int i = 0; i < quantidade; i++) {
+            caminhoesGrandesSemId.dequeue().setId(numeracaoCaminhoesGrandes.gerarIdCaminhaoGrande());
+        }
+    }
+
+    /**
+     * Retorna quantos caminhões grandes criados neste contexto ainda esperam
+     * um identificador.
+     *
+     * @return O número de caminhões sem identificador; sempre 0 fora de uma
+     *         partição criada por {@link #criarParticao()}.
+     */
+    public int getCaminhoesGrandesSemId() {
+        return caminhoesGrandesSemId == null ? 0 : caminhoesGrandesSemId.size();
+    }
+
+    /**
+     * Volta o gerador de identificadores de caminhão grande ao ponto em que
+     * {@code total} caminhões tinham sido criados neste contexto, desfazendo
+     * as criações seguintes.
+     *
+     * @param total O número de caminhões grandes criados a ser restaurado.
+     * @throws IllegalArgumentException se o total for negativo ou maior que o atual.
+     */
+    public void restaurarCaminhoesGrandesCriados(int total) {
+        if (total < 0 || total > caminhoesGrandesCriados) {
+            throw new IllegalArgumentException("Total de caminhões grandes inválido: " + total);
+        }
+        proximoIdCaminhaoGrande -= (caminhoesGrandesCriados - total) * passoIdCaminhaoGrande;
+        caminhoesGrandesCriados = total;
+    }
+
+    /**
+     * Grava o que o contexto leva de um dia para o outro: os geradores de
+     * identificadores e a posição do gerador raiz. A agenda e as estatísticas
+     * ficam vazias entre os dias, e os parâmetros são gravados à parte.
+     *
+     * @param saida Onde o estado é gravado.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeInt(proximoIdCaminhaoGrande);
+        saida.writeInt(passoIdCaminhaoGrande);
+        saida.writeInt(caminhoesGrandesCriados);
+        saida.writeLong(aleatorio.getEstado());
+    }
+
+    /**
+     * Volta o contexto a um estado gravado com {@link #gravarEstado(DataOutput)}.
+     *
+     * @param entrada De onde o estado é lido.
+     * @throws IOException se a leitura falhar ou os contadores gravados forem inválidos.
+     */
+    public void lerEstado(DataInput entrada) throws IOException {
+        int proximoId = entrada.readInt();
+        int passo = entrada.readInt();
+        int criados = entrada.readInt();
+        if (proximoId <= 0 || passo <= 0 || criados < 0) {
+            throw new IOException("Contadores de caminhões grandes inválidos");
+        }
+        this.proximoIdCaminhaoGrande = proximoId;
+        this.passoIdCaminhaoGrande = passo;
+        this.caminhoesGrandesCriados = criados;
+        aleatorio.restaurarEstado(entrada.readLong());
+    }
+
+    /**
+     * Retorna o número total de caminhões grandes criados nesta simulação.
+     *
+     * @return O total de identificadores de caminhão grande já gerados.
+     */
+    public int getNumeroCaminhoesGrandesCriados() {
+        return caminhoesGrandesCriados;
+    }
+}
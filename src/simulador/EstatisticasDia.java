@@ -1,9 +1,13 @@
 package simulador;
 
+import simulador.metricas.Histograma;
+import simulador.metricas.Metrica;
+
 /**
  * Armazena e gerencia as estatísticas acumuladas para um único dia de simulação.
  * Esta classe rastreia o total de lixo coletado, o número de viagens e o tempo
- * gasto nas operações de coleta.
+ * gasto nas operações de coleta, além de um {@link Histograma} para cada
+ * {@link Metrica}, de onde saem os percentis.
  */
 public class EstatisticasDia {
 
@@ -16,6 +20,18 @@ public class EstatisticasDia {
     /** Tempo total gasto em todas as coletas do dia, em minutos. */
     private int tempoTotalColeta = 0;
 
+    /** A distribuição de cada métrica, na ordem de {@link Metrica#values()}. */
+    private final Histograma[] histogramas = new Histograma[Metrica.values().length];
+
+    /**
+     * Cria as estatísticas zeradas de um dia.
+     */
+    public EstatisticasDia() {
+        for (int i = 0; i < histogramas.length; i++) {
+            histogramas[i] = new Histograma();
+        }
+    }
+
     /**
      * Registra os dados de uma única operação de coleta, atualizando as estatísticas diárias.
      *
@@ -26,6 +42,71 @@ public class EstatisticasDia {
         this.totalLixoColetado += quantidade;
         this.totalViagensColeta++;
         this.tempoTotalColeta += tempoGasto;
+        histogramas[Metrica.DURACAO_VIAGEM.ordinal()].registrar(tempoGasto);
+    }
+
+    /**
+     * Registra uma ocorrência de uma métrica.
+     *
+     * @param metrica A métrica observada.
+     * @param valor   O valor observado, na unidade da métrica.
+     * @throws IllegalArgumentException se o valor for negativo.
+     */
+    public void registrar(Metrica metrica, int valor) {
+        histogramas[metrica.ordinal()].registrar(valor);
+    }
+
+    /**
+     * Retorna a distribuição de uma métrica no dia.
+     *
+     * @param metrica A métrica desejada.
+     * @return O histograma da métrica, que não deve ser alterado.
+     */
+    public Histograma getHistograma(Metrica metrica) {
+        return histogramas[metrica.ordinal()];
+    }
+
+    /**
+     * Soma às estatísticas deste dia as de outra parte da simulação, como uma
+     * partição da execução paralela, ou de outro dia ou replicação, para
+     * consolidar as distribuições de um experimento inteiro.
+     *
+     * @param outras As estatísticas a serem somadas.
+     */
+    public void acumular(EstatisticasDia outras) {
+        this.totalLixoColetado += outras.totalLixoColetado;
+        this.totalViagensColeta += outras.totalViagensColeta;
+        this.tempoTotalColeta += outras.tempoTotalColeta;
+        for (int i = 0; i < histogramas.length; i++) {
+            histogramas[i].acumular(outras.histogramas[i]);
+        }
+    }
+
+    /**
+     * Retorna o total de lixo coletado no dia.
+     *
+     * @return O total coletado, em toneladas.
+     */
+    public int getTotalLixoColetado() {
+        return totalLixoColetado;
+    }
+
+    /**
+     * Retorna o número de viagens de coleta realizadas no dia.
+     *
+     * @return O total de viagens de coleta.
+     */
+    public int getTotalViagensColeta() {
+        return totalViagensColeta;
+    }
+
+    /**
+     * Retorna o tempo total gasto em coletas no dia.
+     *
+     * @return O tempo total de coleta, em minutos.
+     */
+    public int getTempoTotalColeta() {
+        return tempoTotalColeta;
     }
 
     /**
@@ -37,5 +118,8 @@ public class EstatisticasDia {
         totalLixoColetado = 0;
         totalViagensColeta = 0;
         tempoTotalColeta = 0;
+        for (Histograma histograma : histogramas) {
+            histograma.resetar();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package simulador;
+
+import simulador.configuracao.ArquivoParametros;
+import simulador.log.NivelLog;
+import simulador.log.RegistroSimulacao;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Executa a simulação no terminal, sem interface gráfica.
+ * Não há pausas entre os eventos nem dependência do JavaFX, então a
+ * simulação roda na velocidade máxima do processador.
+ * <p>
+ * Uso: {@code MainConsole [dias] [semente] [nivel] [arquivo]}, onde {@code nivel} é
+ * {@code SILENCIOSO}, {@code RESUMO} ou {@code DETALHADO} e {@code arquivo} é um
+ * {@code .properties} com os parâmetros, conferido de novo no início de cada dia.
+ */
+public class MainConsole {
+
+    /**
+     * Ponto de entrada da simulação em modo texto.
+     *
+     * @param args número de dias (padrão 3), semente (padrão: aleatória),
+     *             nível de log (padrão DETALHADO) e arquivo de configuração
+     *             (padrão: os valores de {@code configuracao}).
+     * @throws IOException se o arquivo de configuração não puder ser lido.
+     */
+    public static void main(String[] args) throws IOException {
+        int dias = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        long semente = args.length > 1 ? Long.parseLong(args[1]) : new SplittableRandom().nextLong();
+        NivelLog nivel = args.length > 2 ? NivelLog.valueOf(args[2].toUpperCase()) : NivelLog.DETALHADO;
+
+        RegistroSimulacao registro = new RegistroSimulacao(nivel, System.out);
+        ContextoSimulacao contexto = new ContextoSimulacao(semente, registro);
+        Simulador simulador = args.length > 3
+                ? new Simulador(contexto, new ArquivoParametros(new File(args[3])))
+                : new Simulador(contexto);
+        simulador.iniciarSimulacao(dias);
+        registro.fechar();
+    }
+}
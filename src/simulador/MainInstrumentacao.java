@@ -0,0 +1,49 @@
+package simulador;
+
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.eventos.InstrumentacaoAgenda;
+import simulador.log.NivelLog;
+import simulador.log.RegistroSimulacao;
+
+/**
+ * Executa a simulação no terminal medindo a agenda de eventos, para descobrir
+ * por que um cenário está lento: crescimento do calendário, log ou um tipo
+ * de evento específico.
+ * <p>
+ * O log vai para a saída padrão no nível escolhido; a cada segundo, um resumo
+ * dos contadores vai para a saída de erro, e ao final é exibida a tabela com o
+ * custo de cada tipo de evento. Rodando com
+ * {@code -XX:StartFlightRecording}, as execuções amostradas e os resumos
+ * também ficam na gravação do JFR, na categoria "Simulador".
+ * <p>
+ * Uso: {@code MainInstrumentacao [dias] [semente] [nivel] [fator] [amostragem]}
+ */
+public class MainInstrumentacao {
+
+    /**
+     * Ponto de entrada da simulação instrumentada.
+     *
+     * @param args número de dias (padrão 3), semente (padrão 42), nível de log
+     *             (padrão SILENCIOSO), multiplicador da frota (padrão 1) e
+     *             quantas execuções há para cada uma cronometrada (padrão 64).
+     */
+    public static void main(String[] args) {
+        int dias = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        long semente = args.length > 1 ? Long.parseLong(args[1]) : 42L;
+        NivelLog nivel = args.length > 2 ? NivelLog.valueOf(args[2].toUpperCase()) : NivelLog.SILENCIOSO;
+        int fator = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+        int amostragem = args.length > 4 ? Integer.parseInt(args[4]) : InstrumentacaoAgenda.AMOSTRAGEM_PADRAO;
+
+        InstrumentacaoAgenda instrumentacao = new InstrumentacaoAgenda(amostragem,
+                InstrumentacaoAgenda.INTERVALO_RESUMO_PADRAO_NANOS);
+        instrumentacao.setSaidaResumo(System.err);
+
+        RegistroSimulacao registro = new RegistroSimulacao(nivel, System.out);
+        Simulador simulador = new Simulador(new ContextoSimulacao(semente, registro),
+                ParametrosSimulacao.padrao().comFrotaEscalada(fator));
+        simulador.setInstrumentacao(instrumentacao);
+        simulador.iniciarSimulacao(dias);
+        registro.fechar();
+        instrumentacao.imprimir(System.err);
+    }
+}
@@ -0,0 +1,56 @@
+package simulador;
+
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.experimentos.CustoFrota;
+import simulador.experimentos.Fator;
+import simulador.experimentos.OtimizadorFrota;
+import simulador.experimentos.PlanoExperimento;
+
+/**
+ * Procura a frota de caminhões pequenos mais barata que coleta todo o lixo
+ * das zonas dentro do prazo, sem interface gráfica.
+ * <p>
+ * Uso: {@code MainOtimizacao [candidatos] [dias] [prazo] [meta] [replicacoesIniciais] [replicacoesMaximas] [semente] [threads]}
+ * <p>
+ * Os candidatos são sorteados por hipercubo latino, com a quantidade de cada
+ * tipo de caminhão entre zero e o dobro do valor padrão. O prazo é em minutos
+ * desde o início do dia e a meta é a porcentagem de replicações que devem
+ * atender o prazo. O custo de cada caminhão é a sua capacidade em toneladas.
+ */
+public class MainOtimizacao {
+
+    /**
+     * Ponto de entrada do otimizador de frota.
+     *
+     * @param args candidatos (padrão 64), dias (padrão 3), prazo (padrão 720),
+     *             meta em % (padrão 90), replicações iniciais (padrão 4),
+     *             replicações máximas (padrão 64), semente (padrão 42) e número
+     *             de threads (padrão: todos os processadores).
+     */
+    public static void main(String[] args) {
+        int candidatos = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int dias = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int prazo = args.length > 2 ? Integer.parseInt(args[2]) : 720;
+        double meta = args.length > 3 ? Double.parseDouble(args[3]) / 100 : 0.9;
+        int replicacoesIniciais = args.length > 4 ? Integer.parseInt(args[4]) : 4;
+        int replicacoesMaximas = args.length > 5 ? Integer.parseInt(args[5]) : 64;
+        long semente = args.length > 6 ? Long.parseLong(args[6]) : 42L;
+        int threads = args.length > 7 ? Integer.parseInt(args[7]) : Runtime.getRuntime().availableProcessors();
+
+        ParametrosSimulacao base = ParametrosSimulacao.padrao();
+        PlanoExperimento plano = PlanoExperimento.hipercuboLatino(base, candidatos, semente,
+                ateODobro(base, Parametro.QTD_CAMINHOES_2T),
+                ateODobro(base, Parametro.QTD_CAMINHOES_4T),
+                ateODobro(base, Parametro.QTD_CAMINHOES_8T),
+                ateODobro(base, Parametro.QTD_CAMINHOES_10T));
+
+        OtimizadorFrota otimizador = new OtimizadorFrota(dias, prazo, meta,
+                CustoFrota.porCapacidade(base), semente, threads);
+        otimizador.otimizar(plano, replicacoesIniciais, replicacoesMaximas).imprimir(System.out);
+    }
+
+    private static Fator ateODobro(ParametrosSimulacao base, Parametro parametro) {
+        return Fator.inteiro(parametro, 0, 2 * base.getInt(parametro));
+    }
+}
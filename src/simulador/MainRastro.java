@@ -0,0 +1,115 @@
+package simulador;
+
+import simulador.log.RegistroSimulacao;
+import simulador.rastro.GravadorRastro;
+import simulador.rastro.LeitorRastro;
+import simulador.rastro.RegistroRastro;
+import simulador.rastro.ReprodutorRastro;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Grava e consulta rastros de execução, sem interface gráfica.
+ * <p>
+ * Uso:
+ * <ul>
+ *   <li>{@code MainRastro gravar <rastro> <dias> <semente>}: simula em silêncio e grava o rastro;</li>
+ *   <li>{@code MainRastro listar <rastro> <dia> [minuto] [quantidade]}: mostra os registros a partir de um ponto;</li>
+ *   <li>{@code MainRastro estatisticas <rastro>}: refaz, do rastro, as estatísticas de cada dia;</li>
+ *   <li>{@code MainRastro comparar <rastro> <outro>}: mostra o primeiro registro em que dois rastros diferem.</li>
+ * </ul>
+ * Para rever um rastro no mapa, use o botão "Reproduzir Rastro" do {@link SimuladorGUI}.
+ */
+public class MainRastro {
+
+    /**
+     * Ponto de entrada da ferramenta de rastros.
+     *
+     * @param args o comando e os seus argumentos.
+     * @throws IOException se um rastro não puder ser gravado ou lido.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            uso();
+        }
+        Path arquivo = Paths.get(args[1]);
+        switch (args[0]) {
+            case "gravar":
+                if (args.length < 4) uso();
+                gravar(arquivo, Integer.parseInt(args[2]), Long.parseLong(args[3]));
+                break;
+            case "listar":
+                if (args.length < 3) uso();
+                listar(arquivo, Integer.parseInt(args[2]), args.length > 3 ? Integer.parseInt(args[3]) : 0,
+                        args.length > 4 ? Integer.parseInt(args[4]) : 20);
+                break;
+            case "estatisticas":
+                estatisticas(arquivo);
+                break;
+            case "comparar":
+                if (args.length < 3) uso();
+                comparar(arquivo, Paths.get(args[2]));
+                break;
+            default:
+                uso();
+        }
+    }
+
+    private static void uso() {
+        System.err.println("Uso: MainRastro gravar <rastro> <dias> <semente>");
+        System.err.println("     MainRastro listar <rastro> <dia> [minuto] [quantidade]");
+        System.err.println("     MainRastro estatisticas <rastro>");
+        System.err.println("     MainRastro comparar <rastro> <outro>");
+        System.exit(2);
+    }
+
+    private static void gravar(Path arquivo, int dias, long semente) throws IOException {
+        try (GravadorRastro gravador = new GravadorRastro(arquivo)) {
+            Simulador simulador = new Simulador(new ContextoSimulacao(semente, RegistroSimulacao.silencioso()));
+            simulador.setGravadorRastro(gravador);
+            simulador.iniciarSimulacao(dias);
+            System.out.println(gravador.getQuantidade() + " eventos gravados em " + arquivo);
+        }
+    }
+
+    private static void listar(Path arquivo, int dia, int minuto, int quantidade) throws IOException {
+        try (LeitorRastro leitor = new LeitorRastro(arquivo)) {
+            RegistroRastro registro = new RegistroRastro();
+            long inicio = leitor.buscar(dia, minuto);
+            long fim = Math.min(leitor.getQuantidade(), inicio + quantidade);
+            for (long i = inicio; i < fim; i++) {
+                System.out.println(i + " | " + leitor.ler(i, registro));
+            }
+        }
+    }
+
+    private static void estatisticas(Path arquivo) throws IOException {
+        try (LeitorRastro leitor = new LeitorRastro(arquivo)) {
+            if (leitor.getQuantidade() == 0) return;
+            ReprodutorRastro reprodutor = new ReprodutorRastro(leitor);
+            int ultimoDia = leitor.ler(leitor.getQuantidade() - 1, new RegistroRastro()).getDia();
+            for (int dia = 1; dia <= ultimoDia; dia++) {
+                EstatisticasDia estatisticas = reprodutor.getEstatisticasDia(dia);
+                System.out.printf("Dia %d: %d t coletadas em %d viagens, %d min de coleta%n", dia,
+                        estatisticas.getTotalLixoColetado(), estatisticas.getTotalViagensColeta(),
+                        estatisticas.getTempoTotalColeta());
+            }
+        }
+    }
+
+    private static void comparar(Path arquivo, Path outro) throws IOException {
+        try (LeitorRastro a = new LeitorRastro(arquivo); LeitorRastro b = new LeitorRastro(outro)) {
+            long diferenca = a.primeiraDiferenca(b);
+            if (diferenca < 0) {
+                System.out.println("Rastros iguais: " + a.getQuantidade() + " registros");
+                return;
+            }
+            System.out.println("Primeira diferença no registro " + diferenca);
+            RegistroRastro registro = new RegistroRastro();
+            System.out.println("  " + arquivo + ": " + (diferenca < a.getQuantidade() ? a.ler(diferenca, registro) : "(fim)"));
+            System.out.println("  " + outro + ": " + (diferenca < b.getQuantidade() ? b.ler(diferenca, registro) : "(fim)"));
+        }
+    }
+}
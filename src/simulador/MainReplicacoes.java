@@ -0,0 +1,30 @@
+package simulador;
+
+import simulador.replicacao.ExecutorReplicacoes;
+import simulador.replicacao.ResultadoReplicacoes;
+
+/**
+ * Executa várias replicações da simulação em paralelo, sem interface gráfica,
+ * e exibe o resumo estatístico de cada dia.
+ * <p>
+ * Uso: {@code MainReplicacoes [replicacoes] [dias] [semente] [threads]}
+ */
+public class MainReplicacoes {
+
+    /**
+     * Ponto de entrada do executor de replicações.
+     *
+     * @param args replicações (padrão 100), dias (padrão 3), semente (padrão 42)
+     *             e número de threads (padrão: todos os processadores).
+     */
+    public static void main(String[] args) {
+        int replicacoes = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int dias = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        long semente = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        ExecutorReplicacoes executor = new ExecutorReplicacoes(dias, semente, threads);
+        ResultadoReplicacoes resultado = executor.executar(replicacoes);
+        resultado.imprimir(System.out);
+    }
+}
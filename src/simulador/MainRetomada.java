@@ -0,0 +1,103 @@
+package simulador;
+
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.log.RegistroSimulacao;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Grava o estado de uma simulação ao fim de um dia e a retoma depois, sem
+ * interface gráfica.
+ * <p>
+ * Uso:
+ * <ul>
+ *   <li>{@code MainRetomada gravar <estado> <dias> <semente>}: simula em silêncio e grava o estado ao fim do último dia;</li>
+ *   <li>{@code MainRetomada continuar <estado> <dias> [NOME=valor]... [--gravar <novo estado>]}: lê o estado, troca
+ *   os parâmetros informados e simula mais dias, mostrando o resumo de cada um; com {@code --gravar}, grava o
+ *   estado ao fim deles.</li>
+ * </ul>
+ * Vários {@code continuar} sobre o mesmo estado, com parâmetros diferentes,
+ * comparam cenários a partir de um mesmo dia sem simular os anteriores de novo.
+ */
+public class MainRetomada {
+
+    /**
+     * Ponto de entrada da ferramenta de retomada.
+     *
+     * @param args o comando e os seus argumentos.
+     * @throws IOException se um estado não puder ser gravado ou lido.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            uso();
+        }
+        Path arquivo = Paths.get(args[1]);
+        int dias = Integer.parseInt(args[2]);
+        switch (args[0]) {
+            case "gravar":
+                if (args.length < 4) uso();
+                Simulador simulador = new Simulador(new ContextoSimulacao(Long.parseLong(args[3]),
+                        RegistroSimulacao.silencioso()));
+                simulador.iniciarSimulacao(dias);
+                gravar(simulador, arquivo);
+                break;
+            case "continuar":
+                continuar(arquivo, dias, args);
+                break;
+            default:
+                uso();
+        }
+    }
+
+    private static void uso() {
+        System.err.println("Uso: MainRetomada gravar <estado> <dias> <semente>");
+        System.err.println("     MainRetomada continuar <estado> <dias> [NOME=valor]... [--gravar <novo estado>]");
+        System.exit(2);
+    }
+
+    private static void continuar(Path arquivo, int dias, String[] args) throws IOException {
+        Simulador simulador = new Simulador(new ContextoSimulacao(0, RegistroSimulacao.silencioso()));
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            simulador.lerEstado(entrada);
+        }
+
+        ParametrosSimulacao parametros = simulador.getContexto().getParametros();
+        Path novoEstado = null;
+        for (int i = 3; i < args.length; i++) {
+            if (args[i].equals("--gravar")) {
+                if (i + 1 >= args.length) uso();
+                novoEstado = Paths.get(args[++i]);
+                continue;
+            }
+            String[] partes = args[i].split("=", 2);
+            if (partes.length != 2) uso();
+            parametros = parametros.com(Parametro.valueOf(partes[0].trim()), Double.parseDouble(partes[1].trim()));
+        }
+        simulador.setParametros(parametros);
+
+        for (ResumoDia resumo : simulador.continuarSimulacao(dias)) {
+            System.out.printf("Dia %d: %d t coletadas em %d viagens, fim às %d min, %d caminhões grandes, %d t restantes%n",
+                    resumo.getDia(), resumo.getLixoColetado(), resumo.getViagensColeta(),
+                    resumo.getTempoEncerramento(), resumo.getCaminhoesGrandesCriados(), resumo.getLixoRestante());
+        }
+        if (novoEstado != null) {
+            gravar(simulador, novoEstado);
+        }
+    }
+
+    private static void gravar(Simulador simulador, Path arquivo) throws IOException {
+        try (DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(arquivo)))) {
+            simulador.gravarEstado(saida);
+        }
+        System.out.println("Estado do dia " + simulador.getDiasSimulados() + " gravado em " + arquivo
+                + " (" + Files.size(arquivo) + " bytes)");
+    }
+}
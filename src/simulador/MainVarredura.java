@@ -0,0 +1,73 @@
+package simulador;
+
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.experimentos.EscritorResultados;
+import simulador.experimentos.ExecutorVarredura;
+import simulador.experimentos.Fator;
+import simulador.experimentos.PlanoExperimento;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Executa uma varredura de parâmetros em paralelo, sem interface gráfica, e
+ * grava os resultados de cada cenário e replicação em um arquivo CSV.
+ * <p>
+ * Uso: {@code MainVarredura <plano> <saida.csv> <dias> <replicacoes> <semente> <fator>...}
+ * <ul>
+ *   <li>{@code plano}: {@code grade} ou {@code hipercubo:N}, com {@code N} amostras;</li>
+ *   <li>{@code fator}: {@code NOME=min:max} ou {@code NOME=min:max:niveis}, onde
+ *       {@code NOME} é um parâmetro de {@code configuracao} (ex.: {@code QTD_CAMINHOES_8T=1:6}).</li>
+ * </ul>
+ * Os parâmetros que não são fatores ficam com o valor padrão, ou com os
+ * valores do arquivo indicado pela propriedade de sistema {@code parametros}.
+ */
+public class MainVarredura {
+
+    /**
+     * Ponto de entrada da varredura.
+     *
+     * @param args o plano, o arquivo de saída, os dias, as replicações, a semente e os fatores.
+     * @throws IOException se o arquivo de parâmetros não puder ser lido ou a saída não puder ser escrita.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 6) {
+            System.err.println("Uso: MainVarredura <grade|hipercubo:N> <saida.csv> <dias> <replicacoes> <semente> <NOME=min:max[:niveis]>...");
+            System.exit(2);
+        }
+        File saida = new File(args[1]);
+        int dias = Integer.parseInt(args[2]);
+        int replicacoes = Integer.parseInt(args[3]);
+        long semente = Long.parseLong(args[4]);
+        Fator[] fatores = new Fator[args.length - 5];
+        for (int i = 0; i < fatores.length; i++) {
+            fatores[i] = Fator.interpretar(args[i + 5]);
+        }
+
+        String arquivoBase = System.getProperty("parametros");
+        ParametrosSimulacao base = arquivoBase != null
+                ? ParametrosSimulacao.carregar(new File(arquivoBase))
+                : ParametrosSimulacao.padrao();
+
+        PlanoExperimento plano;
+        if (args[0].equals("grade")) {
+            plano = PlanoExperimento.grade(base, fatores);
+        } else if (args[0].startsWith("hipercubo:")) {
+            int amostras = Integer.parseInt(args[0].substring("hipercubo:".length()));
+            plano = PlanoExperimento.hipercuboLatino(base, amostras, semente, fatores);
+        } else {
+            throw new IllegalArgumentException("Plano desconhecido: " + args[0]);
+        }
+
+        System.out.println("Cenários: " + plano.getQuantidade() + " | Replicações: " + replicacoes
+                + " | Simulações: " + (long) plano.getQuantidade() * replicacoes);
+        long duracao;
+        try (EscritorResultados escritor = new EscritorResultados(
+                Files.newBufferedWriter(saida.toPath(), StandardCharsets.UTF_8), plano)) {
+            duracao = new ExecutorVarredura(dias, replicacoes, semente).executar(plano, escritor);
+        }
+        System.out.printf("Varredura concluída em %.2f s. Resultados em %s%n", duracao / 1e9, saida.getPath());
+    }
+}
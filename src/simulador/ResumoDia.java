@@ -0,0 +1,104 @@
+package simulador;
+
+/**
+ * Registro imutável com os principais resultados de um dia simulado.
+ * É gerado pelo {@link Simulador} ao final de cada dia, antes de as
+ * estatísticas serem zeradas, para que possa ser analisado depois.
+ */
+public class ResumoDia {
+
+    /** O número do dia (a partir de 1). */
+    private final int dia;
+
+    /** Total de lixo coletado no dia, em toneladas. */
+    private final int lixoColetado;
+
+    /** Número de viagens de coleta realizadas no dia. */
+    private final int viagensColeta;
+
+    /** Tempo (em minutos desde o início do dia) do último evento executado. */
+    private final int tempoEncerramento;
+
+    /** Quantidade de caminhões grandes criados ao longo do dia. */
+    private final int caminhoesGrandesCriados;
+
+    /** Lixo que permaneceu nas zonas ao final do dia, em toneladas. */
+    private final int lixoRestante;
+
+    /** Cópia das estatísticas do dia, com as distribuições de cada métrica. */
+    private final EstatisticasDia estatisticas = new EstatisticasDia();
+
+    /**
+     * Cria o resumo de um dia sem distribuições registradas.
+     *
+     * @param dia                     O número do dia.
+     * @param lixoColetado            O total de lixo coletado, em toneladas.
+     * @param viagensColeta           O número de viagens de coleta.
+     * @param tempoEncerramento       O tempo do último evento do dia, em minutos.
+     * @param caminhoesGrandesCriados A quantidade de caminhões grandes criados no dia.
+     * @param lixoRestante            O lixo que sobrou nas zonas, em toneladas.
+     */
+    public ResumoDia(int dia, int lixoColetado, int viagensColeta, int tempoEncerramento,
+                     int caminhoesGrandesCriados, int lixoRestante) {
+        this(dia, lixoColetado, viagensColeta, tempoEncerramento, caminhoesGrandesCriados, lixoRestante,
+                new EstatisticasDia());
+    }
+
+    /**
+     * Cria o resumo de um dia, copiando as estatísticas informadas para que
+     * elas possam ser zeradas em seguida.
+     *
+     * @param dia                     O número do dia.
+     * @param lixoColetado            O total de lixo coletado, em toneladas.
+     * @param viagensColeta           O número de viagens de coleta.
+     * @param tempoEncerramento       O tempo do último evento do dia, em minutos.
+     * @param caminhoesGrandesCriados A quantidade de caminhões grandes criados no dia.
+     * @param lixoRestante            O lixo que sobrou nas zonas, em toneladas.
+     * @param estatisticas            As estatísticas do dia.
+     */
+    public ResumoDia(int dia, int lixoColetado, int viagensColeta, int tempoEncerramento,
+                     int caminhoesGrandesCriados, int lixoRestante, EstatisticasDia estatisticas) {
+        this.dia = dia;
+        this.lixoColetado = lixoColetado;
+        this.viagensColeta = viagensColeta;
+        this.tempoEncerramento = tempoEncerramento;
+        this.caminhoesGrandesCriados = caminhoesGrandesCriados;
+        this.lixoRestante = lixoRestante;
+        this.estatisticas.acumular(estatisticas);
+    }
+
+    /** @return O número do dia. */
+    public int getDia() {
+        return dia;
+    }
+
+    /** @return O total de lixo coletado no dia, em toneladas. */
+    public int getLixoColetado() {
+        return lixoColetado;
+    }
+
+    /** @return O número de viagens de coleta realizadas no dia. */
+    public int getViagensColeta() {
+        return viagensColeta;
+    }
+
+    /** @return O tempo do último evento do dia, em minutos. */
+    public int getTempoEncerramento() {
+        return tempoEncerramento;
+    }
+
+    /** @return A quantidade de caminhões grandes criados no dia. */
+    public int getCaminhoesGrandesCriados() {
+        return caminhoesGrandesCriados;
+    }
+
+    /** @return O lixo que permaneceu nas zonas ao final do dia, em toneladas. */
+    public int getLixoRestante() {
+        return lixoRestante;
+    }
+
+    /** @return As estatísticas do dia, com os histogramas de cada métrica; não devem ser alteradas. */
+    public EstatisticasDia getEstatisticas() {
+        return estatisticas;
+    }
+}
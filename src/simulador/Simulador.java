@@ -1,25 +1,233 @@
 package simulador;
 
-import estruturas.lista.Lista;
-import simulador.caminhoes.CaminhaoGrande;
+import estruturas.lista.EstruturaLista;
+import estruturas.lista.ListaArray;
 import simulador.caminhoes.CaminhaoPequeno;
-import simulador.configuracao.configuracao;
+import simulador.configuracao.ArquivoParametros;
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
 import simulador.estacoes.EstacaoDeTransferencia;
-import simulador.eventos.AgendaEventos;
+import simulador.estacoes.EstatisticasEstacao;
+import simulador.eventos.InstrumentacaoAgenda;
 import simulador.eventos.PlanejadorDeRotas;
-import simulador.configTempo.GerenciadorTempo;
+import simulador.log.RegistroSimulacao;
+import simulador.log.TipoRegistro;
+import simulador.metricas.Metrica;
+import simulador.motor.MotorEventos;
+import simulador.motor.MotorSequencial;
+import simulador.rastro.GravadorRastro;
 import simulador.zona.GerenciadorZonas;
+import simulador.zona.PoliticaRoteamento;
 import simulador.zona.Zona;
 import simulador.zona.Zonas;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Classe principal que orquestra a simulação de coleta de lixo.
  * Responsável por inicializar o ambiente da simulação (zonas, estações de transferência),
  * controlar o ciclo diário de eventos (geração de lixo, distribuição de caminhões, coleta, etc.)
  * e apresentar os resultados estatísticos ao final de cada dia simulado.
+ * Todo o estado mutável da execução fica no {@link ContextoSimulacao} do simulador.
+ * <p>
+ * Quantidades de caminhões, capacidades, tempos e limites de lixo são lidos dos
+ * {@link ParametrosSimulacao} do contexto. Se o simulador acompanha um
+ * {@link ArquivoParametros}, o arquivo é conferido no início de cada dia e, se
+ * tiver mudado, os novos valores passam a valer a partir daquele dia.
+ * <p>
+ * Os eventos de cada dia são executados pelo {@link MotorEventos} do
+ * simulador: por padrão, em sequência na agenda do contexto; com
+ * {@link simulador.motor.MotorConservador}, em paralelo, uma partição por estação.
+ * Com um {@link GravadorRastro}, cada evento executado fica gravado em disco
+ * para ser revisto depois sem simular de novo.
+ * <p>
+ * Entre um dia e outro, o estado inteiro da simulação pode ser gravado com
+ * {@link #gravarEstado(DataOutput)} e lido por outro simulador com
+ * {@link #lerEstado(DataInput)}, que segue com {@link #continuarSimulacao(int)}
+ * exatamente como o original seguiria. Assim, uma execução longa pode ser
+ * retomada, ou ramificada a partir de um dia em vários cenários (com
+ * {@link #setParametros(ParametrosSimulacao)}), sem simular os dias anteriores de novo.
  */
 public class Simulador {
 
+    /** Identifica o início de um estado gravado por {@link #gravarEstado(DataOutput)} ("SIME"). */
+    private static final int MAGICO_ESTADO = 0x53494D45;
+
+    /** Versão do formato gravado por {@link #gravarEstado(DataOutput)}. */
+    private static final int VERSAO_ESTADO = 2;
+
+    /** O contexto que guarda a agenda, o relógio, os geradores de ID e as estatísticas. */
+    private final ContextoSimulacao contexto;
+
+    /** Arquivo de configuração conferido a cada dia, ou {@code null} se os parâmetros são fixos. */
+    private final ArquivoParametros arquivoParametros;
+
+    /** Como as zonas são divididas entre as estações de transferência. */
+    private PoliticaRoteamento politicaRoteamento = PoliticaRoteamento.MAIS_PROXIMA;
+
+    /** Os nomes das estações de transferência da cidade. */
+    private String[] nomesEstacoes = {"A", "B"};
+
+    /**
+     * A distância de cada zona (linha) a cada estação (coluna), ou {@code null}
+     * para usar as distâncias de Teresina às estações A e B.
+     */
+    private double[][] distanciasEstacoes;
+
+    /** Quem executa os eventos de cada dia. */
+    private MotorEventos motor = new MotorSequencial();
+
+    /** Onde os eventos executados são gravados, ou {@code null} se não há rastro. */
+    private GravadorRastro gravadorRastro;
+
+    /** O gravador cujo cabeçalho já foi escrito com as zonas e estações desta simulação. */
+    private GravadorRastro rastroIniciado;
+
+    /** Os contadores que medem a agenda durante a simulação, ou {@code null}. */
+    private InstrumentacaoAgenda instrumentacao;
+
+    /** As zonas da simulação em andamento, ou {@code null} se nenhuma foi iniciada. */
+    private EstruturaLista<Zona> zonas;
+
+    /** As estações da simulação em andamento, ou {@code null} se nenhuma foi iniciada. */
+    private EstacaoDeTransferencia[] estacoes;
+
+    /** O gerenciador das zonas e rotas da simulação em andamento. */
+    private GerenciadorZonas gerenciadorZonas;
+
+    /** Quantos dias a simulação em andamento já simulou. */
+    private int diasSimulados;
+
+    /**
+     * Cria um simulador com um contexto novo e independente.
+     */
+    public Simulador() {
+        this(new ContextoSimulacao());
+    }
+
+    /**
+     * Cria um simulador que opera sobre o contexto informado.
+     *
+     * @param contexto O contexto da simulação.
+     */
+    public Simulador(ContextoSimulacao contexto) {
+        this.contexto = contexto;
+        this.arquivoParametros = null;
+    }
+
+    /**
+     * Cria um simulador que opera sobre o contexto informado com parâmetros fixos.
+     *
+     * @param contexto   O contexto da simulação.
+     * @param parametros Os parâmetros usados durante toda a simulação.
+     * @throws IllegalArgumentException se os parâmetros forem nulos.
+     */
+    public Simulador(ContextoSimulacao contexto, ParametrosSimulacao parametros) {
+        this.contexto = contexto;
+        this.arquivoParametros = null;
+        contexto.setParametros(parametros);
+    }
+
+    /**
+     * Cria um simulador que lê os parâmetros do arquivo informado e o confere
+     * de novo no início de cada dia.
+     *
+     * @param contexto          O contexto da simulação.
+     * @param arquivoParametros O arquivo de configuração acompanhado.
+     */
+    public Simulador(ContextoSimulacao contexto, ArquivoParametros arquivoParametros) {
+        this.contexto = contexto;
+        this.arquivoParametros = arquivoParametros;
+        contexto.setParametros(arquivoParametros.getParametros());
+    }
+
+    /**
+     * Retorna o contexto sobre o qual este simulador opera.
+     *
+     * @return O {@link ContextoSimulacao} do simulador.
+     */
+    public ContextoSimulacao getContexto() {
+        return contexto;
+    }
+
+    /**
+     * Define como as zonas são divididas entre as estações de transferência.
+     * Vale para as próximas chamadas de {@link #iniciarSimulacao(int)}.
+     *
+     * @param politica A política de roteamento.
+     * @throws IllegalArgumentException se a política for nula.
+     */
+    public void setPoliticaRoteamento(PoliticaRoteamento politica) {
+        if (politica == null) {
+            throw new IllegalArgumentException("Política não pode ser nula");
+        }
+        this.politicaRoteamento = politica;
+    }
+
+    /**
+     * Define as estações de transferência da cidade. Vale para as próximas
+     * chamadas de {@link #iniciarSimulacao(int)}.
+     *
+     * @param nomes      Os nomes das estações.
+     * @param distancias A distância de cada zona, na ordem de {@link #inicializarZonas()},
+     *                   a cada estação, na ordem dos nomes.
+     * @throws IllegalArgumentException se não houver estações ou se a matriz não
+     *                                  tiver uma coluna por estação.
+     */
+    public void setEstacoes(String[] nomes, double[][] distancias) {
+        if (nomes.length == 0) {
+            throw new IllegalArgumentException("É preciso pelo menos uma estação de transferência");
+        }
+        for (double[] linha : distancias) {
+            if (linha.length != nomes.length) {
+                throw new IllegalArgumentException("A matriz de distâncias deve ter uma coluna por estação");
+            }
+        }
+        this.nomesEstacoes = nomes.clone();
+        this.distanciasEstacoes = distancias;
+    }
+
+    /**
+     * Define como os eventos de cada dia são executados. Vale para as próximas
+     * chamadas de {@link #iniciarSimulacao(int)}.
+     *
+     * @param motor O motor de execução.
+     * @throws IllegalArgumentException se o motor for nulo.
+     */
+    public void setMotor(MotorEventos motor) {
+        if (motor == null) {
+            throw new IllegalArgumentException("Motor não pode ser nulo");
+        }
+        this.motor = motor;
+    }
+
+    /**
+     * Grava em um rastro cada evento executado na próxima chamada de
+     * {@link #iniciarSimulacao(int)}. Só é possível com o {@link MotorSequencial}.
+     * O gravador não é fechado pelo simulador.
+     *
+     * @param gravador O gravador, ou {@code null} para não gravar.
+     */
+    public void setGravadorRastro(GravadorRastro gravador) {
+        this.gravadorRastro = gravador;
+    }
+
+    /**
+     * Mede a agenda de eventos nas próximas chamadas de
+     * {@link #iniciarSimulacao(int)} e {@link #continuarSimulacao(int)}.
+     * Só é possível com o {@link MotorSequencial}, o único que executa todos
+     * os eventos na agenda do contexto. Os contadores acumulam todas as
+     * chamadas até serem zerados.
+     *
+     * @param instrumentacao Os contadores, ou {@code null} para não medir.
+     */
+    public void setInstrumentacao(InstrumentacaoAgenda instrumentacao) {
+        this.instrumentacao = instrumentacao;
+    }
+
     /**
      * Inicia a simulação de coleta de lixo por um número específico de dias.
      * <p>
@@ -32,103 +240,409 @@ public class Simulador {
      *
      *
      * @param dias O número total de dias a serem simulados.
+     * @return Um vetor com o {@link ResumoDia} de cada dia simulado, na ordem dos dias.
+     * @throws IllegalStateException se houver um rastro a gravar ou uma instrumentação e o motor
+     *                               não for o {@link MotorSequencial}.
+     * @throws UncheckedIOException se o rastro não puder ser gravado.
+     */
+    public ResumoDia[] iniciarSimulacao(int dias) {
+        verificarMotor();
+        preparar();
+        notificarPatios();
+        return simularDias(dias);
+    }
+
+    /**
+     * Simula mais dias, a partir do ponto em que a última chamada de
+     * {@link #iniciarSimulacao(int)} ou {@link #continuarSimulacao(int)}
+     * parou, ou do estado lido com {@link #lerEstado(DataInput)}. Os dias são
+     * numerados em sequência aos já simulados.
+     *
+     * @param dias O número de dias a mais.
+     * @return Um vetor com o {@link ResumoDia} de cada dia simulado, na ordem dos dias.
+     * @throws IllegalStateException se não houver simulação a continuar, ou se houver
+     *                               um rastro a gravar ou uma instrumentação e o motor não for o
+     *                               {@link MotorSequencial}.
+     * @throws UncheckedIOException se o rastro não puder ser gravado.
+     */
+    public ResumoDia[] continuarSimulacao(int dias) {
+        if (estacoes == null) {
+            throw new IllegalStateException("Não há simulação a continuar");
+        }
+        verificarMotor();
+        return simularDias(dias);
+    }
+
+    /**
+     * Retorna quantos dias já foram simulados, contando os que antecederam um
+     * estado lido com {@link #lerEstado(DataInput)}.
+     *
+     * @return O número do último dia simulado, ou zero.
      */
-    public void iniciarSimulacao(int dias) {
-        Lista<Zona> zonas = inicializarZonas();
-        EstatisticasDia estatisticas = new EstatisticasDia();
+    public int getDiasSimulados() {
+        return diasSimulados;
+    }
 
-        // Criação das estações de transferência
-        EstacaoDeTransferencia estA = new EstacaoDeTransferencia("A");
-        EstacaoDeTransferencia estB = new EstacaoDeTransferencia("B");
+    private void verificarMotor() {
+        if (gravadorRastro != null && !(motor instanceof MotorSequencial)) {
+            throw new IllegalStateException("O rastro só pode ser gravado com o motor sequencial");
+        }
+        if (instrumentacao != null && !(motor instanceof MotorSequencial)) {
+            throw new IllegalStateException("A agenda só pode ser medida com o motor sequencial");
+        }
+    }
+
+    /**
+     * Cria as zonas, as estações e o gerenciador de zonas de uma simulação
+     * nova, com os parâmetros atuais do contexto.
+     */
+    private void preparar() {
+        zonas = inicializarZonas();
+        diasSimulados = 0;
+        rastroIniciado = null;
 
-        // Atualiza interface gráfica com os caminhões grandes nas estações
-        SimuladorGUI.atualizarCaminhao("G" + estA.getCaminhaoGrandeAtual().getId(), "Aguardando", "Estacao A");
-        SimuladorGUI.atualizarCaminhao("G" + estB.getCaminhaoGrandeAtual().getId(), "Aguardando", "Estacao B");
+        // Criação das estações de transferência, cada uma ligada ao contexto que o motor lhe reserva
+        motor.iniciar(contexto, nomesEstacoes.length);
+        estacoes = new EstacaoDeTransferencia[nomesEstacoes.length];
+        for (int i = 0; i < estacoes.length; i++) {
+            estacoes[i] = new EstacaoDeTransferencia(nomesEstacoes[i], motor.getContextoEstacao(i));
+        }
 
         // Inicializa o gerenciador de zonas e vincula às estações
-        GerenciadorZonas gerenciadorZonas = new GerenciadorZonas(estA, estB);
-        estA.setGerenciadorZonas(gerenciadorZonas);
-        estB.setGerenciadorZonas(gerenciadorZonas);
-        gerenciadorZonas.setZonas(zonas);
+        gerenciadorZonas = new GerenciadorZonas(estacoes);
+        for (EstacaoDeTransferencia estacao : estacoes) {
+            estacao.setGerenciadorZonas(gerenciadorZonas);
+        }
+        gerenciadorZonas.setPolitica(politicaRoteamento);
+        if (distanciasEstacoes == null) {
+            gerenciadorZonas.setZonas(zonas);
+        } else {
+            gerenciadorZonas.setZonas(zonas, distanciasEstacoes);
+        }
+        motor.setGerenciadorZonas(gerenciadorZonas);
+
+        // Cada zona sorteia com o seu próprio gerador, dividido na ordem das zonas
+        for (Zona zona : zonas) {
+            zona.setAleatorio(contexto.getAleatorio().dividir());
+        }
+    }
+
+    /** Atualiza a interface gráfica com os caminhões grandes nas estações. */
+    private void notificarPatios() {
+        for (EstacaoDeTransferencia estacao : estacoes) {
+            for (int vaga = 0; vaga < estacao.getQuantidadeCaminhoesGrandes(); vaga++) {
+                if (estacao.getCaminhaoGrande(vaga) == null) continue;
+                contexto.getObservador().atualizarCaminhao("G" + estacao.getCaminhaoGrande(vaga).getId(),
+                        "Aguardando", "Estacao " + estacao.getNomeEstacao());
+            }
+        }
+    }
+
+    private ResumoDia[] simularDias(int dias) {
+        EstatisticasDia estatisticas = contexto.getEstatisticas();
+        RegistroSimulacao registro = contexto.getRegistro();
+        ResumoDia[] resumos = new ResumoDia[dias];
+
+        if (gravadorRastro != null) {
+            if (gravadorRastro != rastroIniciado) {
+                try {
+                    gravadorRastro.iniciar(gerenciadorZonas);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rastroIniciado = gravadorRastro;
+            }
+            contexto.getAgenda().setMonitor(gravadorRastro);
+        }
+        contexto.getAgenda().setInstrumentacao(instrumentacao);
 
         // Loop principal da simulação diária
-        for (int dia = 1; dia <= dias; dia++) {
-            System.out.println();
-            System.out.println("---------------- COLETA DIA " + dia + " ------------");
+        for (int i = 0; i < dias; i++) {
+            int dia = ++diasSimulados;
+            int caminhoesGrandesAntes = motor.getCaminhoesGrandesCriados();
+            registro.registrar(TipoRegistro.INICIO_DIA, dia);
+            if (gravadorRastro != null) {
+                gravadorRastro.iniciarDia(dia);
+            }
+            recarregarParametros(dia, zonas);
+            ParametrosSimulacao parametros = contexto.getParametros();
 
-            // Geração de lixo nas zonas
-            System.out.println("Gerando lixo nas zonas...");
-            for (int i = 0; i < zonas.getTamanho(); i++) {
-                zonas.getValor(i).gerarLixoDiario();
+            // Geração de lixo nas zonas: cada uma tem o seu gerador, então a ordem não importa
+            for (Zona zona : zonas) {
+                zona.gerarLixoDiario();
+            }
+            for (Zona zona : zonas) {
+                registro.registrar(TipoRegistro.ZONA_GEROU_LIXO, zona.getNome(), zona.getLixoAcumulado());
             }
 
             // Distribuição dos caminhões por capacidade
-            Lista<CaminhaoPequeno> caminhoes2t = PlanejadorDeRotas.distribuir(zonas,
-                    configuracao.QTD_CAMINHOES_2T, configuracao.VIAGENS_CAMINHOES_2T,
-                    configuracao.CAPACIDADE_CAMINHOES_2T, gerenciadorZonas);
+            EstruturaLista<CaminhaoPequeno> caminhoes2t = PlanejadorDeRotas.distribuir(zonas,
+                    parametros.getInt(Parametro.QTD_CAMINHOES_2T), parametros.getInt(Parametro.VIAGENS_CAMINHOES_2T),
+                    parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_2T), gerenciadorZonas, contexto);
 
-            Lista<CaminhaoPequeno> caminhoes4t = PlanejadorDeRotas.distribuir(zonas,
-                    configuracao.QTD_CAMINHOES_4T, configuracao.VIAGENS_CAMINHOES_4T,
-                    configuracao.CAPACIDADE_CAMINHOES_4T, gerenciadorZonas);
+            EstruturaLista<CaminhaoPequeno> caminhoes4t = PlanejadorDeRotas.distribuir(zonas,
+                    parametros.getInt(Parametro.QTD_CAMINHOES_4T), parametros.getInt(Parametro.VIAGENS_CAMINHOES_4T),
+                    parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_4T), gerenciadorZonas, contexto);
 
-            Lista<CaminhaoPequeno> caminhoes8t = PlanejadorDeRotas.distribuir(zonas,
-                    configuracao.QTD_CAMINHOES_8T, configuracao.VIAGENS_CAMINHOES_8T,
-                    configuracao.CAPACIDADE_CAMINHOES_8T, gerenciadorZonas);
+            EstruturaLista<CaminhaoPequeno> caminhoes8t = PlanejadorDeRotas.distribuir(zonas,
+                    parametros.getInt(Parametro.QTD_CAMINHOES_8T), parametros.getInt(Parametro.VIAGENS_CAMINHOES_8T),
+                    parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_8T), gerenciadorZonas, contexto);
 
-            Lista<CaminhaoPequeno> caminhoes10t = PlanejadorDeRotas.distribuir(zonas,
-                    configuracao.QTD_CAMINHOES_10T, configuracao.VIAGENS_CAMINHOES_10T,
-                    configuracao.CAPACIDADE_CAMINHOES_10T, gerenciadorZonas);
+            EstruturaLista<CaminhaoPequeno> caminhoes10t = PlanejadorDeRotas.distribuir(zonas,
+                    parametros.getInt(Parametro.QTD_CAMINHOES_10T), parametros.getInt(Parametro.VIAGENS_CAMINHOES_10T),
+                    parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_10T), gerenciadorZonas, contexto);
 
             // Consolida todos os caminhões pequenos em uma lista única
-            Lista<CaminhaoPequeno> todosCaminhoes = new Lista<>();
-            for (int i = 0; i < caminhoes2t.getTamanho(); i++) {
-                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhoes2t.getValor(i));
+            EstruturaLista<CaminhaoPequeno> todosCaminhoes = new ListaArray<>();
+            for (CaminhaoPequeno caminhao : caminhoes2t) {
+                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhao);
             }
-            for (int i = 0; i < caminhoes4t.getTamanho(); i++) {
-                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhoes4t.getValor(i));
+            for (CaminhaoPequeno caminhao : caminhoes4t) {
+                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhao);
             }
-            for (int i = 0; i < caminhoes8t.getTamanho(); i++) {
-                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhoes8t.getValor(i));
+            for (CaminhaoPequeno caminhao : caminhoes8t) {
+                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhao);
             }
-            for (int i = 0; i < caminhoes10t.getTamanho(); i++) {
-                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhoes10t.getValor(i));
+            for (CaminhaoPequeno caminhao : caminhoes10t) {
+                todosCaminhoes.adicionar(todosCaminhoes.getTamanho(), caminhao);
             }
 
             // Informa os caminhões disponíveis ao gerenciador
             gerenciadorZonas.setCaminhoes(todosCaminhoes);
 
-            System.out.println("Iniciando coleta...\n");
+            registro.registrar(TipoRegistro.INICIO_COLETA);
 
             // Processamento dos eventos agendados para o dia
-            AgendaEventos.processarEventos(estatisticas);
+            motor.processarDia();
 
             // Exibição do resumo estatístico diário
-            int tempoFinal = AgendaEventos.getTempoUltimoEvento();
-            System.out.println();
-            System.out.println("+--------------------------------------------------+");
-            System.out.println("|              RESUMO DO DIA " + dia + "                    |");
-            System.out.println("+--------------------------------------------------+");
-            System.out.printf("| %-18s | %-28s |%n", "Tempo Total", GerenciadorTempo.formatarDuracao(tempoFinal));
-            System.out.printf("| %-18s | %-28s |%n", "Horário Encerramento", GerenciadorTempo.formatarHorarioSimulado(tempoFinal));
-            for (int i = 0; i < zonas.getTamanho(); i++) {
-                Zona zona = zonas.getValor(i);
-                System.out.printf("| %-18s | %-28s |%n", "Lixo em " + zona.getNome(), zona.getLixoAcumulado() + " toneladas");
-            }
-            System.out.printf("| %-18s | %-28d |%n", "Caminhões de 2t", caminhoes2t.getTamanho());
-            System.out.printf("| %-18s | %-28d |%n", "Caminhões de 4t", caminhoes4t.getTamanho());
-            System.out.printf("| %-18s | %-28d |%n", "Caminhões de 8t", caminhoes8t.getTamanho());
-            System.out.printf("| %-18s | %-28d |%n", "Caminhões de 10t", caminhoes10t.getTamanho());
-            System.out.printf("| %-18s | %-28d |%n", "Caminhões Grandes", CaminhaoGrande.getNumeroTotalCriado());
-            System.out.println("+--------------------------------------------------+");
-            System.out.println();
+            int tempoFinal = motor.getTempoUltimoEvento();
+            // Utilização das estações: tempo de descarga sobre o tempo disponível nas vagas do pátio
+            if (tempoFinal > 0) {
+                for (EstacaoDeTransferencia estacao : estacoes) {
+                    long disponivel = (long) tempoFinal * estacao.getQuantidadeCaminhoesGrandes();
+                    estatisticas.registrar(Metrica.UTILIZACAO_ESTACAO, (int) Math.round(
+                            100.0 * estacao.getEstatisticas().getTempoTotalDescarga() / disponivel));
+                }
+            }
+            registro.registrar(TipoRegistro.RESUMO_CABECALHO, dia, tempoFinal);
+            for (Zona zona : zonas) {
+                registro.registrar(TipoRegistro.RESUMO_ZONA, zona.getNome(), zona.getLixoAcumulado());
+            }
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Caminhões de 2t", caminhoes2t.getTamanho());
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Caminhões de 4t", caminhoes4t.getTamanho());
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Caminhões de 8t", caminhoes8t.getTamanho());
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Caminhões de 10t", caminhoes10t.getTamanho());
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Caminhões Grandes", motor.getCaminhoesGrandesCriados());
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Eventos Executados", motor.getEventosExecutados());
+            registro.registrar(TipoRegistro.RESUMO_VALOR, "Eventos Cancelados", motor.getEventosCancelados());
+            for (EstacaoDeTransferencia estacao : estacoes) {
+                EstatisticasEstacao atendimento = estacao.getEstatisticas();
+                registro.registrar(TipoRegistro.RESUMO_ESTACAO, estacao.getNomeEstacao(), null,
+                        atendimento.getAtendimentos(), (int) Math.round(atendimento.getEsperaMedia()),
+                        atendimento.getMaiorEspera(), (int) Math.round(atendimento.getDescargaMedia()),
+                        atendimento.getMaiorDescarga());
+            }
+            registro.registrar(TipoRegistro.RESUMO_FIM);
+
+            int lixoRestante = zonas.stream().mapToInt(Zona::getLixoAcumulado).sum();
+            resumos[i] = new ResumoDia(dia, estatisticas.getTotalLixoColetado(),
+                    estatisticas.getTotalViagensColeta(), tempoFinal,
+                    motor.getCaminhoesGrandesCriados() - caminhoesGrandesAntes, lixoRestante, estatisticas);
 
             // Prepara o sistema para o próximo dia
-            AgendaEventos.resetar();
+            motor.resetarDia();
             estatisticas.resetar();
+            for (EstacaoDeTransferencia estacao : estacoes) {
+                estacao.iniciarNovoDia();
+            }
         }
 
-        System.out.println();
-        System.out.println("=============== FIM DA SIMULAÇÃO ===============");
+        if (gravadorRastro != null) {
+            contexto.getAgenda().setMonitor(null);
+        }
+        contexto.getAgenda().setInstrumentacao(null);
+        registro.registrar(TipoRegistro.FIM_SIMULACAO);
+        registro.esvaziar();
+        return resumos;
+    }
+
+    /**
+     * Troca os parâmetros da simulação a partir do próximo dia, aplicando os
+     * novos limites de lixo às zonas. Serve para ramificar, a partir de um
+     * estado lido com {@link #lerEstado(DataInput)}, cenários que diferem
+     * apenas dali em diante. O número de vagas do pátio das estações não muda.
+     *
+     * @param parametros Os novos parâmetros.
+     * @throws IllegalArgumentException se os parâmetros forem nulos.
+     */
+    public void setParametros(ParametrosSimulacao parametros) {
+        contexto.setParametros(parametros);
+        if (zonas == null) return;
+        for (Zona zona : zonas) {
+            Zonas.reconfigurar(zona, parametros);
+        }
+    }
+
+    /**
+     * Grava o estado da simulação entre um dia e outro: os parâmetros, as
+     * estações configuradas e a política de roteamento, a posição dos
+     * geradores de números aleatórios e de identificadores, o lixo e o
+     * gerador de cada zona, os pátios das estações e os caminhões pequenos
+     * que esperam nas filas.
+     * <p>
+     * A agenda e as estatísticas não são gravadas: no fim de cada dia, a
+     * agenda é esvaziada e as estatísticas são zeradas. Só ficam os eventos
+     * que a agenda descartou e que os caminhões ainda podem cancelar, gravados
+     * junto com eles.
+     *
+     * @param saida Onde o estado é gravado.
+     * @throws IOException se a gravação falhar.
+     * @throws IllegalStateException se nenhuma simulação tiver sido iniciada.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        if (estacoes == null) {
+            throw new IllegalStateException("Não há simulação em andamento para gravar");
+        }
+        saida.writeInt(MAGICO_ESTADO);
+        saida.writeInt(VERSAO_ESTADO);
+        saida.writeInt(diasSimulados);
+        contexto.getParametros().gravarEstado(saida);
+        saida.writeUTF(politicaRoteamento.name());
+        saida.writeInt(nomesEstacoes.length);
+        for (String nome : nomesEstacoes) {
+            saida.writeUTF(nome);
+        }
+        saida.writeBoolean(distanciasEstacoes != null);
+        if (distanciasEstacoes != null) {
+            saida.writeInt(distanciasEstacoes.length);
+            for (double[] linha : distanciasEstacoes) {
+                for (double distancia : linha) {
+                    saida.writeDouble(distancia);
+                }
+            }
+        }
+
+        contexto.gravarEstado(saida);
+        for (Zona zona : zonas) {
+            zona.gravarEstado(saida);
+        }
+        // Com um motor paralelo, cada estação cria os seus caminhões grandes no contexto da sua partição
+        for (int i = 0; i < estacoes.length; i++) {
+            ContextoSimulacao contextoEstacao = motor.getContextoEstacao(i);
+            saida.writeBoolean(contextoEstacao != contexto);
+            if (contextoEstacao != contexto) {
+                contextoEstacao.gravarEstado(saida);
+            }
+        }
+        for (EstacaoDeTransferencia estacao : estacoes) {
+            estacao.gravarEstado(saida);
+        }
+    }
+
+    /**
+     * Substitui a simulação deste simulador por uma gravada com
+     * {@link #gravarEstado(DataOutput)}, pronta para {@link #continuarSimulacao(int)}.
+     * Os parâmetros, as estações e a política de roteamento passam a ser os
+     * gravados. O motor deve ser do mesmo tipo, sequencial ou paralelo, que o
+     * da simulação gravada.
+     *
+     * @param entrada De onde o estado é lido.
+     * @throws IOException se a leitura falhar, se o conteúdo não for um estado
+     *                     gravado pelo simulador ou se não servir para o motor atual.
+     *                     Nesse caso, não resta simulação a continuar.
+     */
+    public void lerEstado(DataInput entrada) throws IOException {
+        estacoes = null;
+        if (entrada.readInt() != MAGICO_ESTADO) {
+            throw new IOException("Não é um estado gravado pelo simulador");
+        }
+        int versao = entrada.readInt();
+        if (versao != VERSAO_ESTADO) {
+            throw new IOException("Versão de estado não suportada: " + versao);
+        }
+        int dias = entrada.readInt();
+        ParametrosSimulacao parametros = ParametrosSimulacao.lerEstado(entrada);
+        String politica = entrada.readUTF();
+        int quantidadeEstacoes = entrada.readInt();
+        if (dias < 0 || quantidadeEstacoes <= 0) {
+            throw new IOException("Estado gravado inválido");
+        }
+        String[] nomes = new String[quantidadeEstacoes];
+        for (int i = 0; i < nomes.length; i++) {
+            nomes[i] = entrada.readUTF();
+        }
+        double[][] distancias = null;
+        if (entrada.readBoolean()) {
+            int linhas = entrada.readInt();
+            if (linhas < 0) {
+                throw new IOException("Estado gravado inválido");
+            }
+            distancias = new double[linhas][nomes.length];
+            for (double[] linha : distancias) {
+                for (int j = 0; j < linha.length; j++) {
+                    linha[j] = entrada.readDouble();
+                }
+            }
+        }
+        try {
+            setPoliticaRoteamento(PoliticaRoteamento.valueOf(politica));
+            setEstacoes(nomes, distancias == null ? new double[0][] : distancias);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Configuração gravada inválida: " + e.getMessage(), e);
+        }
+        this.distanciasEstacoes = distancias;
+        contexto.setParametros(parametros);
+
+        try {
+            preparar();
+            contexto.lerEstado(entrada);
+            for (Zona zona : zonas) {
+                zona.lerEstado(entrada);
+            }
+            for (int i = 0; i < estacoes.length; i++) {
+                ContextoSimulacao contextoEstacao = motor.getContextoEstacao(i);
+                if (entrada.readBoolean() != (contextoEstacao != contexto)) {
+                    throw new IOException("O estado foi gravado com outro tipo de motor de eventos");
+                }
+                if (contextoEstacao != contexto) {
+                    contextoEstacao.lerEstado(entrada);
+                }
+            }
+            for (EstacaoDeTransferencia estacao : estacoes) {
+                estacao.lerEstado(entrada);
+            }
+        } catch (IOException | RuntimeException e) {
+            estacoes = null;
+            throw e;
+        }
+        diasSimulados = dias;
+        notificarPatios();
+    }
+
+    /**
+     * Confere o arquivo de configuração, se houver, e aplica os novos parâmetros
+     * ao contexto e às zonas. Um arquivo inválido é registrado e ignorado: a
+     * simulação segue com os parâmetros anteriores.
+     *
+     * @param dia   O dia que está começando.
+     * @param zonas As zonas da simulação.
+     */
+    private void recarregarParametros(int dia, EstruturaLista<Zona> zonas) {
+        if (arquivoParametros == null) return;
+        String nomeArquivo = arquivoParametros.getArquivo().getName();
+        try {
+            if (!arquivoParametros.recarregarSeAlterado()) return;
+        } catch (IOException | IllegalArgumentException e) {
+            contexto.getRegistro().registrar(TipoRegistro.PARAMETROS_INVALIDOS, nomeArquivo, e.getMessage(), dia);
+            return;
+        }
+        ParametrosSimulacao parametros = arquivoParametros.getParametros();
+        contexto.setParametros(parametros);
+        for (Zona zona : zonas) {
+            Zonas.reconfigurar(zona, parametros);
+        }
+        contexto.getRegistro().registrar(TipoRegistro.PARAMETROS_RECARREGADOS, nomeArquivo, dia);
     }
 
     /**
@@ -136,17 +650,19 @@ public class Simulador {
      * <p>
      * As zonas são geradas a partir da classe {@link Zonas}, que oferece
      * instâncias pré-configuradas das principais regiões da cidade:
-     * Sul, Sudeste, Centro, Leste e Norte.
+     * Sul, Sudeste, Centro, Leste e Norte, com os limites de lixo dos
+     * parâmetros do contexto.
      *
-     * @return Uma {@code Lista<Zona>} contendo todas as zonas da cidade.
+     * @return Uma {@code EstruturaLista<Zona>} contendo todas as zonas da cidade.
      */
-    public Lista<Zona> inicializarZonas() {
-        Lista<Zona> zonas = new Lista<>();
-        zonas.adicionar(0, Zonas.zonaSul());
-        zonas.adicionar(1, Zonas.zonaSudeste());
-        zonas.adicionar(2, Zonas.zonaCentro());
-        zonas.adicionar(3, Zonas.zonaLeste());
-        zonas.adicionar(4, Zonas.zonaNorte());
+    public EstruturaLista<Zona> inicializarZonas() {
+        ParametrosSimulacao parametros = contexto.getParametros();
+        EstruturaLista<Zona> zonas = new ListaArray<>();
+        zonas.adicionar(0, Zonas.zonaSul(parametros));
+        zonas.adicionar(1, Zonas.zonaSudeste(parametros));
+        zonas.adicionar(2, Zonas.zonaCentro(parametros));
+        zonas.adicionar(3, Zonas.zonaLeste(parametros));
+        zonas.adicionar(4, Zonas.zonaNorte(parametros));
         return zonas;
     }
 }
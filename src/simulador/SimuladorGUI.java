@@ -19,8 +19,14 @@ import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
-import simulador.caminhoes.CaminhaoGrande;
-
+import simulador.log.NivelLog;
+import simulador.log.RegistroSimulacao;
+import simulador.rastro.LeitorRastro;
+import simulador.rastro.ReprodutorRastro;
+import simulador.visualizacao.ObservadorSimulacao;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,6 +35,10 @@ import java.util.concurrent.ConcurrentHashMap;
  * Gerencia a interface gráfica do usuário (GUI) para o simulador de coleta de lixo.
  * Esta classe utiliza JavaFX para desenhar o mapa da cidade, zonas, estações e
  * a movimentação dos caminhões em tempo real.
+ * <p>
+ * Além de simular, a interface pode reproduzir um rastro gravado pelo
+ * {@link simulador.rastro.GravadorRastro}, a partir de qualquer dia, sem
+ * simular de novo.
  */
 public class SimuladorGUI extends Application {
 
@@ -36,9 +46,12 @@ public class SimuladorGUI extends Application {
     private static final int ALTURA = 850;
 
     private Button startButton;
+    private Button replayButton;
     private GraphicsContext gc;
     private Image mapaBackground;
     private TextField daysTextField;
+    private TextField traceTextField;
+    private TextField traceDayTextField;
 
     /**
      * Mapa que armazena as representações visuais dos caminhões, usando o ID do caminhão como chave.
@@ -46,6 +59,21 @@ public class SimuladorGUI extends Application {
     private static Map<String, RepresentacaoCaminhao> representacoesCaminhoes = new ConcurrentHashMap<>();
     private static volatile int velocidadePausaMs = 250;
 
+    /**
+     * Observador que encaminha as notificações da simulação para esta interface.
+     */
+    private static final ObservadorSimulacao OBSERVADOR = new ObservadorSimulacao() {
+        @Override
+        public void atualizarCaminhao(String id, String status, String localizacao) {
+            SimuladorGUI.atualizarCaminhao(id, status, localizacao);
+        }
+
+        @Override
+        public void pausar() {
+            SimuladorGUI.pausar();
+        }
+    };
+
     @Override
     public void start(Stage primaryStage) {
         primaryStage.setTitle("Fluxo de Coleta de Lixo - Teresina (Dinâmico)");
@@ -79,7 +107,16 @@ public class SimuladorGUI extends Application {
             velocidadePausaMs = 1000 - newVal.intValue();
         });
 
-        VBox controls = new VBox(10, daysLabel, daysTextField, startButton, speedLabel, speedSlider);
+        Label traceLabel = new Label("Rastro para reproduzir e dia inicial:");
+        traceTextField = new TextField("");
+        traceTextField.setMaxWidth(300);
+        traceDayTextField = new TextField("1");
+        traceDayTextField.setMaxWidth(60);
+        replayButton = new Button("Reproduzir Rastro");
+        replayButton.setOnAction(e -> reproduzirRastro());
+
+        VBox controls = new VBox(10, daysLabel, daysTextField, startButton, traceLabel, traceTextField,
+                traceDayTextField, replayButton, speedLabel, speedSlider);
         controls.setPadding(new Insets(10));
         controls.setAlignment(Pos.CENTER);
         root.setBottom(controls);
@@ -106,10 +143,9 @@ public class SimuladorGUI extends Application {
      */
     private void iniciarSimulacao() {
         startButton.setDisable(true);
+        replayButton.setDisable(true);
         representacoesCaminhoes.clear();
 
-        CaminhaoGrande.resetarContadorDeId();
-
         int diasParaSimular;
         try {
             diasParaSimular = Integer.parseInt(daysTextField.getText());
@@ -125,17 +161,59 @@ public class SimuladorGUI extends Application {
         final int finalDias = diasParaSimular;
 
         Thread simulationThread = new Thread(() -> {
+            RegistroSimulacao registro = new RegistroSimulacao(NivelLog.DETALHADO, System.out);
             try {
-                Simulador simulador = new Simulador();
+                ContextoSimulacao contexto = new ContextoSimulacao(System.nanoTime(), registro, OBSERVADOR);
+                Simulador simulador = new Simulador(contexto);
                 simulador.iniciarSimulacao(finalDias);
             } finally {
-                Platform.runLater(() -> startButton.setDisable(false));
+                registro.fechar();
+                Platform.runLater(this::liberarBotoes);
             }
         });
         simulationThread.setDaemon(true);
         simulationThread.start();
     }
 
+    /**
+     * Reproduz no mapa o rastro informado, a partir do dia informado, quando o
+     * botão "Reproduzir Rastro" é clicado. A velocidade é a mesma da simulação.
+     */
+    private void reproduzirRastro() {
+        String arquivo = traceTextField.getText().trim();
+        if (arquivo.isEmpty()) return;
+        startButton.setDisable(true);
+        replayButton.setDisable(true);
+        representacoesCaminhoes.clear();
+
+        int diaInicial;
+        try {
+            diaInicial = Math.max(1, Integer.parseInt(traceDayTextField.getText()));
+        } catch (NumberFormatException e) {
+            diaInicial = 1;
+            traceDayTextField.setText("1");
+        }
+
+        final int finalDiaInicial = diaInicial;
+
+        Thread replayThread = new Thread(() -> {
+            try (LeitorRastro leitor = new LeitorRastro(Paths.get(arquivo))) {
+                new ReprodutorRastro(leitor).reproduzir(leitor.buscar(finalDiaInicial, 0), leitor.getQuantidade(), OBSERVADOR);
+            } catch (IOException e) {
+                System.err.println("Erro ao ler o rastro " + arquivo + ": " + e.getMessage());
+            } finally {
+                Platform.runLater(this::liberarBotoes);
+            }
+        });
+        replayThread.setDaemon(true);
+        replayThread.start();
+    }
+
+    private void liberarBotoes() {
+        startButton.setDisable(false);
+        replayButton.setDisable(false);
+    }
+
     /**
      * O loop principal de renderização, chamado a cada frame pelo AnimationTimer.
      */
@@ -174,7 +252,7 @@ public class SimuladorGUI extends Application {
 
     /**
      * Método estático para atualizar o estado de um caminhão na GUI.
-     * ATENÇÃO: Se renomear este método, atualize as chamadas em outras classes.
+     * A simulação chega aqui por meio do {@link #OBSERVADOR}.
      */
     public static void atualizarCaminhao(String id, String status, String localizacao) {
         Platform.runLater(() -> {
@@ -185,7 +263,7 @@ public class SimuladorGUI extends Application {
 
     /**
      * Pausa a execução da thread da simulação.
-     * ATENÇÃO: Se renomear este método, atualize as chamadas em outras classes.
+     * A simulação chega aqui por meio do {@link #OBSERVADOR}.
      */
     public static void pausar() {
         try {
@@ -0,0 +1,185 @@
+package simulador.aleatorio;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Gerador de números pseudoaleatórios com semente, baseado no algoritmo
+ * SplitMix64 (o mesmo de {@link java.util.SplittableRandom}).
+ * <p>
+ * Cada entidade da simulação que sorteia valores (zona, caminhão) recebe o
+ * seu próprio gerador, obtido por {@link #dividir()} a partir do gerador do
+ * contexto. Como as divisões acontecem sempre na mesma ordem, a mesma semente
+ * produz exatamente os mesmos sorteios, independentemente de quantas threads
+ * participem da execução ou da ordem em que as entidades sejam processadas.
+ * <p>
+ * Uma instância não é segura para uso simultâneo por várias threads; cada
+ * thread deve usar um gerador próprio, obtido por divisão.
+ */
+public class GeradorAleatorio {
+
+    /** Incremento padrão do SplitMix64 (parte fracionária da razão áurea). */
+    private static final long GAMA_PADRAO = 0x9E3779B97F4A7C15L;
+
+    private long semente;
+    private final long gama;
+
+    /**
+     * Cria um gerador a partir de uma semente.
+     *
+     * @param semente A semente inicial.
+     */
+    public GeradorAleatorio(long semente) {
+        this(semente, GAMA_PADRAO);
+    }
+
+    private GeradorAleatorio(long semente, long gama) {
+        this.semente = semente;
+        this.gama = gama;
+    }
+
+    /**
+     * Cria um novo gerador independente deste, avançando o estado deste gerador.
+     *
+     * @return O novo gerador.
+     */
+    public GeradorAleatorio dividir() {
+        return new GeradorAleatorio(proximoLong(), misturarGama(proximaSemente()));
+    }
+
+    /**
+     * Cria um gerador no mesmo estado deste, que passa a sortear a mesma
+     * sequência de valores sem afetar este.
+     *
+     * @return A cópia.
+     */
+    public GeradorAleatorio copiar() {
+        return new GeradorAleatorio(semente, gama);
+    }
+
+    /**
+     * Retorna o estado interno do gerador. Junto com
+     * {@link #restaurarEstado(long)}, permite voltar a uma posição anterior
+     * da sequência; o incremento de cada gerador nunca muda.
+     *
+     * @return O estado atual.
+     */
+    public long getEstado() {
+        return semente;
+    }
+
+    /**
+     * Volta o gerador a um estado obtido com {@link #getEstado()}.
+     *
+     * @param estado O estado a ser restaurado.
+     */
+    public void restaurarEstado(long estado) {
+        this.semente = estado;
+    }
+
+    /**
+     * Grava o estado e o incremento do gerador, para que ele seja recriado
+     * com {@link #lerEstado(DataInput)} na mesma posição da sequência.
+     *
+     * @param saida Onde o gerador é gravado.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeLong(semente);
+        saida.writeLong(gama);
+    }
+
+    /**
+     * Recria um gerador gravado com {@link #gravarEstado(DataOutput)}.
+     *
+     * @param entrada De onde o gerador é lido.
+     * @return Um gerador que sorteia a mesma sequência que o gravado sortearia.
+     * @throws IOException se a leitura falhar.
+     */
+    public static GeradorAleatorio lerEstado(DataInput entrada) throws IOException {
+        long semente = entrada.readLong();
+        return new GeradorAleatorio(semente, entrada.readLong());
+    }
+
+    /**
+     * Sorteia um {@code long} uniforme.
+     *
+     * @return O valor sorteado.
+     */
+    public long proximoLong() {
+        return misturar64(proximaSemente());
+    }
+
+    /**
+     * Sorteia um inteiro uniforme em [0, limite).
+     *
+     * @param limite O limite superior exclusivo.
+     * @return O valor sorteado.
+     * @throws IllegalArgumentException se o limite não for positivo.
+     */
+    public int proximoInt(int limite) {
+        if (limite <= 0) {
+            throw new IllegalArgumentException("Limite deve ser positivo: " + limite);
+        }
+        int r = misturar32(proximaSemente());
+        int m = limite - 1;
+        if ((limite & m) == 0) {
+            return r & m;
+        }
+        // Rejeita os valores da última faixa incompleta para não enviesar o resultado
+        for (int u = r >>> 1; u + m - (r = u % limite) < 0; u = misturar32(proximaSemente()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * Sorteia um inteiro uniforme em [origem, limite).
+     *
+     * @param origem O limite inferior inclusivo.
+     * @param limite O limite superior exclusivo.
+     * @return O valor sorteado.
+     * @throws IllegalArgumentException se a origem não for menor que o limite.
+     */
+    public int proximoInt(int origem, int limite) {
+        if (origem >= limite) {
+            throw new IllegalArgumentException("Origem deve ser menor que o limite: " + origem + " >= " + limite);
+        }
+        return origem + proximoInt(limite - origem);
+    }
+
+    /**
+     * Sorteia um {@code double} uniforme em [0, 1).
+     *
+     * @return O valor sorteado.
+     */
+    public double proximoDouble() {
+        return (proximoLong() >>> 11) * 0x1.0p-53;
+    }
+
+    private long proximaSemente() {
+        return semente += gama;
+    }
+
+    private static long misturar64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int misturar32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62A9D9ED799705F5L;
+        return (int) (((z ^ (z >>> 28)) * 0xCB24D0A5C88C35B3L) >>> 32);
+    }
+
+    /**
+     * Deriva um incremento ímpar e com bits bem distribuídos para um gerador dividido.
+     */
+    private static long misturarGama(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xAAAAAAAAAAAAAAAAL : z;
+    }
+}
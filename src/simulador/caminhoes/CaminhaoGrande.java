@@ -1,7 +1,11 @@
 package simulador.caminhoes;
 
+import simulador.estacoes.EstacaoDeTransferencia;
 import simulador.eventos.EventoVerificarEsperaCaminhaoGrande;
-import simulador.SimuladorGUI;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Representa um caminhão de grande porte (20 toneladas).
@@ -9,9 +13,6 @@ import simulador.SimuladorGUI;
  * até o aterro sanitário. Ele não coleta lixo diretamente das zonas.
  */
 public class CaminhaoGrande {
-    /** Contador estático para gerar IDs únicos para cada caminhão grande criado. */
-    private static int proximoId = 1;
-
     /** O identificador único deste caminhão. */
     private int id;
 
@@ -27,15 +28,19 @@ public class CaminhaoGrande {
     /** Indica se o caminhão está em processo de carregamento na estação. */
     private boolean carregando;
 
+    /** Tempo da primeira carga recebida desde a última partida, ou -1 se o caminhão está vazio. */
+    private int tempoInicioCarga = -1;
+
     /** Atributo não utilizado na implementação atual. */
     private int tempoMaximoEspera;
 
     /**
-     * Cria um novo caminhão grande, atribuindo-lhe um ID único e sequencial.
+     * Cria um novo caminhão grande com o ID informado.
      * O caminhão inicia vazio e em estado de carregamento.
+     * @param id O identificador único, gerado pelo contexto da simulação.
      */
-    public CaminhaoGrande() {
-        this.id = proximoId++;
+    public CaminhaoGrande(int id) {
+        this.id = id;
         this.cargaAtual = 0;
         this.carregando = true;
     }
@@ -48,6 +53,15 @@ public class CaminhaoGrande {
         return id;
     }
 
+    /**
+     * Define o ID de um caminhão criado sem ele, numa partição da execução
+     * paralela que só numera os caminhões na ordem da execução sequencial.
+     * @param id O identificador único, gerado pelo contexto da simulação.
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
     /**
      * Retorna a quantidade de lixo que o caminhão está carregando atualmente.
      * @return A carga atual em toneladas.
@@ -56,6 +70,14 @@ public class CaminhaoGrande {
         return cargaAtual;
     }
 
+    /**
+     * Retorna a capacidade máxima de carga do caminhão.
+     * @return O limite de carga em toneladas.
+     */
+    public int getLimiteCarga() {
+        return limiteCarga;
+    }
+
     /**
      * Verifica se o caminhão atingiu sua capacidade máxima de carga.
      * @return {@code true} se a carga atual for maior ou igual ao limite, {@code false} caso contrário.
@@ -73,6 +95,38 @@ public class CaminhaoGrande {
         cargaAtual = Math.min(cargaAtual + quantidade, limiteCarga);
     }
 
+    /**
+     * Adiciona uma quantidade de lixo à carga atual do caminhão e, se for a
+     * primeira carga desde a última partida, guarda o tempo em que ela chegou.
+     * @param quantidade A quantidade de lixo a ser adicionada.
+     * @param tempoAtual O tempo da simulação em que a carga é recebida.
+     */
+    public void receberCarga(int quantidade, int tempoAtual) {
+        if (tempoInicioCarga < 0 && quantidade > 0) {
+            tempoInicioCarga = tempoAtual;
+        }
+        receberCarga(quantidade);
+    }
+
+    /**
+     * Retorna o tempo em que o caminhão recebeu a primeira carga desde a última partida.
+     * @return O tempo em minutos, ou -1 se o caminhão ainda não recebeu carga.
+     */
+    public int getTempoInicioCarga() {
+        return tempoInicioCarga;
+    }
+
+    /**
+     * Faz a carga em andamento contar a partir do minuto zero, quando o
+     * relógio da simulação volta a zero com o caminhão ainda no pátio.
+     * Um caminhão vazio continua sem tempo de primeira carga.
+     */
+    public void reiniciarInicioCarga() {
+        if (tempoInicioCarga >= 0) {
+            tempoInicioCarga = 0;
+        }
+    }
+
     /**
      * Retorna o evento de verificação de espera associado a este caminhão.
      * @return O evento de verificação agendado, ou null se não houver.
@@ -91,30 +145,95 @@ public class CaminhaoGrande {
 
     /**
      * Simula a viagem do caminhão ao aterro para descarregar todo o lixo.
-     * Zera a carga atual, atualiza seu status e notifica a interface gráfica.
+     * Zera a carga atual e atualiza seu status.
      */
     public void descarregar() {
-        System.out.println("Caminhão grande #" + id + " foi para o aterro com " + cargaAtual + " unidades de lixo.");
-        String truckId = "G" + id;
-        SimuladorGUI.atualizarCaminhao(truckId, "Indo p/ Aterro", "Aterro");
-        SimuladorGUI.pausar();
         cargaAtual = 0;
         carregando = false;
+        tempoInicioCarga = -1;
     }
 
     /**
-     * Retorna o número total de caminhões grandes criados durante a simulação.
-     * @return O total de caminhões grandes instanciados.
+     * Guarda o estado mutável do caminhão.
+     * @return O estado atual.
      */
-    public static int getNumeroTotalCriado() {
-        return proximoId - 1;
+    public Estado salvarEstado() {
+        return new Estado(this);
     }
 
     /**
-     * Reseta o contador estático de IDs para o início.
-     * Essencial para rodar novas simulações sem reiniciar o programa.
+     * Volta o caminhão a um estado obtido com {@link #salvarEstado()}.
+     * @param estado O estado a ser restaurado.
      */
-    public static void resetarContadorDeId() {
-        proximoId = 1;
+    public void restaurarEstado(Estado estado) {
+        this.cargaAtual = estado.cargaAtual;
+        this.carregando = estado.carregando;
+        this.tempoInicioCarga = estado.tempoInicioCarga;
+        this.eventoDeVerificacao = estado.eventoDeVerificacao;
+    }
+
+    /**
+     * Grava o caminhão entre um dia e outro: o ID, a carga, o tempo da
+     * primeira carga e o evento de
+     * verificação que a agenda descartou no fim do dia, se houver. O evento
+     * não volta a ser executado, mas o caminhão ainda o cancela ao partir.
+     * @param saida Onde o caminhão é gravado.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeInt(id);
+        saida.writeInt(cargaAtual);
+        saida.writeBoolean(carregando);
+        saida.writeInt(tempoInicioCarga);
+        if (eventoDeVerificacao == null) {
+            saida.writeByte(0);
+        } else {
+            saida.writeByte(1);
+            saida.writeInt(eventoDeVerificacao.getTempo());
+        }
+    }
+
+    /**
+     * Recria um caminhão gravado com {@link #gravarEstado(DataOutput)}.
+     * @param entrada De onde o caminhão é lido.
+     * @param estacao A estação em cujo pátio o caminhão está.
+     * @return O caminhão recriado.
+     * @throws IOException se a leitura falhar ou o caminhão gravado for inválido.
+     */
+    public static CaminhaoGrande lerEstado(DataInput entrada, EstacaoDeTransferencia estacao) throws IOException {
+        CaminhaoGrande caminhao = new CaminhaoGrande(entrada.readInt());
+        caminhao.cargaAtual = entrada.readInt();
+        caminhao.carregando = entrada.readBoolean();
+        caminhao.tempoInicioCarga = entrada.readInt();
+        if (caminhao.cargaAtual < 0 || caminhao.cargaAtual > caminhao.limiteCarga) {
+            throw new IOException("Carga inválida para o caminhão grande " + caminhao.id);
+        }
+        if (caminhao.tempoInicioCarga < -1) {
+            throw new IOException("Tempo da primeira carga inválido: " + caminhao.tempoInicioCarga);
+        }
+        int evento = entrada.readByte();
+        if (evento != 0) {
+            int tempo = entrada.readInt();
+            if (tempo < 0) {
+                throw new IOException("Tempo de verificação inválido: " + tempo);
+            }
+            caminhao.eventoDeVerificacao = new EventoVerificarEsperaCaminhaoGrande(tempo, estacao, caminhao);
+        }
+        return caminhao;
+    }
+
+    /** O estado mutável de um caminhão grande em um instante da simulação. */
+    public static final class Estado {
+        private final int cargaAtual;
+        private final boolean carregando;
+        private final int tempoInicioCarga;
+        private final EventoVerificarEsperaCaminhaoGrande eventoDeVerificacao;
+
+        private Estado(CaminhaoGrande caminhao) {
+            this.cargaAtual = caminhao.cargaAtual;
+            this.carregando = caminhao.carregando;
+            this.tempoInicioCarga = caminhao.tempoInicioCarga;
+            this.eventoDeVerificacao = caminhao.eventoDeVerificacao;
+        }
     }
 }
\ No newline at end of file
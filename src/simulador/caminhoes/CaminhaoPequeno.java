@@ -1,17 +1,25 @@
 package simulador.caminhoes;
 
-import estruturas.lista.Lista;
-import simulador.EstatisticasDia;
-import simulador.SimuladorGUI;
+import estruturas.lista.EstruturaLista;
+import estruturas.lista.ListaArray;
+import simulador.ContextoSimulacao;
+import simulador.aleatorio.GeradorAleatorio;
 import simulador.configTempo.GerenciadorTempo;
 import simulador.configTempo.TempoDetalhado;
+import simulador.estacoes.EstacaoDeTransferencia;
 import simulador.eventos.AgendaEventos;
-import simulador.eventos.EventoColeta;
 import simulador.eventos.EventoGerarCaminhaoGrande;
-import simulador.eventos.EventoIniciarTransferencia;
+import simulador.eventos.FabricaEventos;
+import simulador.log.RegistroSimulacao;
+import simulador.log.TipoRegistro;
 import simulador.zona.GerenciadorZonas;
+import simulador.zona.VisaoZonas;
 import simulador.zona.Zona;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Representa um caminhão de coleta de pequeno porte, a principal entidade
  * responsável por coletar lixo nas zonas da cidade e transportá-lo para as
@@ -20,14 +28,21 @@ import simulador.zona.Zona;
  */
 public class CaminhaoPequeno {
 
+    /** Minutos gastos para seguir até a próxima zona da rota quando a zona atual já está limpa. */
+    public static final int ATRASO_REDIRECIONAMENTO = 30;
+
     private String id;
     private int capacidadeMaxima;
     private int cargaAtual;
     private int numeroDeViagensDiarias;
-    private Lista<Zona> rota;
+    private EstruturaLista<Zona> rota;
     private int indiceRota = 0;
     private Zona zonaAlvo;
     private EventoGerarCaminhaoGrande eventoAgendado;
+    private int tempoEntradaFila;
+    private final GeradorAleatorio aleatorio;
+    /** Recebe os tempos calculados a cada coleta e transferência, sem alocar um objeto novo por vez. */
+    private final TempoDetalhado tempos = new TempoDetalhado();
 
     /**
      * Constrói um novo caminhão pequeno com seus parâmetros operacionais.
@@ -36,8 +51,10 @@ public class CaminhaoPequeno {
      * @param capacidadeMaxima       A capacidade máxima de lixo (toneladas).
      * @param numeroDeViagensDiarias O número máximo de viagens de coleta por dia.
      * @param rota                   A lista de zonas que compõe a rota do caminhão.
+     * @param aleatorio              O gerador de números aleatórios próprio do caminhão,
+     *                               usado para sortear os tempos de viagem.
      */
-    public CaminhaoPequeno(String id, int capacidadeMaxima, int numeroDeViagensDiarias, Lista<Zona> rota) {
+    public CaminhaoPequeno(String id, int capacidadeMaxima, int numeroDeViagensDiarias, EstruturaLista<Zona> rota, GeradorAleatorio aleatorio) {
         this.id = id;
         this.capacidadeMaxima = capacidadeMaxima;
         this.numeroDeViagensDiarias = numeroDeViagensDiarias;
@@ -45,6 +62,136 @@ public class CaminhaoPequeno {
         this.rota = rota;
         this.indiceRota = 0;
         this.zonaAlvo = rota.getValor(0);
+        this.aleatorio = aleatorio;
+    }
+
+    private CaminhaoPequeno(CaminhaoPequeno original) {
+        this.id = original.id;
+        this.capacidadeMaxima = original.capacidadeMaxima;
+        this.rota = original.rota;
+        this.aleatorio = original.aleatorio.copiar();
+        restaurarEstado(original.salvarEstado());
+    }
+
+    /**
+     * Cria um caminhão independente deste, no mesmo estado, com a mesma rota e
+     * com uma cópia do gerador de números aleatórios. Usado quando o caminhão
+     * passa a ser simulado por outra partição.
+     *
+     * @return A cópia do caminhão.
+     */
+    public CaminhaoPequeno copiar() {
+        return new CaminhaoPequeno(this);
+    }
+
+    /**
+     * Guarda o estado mutável do caminhão, inclusive a posição do seu gerador
+     * de números aleatórios.
+     *
+     * @return O estado atual.
+     */
+    public Estado salvarEstado() {
+        return new Estado(this);
+    }
+
+    /**
+     * Volta o caminhão a um estado obtido com {@link #salvarEstado()}.
+     *
+     * @param estado O estado a ser restaurado.
+     */
+    public void restaurarEstado(Estado estado) {
+        this.cargaAtual = estado.cargaAtual;
+        this.numeroDeViagensDiarias = estado.numeroDeViagensDiarias;
+        this.indiceRota = estado.indiceRota;
+        this.zonaAlvo = estado.zonaAlvo;
+        this.eventoAgendado = estado.eventoAgendado;
+        this.tempoEntradaFila = estado.tempoEntradaFila;
+        this.aleatorio.restaurarEstado(estado.aleatorio);
+    }
+
+    /**
+     * Grava o caminhão, para que ele seja recriado com
+     * {@link #lerEstado(DataInput, GerenciadorZonas, EstacaoDeTransferencia)}.
+     * Só os caminhões que esperam na fila de uma estação passam de um dia para
+     * o outro; o evento de geração de caminhão grande que o caminhão agendou
+     * foi descartado pela agenda no fim do dia, mas ainda é cancelado quando
+     * ele descarrega, e por isso também é gravado.
+     *
+     * @param saida Onde o caminhão é gravado.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeUTF(id);
+        saida.writeInt(capacidadeMaxima);
+        saida.writeInt(cargaAtual);
+        saida.writeInt(numeroDeViagensDiarias);
+        saida.writeInt(rota.getTamanho());
+        for (Zona zona : rota) {
+            saida.writeInt(zona.getId());
+        }
+        saida.writeInt(indiceRota);
+        saida.writeInt(zonaAlvo == null ? -1 : zonaAlvo.getId());
+        if (eventoAgendado == null) {
+            saida.writeByte(0);
+        } else {
+            saida.writeByte(1);
+            saida.writeInt(eventoAgendado.getTempo());
+        }
+        saida.writeInt(tempoEntradaFila);
+        aleatorio.gravarEstado(saida);
+    }
+
+    /**
+     * Recria um caminhão gravado com {@link #gravarEstado(DataOutput)}.
+     *
+     * @param entrada     De onde o caminhão é lido.
+     * @param gerenciador O gerenciador das zonas da rota.
+     * @param estacao     A estação em cuja fila o caminhão espera.
+     * @return O caminhão recriado.
+     * @throws IOException se a leitura falhar ou o caminhão gravado for inválido.
+     */
+    public static CaminhaoPequeno lerEstado(DataInput entrada, GerenciadorZonas gerenciador,
+                                            EstacaoDeTransferencia estacao) throws IOException {
+        String id = entrada.readUTF();
+        int capacidade = entrada.readInt();
+        int carga = entrada.readInt();
+        int viagens = entrada.readInt();
+        int tamanhoRota = entrada.readInt();
+        if (capacidade <= 0 || carga < 0 || carga > capacidade || tamanhoRota <= 0) {
+            throw new IOException("Estado inválido para o caminhão " + id);
+        }
+        EstruturaLista<Zona> rota = new ListaArray<>();
+        for (int i = 0; i < tamanhoRota; i++) {
+            rota.adicionar(i, zona(gerenciador, entrada.readInt()));
+        }
+        int indiceRota = entrada.readInt();
+        if (indiceRota < 0 || indiceRota >= tamanhoRota) {
+            throw new IOException("Posição inválida na rota do caminhão " + id + ": " + indiceRota);
+        }
+        int zonaAlvo = entrada.readInt();
+        int evento = entrada.readByte();
+        int tempoEvento = evento == 0 ? 0 : entrada.readInt();
+        int tempoEntradaFila = entrada.readInt();
+
+        CaminhaoPequeno caminhao = new CaminhaoPequeno(id, capacidade, viagens, rota, GeradorAleatorio.lerEstado(entrada));
+        caminhao.cargaAtual = carga;
+        caminhao.indiceRota = indiceRota;
+        caminhao.zonaAlvo = zonaAlvo < 0 ? null : zona(gerenciador, zonaAlvo);
+        caminhao.tempoEntradaFila = tempoEntradaFila;
+        if (evento != 0) {
+            if (tempoEvento < 0) {
+                throw new IOException("Tempo de geração inválido para o caminhão " + id);
+            }
+            caminhao.eventoAgendado = new EventoGerarCaminhaoGrande(tempoEvento, estacao);
+        }
+        return caminhao;
+    }
+
+    private static Zona zona(GerenciadorZonas gerenciador, int id) throws IOException {
+        if (id < 0 || id >= gerenciador.getZonas().getTamanho()) {
+            throw new IOException("Zona inexistente: " + id);
+        }
+        return gerenciador.getZonas().getValor(id);
     }
 
     /**
@@ -60,26 +207,30 @@ public class CaminhaoPequeno {
      * @param tempoAtual       O tempo atual da simulação.
      * @param zona             A zona onde a coleta está sendo tentada.
      * @param gerenciadorZonas O gerenciador de zonas, para agendamento de eventos futuros.
-     * @param estatisticas     O objeto de estatísticas do dia, para registrar a coleta.
+     * @param contexto         O contexto da simulação, para agendar eventos e registrar a coleta.
      */
-    public void realizarColeta(int tempoAtual, Zona zona, GerenciadorZonas gerenciadorZonas, EstatisticasDia estatisticas) {
-        SimuladorGUI.atualizarCaminhao(this.id, "Coletando", zona.getNome());
-        SimuladorGUI.pausar();
+    public void realizarColeta(int tempoAtual, Zona zona, GerenciadorZonas gerenciadorZonas, ContextoSimulacao contexto) {
+        AgendaEventos agenda = contexto.getAgenda();
+        FabricaEventos fabrica = contexto.getFabricaEventos();
+        RegistroSimulacao registro = contexto.getRegistro();
+        contexto.getObservador().atualizarCaminhao(this.id, "Coletando", zona.getNome());
+        contexto.getObservador().pausar();
 
         if (zona.getLixoAcumulado() == 0) {
-            System.out.println("  • Zona " + zona.getNome() + " está limpa. Nenhuma coleta realizada pelo caminhão " + this.id);
+            registro.registrar(TipoRegistro.ZONA_LIMPA, zona.getNome(), this.id);
             this.registrarViagem();
 
             if (this.podeRealizarNovaViagem()) {
-                boolean mudouZona = this.atualizarProximaZonaAlvo();
+                boolean mudouZona = this.atualizarProximaZonaAlvo(contexto.getVisaoZonas());
                 if (mudouZona) {
-                    AgendaEventos.adicionarEvento(new EventoColeta(tempoAtual + 30, this, this.getZonaAlvo(), gerenciadorZonas));
+                    registro.registrar(TipoRegistro.REDIRECIONAMENTO, id, zonaAlvo.getNome());
+                    agenda.adicionarEvento(fabrica.coleta(tempoAtual + ATRASO_REDIRECIONAMENTO, this, this.getZonaAlvo(), gerenciadorZonas));
                 } else {
-                    System.out.println("  • Todas as zonas da rota do caminhão " + this.id + " estão limpas.");
-                    AgendaEventos.adicionarEvento(new EventoIniciarTransferencia(tempoAtual, this, zona, gerenciadorZonas));
+                    registro.registrar(TipoRegistro.ROTA_LIMPA, this.id);
+                    agenda.adicionarEvento(fabrica.iniciarTransferencia(tempoAtual, this, zona, gerenciadorZonas));
                 }
             } else {
-                AgendaEventos.adicionarEvento(new EventoIniciarTransferencia(tempoAtual, this, zona, gerenciadorZonas));
+                agenda.adicionarEvento(fabrica.iniciarTransferencia(tempoAtual, this, zona, gerenciadorZonas));
             }
             return;
         }
@@ -91,40 +242,48 @@ public class CaminhaoPequeno {
         int quantidadeReal = Math.min(espacoDisponivel, lixoDisponivel);
 
         if (quantidadeReal > 0) {
-            String horarioAtual = GerenciadorTempo.formatarHorarioSimulado(tempoAtual);
-            System.out.println("+--------------------------------------------------+");
-            System.out.println("|                  COLETA DE LIXO                  |");
-            System.out.println("+--------------------------------------------------+");
-            System.out.printf("| %-18s | %-28s |%n", "Horário Inicial", horarioAtual);
-            System.out.printf("| %-18s | %-28s |%n", "Caminhão", this.id);
-            System.out.printf("| %-18s | %-28s |%n", "Zona", zona.getNome());
-            System.out.printf("| %-18s | %-28d |%n", "Viagens Restantes", this.numeroDeViagensDiarias);
+            registro.registrar(TipoRegistro.COLETA_INICIO, this.id, zona.getNome(), tempoAtual, this.numeroDeViagensDiarias, 0, 0, 0);
 
             coletou = this.coletar(quantidadeReal);
             if (coletou) {
                 zona.coletarLixo(quantidadeReal);
                 totalColetadoNaRodada += quantidadeReal;
-                System.out.printf("| %-18s | %-28s |%n", "Quantidade Coletada", quantidadeReal + " toneladas (Carga: " + this.cargaAtual + "/" + this.capacidadeMaxima + ")");
+                registro.registrar(TipoRegistro.COLETA_QUANTIDADE, quantidadeReal, this.cargaAtual, this.capacidadeMaxima);
+            } else {
+                registro.registrar(TipoRegistro.CARGA_MAXIMA, id);
             }
         }
 
         if (this.podeRealizarNovaViagem() && coletou) {
-            TempoDetalhado tempoDetalhado = GerenciadorTempo.calcularTempoDetalhado(tempoAtual, totalColetadoNaRodada, false);
-            estatisticas.registrarColeta(totalColetadoNaRodada, tempoDetalhado.tempoTotal);
+            TempoDetalhado tempoDetalhado = GerenciadorTempo.calcularTempoDetalhado(tempoAtual, totalColetadoNaRodada, false, this.aleatorio, contexto.getParametros(), this.tempos);
+            contexto.getEstatisticas().registrarColeta(totalColetadoNaRodada, tempoDetalhado.tempoTotal);
 
-            System.out.printf("| %-18s | %-28s |%n", "Tempo de Coleta", GerenciadorTempo.formatarDuracao(tempoDetalhado.tempoColeta));
-            System.out.printf("| %-18s | %-28s |%n", "Tempo Total", GerenciadorTempo.formatarDuracao(tempoDetalhado.tempoTotal));
-            System.out.printf("| %-18s | %-28s |%n", "Horário Final", GerenciadorTempo.formatarHorarioSimulado(tempoAtual + tempoDetalhado.tempoTotal));
-            System.out.println("+--------------------------------------------------+");
-            System.out.println();
+            registro.registrar(TipoRegistro.COLETA_FIM, tempoDetalhado.tempoColeta, tempoDetalhado.tempoTotal, tempoAtual + tempoDetalhado.tempoTotal);
 
-            AgendaEventos.adicionarEvento(new EventoColeta(tempoAtual + tempoDetalhado.tempoTotal, this, zona, gerenciadorZonas));
+            agenda.adicionarEvento(fabrica.coleta(tempoAtual + tempoDetalhado.tempoTotal, this, zona, gerenciadorZonas));
         } else if (this.cargaAtual > 0) {
             this.registrarViagem();
-            AgendaEventos.adicionarEvento(new EventoIniciarTransferencia(tempoAtual, this, zona, gerenciadorZonas));
+            agenda.adicionarEvento(fabrica.iniciarTransferencia(tempoAtual, this, zona, gerenciadorZonas));
         }
     }
 
+    /**
+     * Retorna o gerador de números aleatórios próprio do caminhão.
+     * @return O gerador do caminhão.
+     */
+    public GeradorAleatorio getAleatorio() {
+        return aleatorio;
+    }
+
+    /**
+     * Retorna a estrutura onde são gravados os tempos da última operação do
+     * caminhão. O conteúdo é sobrescrito a cada cálculo.
+     * @return Os tempos da última operação.
+     */
+    public TempoDetalhado getTempos() {
+        return tempos;
+    }
+
     /**
      * Retorna o ID do caminhão.
      * @return O ID do caminhão.
@@ -157,18 +316,44 @@ public class CaminhaoPequeno {
         return zonaAlvo;
     }
 
+    /**
+     * Retorna a rota do caminhão, na ordem em que as zonas são percorridas.
+     * @return A lista de zonas da rota.
+     */
+    public EstruturaLista<Zona> getRota() {
+        return rota;
+    }
+
+    /**
+     * Retorna a posição da zona alvo na rota. A busca por uma nova zona com
+     * lixo começa na posição seguinte.
+     * @return O índice da zona alvo na rota.
+     */
+    public int getIndiceRota() {
+        return indiceRota;
+    }
+
     /**
      * Procura a próxima zona não limpa na rota do caminhão, de forma cíclica.
      * @return {@code true} se uma nova zona alvo com lixo foi encontrada, {@code false} caso contrário.
      */
     public boolean atualizarProximaZonaAlvo() {
+        return atualizarProximaZonaAlvo(VisaoZonas.DIRETA);
+    }
+
+    /**
+     * Procura a próxima zona não limpa na rota do caminhão, de forma cíclica,
+     * consultando o estado das zonas pela visão informada.
+     * @param visao Como o estado das zonas é enxergado.
+     * @return {@code true} se uma nova zona alvo com lixo foi encontrada, {@code false} caso contrário.
+     */
+    public boolean atualizarProximaZonaAlvo(VisaoZonas visao) {
         int tentativas = rota.getTamanho();
         for (int i = 0; i < tentativas; i++) {
             indiceRota = (indiceRota + 1) % rota.getTamanho();
             Zona proximaZona = rota.getValor(indiceRota);
-            if (!proximaZona.estaLimpa()) {
+            if (!visao.estaLimpa(proximaZona)) {
                 zonaAlvo = proximaZona;
-                System.out.println("[CAMINHÃO " + id + "] Redirecionado para zona " + zonaAlvo.getNome());
                 return true;
             }
         }
@@ -198,7 +383,6 @@ public class CaminhaoPequeno {
             cargaAtual += quantidade;
             return true;
         }
-        System.out.println("[CAMINHÃO " + id + "] Carga máxima atingida.");
         return false;
     }
 
@@ -241,4 +425,45 @@ public class CaminhaoPequeno {
     public void setEventoAgendado(EventoGerarCaminhaoGrande eventoAgendado) {
         this.eventoAgendado = eventoAgendado;
     }
-}
\ No newline at end of file
+
+    /**
+     * Retorna o instante em que o caminhão entrou na fila de uma estação.
+     * @return O tempo de simulação (em minutos) da entrada na fila.
+     */
+    public int getTempoEntradaFila() {
+        return tempoEntradaFila;
+    }
+
+    /**
+     * Registra o instante em que o caminhão entrou na fila de uma estação,
+     * para o cálculo do tempo de espera.
+     * @param tempoEntradaFila O tempo de simulação (em minutos) da entrada na fila.
+     */
+    public void setTempoEntradaFila(int tempoEntradaFila) {
+        this.tempoEntradaFila = tempoEntradaFila;
+    }
+
+    /**
+     * O estado mutável de um caminhão pequeno em um instante da simulação.
+     * A rota, a capacidade e o identificador não mudam e não fazem parte dele.
+     */
+    public static final class Estado {
+        private final int cargaAtual;
+        private final int numeroDeViagensDiarias;
+        private final int indiceRota;
+        private final Zona zonaAlvo;
+        private final EventoGerarCaminhaoGrande eventoAgendado;
+        private final int tempoEntradaFila;
+        private final long aleatorio;
+
+        private Estado(CaminhaoPequeno caminhao) {
+            this.cargaAtual = caminhao.cargaAtual;
+            this.numeroDeViagensDiarias = caminhao.numeroDeViagensDiarias;
+            this.indiceRota = caminhao.indiceRota;
+            this.zonaAlvo = caminhao.zonaAlvo;
+            this.eventoAgendado = caminhao.eventoAgendado;
+            this.tempoEntradaFila = caminhao.tempoEntradaFila;
+            this.aleatorio = caminhao.aleatorio.getEstado();
+        }
+    }
+}
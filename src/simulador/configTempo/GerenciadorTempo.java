@@ -1,7 +1,8 @@
 package simulador.configTempo;
 
-import simulador.configuracao.configuracao;
-import java.util.concurrent.ThreadLocalRandom;
+import simulador.aleatorio.GeradorAleatorio;
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
 
 /**
  * Utilitário para manipulação de tempos no simulador de coleta de lixo.
@@ -48,6 +49,9 @@ public class GerenciadorTempo {
 
     /**
      * Estima o tempo de viagem ajustado por horários de pico.
+     * Cada minuto da viagem custa {@code ceil(multiplicador)} minutos, conforme
+     * caia dentro ou fora de um pico. Em vez de percorrer a viagem minuto a minuto,
+     * o cálculo conta quantos minutos da viagem caem em cada janela de pico.
      *
      * @param tempoSimulacao Tempo atual da simulação (em minutos)
      * @param duracaoPadrao Duração base da viagem (em minutos)
@@ -55,24 +59,66 @@ public class GerenciadorTempo {
      * @throws IllegalArgumentException se parâmetros forem negativos
      */
     public static int estimarTempoViagem(int tempoSimulacao, int duracaoPadrao) {
+        return estimarTempoViagem(tempoSimulacao, duracaoPadrao, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Estima o tempo de viagem ajustado por horários de pico, com os
+     * multiplicadores dos parâmetros informados.
+     *
+     * @param tempoSimulacao Tempo atual da simulação (em minutos)
+     * @param duracaoPadrao Duração base da viagem (em minutos)
+     * @param parametros Parâmetros da simulação
+     * @return Tempo ajustado
+     * @throws IllegalArgumentException se parâmetros forem negativos
+     */
+    public static int estimarTempoViagem(int tempoSimulacao, int duracaoPadrao, ParametrosSimulacao parametros) {
         if (tempoSimulacao < 0 || duracaoPadrao < 0) {
             throw new IllegalArgumentException("Parâmetros de tempo devem ser não negativos");
         }
 
-        int minutosRestantes = duracaoPadrao;
-        int tempoAcumulado = 0;
-        int tempoAtual = HORA_INICIAL_SIMULACAO + tempoSimulacao;
-
-        while (minutosRestantes > 0) {
-            double fatorTráfego = isPeriodoCongestionado(tempoAtual)
-                    ? configuracao.MULTIPLICADOR_TEMPO_PICO
-                    : configuracao.MULTIPLICADOR_TEMPO_FORA_PICO;
-            tempoAcumulado += (int) Math.ceil(fatorTráfego);
-            tempoAtual++;
-            minutosRestantes--;
+        if (duracaoPadrao == 0) {
+            return 0;
         }
 
-        return tempoAcumulado;
+        // Viagem ocupa os minutos [inicio, fim], contados desde 00:00
+        int inicio = HORA_INICIAL_SIMULACAO + tempoSimulacao;
+        int fim = inicio + duracaoPadrao - 1;
+        int minutosEmPico = sobreposicao(inicio, fim, PICO_MANHA_INICIO, PICO_MANHA_FIM)
+                + sobreposicao(inicio, fim, PICO_TARDE_INICIO, PICO_TARDE_FIM);
+
+        // Minutos efetivos gastos por minuto de viagem, dentro e fora do pico
+        int minutosPorMinutoPico = (int) Math.ceil(parametros.getDouble(Parametro.MULTIPLICADOR_TEMPO_PICO));
+        int minutosPorMinutoForaPico = (int) Math.ceil(parametros.getDouble(Parametro.MULTIPLICADOR_TEMPO_FORA_PICO));
+
+        return duracaoPadrao * minutosPorMinutoForaPico
+                + minutosEmPico * (minutosPorMinutoPico - minutosPorMinutoForaPico);
+    }
+
+    /**
+     * Calcula o menor tempo de viagem que {@link #calcularTempoDetalhado} pode
+     * sortear com os parâmetros informados, qualquer que seja o horário.
+     *
+     * @param parametros Parâmetros da simulação
+     * @return Limite inferior do tempo de viagem (em minutos)
+     */
+    public static int tempoMinimoViagem(ParametrosSimulacao parametros) {
+        int tempoBase = Math.min(parametros.getInt(Parametro.TEMPO_MIN_PICO),
+                parametros.getInt(Parametro.TEMPO_MIN_FORA_PICO));
+        int minutosPorMinuto = (int) Math.min(Math.ceil(parametros.getDouble(Parametro.MULTIPLICADOR_TEMPO_PICO)),
+                Math.ceil(parametros.getDouble(Parametro.MULTIPLICADOR_TEMPO_FORA_PICO)));
+        return tempoBase * minutosPorMinuto;
+    }
+
+    /**
+     * Conta quantos minutos dois intervalos fechados têm em comum.
+     *
+     * @return O tamanho da interseção de [inicioA, fimA] e [inicioB, fimB]
+     */
+    private static int sobreposicao(int inicioA, int fimA, int inicioB, int fimB) {
+        int inicio = Math.max(inicioA, inicioB);
+        int fim = Math.min(fimA, fimB);
+        return fim >= inicio ? fim - inicio + 1 : 0;
     }
 
     /**
@@ -81,10 +127,34 @@ public class GerenciadorTempo {
      * @param tempoSimulacao Tempo atual da simulação (em minutos)
      * @param cargaToneladas Carga em toneladas
      * @param isDescarregamento True para transferência, false para coleta
+     * @param aleatorio Gerador de números aleatórios do caminhão
+     * @param parametros Parâmetros da simulação
      * @return Objeto com tempos calculados
      * @throws IllegalArgumentException se parâmetros forem inválidos
      */
-    public static TempoDetalhado calcularTempoDetalhado(int tempoSimulacao, int cargaToneladas, boolean isDescarregamento) {
+    public static TempoDetalhado calcularTempoDetalhado(int tempoSimulacao, int cargaToneladas, boolean isDescarregamento,
+                                                        GeradorAleatorio aleatorio, ParametrosSimulacao parametros) {
+        return calcularTempoDetalhado(tempoSimulacao, cargaToneladas, isDescarregamento, aleatorio, parametros,
+                new TempoDetalhado());
+    }
+
+    /**
+     * Calcula tempos detalhados para coleta ou transferência, escrevendo o
+     * resultado em uma estrutura existente. Usado no laço de eventos, onde
+     * cada caminhão reaproveita a sua.
+     *
+     * @param tempoSimulacao Tempo atual da simulação (em minutos)
+     * @param cargaToneladas Carga em toneladas
+     * @param isDescarregamento True para transferência, false para coleta
+     * @param aleatorio Gerador de números aleatórios do caminhão
+     * @param parametros Parâmetros da simulação
+     * @param destino Estrutura que recebe os tempos
+     * @return A própria estrutura {@code destino}
+     * @throws IllegalArgumentException se parâmetros forem inválidos
+     */
+    public static TempoDetalhado calcularTempoDetalhado(int tempoSimulacao, int cargaToneladas, boolean isDescarregamento,
+                                                        GeradorAleatorio aleatorio, ParametrosSimulacao parametros,
+                                                        TempoDetalhado destino) {
         if (tempoSimulacao < 0 || cargaToneladas < 0) {
             throw new IllegalArgumentException("Parâmetros devem ser não negativos");
         }
@@ -94,19 +164,19 @@ public class GerenciadorTempo {
         boolean emPico = isPeriodoCongestionado(minutosTotais);
 
         // Seleciona tempos mínimo e máximo
-        int tempoMinimo = emPico ? configuracao.TEMPO_MIN_PICO : configuracao.TEMPO_MIN_FORA_PICO;
-        int tempoMaximo = emPico ? configuracao.TEMPO_MAX_PICO : configuracao.TEMPO_MAX_FORA_PICO;
+        int tempoMinimo = parametros.getInt(emPico ? Parametro.TEMPO_MIN_PICO : Parametro.TEMPO_MIN_FORA_PICO);
+        int tempoMaximo = parametros.getInt(emPico ? Parametro.TEMPO_MAX_PICO : Parametro.TEMPO_MAX_FORA_PICO);
 
         // Gera tempo base
-        int tempoBaseViagem = ThreadLocalRandom.current().nextInt(tempoMinimo, tempoMaximo + 1);
+        int tempoBaseViagem = aleatorio.proximoInt(tempoMinimo, tempoMaximo + 1);
 
         // Calcula tempos
-        int tempoViagem = estimarTempoViagem(tempoSimulacao, tempoBaseViagem);
-        int tempoOperacao = isDescarregamento ? 0 : cargaToneladas * configuracao.TEMPO_COLETA_POR_TONELADA;
+        int tempoViagem = estimarTempoViagem(tempoSimulacao, tempoBaseViagem, parametros);
+        int tempoOperacao = isDescarregamento ? 0 : cargaToneladas * parametros.getInt(Parametro.TEMPO_COLETA_POR_TONELADA);
         int tempoAdicionalCarga = isDescarregamento ? (int) (tempoViagem * 0.3) : 0;
         int tempoTotalOperacao = tempoOperacao + tempoViagem + tempoAdicionalCarga;
 
-        return new TempoDetalhado(tempoOperacao, tempoViagem, tempoTotalOperacao);
+        return destino.definir(tempoOperacao, tempoViagem, tempoTotalOperacao);
     }
 
     /**
@@ -2,20 +2,30 @@ package simulador.configTempo;
 
 /**
  * Estrutura para armazenar tempos detalhados de uma operação (coleta, deslocamento e extra).
+ * <p>
+ * Pode ser reaproveitada: {@link GerenciadorTempo#calcularTempoDetalhado(int, int, boolean,
+ * simulador.aleatorio.GeradorAleatorio, simulador.configuracao.ParametrosSimulacao, TempoDetalhado)}
+ * escreve o resultado em uma instância existente, sem alocar.
  */
 public class TempoDetalhado {
 
     /** Tempo de coleta (em minutos) */
-    public final int tempoColeta;
+    public int tempoColeta;
 
     /** Tempo de deslocamento (em minutos) */
-    public final int tempoDeslocamento;
+    public int tempoDeslocamento;
 
     /** Tempo extra por carga máxima (em minutos) */
-    public final int tempoExtraCarregado;
+    public int tempoExtraCarregado;
 
     /** Tempo total da operação (em minutos) */
-    public final int tempoTotal;
+    public int tempoTotal;
+
+    /**
+     * Cria uma estrutura zerada, para ser preenchida com {@link #definir}.
+     */
+    public TempoDetalhado() {
+    }
 
     /**
      * Cria uma estrutura com tempos detalhados.
@@ -25,9 +35,22 @@ public class TempoDetalhado {
      * @param tempoExtraCarregado Tempo extra por carga (em minutos)
      */
     public TempoDetalhado(int tempoColeta, int tempoDeslocamento, int tempoExtraCarregado) {
+        definir(tempoColeta, tempoDeslocamento, tempoExtraCarregado);
+    }
+
+    /**
+     * Substitui os tempos guardados.
+     *
+     * @param tempoColeta Tempo de coleta (em minutos)
+     * @param tempoDeslocamento Tempo de deslocamento (em minutos)
+     * @param tempoExtraCarregado Tempo extra por carga (em minutos)
+     * @return Esta mesma instância
+     */
+    public TempoDetalhado definir(int tempoColeta, int tempoDeslocamento, int tempoExtraCarregado) {
         this.tempoColeta = tempoColeta;
         this.tempoDeslocamento = tempoDeslocamento;
         this.tempoExtraCarregado = tempoExtraCarregado;
         this.tempoTotal = tempoColeta + tempoDeslocamento + tempoExtraCarregado;
+        return this;
     }
 }
\ No newline at end of file
@@ -0,0 +1,69 @@
+package simulador.configuracao;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Arquivo de configuração acompanhado entre os dias da simulação.
+ * A cada chamada de {@link #recarregarSeAlterado()} a data de modificação do
+ * arquivo é comparada com a da última leitura; se mudou, os parâmetros são
+ * lidos de novo. Assim um cenário pode ser ajustado durante uma simulação
+ * longa, sem reiniciá-la.
+ */
+public class ArquivoParametros {
+
+    private final File arquivo;
+    private long ultimaModificacao;
+    private ParametrosSimulacao parametros;
+
+    /**
+     * Lê o arquivo pela primeira vez.
+     *
+     * @param arquivo O arquivo {@code .properties} com os parâmetros.
+     * @throws IOException              se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException se o conteúdo for inválido.
+     */
+    public ArquivoParametros(File arquivo) throws IOException {
+        this.arquivo = arquivo;
+        this.ultimaModificacao = arquivo.lastModified();
+        this.parametros = ParametrosSimulacao.carregar(arquivo);
+    }
+
+    /**
+     * Relê o arquivo se ele foi modificado desde a última leitura. Se a nova
+     * versão estiver ilegível ou inválida, os parâmetros anteriores são mantidos
+     * e o erro é propagado; a próxima chamada tentará ler o arquivo de novo.
+     *
+     * @return {@code true} se os parâmetros foram recarregados.
+     * @throws IOException              se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException se o novo conteúdo for inválido.
+     */
+    public boolean recarregarSeAlterado() throws IOException {
+        long modificacao = arquivo.lastModified();
+        if (modificacao == ultimaModificacao) {
+            return false;
+        }
+        ParametrosSimulacao novos = ParametrosSimulacao.carregar(arquivo);
+        parametros = novos;
+        ultimaModificacao = modificacao;
+        return true;
+    }
+
+    /**
+     * Retorna os parâmetros da última leitura bem-sucedida.
+     *
+     * @return Os parâmetros atuais.
+     */
+    public ParametrosSimulacao getParametros() {
+        return parametros;
+    }
+
+    /**
+     * Retorna o arquivo acompanhado.
+     *
+     * @return O arquivo de configuração.
+     */
+    public File getArquivo() {
+        return arquivo;
+    }
+}
@@ -0,0 +1,87 @@
+package simulador.configuracao;
+
+/**
+ * Os parâmetros ajustáveis da simulação. O nome de cada constante é também a
+ * chave usada nos arquivos de configuração, e o valor padrão é a constante de
+ * mesmo nome em {@link configuracao}.
+ */
+public enum Parametro {
+
+    /* ==================== TEMPOS DE TRABALHO ==================== */
+
+    TEMPO_DESCARGA_POR_TONELADA(configuracao.TEMPO_DESCARGA_POR_TONELADA),
+    TEMPO_COLETA_POR_TONELADA(configuracao.TEMPO_COLETA_POR_TONELADA),
+
+    /* ==================== TEMPO DE VIAGENS DOS CAMINHÕES ==================== */
+
+    TEMPO_MIN_PICO(configuracao.TEMPO_MIN_PICO),
+    TEMPO_MAX_PICO(configuracao.TEMPO_MAX_PICO),
+    TEMPO_MIN_FORA_PICO(configuracao.TEMPO_MIN_FORA_PICO),
+    TEMPO_MAX_FORA_PICO(configuracao.TEMPO_MAX_FORA_PICO),
+    MULTIPLICADOR_TEMPO_PICO(configuracao.MULTIPLICADOR_TEMPO_PICO, false),
+    MULTIPLICADOR_TEMPO_FORA_PICO(configuracao.MULTIPLICADOR_TEMPO_FORA_PICO, false),
+
+    /* ==================== CAMINHÕES ==================== */
+
+    QTD_CAMINHOES_2T(configuracao.QTD_CAMINHOES_2T),
+    VIAGENS_CAMINHOES_2T(configuracao.VIAGENS_CAMINHOES_2T),
+    CAPACIDADE_CAMINHOES_2T(configuracao.CAPACIDADE_CAMINHOES_2T),
+    QTD_CAMINHOES_4T(configuracao.QTD_CAMINHOES_4T),
+    VIAGENS_CAMINHOES_4T(configuracao.VIAGENS_CAMINHOES_4T),
+    CAPACIDADE_CAMINHOES_4T(configuracao.CAPACIDADE_CAMINHOES_4T),
+    QTD_CAMINHOES_8T(configuracao.QTD_CAMINHOES_8T),
+    VIAGENS_CAMINHOES_8T(configuracao.VIAGENS_CAMINHOES_8T),
+    CAPACIDADE_CAMINHOES_8T(configuracao.CAPACIDADE_CAMINHOES_8T),
+    QTD_CAMINHOES_10T(configuracao.QTD_CAMINHOES_10T),
+    VIAGENS_CAMINHOES_10T(configuracao.VIAGENS_CAMINHOES_10T),
+    CAPACIDADE_CAMINHOES_10T(configuracao.CAPACIDADE_CAMINHOES_10T),
+
+    /* ==================== ESTAÇÕES ==================== */
+
+    TEMPO_MAX_ESPERA_ESTACAO(configuracao.TEMPO_MAX_ESPERA_ESTACAO),
+    TOLERANCIA_ESPERA_CAMINHAO_GRANDE(configuracao.TOLERANCIA_ESPERA_CAMINHAO_GRANDE),
+    CAMINHOES_GRANDES_POR_ESTACAO(configuracao.CAMINHOES_GRANDES_POR_ESTACAO),
+
+    /* ==================== ZONAS ==================== */
+
+    LIXO_MIN_SUL(configuracao.LIXO_MIN_SUL),
+    LIXO_MAX_SUL(configuracao.LIXO_MAX_SUL),
+    LIXO_MIN_NORTE(configuracao.LIXO_MIN_NORTE),
+    LIXO_MAX_NORTE(configuracao.LIXO_MAX_NORTE),
+    LIXO_MIN_CENTRO(configuracao.LIXO_MIN_CENTRO),
+    LIXO_MAX_CENTRO(configuracao.LIXO_MAX_CENTRO),
+    LIXO_MIN_LESTE(configuracao.LIXO_MIN_LESTE),
+    LIXO_MAX_LESTE(configuracao.LIXO_MAX_LESTE),
+    LIXO_MIN_SUDESTE(configuracao.LIXO_MIN_SUDESTE),
+    LIXO_MAX_SUDESTE(configuracao.LIXO_MAX_SUDESTE);
+
+    private final double padrao;
+    private final boolean inteiro;
+
+    Parametro(int padrao) {
+        this(padrao, true);
+    }
+
+    Parametro(double padrao, boolean inteiro) {
+        this.padrao = padrao;
+        this.inteiro = inteiro;
+    }
+
+    /**
+     * Retorna o valor padrão do parâmetro.
+     *
+     * @return O valor definido em {@link configuracao}.
+     */
+    public double getPadrao() {
+        return padrao;
+    }
+
+    /**
+     * Indica se o parâmetro só admite valores inteiros.
+     *
+     * @return {@code true} para parâmetros inteiros, {@code false} para multiplicadores.
+     */
+    public boolean isInteiro() {
+        return inteiro;
+    }
+}
@@ -0,0 +1,247 @@
+package simulador.configuracao;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Properties;
+
+/**
+ * Conjunto imutável de valores para os {@link Parametro}s da simulação.
+ * <p>
+ * Os valores padrão são as constantes de {@link configuracao}. Um cenário
+ * diferente pode ser lido de um arquivo {@code .properties}, cujas chaves são
+ * os nomes dos parâmetros (por exemplo {@code QTD_CAMINHOES_2T=12}); as chaves
+ * ausentes mantêm o valor padrão. Também é possível derivar cenários em código
+ * com {@link #com(Parametro, double)}, o que permite rodar milhares de cenários
+ * na mesma JVM sem recompilar.
+ */
+public final class ParametrosSimulacao {
+
+    private static final Parametro[] PARAMETROS = Parametro.values();
+
+    private static final ParametrosSimulacao PADRAO;
+
+    static {
+        double[] valores = new double[PARAMETROS.length];
+        for (Parametro parametro : PARAMETROS) {
+            valores[parametro.ordinal()] = parametro.getPadrao();
+        }
+        PADRAO = new ParametrosSimulacao(valores);
+    }
+
+    private final double[] valores;
+
+    private ParametrosSimulacao(double[] valores) {
+        this.valores = valores;
+    }
+
+    /**
+     * Retorna os parâmetros padrão, iguais às constantes de {@link configuracao}.
+     *
+     * @return Os parâmetros padrão.
+     */
+    public static ParametrosSimulacao padrao() {
+        return PADRAO;
+    }
+
+    /**
+     * Lê os parâmetros de um arquivo {@code .properties} em UTF-8.
+     *
+     * @param arquivo O arquivo de configuração.
+     * @return Os parâmetros lidos, com os padrões nas chaves ausentes.
+     * @throws IOException              se o arquivo não puder ser lido.
+     * @throws IllegalArgumentException se houver chave desconhecida ou valor inválido.
+     */
+    public static ParametrosSimulacao carregar(File arquivo) throws IOException {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo.toPath(), StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+        return de(propriedades);
+    }
+
+    /**
+     * Monta os parâmetros a partir de propriedades já carregadas.
+     *
+     * @param propriedades As propriedades, com os nomes dos parâmetros como chaves.
+     * @return Os parâmetros, com os padrões nas chaves ausentes.
+     * @throws IllegalArgumentException se houver chave desconhecida ou valor inválido.
+     */
+    public static ParametrosSimulacao de(Properties propriedades) {
+        double[] valores = PADRAO.valores.clone();
+        for (String chave : propriedades.stringPropertyNames()) {
+            Parametro parametro;
+            try {
+                parametro = Parametro.valueOf(chave.trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+            }
+            String texto = propriedades.getProperty(chave).trim();
+            try {
+                valores[parametro.ordinal()] = Double.parseDouble(texto);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor inválido para " + chave + ": " + texto);
+            }
+        }
+        return validar(valores);
+    }
+
+    /**
+     * Retorna uma cópia destes parâmetros com um valor alterado.
+     *
+     * @param parametro O parâmetro a alterar.
+     * @param valor     O novo valor.
+     * @return Os novos parâmetros.
+     * @throws IllegalArgumentException se o valor for inválido para o parâmetro.
+     */
+    public ParametrosSimulacao com(Parametro parametro, double valor) {
+        double[] novos = valores.clone();
+        novos[parametro.ordinal()] = valor;
+        return validar(novos);
+    }
+
+    /**
+     * Retorna uma cópia destes parâmetros com as quantidades de caminhões
+     * pequenos de cada capacidade multiplicadas pelo fator informado.
+     *
+     * @param fator O multiplicador da frota.
+     * @return Os novos parâmetros.
+     * @throws IllegalArgumentException se o fator não for positivo.
+     */
+    public ParametrosSimulacao comFrotaEscalada(int fator) {
+        if (fator <= 0) {
+            throw new IllegalArgumentException("Fator de frota deve ser positivo: " + fator);
+        }
+        double[] novos = valores.clone();
+        novos[Parametro.QTD_CAMINHOES_2T.ordinal()] *= fator;
+        novos[Parametro.QTD_CAMINHOES_4T.ordinal()] *= fator;
+        novos[Parametro.QTD_CAMINHOES_8T.ordinal()] *= fator;
+        novos[Parametro.QTD_CAMINHOES_10T.ordinal()] *= fator;
+        return validar(novos);
+    }
+
+    /**
+     * Retorna o valor de um parâmetro inteiro.
+     *
+     * @param parametro O parâmetro.
+     * @return O valor.
+     */
+    public int getInt(Parametro parametro) {
+        return (int) valores[parametro.ordinal()];
+    }
+
+    /**
+     * Retorna o valor de um parâmetro.
+     *
+     * @param parametro O parâmetro.
+     * @return O valor.
+     */
+    public double getDouble(Parametro parametro) {
+        return valores[parametro.ordinal()];
+    }
+
+    /**
+     * Converte os parâmetros em propriedades, no formato aceito por {@link #de(Properties)}.
+     *
+     * @return As propriedades com todos os parâmetros.
+     */
+    public Properties paraPropriedades() {
+        Properties propriedades = new Properties();
+        for (Parametro parametro : PARAMETROS) {
+            propriedades.setProperty(parametro.name(), parametro.isInteiro()
+                    ? Integer.toString(getInt(parametro))
+                    : Double.toString(getDouble(parametro)));
+        }
+        return propriedades;
+    }
+
+    /**
+     * Grava os parâmetros em formato binário, com o nome de cada um, para que
+     * possam ser lidos por {@link #lerEstado(DataInput)}.
+     *
+     * @param saida Onde os parâmetros são gravados.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeInt(PARAMETROS.length);
+        for (Parametro parametro : PARAMETROS) {
+            saida.writeUTF(parametro.name());
+            saida.writeDouble(valores[parametro.ordinal()]);
+        }
+    }
+
+    /**
+     * Lê parâmetros gravados com {@link #gravarEstado(DataOutput)}. Como em
+     * {@link #de(Properties)}, os parâmetros ausentes ficam com o valor padrão.
+     *
+     * @param entrada De onde os parâmetros são lidos.
+     * @return Os parâmetros lidos.
+     * @throws IOException se a leitura falhar, se houver parâmetro desconhecido ou valor inválido.
+     */
+    public static ParametrosSimulacao lerEstado(DataInput entrada) throws IOException {
+        double[] valores = PADRAO.valores.clone();
+        int quantidade = entrada.readInt();
+        try {
+            for (int i = 0; i < quantidade; i++) {
+                String nome = entrada.readUTF();
+                Parametro parametro;
+                try {
+                    parametro = Parametro.valueOf(nome);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Parâmetro desconhecido: " + nome);
+                }
+                valores[parametro.ordinal()] = entrada.readDouble();
+            }
+            return validar(valores);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Confere as restrições de cada parâmetro e as relações entre mínimos e máximos.
+     */
+    private static ParametrosSimulacao validar(double[] valores) {
+        for (Parametro parametro : PARAMETROS) {
+            double valor = valores[parametro.ordinal()];
+            if (Double.isNaN(valor) || valor < 0) {
+                throw new IllegalArgumentException("Valor inválido para " + parametro + ": " + valor);
+            }
+            if (parametro.isInteiro() && (valor != Math.rint(valor) || valor > Integer.MAX_VALUE)) {
+                throw new IllegalArgumentException(parametro + " deve ser inteiro: " + valor);
+            }
+        }
+        exigirPositivo(valores, Parametro.CAPACIDADE_CAMINHOES_2T, Parametro.CAPACIDADE_CAMINHOES_4T,
+                Parametro.CAPACIDADE_CAMINHOES_8T, Parametro.CAPACIDADE_CAMINHOES_10T,
+                Parametro.VIAGENS_CAMINHOES_2T, Parametro.VIAGENS_CAMINHOES_4T,
+                Parametro.VIAGENS_CAMINHOES_8T, Parametro.VIAGENS_CAMINHOES_10T,
+                Parametro.MULTIPLICADOR_TEMPO_PICO, Parametro.MULTIPLICADOR_TEMPO_FORA_PICO,
+                Parametro.CAMINHOES_GRANDES_POR_ESTACAO);
+        exigirOrdem(valores, Parametro.TEMPO_MIN_PICO, Parametro.TEMPO_MAX_PICO);
+        exigirOrdem(valores, Parametro.TEMPO_MIN_FORA_PICO, Parametro.TEMPO_MAX_FORA_PICO);
+        exigirOrdem(valores, Parametro.LIXO_MIN_SUL, Parametro.LIXO_MAX_SUL);
+        exigirOrdem(valores, Parametro.LIXO_MIN_NORTE, Parametro.LIXO_MAX_NORTE);
+        exigirOrdem(valores, Parametro.LIXO_MIN_CENTRO, Parametro.LIXO_MAX_CENTRO);
+        exigirOrdem(valores, Parametro.LIXO_MIN_LESTE, Parametro.LIXO_MAX_LESTE);
+        exigirOrdem(valores, Parametro.LIXO_MIN_SUDESTE, Parametro.LIXO_MAX_SUDESTE);
+        return new ParametrosSimulacao(valores);
+    }
+
+    private static void exigirPositivo(double[] valores, Parametro... parametros) {
+        for (Parametro parametro : parametros) {
+            if (valores[parametro.ordinal()] <= 0) {
+                throw new IllegalArgumentException(parametro + " deve ser positivo");
+            }
+        }
+    }
+
+    private static void exigirOrdem(double[] valores, Parametro minimo, Parametro maximo) {
+        if (valores[minimo.ordinal()] > valores[maximo.ordinal()]) {
+            throw new IllegalArgumentException(minimo + " não pode ser maior que " + maximo);
+        }
+    }
+}
@@ -6,6 +6,9 @@ package simulador.configuracao;
  * Esta classe utiliza apenas atributos estáticos e finais (constantes) para
  * garantir que os valores sejam consistentes e fáceis de modificar em um
  * único local. O construtor é privado para impedir a instanciação.
+ * <p>
+ * Os valores aqui são os padrões de {@link ParametrosSimulacao}; para rodar
+ * outro cenário sem recompilar, use um arquivo de configuração.
  */
 public class configuracao {
 
@@ -83,6 +86,10 @@ public class configuracao {
      * Tolerância de espera do caminhão grande (em minutos) para partir com carga parcial. Ex: 120min = 2 horas.
      */
     public static final int TOLERANCIA_ESPERA_CAMINHAO_GRANDE = 120;
+    /**
+     * Quantidade de caminhões grandes carregando ao mesmo tempo em cada estação.
+     */
+    public static final int CAMINHOES_GRANDES_POR_ESTACAO = 1;
 
     /** Menor quantidade de lixo gerada por dia na zona Sul (em toneladas). */
     public static final int LIXO_MIN_SUL = 20;
@@ -1,36 +1,53 @@
 package simulador.estacoes;
 
-import simulador.SimuladorGUI;
-import estruturas.filas.Fila;
+import simulador.ContextoSimulacao;
+import estruturas.filas.FilaCircular;
 import simulador.caminhoes.CaminhaoGrande;
 import simulador.caminhoes.CaminhaoPequeno;
-import simulador.configuracao.configuracao;
-import simulador.eventos.AgendaEventos;
-import simulador.eventos.EventoColeta;
+import simulador.configuracao.Parametro;
 import simulador.eventos.EventoGerarCaminhaoGrande;
-import simulador.configTempo.GerenciadorTempo;
 import simulador.eventos.EventoVerificarEsperaCaminhaoGrande;
+import simulador.log.RegistroSimulacao;
+import simulador.log.TipoRegistro;
+import simulador.metricas.Metrica;
 import simulador.zona.GerenciadorZonas;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * Modela uma estação de transbordo de lixo, um ponto central onde caminhões
- * pequenos descarregam seu lixo para ser consolidado em um caminhão grande.
+ * pequenos descarregam seu lixo para ser consolidado em caminhões grandes.
  * Esta classe gerencia a fila de espera de caminhões pequenos e o ciclo de vida
  * (carregamento, despacho) dos caminhões grandes.
+ * <p>
+ * A estação tem um pátio com {@link Parametro#CAMINHOES_GRANDES_POR_ESTACAO}
+ * vagas, cada uma com um caminhão grande carregando. Um caminhão pequeno
+ * descarrega no caminhão do pátio mais carregado que ainda comporta toda a sua
+ * carga, para que os caminhões grandes encham e partam o quanto antes; só
+ * entra na fila quando todos estão cheios.
  */
 public class EstacaoDeTransferencia {
     private String nomeEstacao;
-    private CaminhaoGrande caminhaoGrandeAtual;
-    private Fila<CaminhaoPequeno> filaCaminhoes = new Fila<>();
+    private final CaminhaoGrande[] patio;
+    private FilaCircular<CaminhaoPequeno> filaCaminhoes = new FilaCircular<>();
     private GerenciadorZonas gerenciadorZonas;
+    private final ContextoSimulacao contexto;
+    private final EstatisticasEstacao estatisticas = new EstatisticasEstacao();
 
     /**
-     * Cria uma nova estação de transferência com um nome e um caminhão grande inicial.
+     * Cria uma nova estação de transferência com um nome e o pátio de caminhões grandes cheio.
      * @param nomeEstacao O nome da estação (ex: "A", "B").
+     * @param contexto O contexto da simulação, usado para agendar eventos e gerar IDs de caminhões grandes.
      */
-    public EstacaoDeTransferencia(String nomeEstacao) {
+    public EstacaoDeTransferencia(String nomeEstacao, ContextoSimulacao contexto) {
         this.nomeEstacao = nomeEstacao;
-        this.caminhaoGrandeAtual = new CaminhaoGrande();
+        this.contexto = contexto;
+        this.patio = new CaminhaoGrande[contexto.getParametros().getInt(Parametro.CAMINHOES_GRANDES_POR_ESTACAO)];
+        for (int i = 0; i < patio.length; i++) {
+            patio[i] = contexto.criarCaminhaoGrande();
+        }
     }
 
     /**
@@ -44,16 +61,27 @@ public class EstacaoDeTransferencia {
     }
 
     /**
-     * Substitui o caminhão grande atual por um novo.
-     * Após a chegada do novo caminhão, tenta imediatamente descarregar os caminhões
-     * pequenos que porventura estejam na fila de espera.
+     * Coloca um caminhão grande novo na primeira vaga do pátio ocupada por um
+     * caminhão cheio. Após a chegada do novo caminhão, tenta imediatamente
+     * descarregar os caminhões pequenos que porventura estejam na fila de espera.
      * @param tempoAtual O tempo da simulação em que o novo caminhão é gerado.
      */
     public void gerarNovoCaminhaoGrande(int tempoAtual) {
-        this.caminhaoGrandeAtual = new CaminhaoGrande();
-        System.out.println("[ESTAÇÃO " + nomeEstacao + "] Novo caminhão grande criado.");
-        SimuladorGUI.atualizarCaminhao("G" + caminhaoGrandeAtual.getId(), "Aguardando", "Estacao " + this.nomeEstacao);
-        SimuladorGUI.pausar();
+        for (int i = 0; i < patio.length; i++) {
+            if (patio[i] == null || patio[i].estaCheio()) {
+                substituir(i, tempoAtual);
+                return;
+            }
+        }
+    }
+
+    private void substituir(int vaga, int tempoAtual) {
+        CaminhaoGrande novo = contexto.criarCaminhaoGrande();
+        patio[vaga] = novo;
+        estatisticas.registrarCaminhaoGrandeGerado();
+        contexto.getRegistro().registrar(TipoRegistro.NOVO_GRANDE, nomeEstacao);
+        contexto.getObservador().atualizarCaminhao("G" + novo.getId(), "Aguardando", "Estacao " + this.nomeEstacao);
+        contexto.getObservador().pausar();
         descarregarFilaEspera(tempoAtual);
     }
 
@@ -66,43 +94,187 @@ public class EstacaoDeTransferencia {
     }
 
     /**
-     * Retorna o caminhão grande que está atualmente na estação.
-     * @return A instância do {@link CaminhaoGrande} atual.
+     * Retorna o número de vagas do pátio de caminhões grandes.
+     * @return A quantidade de caminhões grandes carregando ao mesmo tempo.
+     */
+    public int getQuantidadeCaminhoesGrandes() {
+        return patio.length;
+    }
+
+    /**
+     * Retorna o caminhão grande de uma vaga do pátio.
+     * @param vaga O índice da vaga, de 0 a {@code getQuantidadeCaminhoesGrandes() - 1}.
+     * @return O {@link CaminhaoGrande} na vaga.
+     */
+    public CaminhaoGrande getCaminhaoGrande(int vaga) {
+        return patio[vaga];
+    }
+
+    /**
+     * Verifica se o caminhão grande informado ainda está carregando no pátio.
+     * @param caminhao O caminhão grande.
+     * @return {@code true} se ele ocupa uma das vagas.
+     */
+    public boolean estaNoPatio(CaminhaoGrande caminhao) {
+        for (CaminhaoGrande vaga : patio) {
+            if (vaga == caminhao) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Retorna os indicadores de atendimento do dia corrente.
+     * @return As {@link EstatisticasEstacao} da estação.
      */
-    public CaminhaoGrande getCaminhaoGrandeAtual() {
-        return caminhaoGrandeAtual;
+    public EstatisticasEstacao getEstatisticas() {
+        return estatisticas;
     }
 
     /**
      * Retorna a fila de caminhões pequenos que estão aguardando para descarregar.
-     * @return A instância da {@link Fila} de caminhões.
+     * @return A instância da {@link FilaCircular} de caminhões.
      */
-    public Fila<CaminhaoPequeno> getFilaCaminhoes() {
+    public FilaCircular<CaminhaoPequeno> getFilaCaminhoes() {
         return filaCaminhoes;
     }
 
     /**
-     * Verifica se o caminhão grande atual pode receber mais lixo.
-     * @return {@code true} se o caminhão não estiver cheio, {@code false} caso contrário.
+     * Guarda o estado mutável da estação: os caminhões do pátio e a carga de
+     * cada um, a fila de espera e o estado dos caminhões pequenos nela, e os
+     * indicadores do dia.
+     * @return O estado atual.
+     */
+    public Estado salvarEstado() {
+        return new Estado(this);
+    }
+
+    /**
+     * Volta a estação a um estado obtido com {@link #salvarEstado()}. Os
+     * caminhões grandes criados depois dele deixam o pátio.
+     * @param estado O estado a ser restaurado.
+     */
+    public void restaurarEstado(Estado estado) {
+        for (int i = 0; i < patio.length; i++) {
+            patio[i] = estado.patio[i];
+            if (patio[i] != null) {
+                patio[i].restaurarEstado(estado.estadosPatio[i]);
+            }
+        }
+        while (!filaCaminhoes.isEmpty()) {
+            filaCaminhoes.poll();
+        }
+        for (int i = 0; i < estado.fila.length; i++) {
+            estado.fila[i].restaurarEstado(estado.estadosFila[i]);
+            filaCaminhoes.enqueue(estado.fila[i]);
+        }
+        estatisticas.resetar();
+        estatisticas.acumular(estado.estatisticas);
+    }
+
+    /**
+     * Grava o estado da estação entre um dia e outro: os caminhões do pátio e
+     * os caminhões pequenos que continuam na fila. Os indicadores não são
+     * gravados, porque são zerados no fim de cada dia.
+     * @param saida Onde o estado é gravado.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeInt(patio.length);
+        for (CaminhaoGrande caminhao : patio) {
+            saida.writeBoolean(caminhao != null);
+            if (caminhao != null) {
+                caminhao.gravarEstado(saida);
+            }
+        }
+        saida.writeInt(filaCaminhoes.size());
+        for (CaminhaoPequeno caminhao : filaCaminhoes) {
+            caminhao.gravarEstado(saida);
+        }
+    }
+
+    /**
+     * Volta a estação a um estado gravado com {@link #gravarEstado(DataOutput)}.
+     * O {@link GerenciadorZonas} já deve ter sido definido, para que as rotas
+     * dos caminhões da fila sejam recriadas.
+     * @param entrada De onde o estado é lido.
+     * @throws IOException se a leitura falhar ou o pátio gravado tiver outro número de vagas.
+     */
+    public void lerEstado(DataInput entrada) throws IOException {
+        int vagas = entrada.readInt();
+        if (vagas != patio.length) {
+            throw new IOException("A estação " + nomeEstacao + " tem " + patio.length
+                    + " vagas no pátio, e não " + vagas);
+        }
+        for (int i = 0; i < patio.length; i++) {
+            patio[i] = entrada.readBoolean() ? CaminhaoGrande.lerEstado(entrada, this) : null;
+        }
+        while (!filaCaminhoes.isEmpty()) {
+            filaCaminhoes.poll();
+        }
+        int tamanhoFila = entrada.readInt();
+        for (int i = 0; i < tamanhoFila; i++) {
+            filaCaminhoes.enqueue(CaminhaoPequeno.lerEstado(entrada, gerenciadorZonas, this));
+        }
+        estatisticas.resetar();
+    }
+
+    /**
+     * Verifica se algum caminhão grande do pátio pode receber mais lixo.
+     * @return {@code true} se houver um caminhão que não esteja cheio, {@code false} caso contrário.
      */
     public boolean temCaminhaoGrandeDisponivel() {
-        return caminhaoGrandeAtual != null && !caminhaoGrandeAtual.estaCheio();
+        return escolherCaminhaoGrande(0) >= 0;
     }
 
     /**
-     * Libera o caminhão grande atual para ir ao aterro sanitário.
+     * Escolhe a vaga que recebe uma carga: o caminhão mais carregado que comporta
+     * a carga inteira ou, se nenhum comporta, o mais carregado que não está cheio.
+     * Com uma única vaga, é simplesmente o caminhão do pátio, se não estiver cheio.
+     * @param carga A carga a descarregar, em toneladas.
+     * @return O índice da vaga, ou -1 se todos os caminhões estiverem cheios.
+     */
+    private int escolherCaminhaoGrande(int carga) {
+        int melhorQueCabe = -1;
+        int melhorQualquer = -1;
+        for (int i = 0; i < patio.length; i++) {
+            CaminhaoGrande caminhao = patio[i];
+            if (caminhao == null || caminhao.estaCheio()) continue;
+            if (melhorQualquer < 0 || caminhao.getCargaAtual() > patio[melhorQualquer].getCargaAtual()) {
+                melhorQualquer = i;
+            }
+            if (caminhao.getCargaAtual() + carga <= caminhao.getLimiteCarga()
+                    && (melhorQueCabe < 0 || caminhao.getCargaAtual() > patio[melhorQueCabe].getCargaAtual())) {
+                melhorQueCabe = i;
+            }
+        }
+        return melhorQueCabe >= 0 ? melhorQueCabe : melhorQualquer;
+    }
+
+    /**
+     * Libera um caminhão grande do pátio para ir ao aterro sanitário.
      * Este método cancela qualquer evento de verificação de espera pendente para o caminhão
-     * que partiu e aciona a geração de um novo caminhão para substituí-lo.
+     * que partiu e aciona a geração de um novo caminhão para substituí-lo na mesma vaga.
+     * @param caminhao O caminhão grande que parte.
      * @param tempoAtual O tempo da simulação em que o despacho ocorre.
      */
-    public void despacharCaminhaoGrande(int tempoAtual) {
-        if (caminhaoGrandeAtual != null) {
-            if (caminhaoGrandeAtual.getEventoDeVerificacao() != null) {
-                AgendaEventos.removerEvento(caminhaoGrandeAtual.getEventoDeVerificacao());
-                caminhaoGrandeAtual.setEventoDeVerificacao(null);
+    public void despacharCaminhaoGrande(CaminhaoGrande caminhao, int tempoAtual) {
+        for (int i = 0; i < patio.length; i++) {
+            if (patio[i] != caminhao) continue;
+            if (caminhao.getEventoDeVerificacao() != null) {
+                contexto.getAgenda().removerEvento(caminhao.getEventoDeVerificacao());
+                caminhao.setEventoDeVerificacao(null);
+            }
+            estatisticas.registrarDespacho();
+            int inicioCarga = caminhao.getTempoInicioCarga();
+            if (inicioCarga >= 0) {
+                contexto.getEstatisticas().registrar(Metrica.TEMPO_ENCHIMENTO, tempoAtual - inicioCarga);
             }
-            caminhaoGrandeAtual.descarregar();
-            gerarNovoCaminhaoGrande(tempoAtual);
+            contexto.getRegistro().registrar(TipoRegistro.DESPACHO_GRANDE, caminhao.getId(), caminhao.getCargaAtual());
+            contexto.getObservador().atualizarCaminhao("G" + caminhao.getId(), "Indo p/ Aterro", "Aterro");
+            contexto.getObservador().pausar();
+            caminhao.descarregar();
+            substituir(i, tempoAtual);
+            return;
         }
     }
 
@@ -115,52 +287,51 @@ public class EstacaoDeTransferencia {
      * @param tempoAtual O tempo da simulação em que a chegada ocorre.
      */
     public void receberCaminhaoPequeno(CaminhaoPequeno caminhao, int tempoAtual) {
-        System.out.println("+--------------------------------------------------+");
-        System.out.println("|          DESCARREGAMENTO NA ESTAÇÃO              |");
-        System.out.println("+--------------------------------------------------+");
-        System.out.printf("| %-18s | %-28s |%n", "Horário de Chegada", GerenciadorTempo.formatarHorarioSimulado(tempoAtual));
-        System.out.printf("| %-18s | %-28s |%n", "Estação", nomeEstacao);
-        System.out.printf("| %-18s | %-28s |%n", "Caminhão", caminhao.getId());
-        System.out.printf("| %-18s | %-28s |%n", "Status", "Chegada confirmada");
-
-        if (caminhaoGrandeAtual == null || caminhaoGrandeAtual.estaCheio()) {
-            SimuladorGUI.atualizarCaminhao(caminhao.getId(), "Na Fila", "Estacao " + this.nomeEstacao);
+        RegistroSimulacao registro = contexto.getRegistro();
+        registro.registrar(TipoRegistro.CHEGADA_ESTACAO, nomeEstacao, caminhao.getId(), tempoAtual);
+
+        int vaga = escolherCaminhaoGrande(caminhao.getCargaAtual());
+        if (vaga < 0) {
+            contexto.getObservador().atualizarCaminhao(caminhao.getId(), "Na Fila", "Estacao " + this.nomeEstacao);
+            caminhao.setTempoEntradaFila(tempoAtual);
             filaCaminhoes.enqueue(caminhao);
-            System.out.printf("| %-18s | %-28d |%n", "Tamanho da Fila", filaCaminhoes.size());
+            registro.registrar(TipoRegistro.ENFILEIRADO, filaCaminhoes.size());
 
             if (caminhao.getEventoAgendado() == null) {
-                int tempoLimite = tempoAtual + configuracao.TEMPO_MAX_ESPERA_ESTACAO;
+                int tempoLimite = tempoAtual + contexto.getParametros().getInt(Parametro.TEMPO_MAX_ESPERA_ESTACAO);
                 EventoGerarCaminhaoGrande evento = new EventoGerarCaminhaoGrande(tempoLimite, this);
-                AgendaEventos.adicionarEvento(evento);
+                contexto.getAgenda().adicionarEvento(evento);
                 caminhao.setEventoAgendado(evento);
-                System.out.printf("| %-18s | %-28s |%n", "Evento Agendado", "Caminhão grande às " + GerenciadorTempo.formatarHorarioSimulado(tempoLimite));
+                registro.registrar(TipoRegistro.GERACAO_AGENDADA, tempoLimite);
             }
         } else {
-            SimuladorGUI.atualizarCaminhao(caminhao.getId(), "Descarregando", "Estacao " + this.nomeEstacao);
+            contexto.getObservador().atualizarCaminhao(caminhao.getId(), "Descarregando", "Estacao " + this.nomeEstacao);
 
             if (caminhao.getEventoAgendado() != null) {
-                AgendaEventos.removerEvento(caminhao.getEventoAgendado());
+                contexto.getAgenda().removerEvento(caminhao.getEventoAgendado());
                 caminhao.setEventoAgendado(null);
-                System.out.printf("| %-18s | %-28s |%n", "Evento Cancelado", "Geração de caminhão grande");
+                registro.registrar(TipoRegistro.GERACAO_CANCELADA);
             }
 
+            CaminhaoGrande caminhaoGrande = patio[vaga];
             int carga = caminhao.getCargaAtual();
-            int tempoDescarga = carga * configuracao.TEMPO_DESCARGA_POR_TONELADA;
-            boolean eraVazio = caminhaoGrandeAtual.getCargaAtual() == 0;
+            int tempoDescarga = carga * contexto.getParametros().getInt(Parametro.TEMPO_DESCARGA_POR_TONELADA);
+            boolean eraVazio = caminhaoGrande.getCargaAtual() == 0;
 
-            caminhaoGrandeAtual.receberCarga(carga);
+            caminhaoGrande.receberCarga(carga, tempoAtual);
             caminhao.descarregar();
+            estatisticas.registrarAtendimento(0, tempoDescarga);
+            contexto.getEstatisticas().registrar(Metrica.ESPERA_FILA, 0);
 
-            System.out.printf("| %-18s | %-28s |%n", "Carga Descarregada", carga + " toneladas (Carga: " + caminhao.getCargaAtual() + "/" + caminhao.getCapacidadeMaxima() + ")");
-            System.out.printf("| %-18s | %-28s |%n", "Tempo de Descarga", GerenciadorTempo.formatarDuracao(tempoDescarga));
-            System.out.printf("| %-18s | %-28s |%n", "Horário de Conclusão", GerenciadorTempo.formatarHorarioSimulado(tempoAtual + tempoDescarga));
+            registro.registrar(TipoRegistro.DESCARGA, null, null, carga, caminhao.getCargaAtual(),
+                    caminhao.getCapacidadeMaxima(), tempoDescarga, tempoAtual + tempoDescarga);
 
-            if (eraVazio && caminhaoGrandeAtual.getCargaAtual() > 0) {
-                int tempoVerificacao = tempoAtual + configuracao.TOLERANCIA_ESPERA_CAMINHAO_GRANDE;
-                EventoVerificarEsperaCaminhaoGrande evento = new EventoVerificarEsperaCaminhaoGrande(tempoVerificacao, this, this.caminhaoGrandeAtual);
-                this.caminhaoGrandeAtual.setEventoDeVerificacao(evento);
-                AgendaEventos.adicionarEvento(evento);
-                System.out.printf("| %-18s | %-28s |%n", "Tolerância Acionada", "Verificação às " + GerenciadorTempo.formatarHorarioSimulado(tempoVerificacao));
+            if (eraVazio && caminhaoGrande.getCargaAtual() > 0) {
+                int tempoVerificacao = tempoAtual + contexto.getParametros().getInt(Parametro.TOLERANCIA_ESPERA_CAMINHAO_GRANDE);
+                EventoVerificarEsperaCaminhaoGrande evento = new EventoVerificarEsperaCaminhaoGrande(tempoVerificacao, this, caminhaoGrande);
+                caminhaoGrande.setEventoDeVerificacao(evento);
+                contexto.getAgenda().adicionarEvento(evento);
+                registro.registrar(TipoRegistro.TOLERANCIA_AGENDADA, tempoVerificacao);
             }
 
             caminhao.registrarViagem();
@@ -168,38 +339,89 @@ public class EstacaoDeTransferencia {
             if (caminhao.podeRealizarNovaViagem()) {
                 int proximoHorario = tempoAtual + tempoDescarga;
                 caminhao.atualizarZonaAlvo();
-                AgendaEventos.adicionarEvento(new EventoColeta(proximoHorario, caminhao, caminhao.getZonaAlvo(), this.gerenciadorZonas));
-                System.out.printf("| %-18s | %-28s |%n", "Próxima Ação", "Volta para coleta");
+                contexto.getAgenda().adicionarEvento(contexto.getFabricaEventos().coleta(proximoHorario, caminhao, caminhao.getZonaAlvo(), this.gerenciadorZonas));
+                registro.registrar(TipoRegistro.VOLTA_COLETA);
             } else {
-                System.out.printf("| %-18s | %-28s |%n", "Status do Caminhão", "Finalizou atividades do dia");
+                registro.registrar(TipoRegistro.FIM_ATIVIDADES);
             }
 
-            if (caminhaoGrandeAtual.estaCheio()) {
-                System.out.printf("| %-18s | %-28s |%n", "Caminhão Grande", "Cheio");
-                System.out.printf("| %-18s | %-28s |%n", "Ação", "Caminhão Grande " + caminhaoGrandeAtual.getId() + " partiu para aterro");
-                despacharCaminhaoGrande(tempoAtual + tempoDescarga);
+            if (caminhaoGrande.estaCheio()) {
+                registro.registrar(TipoRegistro.GRANDE_CHEIO, caminhaoGrande.getId());
+                despacharCaminhaoGrande(caminhaoGrande, tempoAtual + tempoDescarga);
             }
         }
-        System.out.println("+--------------------------------------------------+");
-        System.out.println();
+        registro.registrar(TipoRegistro.FIM_TABELA);
     }
 
     /**
      * Processa a fila de caminhões pequenos que estão em espera.
-     * Os caminhões são retirados da fila e descarregam sua carga no caminhão grande
-     * até que a fila de espera esvazie ou o caminhão grande atinja sua capacidade máxima.
-     * @param tempoAtual O tempo atual da simulação, para referência de log.
+     * Os caminhões são retirados da fila e descarregam sua carga nos caminhões grandes
+     * do pátio até que a fila de espera esvazie ou todos atinjam sua capacidade máxima.
+     * @param tempoAtual O tempo atual da simulação, usado no cálculo do tempo de espera.
      */
     private void descarregarFilaEspera(int tempoAtual) {
-        while (!filaCaminhoes.isEmpty() && !caminhaoGrandeAtual.estaCheio()) {
-            CaminhaoPequeno caminhaoFila = filaCaminhoes.poll();
+        while (!filaCaminhoes.isEmpty()) {
+            CaminhaoPequeno caminhaoFila = filaCaminhoes.peek();
+            int carga = caminhaoFila.getCargaAtual();
+            int vaga = escolherCaminhaoGrande(carga);
+            if (vaga < 0) break;
+            filaCaminhoes.poll();
             if (caminhaoFila.getEventoAgendado() != null) {
-                AgendaEventos.removerEvento(caminhaoFila.getEventoAgendado());
+                contexto.getAgenda().removerEvento(caminhaoFila.getEventoAgendado());
                 caminhaoFila.setEventoAgendado(null);
             }
-            int carga = caminhaoFila.getCargaAtual();
-            caminhaoGrandeAtual.receberCarga(carga);
-            System.out.println("[ESTAÇÃO " + nomeEstacao + "] Caminhão pequeno " + caminhaoFila.getId() + " da fila descarregou " + carga + " toneladas.");
+            patio[vaga].receberCarga(carga, tempoAtual);
+            int espera = tempoAtual - caminhaoFila.getTempoEntradaFila();
+            estatisticas.registrarAtendimento(espera,
+                    carga * contexto.getParametros().getInt(Parametro.TEMPO_DESCARGA_POR_TONELADA));
+            contexto.getEstatisticas().registrar(Metrica.ESPERA_FILA, espera);
+            contexto.getRegistro().registrar(TipoRegistro.DESCARGA_FILA, nomeEstacao, caminhaoFila.getId(), carga);
+        }
+    }
+
+    /**
+     * Prepara a estação para o dia seguinte: zera os indicadores do dia e faz
+     * os caminhões que continuam na fila contarem a espera, e os caminhões
+     * grandes do pátio contarem a carga em andamento, a partir do início do
+     * novo dia, já que o relógio da simulação volta a zero.
+     */
+    public void iniciarNovoDia() {
+        estatisticas.resetar();
+        for (CaminhaoPequeno caminhao : filaCaminhoes) {
+            caminhao.setTempoEntradaFila(0);
+        }
+        for (CaminhaoGrande caminhao : patio) {
+            if (caminhao != null) {
+                caminhao.reiniciarInicioCarga();
+            }
+        }
+    }
+
+    /** O estado mutável de uma estação de transferência em um instante da simulação. */
+    public static final class Estado {
+        private final CaminhaoGrande[] patio;
+        private final CaminhaoGrande.Estado[] estadosPatio;
+        private final CaminhaoPequeno[] fila;
+        private final CaminhaoPequeno.Estado[] estadosFila;
+        private final EstatisticasEstacao estatisticas = new EstatisticasEstacao();
+
+        private Estado(EstacaoDeTransferencia estacao) {
+            this.patio = estacao.patio.clone();
+            this.estadosPatio = new CaminhaoGrande.Estado[patio.length];
+            for (int i = 0; i < patio.length; i++) {
+                if (patio[i] != null) {
+                    estadosPatio[i] = patio[i].salvarEstado();
+                }
+            }
+            this.fila = new CaminhaoPequeno[estacao.filaCaminhoes.size()];
+            this.estadosFila = new CaminhaoPequeno.Estado[fila.length];
+            int i = 0;
+            for (CaminhaoPequeno caminhao : estacao.filaCaminhoes) {
+                fila[i] = caminhao;
+                estadosFila[i] = caminhao.salvarEstado();
+                i++;
+            }
+            estatisticas.acumular(estacao.estatisticas);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+package simulador.estacoes;
+
+/**
+ * Acumula os indicadores de atendimento de uma estação de transferência ao
+ * longo de um dia: quantos caminhões pequenos descarregaram, quanto tempo
+ * esperaram na fila e quanto tempo levaram descarregando, além dos
+ * despachos e das criações de caminhões grandes.
+ */
+public class EstatisticasEstacao {
+
+    private int atendimentos;
+    private long somaEspera;
+    private int maiorEspera;
+    private long somaDescarga;
+    private int maiorDescarga;
+    private int despachos;
+    private int caminhoesGrandesGerados;
+
+    /**
+     * Registra a descarga de um caminhão pequeno.
+     *
+     * @param espera   Minutos que o caminhão passou na fila (zero se descarregou ao chegar).
+     * @param descarga Minutos gastos na descarga.
+     */
+    public void registrarAtendimento(int espera, int descarga) {
+        atendimentos++;
+        somaEspera += espera;
+        somaDescarga += descarga;
+        if (espera > maiorEspera) maiorEspera = espera;
+        if (descarga > maiorDescarga) maiorDescarga = descarga;
+    }
+
+    /** Registra a partida de um caminhão grande para o aterro. */
+    public void registrarDespacho() {
+        despachos++;
+    }
+
+    /** Registra a chegada de um caminhão grande novo à estação. */
+    public void registrarCaminhaoGrandeGerado() {
+        caminhoesGrandesGerados++;
+    }
+
+    /**
+     * Soma a estes indicadores os de outro período ou de outra cópia: contagens
+     * e tempos se somam, e os maiores tempos ficam com o maior dos dois.
+     *
+     * @param outras Os indicadores a serem somados.
+     */
+    public void acumular(EstatisticasEstacao outras) {
+        atendimentos += outras.atendimentos;
+        somaEspera += outras.somaEspera;
+        somaDescarga += outras.somaDescarga;
+        if (outras.maiorEspera > maiorEspera) maiorEspera = outras.maiorEspera;
+        if (outras.maiorDescarga > maiorDescarga) maiorDescarga = outras.maiorDescarga;
+        despachos += outras.despachos;
+        caminhoesGrandesGerados += outras.caminhoesGrandesGerados;
+    }
+
+    /** Zera os indicadores para o próximo dia. */
+    public void resetar() {
+        atendimentos = 0;
+        somaEspera = 0;
+        maiorEspera = 0;
+        somaDescarga = 0;
+        maiorDescarga = 0;
+        despachos = 0;
+        caminhoesGrandesGerados = 0;
+    }
+
+    /** @return O número de descargas de caminhões pequenos. */
+    public int getAtendimentos() {
+        return atendimentos;
+    }
+
+    /** @return O tempo médio de espera na fila, em minutos. */
+    public double getEsperaMedia() {
+        return atendimentos == 0 ? 0 : (double) somaEspera / atendimentos;
+    }
+
+    /** @return O maior tempo de espera na fila, em minutos. */
+    public int getMaiorEspera() {
+        return maiorEspera;
+    }
+
+    /** @return O tempo médio de descarga, em minutos. */
+    public double getDescargaMedia() {
+        return atendimentos == 0 ? 0 : (double) somaDescarga / atendimentos;
+    }
+
+    /** @return A soma dos tempos de descarga, em minutos. */
+    public long getTempoTotalDescarga() {
+        return somaDescarga;
+    }
+
+    /** @return O maior tempo de descarga, em minutos. */
+    public int getMaiorDescarga() {
+        return maiorDescarga;
+    }
+
+    /** @return O número de caminhões grandes despachados ao aterro. */
+    public int getDespachos() {
+        return despachos;
+    }
+
+    /** @return O número de caminhões grandes que chegaram para substituir os despachados. */
+    public int getCaminhoesGrandesGerados() {
+        return caminhoesGrandesGerados;
+    }
+}
@@ -1,79 +1,252 @@
 package simulador.eventos;
 
-import estruturas.lista.Lista;
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
+
+import java.util.function.Predicate;
 
 /**
- * Gerencia a agenda global de eventos da simulação, ordenando-os por tempo.
+ * Gerencia a agenda de eventos da simulação, ordenando-os por tempo.
  * Atua como o coração cronológico do simulador, garantindo que as ações
- * ocorram na sequência correta. Esta classe é estática, pois existe uma
- * única linha do tempo para toda a simulação.
+ * ocorram na sequência correta. Cada {@link ContextoSimulacao} possui a sua
+ * própria agenda, ou seja, a sua própria linha do tempo.
+ * <p>
+ * O armazenamento dos eventos é delegado a um {@link CalendarioEventos}; por
+ * padrão é usado o {@link CalendarioHeap}, mas a implementação pode ser trocada
+ * com {@link #definirCalendario(CalendarioEventos)}.
  */
 public class AgendaEventos {
 
-    /** A lista ordenada de eventos a serem processados. */
-    private static Lista<Evento> eventos = new Lista<>();
+    /** O calendário que mantém os eventos a serem processados em ordem cronológica. */
+    private CalendarioEventos eventos = new CalendarioHeap();
 
     /** O tempo do último evento que foi executado, representando o "relógio" da simulação. */
-    private static int tempoUltimoEvento = 0;
+    private int tempoUltimoEvento = 0;
+
+    /**
+     * Referência ao último evento executado, útil para depuração. Ele só volta
+     * para a {@link FabricaEventos} quando o evento seguinte é executado.
+     */
+    private Evento ultimoEventoExecutado = null;
+
+    /** Quantidade de eventos cancelados que ainda ocupam o calendário. */
+    private int cancelamentosPendentes = 0;
+
+    /** Quantidade de eventos executados desde o último reset. */
+    private int eventosExecutados = 0;
 
-    /** Referência ao último evento executado, útil para depuração. */
-    private static Evento ultimoEventoExecutado = null;
+    /** Quantidade de eventos cancelados desde o último reset. */
+    private int eventosCancelados = 0;
+
+    /** Número de sequência do próximo evento agendado; desempata eventos do mesmo minuto. */
+    private long proximaSequencia = 1;
+
+    /** Quem pode desviar eventos para outra agenda, ou {@code null} se todos ficam aqui. */
+    private EncaminhadorEventos encaminhador;
+
+    /** Quem é avisado de cada evento executado, ou {@code null}. */
+    private MonitorEventos monitor;
+
+    /** Contadores de execução, ou {@code null} se a agenda não está sendo medida. */
+    private InstrumentacaoAgenda instrumentacao;
 
     /**
      * Adiciona um novo evento à agenda. O evento é inserido na posição correta
-     * para manter a ordem cronológica (do menor para o maior tempo).
+     * para manter a ordem cronológica (do menor para o maior tempo) e recebe o
+     * próximo número de sequência, de modo que eventos do mesmo minuto e da
+     * mesma {@link PrioridadeEvento} rodam na ordem em que foram agendados.
      *
      * @param evento O evento a ser agendado.
      * @throws IllegalArgumentException se o evento for nulo.
+     * @throws IllegalStateException se o evento já estiver no calendário, inclusive
+     *                               se foi cancelado e ainda não foi descartado.
+     */
+    public void adicionarEvento(Evento evento) {
+        validarNovoEvento(evento);
+        if (encaminhador != null && encaminhador.encaminhar(evento)) {
+            return;
+        }
+
+        evento.marcarAgendado(proximaSequencia++);
+        eventos.adicionar(evento);
+    }
+
+    /**
+     * Adiciona um evento à agenda com o número de sequência informado, sem
+     * consultar o {@link EncaminhadorEventos}. Na execução particionada, é
+     * assim que cada evento recebe a sequência que teria na agenda única da
+     * execução sequencial.
+     *
+     * @param evento    O evento a ser agendado.
+     * @param sequencia O número de sequência que desempata o evento no seu minuto.
+     * @throws IllegalArgumentException se o evento for nulo.
+     * @throws IllegalStateException se o evento já estiver no calendário.
      */
-    public static void adicionarEvento(Evento evento) {
+    public void adicionarEvento(Evento evento, long sequencia) {
+        validarNovoEvento(evento);
+        evento.marcarAgendado(sequencia);
+        eventos.adicionar(evento);
+    }
+
+    private static void validarNovoEvento(Evento evento) {
         if (evento == null) {
             throw new IllegalArgumentException("Evento não pode ser nulo");
         }
+        if (evento.estaNoCalendario()) {
+            // Um evento cancelado continua no calendário até a sua vez; agendá-lo de novo
+            // mudaria a sua chave de ordenação dentro do heap e o deixaria lá duas vezes
+            throw new IllegalStateException(evento.isCancelado()
+                    ? "Evento cancelado ainda está no calendário" : "Evento já está agendado");
+        }
+    }
 
-        /** Adiciona o evento de forma ordenada usando uma expressão lambda para comparação.*/
-        eventos.adicionarOrdenado(evento, (e1, e2) -> {
-            if (e1.getTempo() < e2.getTempo()) return -1;
-            if (e1.getTempo() > e2.getTempo()) return 1;
-            return 0;
-        });
+    /**
+     * Troca o número de sequência de um evento que está no calendário,
+     * inclusive de um cancelado. O calendário não é reorganizado: quem chama
+     * garante que a nova sequência não muda a posição do evento em relação
+     * aos demais.
+     *
+     * @param evento    O evento agendado.
+     * @param sequencia O novo número de sequência.
+     * @return {@code true} se o evento estava no calendário e foi renumerado;
+     *         {@code false} se já tinha sido retirado, e nada muda.
+     */
+    public boolean renumerarEvento(Evento evento, long sequencia) {
+        if (!evento.estaNoCalendario()) {
+            return false;
+        }
+        evento.renumerar(sequencia);
+        return true;
     }
 
     /**
-     * Remove um evento específico da agenda.
+     * Cancela um evento específico da agenda em tempo constante.
      * É útil para cancelar uma ação futura que não é mais necessária.
+     * O evento não é retirado do calendário imediatamente: ele recebe uma marca
+     * de cancelamento e é descartado quando chegar a sua vez de ser executado.
+     * Um evento que o {@link EncaminhadorEventos} levou para outro destino é
+     * cancelado por ele.
      *
-     * @param evento O evento a ser removido.
-     * @return {@code true} se o evento foi encontrado e removido, {@code false} caso contrário.
+     * @param evento O evento a ser cancelado.
+     * @return {@code true} se o evento estava pendente e foi cancelado, {@code false} caso contrário.
      */
-    public static boolean removerEvento(Evento evento) {
-        return eventos.removerProcurado(evento);
+    public boolean removerEvento(Evento evento) {
+        if (evento != null && encaminhador != null && encaminhador.cancelar(evento)) {
+            return true;
+        }
+        if (evento == null || !evento.estaAgendado()) {
+            return false;
+        }
+        evento.marcarCancelado();
+        cancelamentosPendentes++;
+        eventosCancelados++;
+        if (instrumentacao != null) {
+            instrumentacao.registrarCancelamento(evento);
+        }
+        return true;
     }
 
     /**
      * Executa o loop principal da simulação, processando todos os eventos pendentes em ordem.
      * O tempo da simulação avança de acordo com o tempo de cada evento executado.
+     * Eventos cancelados são descartados sem execução, e os executados são
+     * devolvidos à {@link FabricaEventos} do contexto para reaproveitamento.
+     *
+     * @param contexto O contexto da simulação, repassado a cada evento executado.
+     */
+    public void processarEventos(ContextoSimulacao contexto) {
+        processarEventosAte(Integer.MAX_VALUE, contexto);
+    }
+
+    /**
+     * Processa, em ordem, os eventos pendentes com tempo anterior ao limite,
+     * inclusive os que forem agendados durante o processamento. Eventos a
+     * partir do limite continuam no calendário.
      *
-     * @param estatisticas O objeto de estatísticas do dia, que pode ser modificado pelos eventos.
+     * @param limite   O primeiro minuto que não deve ser processado.
+     * @param contexto O contexto da simulação, repassado a cada evento executado.
      */
-    public static void processarEventos(EstatisticasDia estatisticas) {
-        while (temEventos()) {
-            Evento evento = eventos.removerHead(); // Pega o próximo evento na ordem cronológica
-            tempoUltimoEvento = evento.getTempo();
-            ultimoEventoExecutado = evento;
-            evento.executar(estatisticas);
+    public void processarEventosAte(int limite, ContextoSimulacao contexto) {
+        FabricaEventos fabrica = contexto.getFabricaEventos();
+        while (temEventos() && eventos.verProximo().getTempo() < limite) {
+            executarProximo(fabrica, contexto);
+        }
+    }
+
+    /**
+     * Processa, em ordem, os eventos pendentes enquanto o próximo do
+     * calendário, cancelado ou não, atender à condição. O primeiro que não a
+     * atende e os seguintes continuam no calendário.
+     *
+     * @param condicao Decide, antes de cada evento, se ele pode ser processado.
+     * @param contexto O contexto da simulação, repassado a cada evento executado.
+     */
+    public void processarEventosEnquanto(Predicate<? super Evento> condicao, ContextoSimulacao contexto) {
+        FabricaEventos fabrica = contexto.getFabricaEventos();
+        while (temEventos() && condicao.test(eventos.verProximo())) {
+            executarProximo(fabrica, contexto);
+        }
+    }
+
+    /** Retira o próximo evento do calendário e o executa, se não estiver cancelado. */
+    private void executarProximo(FabricaEventos fabrica, ContextoSimulacao contexto) {
+        Evento evento = eventos.removerProximo(); // Pega o próximo evento na ordem cronológica
+        evento.marcarRetirado();
+        if (evento.isCancelado()) {
+            cancelamentosPendentes--;
+            return;
+        }
+        eventosExecutados++;
+        tempoUltimoEvento = evento.getTempo();
+        if (ultimoEventoExecutado != null) {
+            fabrica.devolver(ultimoEventoExecutado);
+        }
+        ultimoEventoExecutado = evento;
+        if (instrumentacao != null) {
+            instrumentacao.antesDeExecutar(evento, eventos.getTamanho());
+        }
+        if (monitor == null) {
+            evento.executar(contexto);
+        } else {
+            monitor.antesDeExecutar(evento, contexto);
+            evento.executar(contexto);
+            monitor.depoisDeExecutar(evento, contexto);
+        }
+        if (instrumentacao != null) {
+            instrumentacao.depoisDeExecutar(evento);
         }
     }
 
     /**
      * Limpa completamente a agenda de eventos e zera o tempo da simulação.
      * Essencial para preparar o simulador para um novo dia.
+     * Os eventos descartados deixam de constar como agendados, então
+     * cancelá-los depois não conta como um cancelamento pendente.
      */
-    public static void resetar() {
-        eventos = new Lista<>();
+    public void resetar() {
+        while (!eventos.estaVazio()) {
+            eventos.removerProximo().marcarRetirado();
+        }
         tempoUltimoEvento = 0;
         ultimoEventoExecutado = null;
+        cancelamentosPendentes = 0;
+        eventosExecutados = 0;
+        eventosCancelados = 0;
+        proximaSequencia = 1;
+    }
+
+    /**
+     * Substitui a estrutura usada para armazenar os eventos pendentes.
+     * Os eventos já agendados no calendário anterior são descartados, por isso
+     * a troca deve ser feita antes do início da simulação.
+     *
+     * @param calendario A nova implementação de calendário.
+     * @throws IllegalArgumentException se o calendário for nulo.
+     */
+    public void definirCalendario(CalendarioEventos calendario) {
+        if (calendario == null) {
+            throw new IllegalArgumentException("Calendário não pode ser nulo");
+        }
+        eventos = calendario;
     }
 
     /**
@@ -81,7 +254,7 @@ public class AgendaEventos {
      *
      * @return O tempo do último evento em minutos.
      */
-    public static int getTempoUltimoEvento() {
+    public int getTempoUltimoEvento() {
         return tempoUltimoEvento;
     }
 
@@ -90,16 +263,96 @@ public class AgendaEventos {
      *
      * @return O último {@link Evento} executado.
      */
-    public static Evento getUltimoEventoExecutado() {
+    public Evento getUltimoEventoExecutado() {
         return ultimoEventoExecutado;
     }
 
+    /**
+     * Retorna quantos eventos foram executados desde o último reset.
+     *
+     * @return O número de eventos executados.
+     */
+    public int getEventosExecutados() {
+        return eventosExecutados;
+    }
+
+    /**
+     * Retorna quantos eventos foram cancelados desde o último reset.
+     *
+     * @return O número de eventos cancelados.
+     */
+    public int getEventosCancelados() {
+        return eventosCancelados;
+    }
+
+    /**
+     * Retorna o tempo do próximo evento do calendário. Se ele tiver sido
+     * cancelado, o valor é apenas um limite inferior para o próximo evento
+     * que será de fato executado.
+     *
+     * @return O tempo em minutos, ou {@link Integer#MAX_VALUE} se não houver eventos pendentes.
+     */
+    public int getTempoProximoEvento() {
+        return temEventos() ? eventos.verProximo().getTempo() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Retorna o próximo evento do calendário sem retirá-lo. Ele pode estar
+     * cancelado; nesse caso, a sua chave é apenas um limite inferior para a do
+     * próximo evento que será de fato executado.
+     *
+     * @return O primeiro evento do calendário, ou {@code null} se não houver eventos pendentes.
+     */
+    public Evento getProximoEvento() {
+        return temEventos() ? eventos.verProximo() : null;
+    }
+
+    /**
+     * Define quem pode desviar os eventos agendados nesta agenda para outro
+     * destino. Com {@code null}, todos os eventos ficam nesta agenda.
+     *
+     * @param encaminhador O encaminhador, ou {@code null}.
+     */
+    public void setEncaminhador(EncaminhadorEventos encaminhador) {
+        this.encaminhador = encaminhador;
+    }
+
+    /**
+     * Define quem acompanha a execução dos eventos desta agenda. Com
+     * {@code null}, nenhum monitor é avisado.
+     *
+     * @param monitor O monitor, ou {@code null}.
+     */
+    public void setMonitor(MonitorEventos monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * Define os contadores que medem a execução desta agenda. Eles não são
+     * zerados por {@link #resetar()}, então acumulam todos os dias simulados.
+     * Com {@code null}, a agenda não é medida.
+     *
+     * @param instrumentacao A instrumentação, ou {@code null}.
+     */
+    public void setInstrumentacao(InstrumentacaoAgenda instrumentacao) {
+        this.instrumentacao = instrumentacao;
+    }
+
+    /**
+     * Retorna os contadores que medem a execução desta agenda.
+     *
+     * @return A instrumentação, ou {@code null} se a agenda não está sendo medida.
+     */
+    public InstrumentacaoAgenda getInstrumentacao() {
+        return instrumentacao;
+    }
+
     /**
      * Verifica se ainda existem eventos pendentes na agenda a serem processados.
      *
-     * @return {@code true} se a lista de eventos não está vazia, {@code false} caso contrário.
+     * @return {@code true} se há eventos não cancelados no calendário, {@code false} caso contrário.
      */
-    public static boolean temEventos() {
-        return !eventos.estaVazia();
+    public boolean temEventos() {
+        return eventos.getTamanho() > cancelamentosPendentes;
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package simulador.eventos;
+
+/**
+ * Define a estrutura de armazenamento usada pela {@link AgendaEventos} para
+ * manter os eventos pendentes em ordem cronológica.
+ * Permite trocar a implementação (lista ordenada, heap, etc.) sem alterar
+ * o restante do simulador. O cancelamento de eventos não passa pelo calendário:
+ * a agenda apenas marca o evento e o descarta quando ele for removido.
+ */
+public interface CalendarioEventos {
+
+    /**
+     * Insere um evento no calendário.
+     *
+     * @param evento O evento a ser inserido.
+     */
+    void adicionar(Evento evento);
+
+    /**
+     * Remove e retorna o evento com o menor tempo.
+     *
+     * @return O próximo evento, ou {@code null} se o calendário estiver vazio.
+     */
+    Evento removerProximo();
+
+    /**
+     * Retorna o evento com o menor tempo sem removê-lo.
+     *
+     * @return O próximo evento, ou {@code null} se o calendário estiver vazio.
+     */
+    Evento verProximo();
+
+    /**
+     * Retorna a quantidade de eventos armazenados.
+     *
+     * @return O número de eventos no calendário.
+     */
+    int getTamanho();
+
+    /**
+     * Verifica se o calendário está vazio.
+     *
+     * @return {@code true} se não houver eventos.
+     */
+    boolean estaVazio();
+
+    /**
+     * Remove todos os eventos do calendário.
+     */
+    void limpar();
+}
@@ -0,0 +1,44 @@
+package simulador.eventos;
+
+import estruturas.filas.FilaPrioridade;
+
+/**
+ * Calendário de eventos baseado em um heap binário ({@link FilaPrioridade}).
+ * Inserção e remoção do próximo evento custam O(log n), o que mantém a
+ * agenda rápida mesmo com centenas de caminhões agendando eventos.
+ */
+public class CalendarioHeap implements CalendarioEventos {
+
+    /** O heap de eventos, ordenado pelo tempo, pela prioridade e pela sequência. */
+    private final FilaPrioridade<Evento> eventos = new FilaPrioridade<>(Evento::compareTo);
+
+    @Override
+    public void adicionar(Evento evento) {
+        eventos.adicionar(evento);
+    }
+
+    @Override
+    public Evento removerProximo() {
+        return eventos.removerMinimo();
+    }
+
+    @Override
+    public Evento verProximo() {
+        return eventos.getMinimo();
+    }
+
+    @Override
+    public int getTamanho() {
+        return eventos.getTamanho();
+    }
+
+    @Override
+    public boolean estaVazio() {
+        return eventos.estaVazia();
+    }
+
+    @Override
+    public void limpar() {
+        eventos.limpar();
+    }
+}
@@ -0,0 +1,45 @@
+package simulador.eventos;
+
+import estruturas.lista.Lista;
+
+/**
+ * Calendário de eventos baseado na lista duplamente encadeada ordenada.
+ * Cada inserção percorre a lista até a posição correta, custando O(n).
+ * Mantido como referência e para comparação com o {@link CalendarioHeap}.
+ */
+public class CalendarioLista implements CalendarioEventos {
+
+    /** A lista ordenada de eventos a serem processados. */
+    private Lista<Evento> eventos = new Lista<>();
+
+    @Override
+    public void adicionar(Evento evento) {
+        /** Adiciona o evento de forma ordenada, com a mesma ordem total do heap.*/
+        eventos.adicionarOrdenado(evento, Evento::compareTo);
+    }
+
+    @Override
+    public Evento removerProximo() {
+        return eventos.removerHead();
+    }
+
+    @Override
+    public Evento verProximo() {
+        return eventos.estaVazia() ? null : eventos.getValor(0);
+    }
+
+    @Override
+    public int getTamanho() {
+        return eventos.getTamanho();
+    }
+
+    @Override
+    public boolean estaVazio() {
+        return eventos.estaVazia();
+    }
+
+    @Override
+    public void limpar() {
+        eventos = new Lista<>();
+    }
+}
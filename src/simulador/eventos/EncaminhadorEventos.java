@@ -0,0 +1,32 @@
+package simulador.eventos;
+
+/**
+ * Permite que uma {@link AgendaEventos} entregue parte dos eventos agendados
+ * nela a outro destino, em vez de guardá-los no próprio calendário. É usado
+ * na execução particionada, em que cada estação de transferência tem a sua
+ * agenda e um caminhão que segue para uma zona de outra estação precisa ter o
+ * seu evento de coleta enviado para a agenda dessa estação.
+ */
+public interface EncaminhadorEventos {
+
+    /**
+     * Decide o destino de um evento que acaba de ser agendado.
+     *
+     * @param evento O evento, ainda não marcado como agendado.
+     * @return {@code true} se o encaminhador já cuidou do evento, levando-o
+     *         para outro destino ou agendando-o ele mesmo; {@code false} para
+     *         que a agenda o agende com o seu próximo número de sequência.
+     */
+    boolean encaminhar(Evento evento);
+
+    /**
+     * Cancela um evento que este encaminhador levou para outro destino.
+     *
+     * @param evento O evento a ser cancelado.
+     * @return {@code true} se o evento foi encontrado e cancelado aqui;
+     *         {@code false} para que a agenda trate o cancelamento.
+     */
+    default boolean cancelar(Evento evento) {
+        return false;
+    }
+}
@@ -1,12 +1,16 @@
 package simulador.eventos;
 
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
 
 /**
  * Classe abstrata que serve como base para todos os eventos da simulação.
  * Define a estrutura fundamental de um evento, que inclui um tempo para execução
  * e uma ação específica. A implementação da interface {@code Comparable} é
  * essencial para que a {@link AgendaEventos} possa ordenar os eventos cronologicamente.
+ * <p>
+ * A ordem é total: eventos do mesmo minuto são desempatados pela
+ * {@link PrioridadeEvento} e, depois, pelo número de sequência recebido ao
+ * serem agendados. Qualquer calendário produz, portanto, a mesma execução.
  */
 public abstract class Evento implements Comparable<Evento> {
 
@@ -15,6 +19,27 @@ public abstract class Evento implements Comparable<Evento> {
      */
     protected int tempo;
 
+    /** A classe de prioridade usada para desempatar eventos do mesmo minuto. */
+    private final PrioridadeEvento prioridade;
+
+    /** A ordem em que o evento foi agendado; atribuída pela {@link AgendaEventos}. */
+    private long sequencia;
+
+    /** Indica se o evento está no calendário aguardando execução. */
+    private boolean agendado;
+
+    /**
+     * Marca de cancelamento. Um evento cancelado continua no calendário,
+     * mas é descartado pela {@link AgendaEventos} quando chega a sua vez.
+     */
+    private boolean cancelado;
+
+    /** Próximo evento na lista de livres da {@link FabricaEventos}. */
+    Evento proximoLivre;
+
+    /** Indica se o evento está guardado na {@link FabricaEventos}, aguardando reutilização. */
+    boolean livre;
+
     /**
      * Cria um evento com um tempo de execução especificado.
      *
@@ -22,10 +47,40 @@ public abstract class Evento implements Comparable<Evento> {
      * @throws IllegalArgumentException se o tempo fornecido for negativo.
      */
     public Evento(int tempo) {
+        this(tempo, PrioridadeEvento.NORMAL);
+    }
+
+    /**
+     * Cria um evento com um tempo de execução e uma classe de prioridade.
+     *
+     * @param tempo      O tempo de execução do evento (em minutos).
+     * @param prioridade A classe usada para desempatar eventos do mesmo minuto.
+     * @throws IllegalArgumentException se o tempo for negativo ou a prioridade for nula.
+     */
+    protected Evento(int tempo, PrioridadeEvento prioridade) {
         if (tempo < 0) {
             throw new IllegalArgumentException("Tempo não pode ser negativo");
         }
+        if (prioridade == null) {
+            throw new IllegalArgumentException("Prioridade não pode ser nula");
+        }
         this.tempo = tempo;
+        this.prioridade = prioridade;
+    }
+
+    /**
+     * Prepara um evento reaproveitado para um novo agendamento.
+     *
+     * @param tempo O novo tempo de execução do evento (em minutos).
+     * @throws IllegalArgumentException se o tempo fornecido for negativo.
+     */
+    void reiniciar(int tempo) {
+        if (tempo < 0) {
+            throw new IllegalArgumentException("Tempo não pode ser negativo");
+        }
+        this.tempo = tempo;
+        agendado = false;
+        cancelado = false;
     }
 
     /**
@@ -37,21 +92,102 @@ public abstract class Evento implements Comparable<Evento> {
         return tempo;
     }
 
+    /**
+     * Retorna a classe de prioridade do evento.
+     *
+     * @return A prioridade usada no desempate.
+     */
+    public PrioridadeEvento getPrioridade() {
+        return prioridade;
+    }
+
+    /**
+     * Retorna o número de sequência recebido no último agendamento.
+     *
+     * @return A ordem de agendamento; zero se o evento nunca foi agendado.
+     */
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    /**
+     * Verifica se o evento está agendado e ainda não foi executado nem cancelado.
+     *
+     * @return {@code true} se o evento ainda será executado.
+     */
+    public boolean estaAgendado() {
+        return agendado && !cancelado;
+    }
+
+    /**
+     * Verifica se o evento ocupa um calendário, mesmo que cancelado: um evento
+     * cancelado só sai do calendário quando chega a sua vez.
+     *
+     * @return {@code true} se o evento foi agendado e ainda não foi retirado.
+     */
+    boolean estaNoCalendario() {
+        return agendado;
+    }
+
+    /**
+     * Verifica se o evento foi cancelado antes de ser executado.
+     *
+     * @return {@code true} se o evento foi cancelado.
+     */
+    public boolean isCancelado() {
+        return cancelado;
+    }
+
+    /**
+     * Marca o evento como presente no calendário, limpando um cancelamento anterior.
+     *
+     * @param sequencia O número de sequência atribuído pela agenda.
+     */
+    void marcarAgendado(long sequencia) {
+        this.sequencia = sequencia;
+        agendado = true;
+        cancelado = false;
+    }
+
+    /**
+     * Troca o número de sequência sem alterar as marcas de agendamento e de cancelamento.
+     *
+     * @param sequencia O novo número de sequência.
+     */
+    void renumerar(long sequencia) {
+        this.sequencia = sequencia;
+    }
+
+    /**
+     * Marca o evento como retirado do calendário.
+     */
+    void marcarRetirado() {
+        agendado = false;
+    }
+
+    /**
+     * Marca o evento como cancelado.
+     */
+    void marcarCancelado() {
+        cancelado = true;
+    }
+
     /**
      * Método abstrato que define a ação a ser realizada quando o evento ocorrer.
      * Cada subclasse (ex: {@link EventoColeta}) deve implementar sua própria lógica.
      *
-     * @param estatisticas O objeto de estatísticas do dia, que pode ser modificado pelo evento.
+     * @param contexto O contexto da simulação, que dá acesso à agenda e às estatísticas do dia.
      */
-    public abstract void executar(EstatisticasDia estatisticas);
+    public abstract void executar(ContextoSimulacao contexto);
 
     /**
-     * Compara este evento com outro com base no tempo de execução.
+     * Compara este evento com outro pelo tempo de execução, pela classe de
+     * prioridade e pelo número de sequência, nessa ordem.
      * Este método permite que a {@link AgendaEventos} ordene a lista de eventos.
      *
      * @param outro O {@link Evento} a ser comparado.
      * @return Um valor negativo se este evento ocorrer antes do outro,
-     * zero se ocorrerem ao mesmo tempo, ou um valor positivo se ocorrer depois.
+     * zero se for o mesmo agendamento, ou um valor positivo se ocorrer depois.
      * @throws NullPointerException se o outro evento for nulo.
      */
     @Override
@@ -59,6 +195,12 @@ public abstract class Evento implements Comparable<Evento> {
         if (outro == null) {
             throw new NullPointerException("Evento para comparação não pode ser null");
         }
-        return Integer.compare(this.tempo, outro.tempo);
+        if (this.tempo != outro.tempo) {
+            return Integer.compare(this.tempo, outro.tempo);
+        }
+        if (this.prioridade != outro.prioridade) {
+            return Integer.compare(this.prioridade.ordinal(), outro.prioridade.ordinal());
+        }
+        return Long.compare(this.sequencia, outro.sequencia);
     }
 }
\ No newline at end of file
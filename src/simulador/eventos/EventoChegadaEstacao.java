@@ -3,7 +3,7 @@ package simulador.eventos;
 import simulador.caminhoes.CaminhaoPequeno;
 import simulador.estacoes.EstacaoDeTransferencia;
 import simulador.configTempo.GerenciadorTempo;
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
 
 /**
  * Representa o momento exato em que um caminhão pequeno chega a uma estação de transferência.
@@ -26,11 +26,36 @@ public class EventoChegadaEstacao extends Evento {
      * @param caminhao O caminhão pequeno que está chegando.
      */
     public EventoChegadaEstacao(int tempo, EstacaoDeTransferencia estacao, CaminhaoPequeno caminhao) {
-        super(tempo);
+        super(tempo, PrioridadeEvento.ESTACAO);
+        definir(estacao, caminhao);
+    }
+
+    /**
+     * Troca os participantes do evento; usado pela {@link FabricaEventos}.
+     */
+    void definir(EstacaoDeTransferencia estacao, CaminhaoPequeno caminhao) {
         this.estacao = estacao;
         this.caminhao = caminhao;
     }
 
+    /**
+     * Retorna a estação de destino do caminhão.
+     *
+     * @return A estação do evento.
+     */
+    public EstacaoDeTransferencia getEstacao() {
+        return estacao;
+    }
+
+    /**
+     * Retorna o caminhão que está chegando.
+     *
+     * @return O caminhão do evento.
+     */
+    public CaminhaoPequeno getCaminhao() {
+        return caminhao;
+    }
+
     /**
      * Fornece uma representação textual do evento, útil para logs e depuração.
      *
@@ -53,7 +78,7 @@ public class EventoChegadaEstacao extends Evento {
      *
      */
     @Override
-    public void executar(EstatisticasDia estatisticas) {
+    public void executar(ContextoSimulacao contexto) {
         estacao.receberCaminhaoPequeno(caminhao, tempo);
     }
 }
\ No newline at end of file
@@ -3,7 +3,7 @@ package simulador.eventos;
 import simulador.caminhoes.CaminhaoPequeno;
 import simulador.configTempo.GerenciadorTempo;
 import simulador.zona.Zona;
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
 import simulador.zona.GerenciadorZonas;
 
 /**
@@ -31,12 +31,37 @@ public class EventoColeta extends Evento {
      * @param gerenciador O {@link GerenciadorZonas} para consulta de rotas e estações.
      */
     public EventoColeta(int tempo, CaminhaoPequeno caminhao, Zona zona, GerenciadorZonas gerenciador) {
-        super(tempo);
+        super(tempo, PrioridadeEvento.CAMINHAO);
+        definir(caminhao, zona, gerenciador);
+    }
+
+    /**
+     * Troca os participantes do evento; usado pela {@link FabricaEventos}.
+     */
+    void definir(CaminhaoPequeno caminhao, Zona zona, GerenciadorZonas gerenciador) {
         this.caminhao = caminhao;
         this.zonaAtual = zona;
         this.gerenciadorZonas = gerenciador;
     }
 
+    /**
+     * Retorna o caminhão que realizará a coleta.
+     *
+     * @return O caminhão do evento.
+     */
+    public CaminhaoPequeno getCaminhao() {
+        return caminhao;
+    }
+
+    /**
+     * Retorna a zona onde a coleta será tentada.
+     *
+     * @return A zona do evento.
+     */
+    public Zona getZona() {
+        return zonaAtual;
+    }
+
     /**
      * Retorna uma representação textual do evento para fins de log e depuração.
      *
@@ -55,10 +80,10 @@ public class EventoColeta extends Evento {
      * A responsabilidade da lógica é delegada ao método {@code realizarColeta} do caminhão,
      * passando todo o contexto necessário para que ele execute a operação.
      *
-     * @param estatisticas O objeto de estatísticas do dia, que será atualizado pelo caminhão.
+     * @param contexto O contexto da simulação, cujas estatísticas serão atualizadas pelo caminhão.
      */
     @Override
-    public void executar(EstatisticasDia estatisticas) {
-        this.caminhao.realizarColeta(getTempo(), this.zonaAtual, this.gerenciadorZonas, estatisticas);
+    public void executar(ContextoSimulacao contexto) {
+        this.caminhao.realizarColeta(getTempo(), this.zonaAtual, this.gerenciadorZonas, contexto);
     }
 }
\ No newline at end of file
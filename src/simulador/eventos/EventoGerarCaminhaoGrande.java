@@ -1,7 +1,8 @@
 package simulador.eventos;
 
 import simulador.estacoes.EstacaoDeTransferencia;
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
+import simulador.log.TipoRegistro;
 
 /**
  * Representa o evento que cria um novo caminhão grande em uma estação de transferência.
@@ -20,23 +21,32 @@ public class EventoGerarCaminhaoGrande extends Evento {
      * @param estacao A estação de transferência alvo.
      */
     public EventoGerarCaminhaoGrande(int tempo, EstacaoDeTransferencia estacao) {
-        super(tempo);
+        super(tempo, PrioridadeEvento.ESTACAO);
         this.estacao = estacao;
     }
 
+    /**
+     * Retorna a estação onde o caminhão grande será gerado.
+     *
+     * @return A estação do evento.
+     */
+    public EstacaoDeTransferencia getEstacao() {
+        return estacao;
+    }
+
     /**
      * Executa a ação de gerar um novo caminhão grande.
      * A ação só ocorre se a estação realmente não tiver um caminhão grande disponível
      * no momento da execução, evitando a criação desnecessária.
      *
-     * @param estatisticas O objeto de estatísticas do dia (não utilizado diretamente neste evento).
+     * @param contexto O contexto da simulação, usado para registrar a geração.
      */
     @Override
-    public void executar(EstatisticasDia estatisticas) {
+    public void executar(ContextoSimulacao contexto) {
         // Só gera um novo caminhão se a estação ainda precisar de um.
         if (estacao.temCaminhaoGrandeDisponivel()) return;
 
-        System.out.println("[GERAÇÃO] Tempo máximo de espera atingido. Criando caminhão grande.");
+        contexto.getRegistro().registrar(TipoRegistro.GERACAO_GRANDE);
         estacao.gerarNovoCaminhaoGrande(tempo);
     }
 }
\ No newline at end of file
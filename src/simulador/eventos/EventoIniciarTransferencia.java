@@ -1,13 +1,13 @@
 package simulador.eventos;
 
-import simulador.SimuladorGUI;
 import simulador.caminhoes.CaminhaoPequeno;
 import simulador.estacoes.EstacaoDeTransferencia;
 import simulador.configTempo.TempoDetalhado;
 import simulador.configTempo.GerenciadorTempo;
 import simulador.zona.GerenciadorZonas;
 import simulador.zona.Zona;
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
+import simulador.log.TipoRegistro;
 
 /**
  * Representa o início da viagem de um caminhão pequeno desde uma zona de coleta
@@ -17,11 +17,11 @@ import simulador.EstatisticasDia;
  */
 public class EventoIniciarTransferencia extends Evento {
     /** O caminhão que está se deslocando. */
-    private final CaminhaoPequeno caminhaoPequeno;
+    private CaminhaoPequeno caminhaoPequeno;
     /** A zona de onde o caminhão está partindo. */
-    private final Zona zonaOrigem;
+    private Zona zonaOrigem;
     /** O gerenciador de zonas, usado para encontrar a estação de destino. */
-    private final GerenciadorZonas gerenciadorZonas;
+    private GerenciadorZonas gerenciadorZonas;
 
     /**
      * Constrói um novo evento para iniciar a transferência de um caminhão.
@@ -32,12 +32,37 @@ public class EventoIniciarTransferencia extends Evento {
      * @param gerenciador     O {@link GerenciadorZonas} para determinar a estação de destino.
      */
     public EventoIniciarTransferencia(int tempoInicio, CaminhaoPequeno caminhaoPequeno, Zona zonaOrigem, GerenciadorZonas gerenciador) {
-        super(tempoInicio);
+        super(tempoInicio, PrioridadeEvento.CAMINHAO);
+        definir(caminhaoPequeno, zonaOrigem, gerenciador);
+    }
+
+    /**
+     * Troca os participantes do evento; usado pela {@link FabricaEventos}.
+     */
+    void definir(CaminhaoPequeno caminhaoPequeno, Zona zonaOrigem, GerenciadorZonas gerenciador) {
         this.caminhaoPequeno = caminhaoPequeno;
         this.zonaOrigem = zonaOrigem;
         this.gerenciadorZonas = gerenciador;
     }
 
+    /**
+     * Retorna o caminhão que está se deslocando.
+     *
+     * @return O caminhão do evento.
+     */
+    public CaminhaoPequeno getCaminhao() {
+        return caminhaoPequeno;
+    }
+
+    /**
+     * Retorna a zona de onde o caminhão está partindo.
+     *
+     * @return A zona de origem.
+     */
+    public Zona getZonaOrigem() {
+        return zonaOrigem;
+    }
+
     /**
      * Retorna uma representação textual do evento de transferência para logs.
      *
@@ -57,43 +82,31 @@ public class EventoIniciarTransferencia extends Evento {
      * (considerando trânsito e carga), atualiza a interface gráfica, e o mais importante,
      * agenda um {@link EventoChegadaEstacao} para o horário de chegada calculado.
      *
-     * @param estatisticas O objeto de estatísticas do dia (não utilizado diretamente aqui).
+     * @param contexto O contexto da simulação, cuja agenda recebe o evento de chegada.
      */
     @Override
-    public void executar(EstatisticasDia estatisticas) {
+    public void executar(ContextoSimulacao contexto) {
         EstacaoDeTransferencia estacaoDestino = this.gerenciadorZonas.getEstacaoPara(zonaOrigem);
 
         /** Atualiza a UI para mostrar que o caminhão está em trânsito**/
-        SimuladorGUI.atualizarCaminhao(caminhaoPequeno.getId(), "Indo p/ Estação " + estacaoDestino.getNomeEstacao(), estacaoDestino.getNomeEstacao());
+        contexto.getObservador().atualizarCaminhao(caminhaoPequeno.getId(), "Indo p/ Estação " + estacaoDestino.getNomeEstacao(), estacaoDestino.getNomeEstacao());
 
         /** Pausa a simulação para que a animação seja visível**/
-        SimuladorGUI.pausar();
+        contexto.getObservador().pausar();
 
         int tempoAtual = getTempo();
         int cargaAtual = caminhaoPequeno.getCargaAtual();
 
         /** Calcula os tempos de viagem **/
-        TempoDetalhado temposCalculados = GerenciadorTempo.calcularTempoDetalhado(tempoAtual, cargaAtual, true);
-
+        TempoDetalhado temposCalculados = GerenciadorTempo.calcularTempoDetalhado(tempoAtual, cargaAtual, true,
+                caminhaoPequeno.getAleatorio(), contexto.getParametros(), caminhaoPequeno.getTempos());
 
-        System.out.println("+--------------------------------------------------+");
-        System.out.println("|          TRANSFERÊNCIA PARA ESTAÇÃO              |");
-        System.out.println("+--------------------------------------------------+");
-        System.out.printf("| %-18s | %-28s |%n", "Horário Inicial", GerenciadorTempo.formatarHorarioSimulado(tempoAtual));
-        System.out.printf("| %-18s | %-28s |%n", "Caminhão", caminhaoPequeno.getId());
-        System.out.printf("| %-18s | %-28s |%n", "Estação Destino", estacaoDestino.getNomeEstacao());
-        System.out.printf("| %-18s | %-28s |%n", "Tempo de Trajeto", GerenciadorTempo.formatarDuracao(temposCalculados.tempoDeslocamento));
-        if (temposCalculados.tempoExtraCarregado > 0) {
-            System.out.printf("| %-18s | %-28s |%n", "Tempo Extra Carga", GerenciadorTempo.formatarDuracao(temposCalculados.tempoExtraCarregado));
-        }
-        System.out.printf("| %-18s | %-28s |%n", "Tempo Total", GerenciadorTempo.formatarDuracao(temposCalculados.tempoTotal));
-        System.out.printf("| %-18s | %-28s |%n", "Horário de Chegada", GerenciadorTempo.formatarHorarioSimulado(tempoAtual + temposCalculados.tempoTotal));
-        System.out.println("+--------------------------------------------------+");
-        System.out.println();
+        contexto.getRegistro().registrar(TipoRegistro.TRANSFERENCIA, caminhaoPequeno.getId(), estacaoDestino.getNomeEstacao(),
+                tempoAtual, temposCalculados.tempoDeslocamento, temposCalculados.tempoExtraCarregado, temposCalculados.tempoTotal, 0);
 
         // Agenda o evento de chegada na estação
-        AgendaEventos.adicionarEvento(
-                new EventoChegadaEstacao(
+        contexto.getAgenda().adicionarEvento(
+                contexto.getFabricaEventos().chegadaEstacao(
                         tempoAtual + temposCalculados.tempoTotal,
                         estacaoDestino,
                         caminhaoPequeno
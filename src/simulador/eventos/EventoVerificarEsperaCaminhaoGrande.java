@@ -1,8 +1,9 @@
 package simulador.eventos;
 
-import simulador.EstatisticasDia;
+import simulador.ContextoSimulacao;
 import simulador.caminhoes.CaminhaoGrande;
 import simulador.estacoes.EstacaoDeTransferencia;
+import simulador.log.TipoRegistro;
 
 /**
  * Representa um evento de verificação agendado para o caminhão grande.
@@ -26,40 +27,48 @@ public class EventoVerificarEsperaCaminhaoGrande extends Evento {
      * @param caminhao O {@link CaminhaoGrande} que é o alvo da verificação.
      */
     public EventoVerificarEsperaCaminhaoGrande(int tempo, EstacaoDeTransferencia estacao, CaminhaoGrande caminhao) {
-        super(tempo);
+        super(tempo, PrioridadeEvento.ESTACAO);
         this.estacao = estacao;
         this.caminhaoGrandeAlvo = caminhao;
     }
 
+    /**
+     * Retorna a estação onde a verificação ocorrerá.
+     *
+     * @return A estação do evento.
+     */
+    public EstacaoDeTransferencia getEstacao() {
+        return estacao;
+    }
+
+    /**
+     * Retorna o caminhão grande sob verificação.
+     *
+     * @return O caminhão grande do evento.
+     */
+    public CaminhaoGrande getCaminhaoGrande() {
+        return caminhaoGrandeAlvo;
+    }
+
     /**
      * Executa a lógica de verificação da tolerância de espera.
      * Se o caminhão grande alvo ainda estiver na estação, com carga parcial,
      * ele é despachado para o aterro, e um novo caminhão grande é providenciado.
      *
-     * @param estatisticas O objeto de estatísticas do dia (não utilizado diretamente neste evento).
+     * @param contexto O contexto da simulação, usado para registrar a partida.
      */
     @Override
-    public void executar(EstatisticasDia estatisticas) {
-        CaminhaoGrande caminhaoAtualNaEstacao = estacao.getCaminhaoGrandeAtual();
-
+    public void executar(ContextoSimulacao contexto) {
         // Condição para despachar:
-        // 1. O caminhão que acionou o evento ainda é o que está na estação.
+        // 1. O caminhão que acionou o evento ainda está no pátio da estação.
         // 2. Ele já recebeu alguma carga.
         // 3. Ele ainda não está completamente cheio.
-        if (caminhaoAtualNaEstacao == caminhaoGrandeAlvo && caminhaoAtualNaEstacao.getCargaAtual() > 0 && !caminhaoAtualNaEstacao.estaCheio()) {
-            System.out.println();
-            System.out.println("+--------------------------------------------------+");
-            System.out.println("|           TOLERÂNCIA DE ESPERA ATINGIDA          |");
-            System.out.println("+--------------------------------------------------+");
-            System.out.printf("| %-18s | %-28s |%n", "Estação", estacao.getNomeEstacao());
-            System.out.printf("| %-18s | %-28s |%n", "Caminhão Grande", caminhaoAtualNaEstacao.getId());
-            System.out.printf("| %-18s | %-28s |%n", "Ação", "Partindo com carga parcial");
-            System.out.printf("| %-18s | %-28s |%n", "Carga", caminhaoAtualNaEstacao.getCargaAtual() + " toneladas");
-            System.out.println("+--------------------------------------------------+");
-            System.out.println();
+        if (estacao.estaNoPatio(caminhaoGrandeAlvo) && caminhaoGrandeAlvo.getCargaAtual() > 0 && !caminhaoGrandeAlvo.estaCheio()) {
+            contexto.getRegistro().registrar(TipoRegistro.TOLERANCIA_ATINGIDA, estacao.getNomeEstacao(),
+                    caminhaoGrandeAlvo.getId(), caminhaoGrandeAlvo.getCargaAtual());
 
             // Manda o caminhão para o aterro e inicia o processo de colocar um novo no lugar.
-            estacao.despacharCaminhaoGrande(getTempo());
+            estacao.despacharCaminhaoGrande(caminhaoGrandeAlvo, getTempo());
         }
     }
 }
\ No newline at end of file
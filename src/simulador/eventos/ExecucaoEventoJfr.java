@@ -0,0 +1,30 @@
+package simulador.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento do Java Flight Recorder para uma execução de evento medida pela
+ * {@link InstrumentacaoAgenda}. Só as execuções sorteadas pela amostragem
+ * viram eventos, e a duração registrada é a da execução do evento.
+ */
+@Name("simulador.ExecucaoEvento")
+@Label("Execução de Evento")
+@Category("Simulador")
+@Description("Execução de um evento da simulação, amostrada pela instrumentação da agenda")
+class ExecucaoEventoJfr extends jdk.jfr.Event {
+
+    @Label("Tipo")
+    @Description("Classe do evento executado")
+    String tipo;
+
+    @Label("Tempo Simulado")
+    @Description("Minuto da simulação em que o evento ocorreu")
+    int tempoSimulado;
+
+    @Label("Profundidade do Calendário")
+    @Description("Eventos no calendário, inclusive cancelados, quando o evento foi executado")
+    int profundidadeCalendario;
+}
@@ -0,0 +1,169 @@
+package simulador.eventos;
+
+import simulador.caminhoes.CaminhaoPequeno;
+import simulador.estacoes.EstacaoDeTransferencia;
+import simulador.zona.GerenciadorZonas;
+import simulador.zona.Zona;
+
+/**
+ * Cria os eventos mais frequentes da simulação — coleta, início de
+ * transferência e chegada à estação — reaproveitando instâncias já executadas.
+ * <p>
+ * Depois de executar um evento, a {@link AgendaEventos} o devolve com
+ * {@link #devolver(Evento)}; os eventos desses três tipos voltam para uma lista
+ * de livres do seu tipo, com as referências limpas, e são entregues de novo na
+ * próxima criação. As listas são encadeadas pelo próprio evento, então nem a
+ * devolução nem a reutilização alocam memória. Cada contexto tem a sua
+ * fábrica, e ela não é segura para uso por várias threads.
+ * <p>
+ * Um evento devolvido não pode continuar referenciado por quem o criou: os
+ * três tipos reciclados são agendados e esquecidos, ao contrário dos eventos
+ * guardados para cancelamento (geração e verificação de caminhões grandes),
+ * que não passam pela fábrica.
+ */
+public class FabricaEventos {
+
+    private EventoColeta coletasLivres;
+    private EventoIniciarTransferencia transferenciasLivres;
+    private EventoChegadaEstacao chegadasLivres;
+
+    /** Se {@code false}, toda criação aloca e nada é guardado. */
+    private boolean reciclagemAtiva = true;
+
+    private long criados;
+    private long reaproveitados;
+
+    /**
+     * Obtém um evento de coleta.
+     *
+     * @param tempo       O tempo de simulação (em minutos) em que a coleta deve ocorrer.
+     * @param caminhao    O caminhão que realizará a coleta.
+     * @param zona        A zona onde a coleta será tentada.
+     * @param gerenciador O gerenciador de zonas.
+     * @return O evento pronto para ser agendado.
+     */
+    public EventoColeta coleta(int tempo, CaminhaoPequeno caminhao, Zona zona, GerenciadorZonas gerenciador) {
+        EventoColeta evento = coletasLivres;
+        if (evento == null) {
+            criados++;
+            return new EventoColeta(tempo, caminhao, zona, gerenciador);
+        }
+        coletasLivres = (EventoColeta) evento.proximoLivre;
+        evento.proximoLivre = null;
+        evento.livre = false;
+        reaproveitados++;
+        evento.reiniciar(tempo);
+        evento.definir(caminhao, zona, gerenciador);
+        return evento;
+    }
+
+    /**
+     * Obtém um evento de início de transferência.
+     *
+     * @param tempo       O tempo de simulação (em minutos) em que a viagem se inicia.
+     * @param caminhao    O caminhão que está se deslocando.
+     * @param zonaOrigem  A zona de onde o caminhão está partindo.
+     * @param gerenciador O gerenciador de zonas, para determinar a estação de destino.
+     * @return O evento pronto para ser agendado.
+     */
+    public EventoIniciarTransferencia iniciarTransferencia(int tempo, CaminhaoPequeno caminhao, Zona zonaOrigem,
+                                                           GerenciadorZonas gerenciador) {
+        EventoIniciarTransferencia evento = transferenciasLivres;
+        if (evento == null) {
+            criados++;
+            return new EventoIniciarTransferencia(tempo, caminhao, zonaOrigem, gerenciador);
+        }
+        transferenciasLivres = (EventoIniciarTransferencia) evento.proximoLivre;
+        evento.proximoLivre = null;
+        evento.livre = false;
+        reaproveitados++;
+        evento.reiniciar(tempo);
+        evento.definir(caminhao, zonaOrigem, gerenciador);
+        return evento;
+    }
+
+    /**
+     * Obtém um evento de chegada à estação.
+     *
+     * @param tempo    O tempo de simulação (em minutos) em que o caminhão chega.
+     * @param estacao  A estação de transferência de destino.
+     * @param caminhao O caminhão pequeno que está chegando.
+     * @return O evento pronto para ser agendado.
+     */
+    public EventoChegadaEstacao chegadaEstacao(int tempo, EstacaoDeTransferencia estacao, CaminhaoPequeno caminhao) {
+        EventoChegadaEstacao evento = chegadasLivres;
+        if (evento == null) {
+            criados++;
+            return new EventoChegadaEstacao(tempo, estacao, caminhao);
+        }
+        chegadasLivres = (EventoChegadaEstacao) evento.proximoLivre;
+        evento.proximoLivre = null;
+        evento.livre = false;
+        reaproveitados++;
+        evento.reiniciar(tempo);
+        evento.definir(estacao, caminhao);
+        return evento;
+    }
+
+    /**
+     * Devolve um evento que saiu do calendário. Eventos de outros tipos, ainda
+     * agendados ou já devolvidos são ignorados.
+     *
+     * @param evento O evento executado ou descartado.
+     */
+    public void devolver(Evento evento) {
+        if (!reciclagemAtiva || evento.estaAgendado() || evento.livre) return;
+        if (evento instanceof EventoColeta) {
+            EventoColeta coleta = (EventoColeta) evento;
+            coleta.definir(null, null, null);
+            coleta.proximoLivre = coletasLivres;
+            coleta.livre = true;
+            coletasLivres = coleta;
+        } else if (evento instanceof EventoIniciarTransferencia) {
+            EventoIniciarTransferencia transferencia = (EventoIniciarTransferencia) evento;
+            transferencia.definir(null, null, null);
+            transferencia.proximoLivre = transferenciasLivres;
+            transferencia.livre = true;
+            transferenciasLivres = transferencia;
+        } else if (evento instanceof EventoChegadaEstacao) {
+            EventoChegadaEstacao chegada = (EventoChegadaEstacao) evento;
+            chegada.definir(null, null);
+            chegada.proximoLivre = chegadasLivres;
+            chegada.livre = true;
+            chegadasLivres = chegada;
+        }
+    }
+
+    /**
+     * Liga ou desliga a reciclagem. Desligada, a fábrica aloca um evento novo a
+     * cada criação e descarta as listas de livres; útil para medir o ganho.
+     *
+     * @param ativa {@code true} para reaproveitar os eventos.
+     */
+    public void setReciclagemAtiva(boolean ativa) {
+        this.reciclagemAtiva = ativa;
+        if (!ativa) {
+            coletasLivres = null;
+            transferenciasLivres = null;
+            chegadasLivres = null;
+        }
+    }
+
+    /**
+     * Retorna quantos eventos foram alocados pela fábrica.
+     *
+     * @return O total de eventos novos.
+     */
+    public long getCriados() {
+        return criados;
+    }
+
+    /**
+     * Retorna quantas criações foram atendidas com eventos reaproveitados.
+     *
+     * @return O total de reaproveitamentos.
+     */
+    public long getReaproveitados() {
+        return reaproveitados;
+    }
+}
@@ -0,0 +1,337 @@
+package simulador.eventos;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Contadores de custo baixo sobre a execução de uma {@link AgendaEventos}:
+ * eventos executados e cancelados por tipo, profundidade máxima e média do
+ * calendário e o tempo de parede gasto em cada tipo de evento.
+ * <p>
+ * Contar é barato e é feito em todo evento; medir o tempo não, por isso só
+ * uma a cada {@link #getAmostragem()} execuções é cronometrada, e o custo de
+ * um tipo é estimado pela média das suas amostras. Cada execução medida vira
+ * também um evento {@code simulador.ExecucaoEvento} do Java Flight Recorder,
+ * e a cada intervalo de resumo é emitido um {@code simulador.ResumoAgenda},
+ * escrito também em texto se houver uma saída de resumo. Fora de uma gravação
+ * do JFR, os eventos do JFR não custam nada além da medição.
+ * <p>
+ * Não é seguro para uso concorrente: cada agenda deve ter a sua instrumentação.
+ *
+ * @see AgendaEventos#setInstrumentacao(InstrumentacaoAgenda)
+ */
+public class InstrumentacaoAgenda {
+
+    /** Por padrão, uma a cada 64 execuções é cronometrada. */
+    public static final int AMOSTRAGEM_PADRAO = 64;
+
+    /** Intervalo padrão entre resumos periódicos: um segundo. */
+    public static final long INTERVALO_RESUMO_PADRAO_NANOS = 1_000_000_000L;
+
+    private final int amostragem;
+    private final long intervaloResumoNanos;
+    private PrintStream saidaResumo;
+
+    /* Tipos de evento já vistos e os contadores de cada um, na mesma posição. */
+    private Class<?>[] tipos = new Class<?>[8];
+    private long[] executadosPorTipo = new long[8];
+    private long[] canceladosPorTipo = new long[8];
+    private long[] amostrasPorTipo = new long[8];
+    private long[] nanosPorTipo = new long[8];
+    private int quantidadeTipos;
+
+    private long eventosExecutados;
+    private long eventosCancelados;
+    private long somaProfundidade;
+    private int profundidadeMaxima;
+
+    /* Execução sendo cronometrada, ou -1. */
+    private int tipoMedido = -1;
+    private long inicioMedicao;
+    private ExecucaoEventoJfr execucaoJfr;
+    private int ateProximaAmostra;
+
+    /* Instantes de parede da primeira execução e do último resumo. */
+    private long inicioNanos;
+    private long ultimoResumoNanos;
+    private long executadosNoUltimoResumo;
+
+    /**
+     * Cria uma instrumentação com a amostragem e o intervalo de resumo padrões.
+     */
+    public InstrumentacaoAgenda() {
+        this(AMOSTRAGEM_PADRAO, INTERVALO_RESUMO_PADRAO_NANOS);
+    }
+
+    /**
+     * Cria uma instrumentação.
+     *
+     * @param amostragem           Cronometra uma a cada {@code amostragem} execuções; 1 mede todas.
+     * @param intervaloResumoNanos O intervalo de parede entre resumos periódicos, em nanossegundos.
+     * @throws IllegalArgumentException se a amostragem ou o intervalo não forem positivos.
+     */
+    public InstrumentacaoAgenda(int amostragem, long intervaloResumoNanos) {
+        if (amostragem <= 0) {
+            throw new IllegalArgumentException("A amostragem deve ser positiva");
+        }
+        if (intervaloResumoNanos <= 0) {
+            throw new IllegalArgumentException("O intervalo de resumo deve ser positivo");
+        }
+        this.amostragem = amostragem;
+        this.intervaloResumoNanos = intervaloResumoNanos;
+        this.ateProximaAmostra = amostragem;
+    }
+
+    /**
+     * Define onde os resumos periódicos são escritos em texto, além do JFR.
+     *
+     * @param saida O destino, ou {@code null} para não escrever.
+     */
+    public void setSaidaResumo(PrintStream saida) {
+        this.saidaResumo = saida;
+    }
+
+    /**
+     * Conta a execução de um evento e, se for a vez de uma amostra, começa a
+     * cronometrá-la. Chamado pela agenda logo antes de executar o evento.
+     */
+    void antesDeExecutar(Evento evento, int profundidade) {
+        int tipo = indiceTipo(evento.getClass());
+        executadosPorTipo[tipo]++;
+        if (eventosExecutados++ == 0) {
+            inicioNanos = System.nanoTime();
+            ultimoResumoNanos = inicioNanos;
+        }
+        somaProfundidade += profundidade;
+        if (profundidade > profundidadeMaxima) {
+            profundidadeMaxima = profundidade;
+        }
+        if (--ateProximaAmostra == 0) {
+            ateProximaAmostra = amostragem;
+            tipoMedido = tipo;
+            execucaoJfr = new ExecucaoEventoJfr();
+            execucaoJfr.profundidadeCalendario = profundidade;
+            execucaoJfr.begin();
+            inicioMedicao = System.nanoTime();
+        }
+    }
+
+    /**
+     * Encerra a medição em andamento, se houver, e emite o resumo periódico
+     * quando o intervalo tiver passado. Chamado pela agenda logo depois de
+     * executar o evento.
+     */
+    void depoisDeExecutar(Evento evento) {
+        if (tipoMedido < 0) {
+            return;
+        }
+        long agora = System.nanoTime();
+        amostrasPorTipo[tipoMedido]++;
+        nanosPorTipo[tipoMedido] += agora - inicioMedicao;
+        execucaoJfr.end();
+        if (execucaoJfr.shouldCommit()) {
+            execucaoJfr.tipo = tipos[tipoMedido].getSimpleName();
+            execucaoJfr.tempoSimulado = evento.getTempo();
+            execucaoJfr.commit();
+        }
+        execucaoJfr = null;
+        tipoMedido = -1;
+        if (agora - ultimoResumoNanos >= intervaloResumoNanos) {
+            emitirResumo(agora);
+        }
+    }
+
+    /** Conta o cancelamento de um evento. Chamado pela agenda. */
+    void registrarCancelamento(Evento evento) {
+        eventosCancelados++;
+        canceladosPorTipo[indiceTipo(evento.getClass())]++;
+    }
+
+    private void emitirResumo(long agora) {
+        double segundos = (agora - ultimoResumoNanos) / 1e9;
+        double taxa = segundos > 0 ? (eventosExecutados - executadosNoUltimoResumo) / segundos : 0;
+        ultimoResumoNanos = agora;
+        executadosNoUltimoResumo = eventosExecutados;
+
+        ResumoAgendaJfr resumo = new ResumoAgendaJfr();
+        if (resumo.shouldCommit()) {
+            resumo.eventosExecutados = eventosExecutados;
+            resumo.eventosPorSegundo = taxa;
+            resumo.eventosCancelados = eventosCancelados;
+            resumo.profundidadeMaxima = profundidadeMaxima;
+            resumo.profundidadeMedia = getProfundidadeMedia();
+            resumo.commit();
+        }
+        if (saidaResumo != null) {
+            StringBuilder linha = new StringBuilder();
+            linha.append(String.format("[agenda] %.1f s | %d eventos (%.0f/s) | %d cancelados | calendário máx %d, média %.1f",
+                    (agora - inicioNanos) / 1e9, eventosExecutados, taxa, eventosCancelados,
+                    profundidadeMaxima, getProfundidadeMedia()));
+            for (int i = 0; i < quantidadeTipos; i++) {
+                linha.append(String.format(" | %s %d ~%.0f ns", tipos[i].getSimpleName(), executadosPorTipo[i],
+                        nanosMedios(i)));
+            }
+            saidaResumo.println(linha);
+        }
+    }
+
+    /** Retorna a posição do tipo nos contadores, incluindo-o se ainda não foi visto. */
+    private int indiceTipo(Class<?> tipo) {
+        for (int i = 0; i < quantidadeTipos; i++) {
+            if (tipos[i] == tipo) {
+                return i;
+            }
+        }
+        if (quantidadeTipos == tipos.length) {
+            int capacidade = 2 * tipos.length;
+            tipos = Arrays.copyOf(tipos, capacidade);
+            executadosPorTipo = Arrays.copyOf(executadosPorTipo, capacidade);
+            canceladosPorTipo = Arrays.copyOf(canceladosPorTipo, capacidade);
+            amostrasPorTipo = Arrays.copyOf(amostrasPorTipo, capacidade);
+            nanosPorTipo = Arrays.copyOf(nanosPorTipo, capacidade);
+        }
+        tipos[quantidadeTipos] = tipo;
+        return quantidadeTipos++;
+    }
+
+    private int buscarTipo(Class<? extends Evento> tipo) {
+        for (int i = 0; i < quantidadeTipos; i++) {
+            if (tipos[i] == tipo) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private double nanosMedios(int tipo) {
+        return amostrasPorTipo[tipo] == 0 ? 0 : (double) nanosPorTipo[tipo] / amostrasPorTipo[tipo];
+    }
+
+    /**
+     * Retorna a taxa de amostragem da medição de tempo.
+     *
+     * @return Quantas execuções há para cada uma cronometrada.
+     */
+    public int getAmostragem() {
+        return amostragem;
+    }
+
+    /**
+     * Retorna quantos eventos foram executados desde a criação ou o último reset.
+     *
+     * @return O número de eventos executados.
+     */
+    public long getEventosExecutados() {
+        return eventosExecutados;
+    }
+
+    /**
+     * Retorna quantos eventos foram cancelados desde a criação ou o último reset.
+     *
+     * @return O número de eventos cancelados.
+     */
+    public long getEventosCancelados() {
+        return eventosCancelados;
+    }
+
+    /**
+     * Retorna o maior tamanho do calendário visto ao executar um evento,
+     * contando os cancelados que ainda o ocupavam.
+     *
+     * @return A profundidade máxima.
+     */
+    public int getProfundidadeMaxima() {
+        return profundidadeMaxima;
+    }
+
+    /**
+     * Retorna o tamanho médio do calendário ao executar um evento.
+     *
+     * @return A profundidade média, ou zero se nada foi executado.
+     */
+    public double getProfundidadeMedia() {
+        return eventosExecutados == 0 ? 0 : (double) somaProfundidade / eventosExecutados;
+    }
+
+    /**
+     * Retorna quantos eventos de um tipo foram executados.
+     *
+     * @param tipo A classe do evento.
+     * @return O número de execuções.
+     */
+    public long getExecutados(Class<? extends Evento> tipo) {
+        int i = buscarTipo(tipo);
+        return i < 0 ? 0 : executadosPorTipo[i];
+    }
+
+    /**
+     * Retorna quantos eventos de um tipo foram cancelados.
+     *
+     * @param tipo A classe do evento.
+     * @return O número de cancelamentos.
+     */
+    public long getCancelados(Class<? extends Evento> tipo) {
+        int i = buscarTipo(tipo);
+        return i < 0 ? 0 : canceladosPorTipo[i];
+    }
+
+    /**
+     * Retorna o tempo médio de parede de uma execução de um tipo de evento,
+     * segundo as execuções cronometradas.
+     *
+     * @param tipo A classe do evento.
+     * @return O tempo médio em nanossegundos, ou zero se não houve amostras.
+     */
+    public double getNanosMedios(Class<? extends Evento> tipo) {
+        int i = buscarTipo(tipo);
+        return i < 0 ? 0 : nanosMedios(i);
+    }
+
+    /**
+     * Exibe uma tabela com os totais e, para cada tipo de evento, as
+     * execuções, os cancelamentos, o tempo médio e a parcela estimada do tempo
+     * total (execuções vezes tempo médio).
+     *
+     * @param saida O destino do texto.
+     */
+    public void imprimir(PrintStream saida) {
+        double segundos = eventosExecutados == 0 ? 0 : (System.nanoTime() - inicioNanos) / 1e9;
+        double estimadoTotal = 0;
+        for (int i = 0; i < quantidadeTipos; i++) {
+            estimadoTotal += executadosPorTipo[i] * nanosMedios(i);
+        }
+        saida.println("+------------------------------------------------------------------------------------------+");
+        saida.printf("| %-88s |%n", String.format("AGENDA: %d eventos em %.2f s (%.0f/s) | %d cancelados",
+                eventosExecutados, segundos, segundos > 0 ? eventosExecutados / segundos : 0, eventosCancelados));
+        saida.printf("| %-88s |%n", String.format("Calendário: profundidade máxima %d, média %.1f | amostragem 1/%d",
+                profundidadeMaxima, getProfundidadeMedia(), amostragem));
+        saida.println("+------------------------------------------------------------------------------------------+");
+        saida.printf("| %-36s | %11s | %10s | %11s | %8s |%n", "Tipo", "Executados", "Cancelados", "Média (ns)", "Tempo");
+        for (int i = 0; i < quantidadeTipos; i++) {
+            double parcela = estimadoTotal > 0 ? 100 * executadosPorTipo[i] * nanosMedios(i) / estimadoTotal : 0;
+            saida.printf("| %-36s | %11d | %10d | %11.0f | %7.1f%% |%n", tipos[i].getSimpleName(),
+                    executadosPorTipo[i], canceladosPorTipo[i], nanosMedios(i), parcela);
+        }
+        saida.println("+------------------------------------------------------------------------------------------+");
+    }
+
+    /**
+     * Zera todos os contadores, mantendo a amostragem, o intervalo e a saída de resumo.
+     */
+    public void resetar() {
+        quantidadeTipos = 0;
+        Arrays.fill(tipos, null);
+        Arrays.fill(executadosPorTipo, 0);
+        Arrays.fill(canceladosPorTipo, 0);
+        Arrays.fill(amostrasPorTipo, 0);
+        Arrays.fill(nanosPorTipo, 0);
+        eventosExecutados = 0;
+        eventosCancelados = 0;
+        somaProfundidade = 0;
+        profundidadeMaxima = 0;
+        tipoMedido = -1;
+        execucaoJfr = null;
+        ateProximaAmostra = amostragem;
+        executadosNoUltimoResumo = 0;
+    }
+}
@@ -0,0 +1,29 @@
+package simulador.eventos;
+
+import simulador.ContextoSimulacao;
+
+/**
+ * Acompanha a execução dos eventos de uma {@link AgendaEventos}, sem
+ * interferir nela. A agenda avisa o monitor imediatamente antes e depois de
+ * cada evento executado; eventos cancelados não são informados.
+ *
+ * @see AgendaEventos#setMonitor(MonitorEventos)
+ */
+public interface MonitorEventos {
+
+    /**
+     * Chamado antes da execução de um evento.
+     *
+     * @param evento   O evento que vai ser executado.
+     * @param contexto O contexto em que ele será executado.
+     */
+    void antesDeExecutar(Evento evento, ContextoSimulacao contexto);
+
+    /**
+     * Chamado logo depois da execução de um evento, antes do próximo.
+     *
+     * @param evento   O evento que acabou de ser executado.
+     * @param contexto O contexto em que ele foi executado.
+     */
+    void depoisDeExecutar(Evento evento, ContextoSimulacao contexto);
+}
@@ -1,6 +1,8 @@
 package simulador.eventos;
 
-import estruturas.lista.Lista;
+import estruturas.lista.EstruturaLista;
+import estruturas.lista.ListaArray;
+import simulador.ContextoSimulacao;
 import simulador.caminhoes.CaminhaoPequeno;
 import simulador.zona.GerenciadorZonas;
 import simulador.zona.Zona;
@@ -8,7 +10,8 @@ import simulador.zona.Zona;
 /**
  * Responsável por criar a frota inicial de caminhões pequenos para um dia de simulação.
  * Atua como uma "fábrica" que não apenas instancia os caminhões, mas também lhes
- * atribui rotas balanceadas e agenda sua primeira tarefa de coleta na {@link AgendaEventos}.
+ * atribui rotas balanceadas e agenda sua primeira tarefa de coleta na {@link AgendaEventos}
+ * do contexto da simulação.
  */
 public class PlanejadorDeRotas {
     /**
@@ -20,14 +23,15 @@ public class PlanejadorDeRotas {
      * @param viagensPorCaminhao  O número de viagens que cada caminhão pode realizar por dia.
      * @param capacidadeCaminhao  A capacidade de carga (em toneladas) de cada caminhão.
      * @param gerenciador         A instância do {@link GerenciadorZonas}, necessária para agendar os eventos.
-     * @return Uma {@code Lista<CaminhaoPequeno>} com todos os caminhões recém-criados.
+     * @param contexto            O contexto da simulação, cuja agenda recebe os eventos de coleta.
+     * @return Uma {@code EstruturaLista<CaminhaoPequeno>} com todos os caminhões recém-criados.
      */
-    public static Lista<CaminhaoPequeno> distribuir(Lista<Zona> zonas, int quantidadeCaminhoes, int viagensPorCaminhao, int capacidadeCaminhao, GerenciadorZonas gerenciador) {
-        Lista<CaminhaoPequeno> caminhoes = new Lista<>();
+    public static EstruturaLista<CaminhaoPequeno> distribuir(EstruturaLista<Zona> zonas, int quantidadeCaminhoes, int viagensPorCaminhao, int capacidadeCaminhao, GerenciadorZonas gerenciador, ContextoSimulacao contexto) {
+        EstruturaLista<CaminhaoPequeno> caminhoes = new ListaArray<>(quantidadeCaminhoes);
         int quantidadeZonas = zonas.getTamanho();
 
         for (int i = 0; i < quantidadeCaminhoes; i++) {
-            Lista<Zona> rotaCaminhao = new Lista<>();
+            EstruturaLista<Zona> rotaCaminhao = new ListaArray<>(viagensPorCaminhao);
 
             /** Atribui zonas de forma cíclica para balancear as rotas entre os caminhões.
              * A fórmula (i + j) % quantidadeZonas garante que cada caminhão comece
@@ -40,10 +44,11 @@ public class PlanejadorDeRotas {
 
             String id = "C" + (i + 1);
 
-            CaminhaoPequeno caminhao = new CaminhaoPequeno(id, capacidadeCaminhao, viagensPorCaminhao, rotaCaminhao);
+            CaminhaoPequeno caminhao = new CaminhaoPequeno(id, capacidadeCaminhao, viagensPorCaminhao, rotaCaminhao,
+                    contexto.getAleatorio().dividir());
             caminhoes.adicionar(i, caminhao);
 
-            AgendaEventos.adicionarEvento(new EventoColeta(0, caminhao, caminhao.getZonaAlvo(), gerenciador));
+            contexto.getAgenda().adicionarEvento(contexto.getFabricaEventos().coleta(0, caminhao, caminhao.getZonaAlvo(), gerenciador));
         }
 
         return caminhoes;
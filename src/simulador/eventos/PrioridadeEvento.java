@@ -0,0 +1,23 @@
+package simulador.eventos;
+
+/**
+ * Classes de prioridade que desempatam eventos marcados para o mesmo minuto.
+ * A {@link AgendaEventos} executa primeiro o tempo menor; no mesmo tempo, a
+ * classe declarada antes; e, dentro da mesma classe, a ordem de agendamento.
+ * Assim a sequência de execução não depende da estrutura do calendário.
+ */
+public enum PrioridadeEvento {
+
+    /**
+     * Eventos das estações de transferência: chegadas de caminhões pequenos e
+     * movimentação dos caminhões grandes. Rodam antes das partidas para que a
+     * estação já esteja atualizada quando um caminhão sair naquele minuto.
+     */
+    ESTACAO,
+
+    /** Eventos sem classe definida. */
+    NORMAL,
+
+    /** Partidas de caminhões pequenos: coletas e inícios de transferência. */
+    CAMINHAO
+}
@@ -0,0 +1,34 @@
+package simulador.eventos;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento do Java Flight Recorder com o resumo periódico de uma
+ * {@link InstrumentacaoAgenda}: os totais acumulados até o momento e a taxa
+ * de eventos desde o resumo anterior.
+ */
+@Name("simulador.ResumoAgenda")
+@Label("Resumo da Agenda")
+@Category("Simulador")
+@Description("Resumo periódico da execução da agenda de eventos")
+class ResumoAgendaJfr extends jdk.jfr.Event {
+
+    @Label("Eventos Executados")
+    long eventosExecutados;
+
+    @Label("Eventos por Segundo")
+    @Description("Taxa de execução desde o resumo anterior")
+    double eventosPorSegundo;
+
+    @Label("Eventos Cancelados")
+    long eventosCancelados;
+
+    @Label("Profundidade Máxima")
+    int profundidadeMaxima;
+
+    @Label("Profundidade Média")
+    double profundidadeMedia;
+}
@@ -0,0 +1,78 @@
+package simulador.experimentos;
+
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
+
+/**
+ * Custo relativo de cada tipo de caminhão, usado para comparar frotas.
+ * Os valores não têm unidade: só importa a proporção entre eles. O custo
+ * padrão é a capacidade em toneladas, o que faz o otimizador procurar a
+ * frota com a menor capacidade total.
+ */
+public final class CustoFrota {
+
+    private final double custo2t;
+    private final double custo4t;
+    private final double custo8t;
+    private final double custo10t;
+    private final double custoGrande;
+
+    /**
+     * Cria um modelo de custo.
+     *
+     * @param custo2t     Custo de um caminhão de 2t.
+     * @param custo4t     Custo de um caminhão de 4t.
+     * @param custo8t     Custo de um caminhão de 8t.
+     * @param custo10t    Custo de um caminhão de 10t.
+     * @param custoGrande Custo de um caminhão grande criado durante o dia.
+     * @throws IllegalArgumentException se algum custo for negativo.
+     */
+    public CustoFrota(double custo2t, double custo4t, double custo8t, double custo10t, double custoGrande) {
+        if (custo2t < 0 || custo4t < 0 || custo8t < 0 || custo10t < 0 || custoGrande < 0) {
+            throw new IllegalArgumentException("Custos não podem ser negativos");
+        }
+        this.custo2t = custo2t;
+        this.custo4t = custo4t;
+        this.custo8t = custo8t;
+        this.custo10t = custo10t;
+        this.custoGrande = custoGrande;
+    }
+
+    /**
+     * Retorna o modelo em que cada caminhão custa a sua capacidade em
+     * toneladas, com os caminhões grandes de 20t.
+     *
+     * @param parametros Os parâmetros de onde vêm as capacidades dos caminhões pequenos.
+     * @return O modelo de custo.
+     */
+    public static CustoFrota porCapacidade(ParametrosSimulacao parametros) {
+        return new CustoFrota(parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_2T),
+                parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_4T),
+                parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_8T),
+                parametros.getInt(Parametro.CAPACIDADE_CAMINHOES_10T),
+                20);
+    }
+
+    /**
+     * Calcula o custo dos caminhões pequenos de um cenário.
+     *
+     * @param parametros Os parâmetros do cenário.
+     * @return O custo da frota de caminhões pequenos.
+     */
+    public double custoPequenos(ParametrosSimulacao parametros) {
+        return custo2t * parametros.getInt(Parametro.QTD_CAMINHOES_2T)
+                + custo4t * parametros.getInt(Parametro.QTD_CAMINHOES_4T)
+                + custo8t * parametros.getInt(Parametro.QTD_CAMINHOES_8T)
+                + custo10t * parametros.getInt(Parametro.QTD_CAMINHOES_10T);
+    }
+
+    /**
+     * Calcula o custo de uma quantidade de caminhões grandes.
+     *
+     * @param caminhoes A quantidade (pode ser uma média entre replicações).
+     * @return O custo dos caminhões grandes.
+     */
+    public double custoGrandes(double caminhoes) {
+        return custoGrande * caminhoes;
+    }
+}
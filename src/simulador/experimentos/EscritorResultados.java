@@ -0,0 +1,94 @@
+package simulador.experimentos;
+
+import simulador.ResumoDia;
+import simulador.configuracao.Parametro;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Grava os resultados de uma varredura em CSV, uma linha por dia simulado,
+ * à medida que as simulações terminam. Cada linha traz o índice do cenário e
+ * da replicação, a semente, os valores dos fatores do plano e o
+ * {@link ResumoDia} do dia, de modo que o arquivo pode ser lido por qualquer
+ * planilha ou biblioteca de análise sem depender da ordem das linhas.
+ * <p>
+ * As linhas de uma mesma simulação são escritas juntas e o arquivo é
+ * esvaziado depois de cada simulação: se a varredura for interrompida, os
+ * resultados já concluídos estão no disco.
+ */
+public class EscritorResultados implements Closeable {
+
+    private final BufferedWriter saida;
+    private final PlanoExperimento plano;
+
+    /* Reaproveitado entre as linhas para montar cada simulação antes de escrever. */
+    private final StringBuilder linhas = new StringBuilder();
+
+    /**
+     * Cria o escritor e grava o cabeçalho.
+     *
+     * @param saida O destino do CSV.
+     * @param plano O plano cujos fatores viram colunas.
+     * @throws IOException se o cabeçalho não puder ser escrito.
+     */
+    public EscritorResultados(Writer saida, PlanoExperimento plano) throws IOException {
+        this.saida = saida instanceof BufferedWriter ? (BufferedWriter) saida : new BufferedWriter(saida);
+        this.plano = plano;
+
+        StringBuilder cabecalho = new StringBuilder("cenario,replicacao,semente");
+        for (int f = 0; f < plano.getQuantidadeFatores(); f++) {
+            cabecalho.append(',').append(plano.getFator(f).getParametro().name());
+        }
+        cabecalho.append(",dia,lixo_coletado,viagens_coleta,tempo_encerramento,caminhoes_grandes,lixo_restante");
+        this.saida.write(cabecalho.toString());
+        this.saida.newLine();
+        this.saida.flush();
+    }
+
+    /**
+     * Grava os resultados de uma simulação. Pode ser chamado por várias threads.
+     *
+     * @param cenario    O índice do cenário no plano.
+     * @param replicacao O índice da replicação.
+     * @param semente    A semente usada na simulação.
+     * @param resumos    Os resumos diários da simulação.
+     * @throws IOException se a escrita falhar.
+     */
+    public synchronized void escrever(int cenario, int replicacao, long semente, ResumoDia[] resumos) throws IOException {
+        linhas.setLength(0);
+        for (ResumoDia resumo : resumos) {
+            linhas.append(cenario).append(',').append(replicacao).append(',').append(semente);
+            for (int f = 0; f < plano.getQuantidadeFatores(); f++) {
+                Parametro parametro = plano.getFator(f).getParametro();
+                linhas.append(',');
+                if (parametro.isInteiro()) {
+                    linhas.append(plano.getCenario(cenario).getInt(parametro));
+                } else {
+                    linhas.append(plano.getCenario(cenario).getDouble(parametro));
+                }
+            }
+            linhas.append(',').append(resumo.getDia())
+                    .append(',').append(resumo.getLixoColetado())
+                    .append(',').append(resumo.getViagensColeta())
+                    .append(',').append(resumo.getTempoEncerramento())
+                    .append(',').append(resumo.getCaminhoesGrandesCriados())
+                    .append(',').append(resumo.getLixoRestante())
+                    .append(System.lineSeparator());
+        }
+        saida.append(linhas);
+        saida.flush();
+    }
+
+    /**
+     * Esvazia e fecha o destino.
+     *
+     * @throws IOException se o fechamento falhar.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        saida.close();
+    }
+}
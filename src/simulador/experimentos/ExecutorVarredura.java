@@ -0,0 +1,131 @@
+package simulador.experimentos;
+
+import simulador.ResumoDia;
+import simulador.replicacao.ExecutorReplicacoes;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Executa todos os cenários de um {@link PlanoExperimento}, cada um com várias
+ * replicações, distribuindo as simulações entre os processadores.
+ * <p>
+ * As simulações (cenário × replicação) formam uma única lista de tarefas,
+ * dividida em um {@link ForkJoinPool} como no {@link ExecutorReplicacoes}, e
+ * os resultados vão para o {@link EscritorResultados} assim que cada simulação
+ * termina. A replicação {@code r} usa a mesma semente em todos os cenários
+ * (números aleatórios comuns): as diferenças entre cenários vêm dos
+ * parâmetros, não do sorteio.
+ */
+public class ExecutorVarredura {
+
+    /** Quantidade de dias simulados em cada replicação. */
+    private final int dias;
+
+    /** Quantidade de replicações de cada cenário. */
+    private final int replicacoes;
+
+    /** Semente a partir da qual as sementes das replicações são derivadas. */
+    private final long sementeBase;
+
+    /** Número de threads usadas na execução. */
+    private final int paralelismo;
+
+    /**
+     * Cria um executor que usa todos os processadores disponíveis.
+     *
+     * @param dias        O número de dias de cada replicação.
+     * @param replicacoes O número de replicações de cada cenário.
+     * @param sementeBase A semente base do experimento.
+     */
+    public ExecutorVarredura(int dias, int replicacoes, long sementeBase) {
+        this(dias, replicacoes, sementeBase, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Cria um executor com o nível de paralelismo informado.
+     *
+     * @param dias        O número de dias de cada replicação.
+     * @param replicacoes O número de replicações de cada cenário.
+     * @param sementeBase A semente base do experimento.
+     * @param paralelismo O número de threads a serem usadas.
+     * @throws IllegalArgumentException se dias, replicações ou paralelismo não forem positivos.
+     */
+    public ExecutorVarredura(int dias, int replicacoes, long sementeBase, int paralelismo) {
+        if (dias <= 0 || replicacoes <= 0 || paralelismo <= 0) {
+            throw new IllegalArgumentException("Dias, replicações e paralelismo devem ser positivos");
+        }
+        this.dias = dias;
+        this.replicacoes = replicacoes;
+        this.sementeBase = sementeBase;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Simula todos os cenários do plano e grava os resultados.
+     *
+     * @param plano    O plano do experimento.
+     * @param escritor O destino dos resultados.
+     * @return O tempo total da varredura, em nanossegundos.
+     * @throws IOException se a escrita dos resultados falhar; a varredura é interrompida.
+     */
+    public long executar(PlanoExperimento plano, EscritorResultados escritor) throws IOException {
+        ExecutorReplicacoes[] executores = new ExecutorReplicacoes[plano.getQuantidade()];
+        for (int c = 0; c < executores.length; c++) {
+            executores[c] = new ExecutorReplicacoes(dias, sementeBase, 1, plano.getCenario(c));
+        }
+        long total = (long) executores.length * replicacoes;
+        long inicio = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            pool.invoke(new TarefaSimulacoes(executores, escritor, 0, total));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        return System.nanoTime() - inicio;
+    }
+
+    /**
+     * Tarefa que divide o intervalo de simulações ao meio até restar uma só,
+     * que então é executada e gravada na thread corrente.
+     */
+    private class TarefaSimulacoes extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ExecutorReplicacoes[] executores;
+        private final EscritorResultados escritor;
+        private final long inicio;
+        private final long fim;
+
+        TarefaSimulacoes(ExecutorReplicacoes[] executores, EscritorResultados escritor, long inicio, long fim) {
+            this.executores = executores;
+            this.escritor = escritor;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio == 1) {
+                int cenario = (int) (inicio / replicacoes);
+                int replicacao = (int) (inicio % replicacoes);
+                ExecutorReplicacoes executor = executores[cenario];
+                ResumoDia[] resumos = executor.executarReplicacao(replicacao);
+                try {
+                    escritor.escrever(cenario, replicacao, executor.sementeDaReplicacao(replicacao), resumos);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return;
+            }
+            long meio = (inicio + fim) >>> 1;
+            invokeAll(new TarefaSimulacoes(executores, escritor, inicio, meio),
+                    new TarefaSimulacoes(executores, escritor, meio, fim));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package simulador.experimentos;
+
+import simulador.configuracao.Parametro;
+
+/**
+ * Um parâmetro variado em um experimento, com a faixa de valores explorada.
+ * Na grade, a faixa é dividida em {@code niveis} valores igualmente espaçados;
+ * no hipercubo latino, a faixa é dividida em tantos estratos quantas forem as
+ * amostras do plano, e {@code niveis} é ignorado.
+ */
+public final class Fator {
+
+    private final Parametro parametro;
+    private final double minimo;
+    private final double maximo;
+    private final int niveis;
+
+    /**
+     * Cria um fator.
+     *
+     * @param parametro O parâmetro variado.
+     * @param minimo    O menor valor da faixa.
+     * @param maximo    O maior valor da faixa.
+     * @param niveis    Quantos valores a grade usa dentro da faixa.
+     * @throws IllegalArgumentException se o parâmetro for nulo, se o mínimo for
+     *                                  maior que o máximo ou se os níveis não forem positivos.
+     */
+    public Fator(Parametro parametro, double minimo, double maximo, int niveis) {
+        if (parametro == null) {
+            throw new IllegalArgumentException("Parâmetro não pode ser nulo");
+        }
+        if (minimo > maximo) {
+            throw new IllegalArgumentException(parametro + ": mínimo maior que o máximo");
+        }
+        if (niveis <= 0 || (minimo == maximo && niveis != 1)) {
+            throw new IllegalArgumentException(parametro + ": número de níveis inválido: " + niveis);
+        }
+        this.parametro = parametro;
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.niveis = niveis;
+    }
+
+    /**
+     * Cria um fator inteiro que passa por todos os valores de {@code minimo} a
+     * {@code maximo}.
+     *
+     * @param parametro O parâmetro variado.
+     * @param minimo    O menor valor.
+     * @param maximo    O maior valor.
+     * @return O fator.
+     */
+    public static Fator inteiro(Parametro parametro, int minimo, int maximo) {
+        return new Fator(parametro, minimo, maximo, maximo - minimo + 1);
+    }
+
+    /**
+     * Interpreta um fator no formato {@code NOME=min:max} ou
+     * {@code NOME=min:max:niveis}. Sem os níveis, um parâmetro inteiro passa por
+     * todos os valores da faixa e um multiplicador usa cinco níveis.
+     *
+     * @param texto O fator em texto, ex.: {@code QTD_CAMINHOES_8T=1:6}.
+     * @return O fator.
+     * @throws IllegalArgumentException se o texto estiver mal formado.
+     */
+    public static Fator interpretar(String texto) {
+        int igual = texto.indexOf('=');
+        if (igual < 0) {
+            throw new IllegalArgumentException("Fator deve ter o formato NOME=min:max[:niveis]: " + texto);
+        }
+        Parametro parametro = Parametro.valueOf(texto.substring(0, igual).trim());
+        String[] partes = texto.substring(igual + 1).split(":");
+        if (partes.length < 2 || partes.length > 3) {
+            throw new IllegalArgumentException("Fator deve ter o formato NOME=min:max[:niveis]: " + texto);
+        }
+        double minimo = Double.parseDouble(partes[0].trim());
+        double maximo = Double.parseDouble(partes[1].trim());
+        int niveis;
+        if (partes.length == 3) {
+            niveis = Integer.parseInt(partes[2].trim());
+        } else if (minimo == maximo) {
+            niveis = 1;
+        } else if (parametro.isInteiro()) {
+            niveis = (int) (Math.floor(maximo) - Math.ceil(minimo)) + 1;
+        } else {
+            niveis = 5;
+        }
+        return new Fator(parametro, minimo, maximo, niveis);
+    }
+
+    /**
+     * Retorna o valor do nível informado da grade. Parâmetros inteiros são
+     * arredondados para o inteiro mais próximo.
+     *
+     * @param nivel O índice do nível, de 0 a {@code niveis - 1}.
+     * @return O valor do parâmetro nesse nível.
+     */
+    public double valorDoNivel(int nivel) {
+        if (niveis == 1) {
+            return ajustar(minimo);
+        }
+        return ajustar(minimo + (maximo - minimo) * nivel / (niveis - 1));
+    }
+
+    /**
+     * Converte uma posição relativa na faixa em um valor do parâmetro. Para
+     * parâmetros inteiros a faixa é dividida em intervalos de mesma largura, um
+     * por valor inteiro, para que os extremos não sejam sorteados com metade
+     * da chance dos demais.
+     *
+     * @param fracao A posição na faixa, no intervalo [0, 1).
+     * @return O valor do parâmetro.
+     */
+    public double valorNaFracao(double fracao) {
+        if (!parametro.isInteiro()) {
+            return minimo + (maximo - minimo) * fracao;
+        }
+        double inferior = Math.ceil(minimo);
+        double superior = Math.floor(maximo);
+        return Math.min(superior, inferior + Math.floor((superior - inferior + 1) * fracao));
+    }
+
+    private double ajustar(double valor) {
+        return parametro.isInteiro() ? Math.round(valor) : valor;
+    }
+
+    /** @return O parâmetro variado. */
+    public Parametro getParametro() {
+        return parametro;
+    }
+
+    /** @return O menor valor da faixa. */
+    public double getMinimo() {
+        return minimo;
+    }
+
+    /** @return O maior valor da faixa. */
+    public double getMaximo() {
+        return maximo;
+    }
+
+    /** @return Quantos valores a grade usa dentro da faixa. */
+    public int getNiveis() {
+        return niveis;
+    }
+}
@@ -0,0 +1,260 @@
+package simulador.experimentos;
+
+import simulador.ResumoDia;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.replicacao.ExecutorReplicacoes;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Procura a frota mais barata que atende a meta de serviço, por
+ * <i>successive halving</i> sobre um conjunto de frotas candidatas.
+ * <p>
+ * Uma replicação atende a meta quando, em todos os dias, as zonas terminam
+ * sem lixo e o último evento acontece até o prazo. Uma frota é viável quando
+ * a fração de replicações que atendem a meta é de pelo menos {@code metaSucesso}.
+ * O custo de uma frota é o dos seus caminhões pequenos mais o dos caminhões
+ * grandes criados (o maior número de um dia, em média entre as replicações).
+ * <p>
+ * A busca é feita em rodadas. Na primeira, todos os candidatos são simulados
+ * com poucas replicações; a cada rodada, só a melhor metade continua e o
+ * número de replicações dobra, até o máximo. Um candidato que já não pode
+ * alcançar a meta nem com todas as replicações restantes é descartado na
+ * hora. A replicação {@code r} usa a mesma semente em todos os candidatos
+ * (números aleatórios comuns), então a comparação entre eles não depende do
+ * sorteio, e as replicações já feitas são reaproveitadas na rodada seguinte.
+ */
+public class OtimizadorFrota {
+
+    /** Quantidade de dias simulados em cada replicação. */
+    private final int dias;
+
+    /** Minutos desde o início do dia até quando a coleta deve estar concluída. */
+    private final int prazo;
+
+    /** Fração mínima de replicações que devem atender a meta. */
+    private final double metaSucesso;
+
+    /** O modelo de custo das frotas. */
+    private final CustoFrota custo;
+
+    /** Semente a partir da qual as sementes das replicações são derivadas. */
+    private final long sementeBase;
+
+    /** Número de threads usadas na execução. */
+    private final int paralelismo;
+
+    /**
+     * Cria um otimizador.
+     *
+     * @param dias        O número de dias de cada replicação.
+     * @param prazo       O prazo para o fim da coleta, em minutos desde o início do dia.
+     * @param metaSucesso A fração mínima de replicações que devem atender a meta, entre 0 e 1.
+     * @param custo       O modelo de custo das frotas.
+     * @param sementeBase A semente base do experimento.
+     * @param paralelismo O número de threads a serem usadas.
+     * @throws IllegalArgumentException se algum parâmetro estiver fora da faixa.
+     */
+    public OtimizadorFrota(int dias, int prazo, double metaSucesso, CustoFrota custo, long sementeBase, int paralelismo) {
+        if (dias <= 0 || paralelismo <= 0 || prazo <= 0) {
+            throw new IllegalArgumentException("Dias, prazo e paralelismo devem ser positivos");
+        }
+        if (!(metaSucesso > 0 && metaSucesso <= 1)) {
+            throw new IllegalArgumentException("A meta de sucesso deve estar entre 0 e 1: " + metaSucesso);
+        }
+        if (custo == null) {
+            throw new IllegalArgumentException("Modelo de custo não pode ser nulo");
+        }
+        this.dias = dias;
+        this.prazo = prazo;
+        this.metaSucesso = metaSucesso;
+        this.custo = custo;
+        this.sementeBase = sementeBase;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Executa a busca sobre os cenários do plano.
+     *
+     * @param candidatos          As frotas candidatas, em geral um hipercubo latino
+     *                            sobre as quantidades de caminhões.
+     * @param replicacoesIniciais As replicações de cada candidato na primeira rodada.
+     * @param replicacoesMaximas  As replicações dos candidatos da última rodada.
+     * @return O melhor candidato encontrado e as estatísticas da busca.
+     * @throws IllegalArgumentException se as replicações não forem positivas ou se as
+     *                                  iniciais forem maiores que as máximas.
+     */
+    public ResultadoOtimizacao otimizar(PlanoExperimento candidatos, int replicacoesIniciais, int replicacoesMaximas) {
+        if (replicacoesIniciais <= 0 || replicacoesIniciais > replicacoesMaximas) {
+            throw new IllegalArgumentException("Replicações inválidas: " + replicacoesIniciais + " e " + replicacoesMaximas);
+        }
+        Candidato[] vivos = new Candidato[candidatos.getQuantidade()];
+        for (int c = 0; c < vivos.length; c++) {
+            vivos[c] = new Candidato(c, candidatos.getCenario(c), replicacoesMaximas);
+        }
+        int sucessosNecessarios = (int) Math.ceil(metaSucesso * replicacoesMaximas - 1e-9);
+        Comparator<Candidato> ordem = Comparator
+                .comparing((Candidato c) -> !c.isViavel())
+                .thenComparingDouble(c -> c.isViavel() ? c.getCusto() : -c.getTaxaSucesso())
+                .thenComparingDouble(c -> c.isViavel() ? -c.getTaxaSucesso() : c.getCusto())
+                .thenComparingInt(c -> c.indice);
+
+        long inicio = System.nanoTime();
+        long simulacoes = 0;
+        int rodadas = 0;
+        int feitas = 0;
+        int alvo = replicacoesIniciais;
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            while (true) {
+                rodadas++;
+                long novas = (long) vivos.length * (alvo - feitas);
+                simulacoes += novas;
+                pool.invoke(new TarefaAvaliacao(vivos, feitas, alvo, 0, novas));
+                feitas = alvo;
+                for (Candidato candidato : vivos) {
+                    candidato.consolidar(alvo);
+                }
+
+                // Descarta quem não alcança a meta nem se todas as replicações restantes derem certo
+                int mantidos = 0;
+                for (Candidato candidato : vivos) {
+                    if (candidato.sucessos + (replicacoesMaximas - alvo) >= sucessosNecessarios) {
+                        vivos[mantidos++] = candidato;
+                    }
+                }
+                if (mantidos == 0) break;
+                vivos = Arrays.copyOf(vivos, mantidos);
+                Arrays.sort(vivos, ordem);
+
+                if (alvo == replicacoesMaximas) break;
+                vivos = Arrays.copyOf(vivos, (vivos.length + 1) / 2);
+                alvo = Math.min(alvo * 2, replicacoesMaximas);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        if (vivos.length == 0 || !vivos[0].isViavel()) {
+            return new ResultadoOtimizacao(null, candidatos.getQuantidade(), rodadas, simulacoes, duracao);
+        }
+        Candidato melhor = vivos[0];
+        return new ResultadoOtimizacao(new ResultadoOtimizacao.Frota(melhor.parametros, melhor.getCusto(),
+                melhor.getTaxaSucesso(), melhor.getMediaGrandes(), melhor.replicacoes),
+                candidatos.getQuantidade(), rodadas, simulacoes, duracao);
+    }
+
+    /**
+     * Verifica se uma replicação atendeu a meta em todos os dias.
+     *
+     * @param resumos Os resumos diários da replicação.
+     * @return {@code true} se todo o lixo foi coletado dentro do prazo.
+     */
+    private boolean atendeuMeta(ResumoDia[] resumos) {
+        for (ResumoDia resumo : resumos) {
+            if (resumo.getLixoRestante() > 0 || resumo.getTempoEncerramento() > prazo) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Uma frota candidata e os resultados das replicações já simuladas. Cada
+     * replicação grava apenas a sua posição dos vetores, então as tarefas
+     * paralelas não disputam nenhum campo; os totais são somados depois da
+     * junção, em {@link #consolidar}.
+     */
+    private class Candidato {
+        final int indice;
+        final ParametrosSimulacao parametros;
+        final ExecutorReplicacoes executor;
+        final boolean[] sucessoPorReplicacao;
+        final int[] grandesPorReplicacao;
+        int replicacoes;
+        int sucessos;
+        long somaGrandes;
+
+        Candidato(int indice, ParametrosSimulacao parametros, int replicacoesMaximas) {
+            this.indice = indice;
+            this.parametros = parametros;
+            this.executor = new ExecutorReplicacoes(dias, sementeBase, 1, parametros);
+            this.sucessoPorReplicacao = new boolean[replicacoesMaximas];
+            this.grandesPorReplicacao = new int[replicacoesMaximas];
+        }
+
+        void simular(int replicacao) {
+            ResumoDia[] resumos = executor.executarReplicacao(replicacao);
+            int grandes = 0;
+            for (ResumoDia resumo : resumos) {
+                grandes = Math.max(grandes, resumo.getCaminhoesGrandesCriados());
+            }
+            sucessoPorReplicacao[replicacao] = atendeuMeta(resumos);
+            grandesPorReplicacao[replicacao] = grandes;
+        }
+
+        void consolidar(int alvo) {
+            for (int r = replicacoes; r < alvo; r++) {
+                if (sucessoPorReplicacao[r]) sucessos++;
+                somaGrandes += grandesPorReplicacao[r];
+            }
+            replicacoes = alvo;
+        }
+
+        double getTaxaSucesso() {
+            return (double) sucessos / replicacoes;
+        }
+
+        double getMediaGrandes() {
+            return (double) somaGrandes / replicacoes;
+        }
+
+        double getCusto() {
+            return custo.custoPequenos(parametros) + custo.custoGrandes(getMediaGrandes());
+        }
+
+        boolean isViavel() {
+            return getTaxaSucesso() >= metaSucesso;
+        }
+    }
+
+    /**
+     * Tarefa que divide o intervalo de simulações de uma rodada ao meio até
+     * restar uma só. A simulação {@code k} é a replicação
+     * {@code feitas + k % novas} do candidato {@code k / novas}.
+     */
+    private class TarefaAvaliacao extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Candidato[] candidatos;
+        private final int feitas;
+        private final int alvo;
+        private final long inicio;
+        private final long fim;
+
+        TarefaAvaliacao(Candidato[] candidatos, int feitas, int alvo, long inicio, long fim) {
+            this.candidatos = candidatos;
+            this.feitas = feitas;
+            this.alvo = alvo;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= 1) {
+                if (fim == inicio) return;
+                int novas = alvo - feitas;
+                candidatos[(int) (inicio / novas)].simular(feitas + (int) (inicio % novas));
+                return;
+            }
+            long meio = (inicio + fim) >>> 1;
+            invokeAll(new TarefaAvaliacao(candidatos, feitas, alvo, inicio, meio),
+                    new TarefaAvaliacao(candidatos, feitas, alvo, meio, fim));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package simulador.experimentos;
+
+import simulador.aleatorio.GeradorAleatorio;
+import simulador.configuracao.ParametrosSimulacao;
+
+/**
+ * Conjunto de cenários de um experimento. Cada cenário é uma cópia dos
+ * parâmetros base com os fatores do plano alterados.
+ * <p>
+ * Há dois planos:
+ * <ul>
+ *   <li>{@link #grade}: todas as combinações dos níveis de cada fator (fatorial completo);</li>
+ *   <li>{@link #hipercuboLatino}: {@code n} amostras em que cada fator passa
+ *       exatamente uma vez por cada um dos {@code n} estratos da sua faixa.</li>
+ * </ul>
+ * O hipercubo cobre muitos fatores com poucos cenários, quando a grade
+ * completa seria grande demais para simular.
+ */
+public final class PlanoExperimento {
+
+    private final Fator[] fatores;
+    private final ParametrosSimulacao[] cenarios;
+
+    private PlanoExperimento(Fator[] fatores, ParametrosSimulacao[] cenarios) {
+        this.fatores = fatores;
+        this.cenarios = cenarios;
+    }
+
+    /**
+     * Monta o plano fatorial completo. O primeiro fator é o que varia mais devagar.
+     *
+     * @param base    Os parâmetros dos fatores que não variam.
+     * @param fatores Os fatores do experimento.
+     * @return O plano.
+     * @throws IllegalArgumentException se não houver fatores, se um parâmetro
+     *                                  aparecer duas vezes, se a grade tiver mais de
+     *                                  {@link Integer#MAX_VALUE} cenários ou se alguma
+     *                                  combinação de valores for inválida.
+     */
+    public static PlanoExperimento grade(ParametrosSimulacao base, Fator... fatores) {
+        verificarFatores(fatores);
+        long total = 1;
+        for (Fator fator : fatores) {
+            total *= fator.getNiveis();
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Grade grande demais; use o hipercubo latino");
+            }
+        }
+
+        ParametrosSimulacao[] cenarios = new ParametrosSimulacao[(int) total];
+        int[] niveis = new int[fatores.length];
+        for (int i = 0; i < cenarios.length; i++) {
+            ParametrosSimulacao cenario = base;
+            for (int f = 0; f < fatores.length; f++) {
+                cenario = cenario.com(fatores[f].getParametro(), fatores[f].valorDoNivel(niveis[f]));
+            }
+            cenarios[i] = cenario;
+
+            // Avança os níveis como um contador, com o último fator variando mais rápido
+            for (int f = fatores.length - 1; f >= 0; f--) {
+                if (++niveis[f] < fatores[f].getNiveis()) break;
+                niveis[f] = 0;
+            }
+        }
+        return new PlanoExperimento(fatores.clone(), cenarios);
+    }
+
+    /**
+     * Monta um plano de hipercubo latino. A faixa de cada fator é dividida em
+     * {@code amostras} estratos de mesma largura; cada fator recebe uma
+     * permutação aleatória dos estratos e, dentro de cada estrato, um ponto
+     * sorteado. A mesma semente sempre produz o mesmo plano.
+     *
+     * @param base     Os parâmetros dos fatores que não variam.
+     * @param amostras O número de cenários.
+     * @param semente  A semente do sorteio.
+     * @param fatores  Os fatores do experimento.
+     * @return O plano.
+     * @throws IllegalArgumentException se não houver fatores, se um parâmetro aparecer
+     *                                  duas vezes, se as amostras não forem positivas
+     *                                  ou se alguma combinação de valores for inválida.
+     */
+    public static PlanoExperimento hipercuboLatino(ParametrosSimulacao base, int amostras, long semente, Fator... fatores) {
+        verificarFatores(fatores);
+        if (amostras <= 0) {
+            throw new IllegalArgumentException("O número de amostras deve ser positivo: " + amostras);
+        }
+        GeradorAleatorio aleatorio = new GeradorAleatorio(semente);
+
+        double[][] valores = new double[fatores.length][amostras];
+        int[] estratos = new int[amostras];
+        for (int f = 0; f < fatores.length; f++) {
+            // Embaralhamento de Fisher-Yates dos estratos deste fator
+            for (int i = 0; i < amostras; i++) {
+                estratos[i] = i;
+            }
+            for (int i = amostras - 1; i > 0; i--) {
+                int j = aleatorio.proximoInt(i + 1);
+                int troca = estratos[i];
+                estratos[i] = estratos[j];
+                estratos[j] = troca;
+            }
+            for (int i = 0; i < amostras; i++) {
+                double fracao = (estratos[i] + aleatorio.proximoDouble()) / amostras;
+                valores[f][i] = fatores[f].valorNaFracao(fracao);
+            }
+        }
+
+        ParametrosSimulacao[] cenarios = new ParametrosSimulacao[amostras];
+        for (int i = 0; i < amostras; i++) {
+            ParametrosSimulacao cenario = base;
+            for (int f = 0; f < fatores.length; f++) {
+                cenario = cenario.com(fatores[f].getParametro(), valores[f][i]);
+            }
+            cenarios[i] = cenario;
+        }
+        return new PlanoExperimento(fatores.clone(), cenarios);
+    }
+
+    private static void verificarFatores(Fator[] fatores) {
+        if (fatores == null || fatores.length == 0) {
+            throw new IllegalArgumentException("O plano precisa de pelo menos um fator");
+        }
+        for (int i = 0; i < fatores.length; i++) {
+            for (int j = 0; j < i; j++) {
+                if (fatores[i].getParametro() == fatores[j].getParametro()) {
+                    throw new IllegalArgumentException("Parâmetro repetido no plano: " + fatores[i].getParametro());
+                }
+            }
+        }
+    }
+
+    /**
+     * Retorna o número de cenários do plano.
+     *
+     * @return A quantidade de cenários.
+     */
+    public int getQuantidade() {
+        return cenarios.length;
+    }
+
+    /**
+     * Retorna os parâmetros de um cenário.
+     *
+     * @param indice O índice do cenário, de 0 a {@code getQuantidade() - 1}.
+     * @return Os parâmetros do cenário.
+     */
+    public ParametrosSimulacao getCenario(int indice) {
+        return cenarios[indice];
+    }
+
+    /**
+     * Retorna a quantidade de fatores do plano.
+     *
+     * @return O número de fatores.
+     */
+    public int getQuantidadeFatores() {
+        return fatores.length;
+    }
+
+    /**
+     * Retorna um fator do plano.
+     *
+     * @param indice O índice do fator, na ordem em que foi informado.
+     * @return O fator.
+     */
+    public Fator getFator(int indice) {
+        return fatores[indice];
+    }
+}
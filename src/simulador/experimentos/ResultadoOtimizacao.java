@@ -0,0 +1,145 @@
+package simulador.experimentos;
+
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
+
+import java.io.PrintStream;
+
+/**
+ * Resultado de uma busca do {@link OtimizadorFrota}: a melhor frota viável,
+ * se alguma foi encontrada, e quanto trabalho a busca custou.
+ */
+public class ResultadoOtimizacao {
+
+    /**
+     * Uma frota avaliada e os indicadores medidos nas suas replicações.
+     */
+    public static final class Frota {
+        private final ParametrosSimulacao parametros;
+        private final double custo;
+        private final double taxaSucesso;
+        private final double mediaCaminhoesGrandes;
+        private final int replicacoes;
+
+        Frota(ParametrosSimulacao parametros, double custo, double taxaSucesso,
+              double mediaCaminhoesGrandes, int replicacoes) {
+            this.parametros = parametros;
+            this.custo = custo;
+            this.taxaSucesso = taxaSucesso;
+            this.mediaCaminhoesGrandes = mediaCaminhoesGrandes;
+            this.replicacoes = replicacoes;
+        }
+
+        /** @return Os parâmetros da frota, prontos para uma nova simulação. */
+        public ParametrosSimulacao getParametros() {
+            return parametros;
+        }
+
+        /** @return O custo da frota no modelo usado na busca. */
+        public double getCusto() {
+            return custo;
+        }
+
+        /** @return A fração das replicações que atenderam a meta. */
+        public double getTaxaSucesso() {
+            return taxaSucesso;
+        }
+
+        /** @return A média, entre as replicações, do maior número de caminhões grandes criados em um dia. */
+        public double getMediaCaminhoesGrandes() {
+            return mediaCaminhoesGrandes;
+        }
+
+        /** @return O número de replicações em que a frota foi avaliada. */
+        public int getReplicacoes() {
+            return replicacoes;
+        }
+    }
+
+    private final Frota melhor;
+    private final int candidatos;
+    private final int rodadas;
+    private final long simulacoes;
+    private final long duracaoNanos;
+
+    /**
+     * Cria o resultado de uma busca.
+     *
+     * @param melhor       A melhor frota viável, ou {@code null} se nenhuma atendeu a meta.
+     * @param candidatos   O número de candidatos avaliados na primeira rodada.
+     * @param rodadas      O número de rodadas executadas.
+     * @param simulacoes   O total de replicações simuladas.
+     * @param duracaoNanos O tempo de parede da busca.
+     */
+    ResultadoOtimizacao(Frota melhor, int candidatos, int rodadas, long simulacoes, long duracaoNanos) {
+        this.melhor = melhor;
+        this.candidatos = candidatos;
+        this.rodadas = rodadas;
+        this.simulacoes = simulacoes;
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    /**
+     * Indica se alguma frota atendeu a meta.
+     *
+     * @return {@code true} se há uma melhor frota.
+     */
+    public boolean encontrouFrota() {
+        return melhor != null;
+    }
+
+    /** @return A melhor frota viável, ou {@code null} se nenhuma atendeu a meta. */
+    public Frota getMelhor() {
+        return melhor;
+    }
+
+    /** @return O número de candidatos avaliados na primeira rodada. */
+    public int getCandidatos() {
+        return candidatos;
+    }
+
+    /** @return O número de rodadas executadas. */
+    public int getRodadas() {
+        return rodadas;
+    }
+
+    /** @return O total de replicações simuladas em todas as rodadas. */
+    public long getSimulacoes() {
+        return simulacoes;
+    }
+
+    /** @return O tempo de parede da busca, em nanossegundos. */
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * Exibe a melhor frota e as estatísticas da busca.
+     *
+     * @param saida O destino do texto.
+     */
+    public void imprimir(PrintStream saida) {
+        saida.println("+--------------------------------------------------+");
+        saida.printf("| %-48s |%n", "OTIMIZAÇÃO DA FROTA");
+        saida.println("+--------------------------------------------------+");
+        saida.printf("| %-28s | %17d |%n", "Candidatos", candidatos);
+        saida.printf("| %-28s | %17d |%n", "Rodadas", rodadas);
+        saida.printf("| %-28s | %17d |%n", "Simulações", simulacoes);
+        saida.printf("| %-28s | %15.2f s |%n", "Tempo de execução", duracaoNanos / 1e9);
+        saida.println("+--------------------------------------------------+");
+        if (melhor == null) {
+            saida.printf("| %-48s |%n", "Nenhuma frota candidata atendeu a meta.");
+        } else {
+            ParametrosSimulacao p = melhor.getParametros();
+            saida.printf("| %-28s | %17d |%n", "Caminhões de 2t", p.getInt(Parametro.QTD_CAMINHOES_2T));
+            saida.printf("| %-28s | %17d |%n", "Caminhões de 4t", p.getInt(Parametro.QTD_CAMINHOES_4T));
+            saida.printf("| %-28s | %17d |%n", "Caminhões de 8t", p.getInt(Parametro.QTD_CAMINHOES_8T));
+            saida.printf("| %-28s | %17d |%n", "Caminhões de 10t", p.getInt(Parametro.QTD_CAMINHOES_10T));
+            saida.printf("| %-28s | %17.2f |%n", "Caminhões grandes (média)", melhor.getMediaCaminhoesGrandes());
+            saida.printf("| %-28s | %17.2f |%n", "Custo", melhor.getCusto());
+            saida.printf("| %-28s | %15.1f %% |%n", "Replicações na meta", melhor.getTaxaSucesso() * 100);
+            saida.printf("| %-28s | %17d |%n", "Replicações avaliadas", melhor.getReplicacoes());
+        }
+        saida.println("+--------------------------------------------------+");
+    }
+}
@@ -0,0 +1,16 @@
+package simulador.log;
+
+/**
+ * Níveis de detalhe das mensagens da simulação, do mais silencioso ao mais detalhado.
+ */
+public enum NivelLog {
+
+    /** Nada é registrado; as chamadas de registro retornam sem nenhum trabalho. */
+    SILENCIOSO,
+
+    /** Apenas o início e o resumo de cada dia. */
+    RESUMO,
+
+    /** Todas as tabelas de coleta, transferência e descarregamento. */
+    DETALHADO
+}
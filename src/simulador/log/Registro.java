@@ -0,0 +1,54 @@
+package simulador.log;
+
+/**
+ * Visão de um registro lido do buffer, entregue ao {@link RenderizadorRegistro}.
+ * A mesma instância é reaproveitada para todos os registros, por isso o
+ * renderizador não deve guardar referências a ela.
+ */
+public class Registro {
+
+    /** Quantidade de valores inteiros de cada registro. */
+    public static final int VALORES = 5;
+
+    TipoRegistro tipo;
+    String texto1;
+    String texto2;
+    final int[] valores = new int[VALORES];
+
+    /**
+     * Retorna o tipo do registro.
+     *
+     * @return O {@link TipoRegistro}.
+     */
+    public TipoRegistro getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna o primeiro campo de texto.
+     *
+     * @return O texto, ou {@code null} se o tipo não usar o campo.
+     */
+    public String getTexto1() {
+        return texto1;
+    }
+
+    /**
+     * Retorna o segundo campo de texto.
+     *
+     * @return O texto, ou {@code null} se o tipo não usar o campo.
+     */
+    public String getTexto2() {
+        return texto2;
+    }
+
+    /**
+     * Retorna um dos valores inteiros do registro.
+     *
+     * @param indice O índice do valor, de 0 a {@link #VALORES} - 1.
+     * @return O valor.
+     */
+    public int getValor(int indice) {
+        return valores[indice];
+    }
+}
@@ -0,0 +1,304 @@
+package simulador.log;
+
+import java.io.PrintStream;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Destino das mensagens de acompanhamento de uma simulação.
+ * <p>
+ * A thread da simulação não formata nenhum texto: cada chamada a
+ * {@code registrar} apenas copia o tipo do registro, até dois textos já
+ * existentes (nomes de caminhões, zonas e estações) e até cinco inteiros para
+ * uma posição de um buffer circular de tamanho fixo. Uma thread de fundo
+ * esvazia o buffer e entrega cada registro ao {@link RenderizadorRegistro},
+ * que faz a formatação e a escrita.
+ * <p>
+ * O buffer admite um único produtor (a thread da simulação) e um único
+ * consumidor (a thread de fundo). Quando ele enche, o produtor espera o
+ * consumidor liberar espaço, de modo que nenhum registro é perdido.
+ * No nível {@link NivelLog#SILENCIOSO} nada é alocado nem iniciado e todas as
+ * chamadas retornam imediatamente.
+ */
+public class RegistroSimulacao {
+
+    /** Capacidade padrão do buffer, em registros. */
+    public static final int CAPACIDADE_PADRAO = 1 << 14;
+
+    /** Intervalo de espera do consumidor quando o buffer está vazio. */
+    private static final long ESPERA_CONSUMIDOR_NANOS = 100_000L;
+
+    /** Instância compartilhada do registro silencioso. */
+    private static final RegistroSimulacao SILENCIOSO = new RegistroSimulacao(NivelLog.SILENCIOSO, null, null, 1);
+
+    private final NivelLog nivel;
+    private final PrintStream destino;
+    private final RenderizadorRegistro renderizador;
+
+    /* Buffer circular: o registro na posição i ocupa tipos[i], textos[2i..2i+1] e valores[5i..5i+4]. */
+    private final int capacidade;
+    private final int mascara;
+    private final TipoRegistro[] tipos;
+    private final String[] textos;
+    private final int[] valores;
+
+    /** Quantidade de registros já publicados pelo produtor. */
+    private volatile long escritos;
+    /** Quantidade de registros já renderizados pelo consumidor. */
+    private volatile long lidos;
+    /** Última leitura de {@code lidos} feita pelo produtor, para evitar leituras voláteis a cada registro. */
+    private long lidosConhecidos;
+
+    private Thread consumidor;
+    private volatile boolean encerrado;
+
+    /**
+     * Cria um registro que escreve as tabelas legíveis no destino informado.
+     *
+     * @param nivel   O nível de detalhe das mensagens.
+     * @param destino O destino do texto.
+     * @throws IllegalArgumentException se o nível ou o destino forem nulos.
+     */
+    public RegistroSimulacao(NivelLog nivel, PrintStream destino) {
+        this(nivel, destino, new RenderizadorTabelas());
+    }
+
+    /**
+     * Cria um registro com o renderizador informado e a capacidade padrão.
+     *
+     * @param nivel        O nível de detalhe das mensagens.
+     * @param destino      O destino do texto.
+     * @param renderizador Quem converte os registros em texto.
+     * @throws IllegalArgumentException se algum parâmetro for nulo.
+     */
+    public RegistroSimulacao(NivelLog nivel, PrintStream destino, RenderizadorRegistro renderizador) {
+        this(nivel, destino, renderizador, CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Cria um registro com todos os parâmetros.
+     *
+     * @param nivel        O nível de detalhe das mensagens.
+     * @param destino      O destino do texto.
+     * @param renderizador Quem converte os registros em texto.
+     * @param capacidade   A capacidade do buffer; é arredondada para a próxima potência de dois.
+     * @throws IllegalArgumentException se o nível for nulo, se o destino ou o renderizador
+     *                                  forem nulos fora do nível silencioso, ou se a capacidade
+     *                                  não for positiva.
+     */
+    public RegistroSimulacao(NivelLog nivel, PrintStream destino, RenderizadorRegistro renderizador, int capacidade) {
+        if (nivel == null) {
+            throw new IllegalArgumentException("Nível não pode ser nulo");
+        }
+        if (nivel != NivelLog.SILENCIOSO && (destino == null || renderizador == null)) {
+            throw new IllegalArgumentException("Destino e renderizador não podem ser nulos");
+        }
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva: " + capacidade);
+        }
+        this.nivel = nivel;
+        this.destino = destino;
+        this.renderizador = renderizador;
+        if (nivel == NivelLog.SILENCIOSO) {
+            this.capacidade = 0;
+            this.mascara = 0;
+            this.tipos = null;
+            this.textos = null;
+            this.valores = null;
+        } else {
+            int potencia = Integer.highestOneBit(capacidade);
+            this.capacidade = potencia < capacidade ? potencia << 1 : potencia;
+            this.mascara = this.capacidade - 1;
+            this.tipos = new TipoRegistro[this.capacidade];
+            this.textos = new String[this.capacidade * 2];
+            this.valores = new int[this.capacidade * Registro.VALORES];
+        }
+    }
+
+    /**
+     * Retorna o registro silencioso compartilhado, que descarta tudo sem custo.
+     *
+     * @return O registro no nível {@link NivelLog#SILENCIOSO}.
+     */
+    public static RegistroSimulacao silencioso() {
+        return SILENCIOSO;
+    }
+
+    /**
+     * Retorna o nível de detalhe deste registro.
+     *
+     * @return O nível configurado.
+     */
+    public NivelLog getNivel() {
+        return nivel;
+    }
+
+    /**
+     * Verifica se registros do tipo informado são produzidos neste nível.
+     *
+     * @param tipo O tipo do registro.
+     * @return {@code true} se o tipo será registrado.
+     */
+    public boolean estaAtivo(TipoRegistro tipo) {
+        return tipo.getNivel().ordinal() <= nivel.ordinal();
+    }
+
+    /* ==================== REGISTRO ==================== */
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo) {
+        registrar(tipo, null, null, 0, 0, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, int v0) {
+        registrar(tipo, null, null, v0, 0, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, int v0, int v1) {
+        registrar(tipo, null, null, v0, v1, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, int v0, int v1, int v2) {
+        registrar(tipo, null, null, v0, v1, v2, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, String texto1) {
+        registrar(tipo, texto1, null, 0, 0, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, String texto1, int v0) {
+        registrar(tipo, texto1, null, v0, 0, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, String texto1, int v0, int v1) {
+        registrar(tipo, texto1, null, v0, v1, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, String texto1, String texto2) {
+        registrar(tipo, texto1, texto2, 0, 0, 0, 0, 0);
+    }
+
+    /** Publica um registro; os campos omitidos ficam vazios. */
+    public void registrar(TipoRegistro tipo, String texto1, String texto2, int v0) {
+        registrar(tipo, texto1, texto2, v0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Publica um registro no buffer. Os campos não usados pelo tipo são ignorados
+     * pelo renderizador. Retorna sem nenhum trabalho se o tipo estiver abaixo do
+     * nível configurado.
+     *
+     * @param tipo   O tipo do registro.
+     * @param texto1 O primeiro campo de texto.
+     * @param texto2 O segundo campo de texto.
+     * @param v0     Primeiro valor inteiro.
+     * @param v1     Segundo valor inteiro.
+     * @param v2     Terceiro valor inteiro.
+     * @param v3     Quarto valor inteiro.
+     * @param v4     Quinto valor inteiro.
+     */
+    public void registrar(TipoRegistro tipo, String texto1, String texto2, int v0, int v1, int v2, int v3, int v4) {
+        if (tipo.getNivel().ordinal() > nivel.ordinal()) return;
+        if (consumidor == null) {
+            iniciarConsumidor();
+        }
+
+        long sequencia = escritos;
+        if (sequencia - lidosConhecidos >= capacidade) {
+            lidosConhecidos = lidos;
+            while (sequencia - lidosConhecidos >= capacidade) {
+                LockSupport.unpark(consumidor);
+                Thread.yield();
+                lidosConhecidos = lidos;
+            }
+        }
+
+        int posicao = (int) (sequencia & mascara);
+        tipos[posicao] = tipo;
+        textos[2 * posicao] = texto1;
+        textos[2 * posicao + 1] = texto2;
+        int base = posicao * Registro.VALORES;
+        valores[base] = v0;
+        valores[base + 1] = v1;
+        valores[base + 2] = v2;
+        valores[base + 3] = v3;
+        valores[base + 4] = v4;
+        escritos = sequencia + 1;
+    }
+
+    /**
+     * Bloqueia até que todos os registros publicados tenham sido renderizados
+     * e esvazia o destino. Chamado pelo simulador ao final da execução.
+     */
+    public void esvaziar() {
+        if (consumidor == null) return;
+        long alvo = escritos;
+        while (lidos < alvo) {
+            LockSupport.unpark(consumidor);
+            Thread.yield();
+        }
+        destino.flush();
+    }
+
+    /**
+     * Esvazia o buffer e encerra a thread de fundo. Registros publicados
+     * depois do fechamento iniciam uma nova thread.
+     */
+    public void fechar() {
+        Thread atual = consumidor;
+        if (atual == null) return;
+        esvaziar();
+        encerrado = true;
+        LockSupport.unpark(atual);
+        try {
+            atual.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        consumidor = null;
+        encerrado = false;
+    }
+
+    private void iniciarConsumidor() {
+        Thread thread = new Thread(this::consumir, "registro-simulacao");
+        thread.setDaemon(true);
+        consumidor = thread;
+        thread.start();
+    }
+
+    /**
+     * Laço da thread de fundo: renderiza os registros disponíveis e, quando o
+     * buffer está vazio, dorme por um intervalo curto.
+     */
+    private void consumir() {
+        Registro registro = new Registro();
+        long lido = lidos;
+        while (true) {
+            long disponivel = escritos;
+            if (lido == disponivel) {
+                if (encerrado) break;
+                destino.flush();
+                LockSupport.parkNanos(this, ESPERA_CONSUMIDOR_NANOS);
+                continue;
+            }
+            while (lido < disponivel) {
+                int posicao = (int) (lido & mascara);
+                registro.tipo = tipos[posicao];
+                registro.texto1 = textos[2 * posicao];
+                registro.texto2 = textos[2 * posicao + 1];
+                System.arraycopy(valores, posicao * Registro.VALORES, registro.valores, 0, Registro.VALORES);
+                textos[2 * posicao] = null;
+                textos[2 * posicao + 1] = null;
+                renderizador.renderizar(registro, destino);
+                lidos = ++lido;
+            }
+        }
+        destino.flush();
+    }
+}
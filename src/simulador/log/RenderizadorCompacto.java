@@ -0,0 +1,25 @@
+package simulador.log;
+
+import java.io.PrintStream;
+
+/**
+ * Escreve cada registro em uma única linha, com os campos separados por ';'.
+ * Formato: {@code TIPO;texto1;texto2;v0;v1;v2;v3;v4}. Útil para processar a
+ * saída com outras ferramentas.
+ */
+public class RenderizadorCompacto implements RenderizadorRegistro {
+
+    @Override
+    public void renderizar(Registro registro, PrintStream saida) {
+        saida.print(registro.getTipo().name());
+        saida.print(';');
+        saida.print(registro.getTexto1() == null ? "" : registro.getTexto1());
+        saida.print(';');
+        saida.print(registro.getTexto2() == null ? "" : registro.getTexto2());
+        for (int i = 0; i < Registro.VALORES; i++) {
+            saida.print(';');
+            saida.print(registro.getValor(i));
+        }
+        saida.println();
+    }
+}
@@ -0,0 +1,18 @@
+package simulador.log;
+
+import java.io.PrintStream;
+
+/**
+ * Converte registros em texto. É chamado apenas pela thread que esvazia o
+ * buffer do {@link RegistroSimulacao}, nunca pela thread da simulação.
+ */
+public interface RenderizadorRegistro {
+
+    /**
+     * Escreve um registro no destino.
+     *
+     * @param registro O registro a ser escrito.
+     * @param saida    O destino do texto.
+     */
+    void renderizar(Registro registro, PrintStream saida);
+}
@@ -0,0 +1,181 @@
+package simulador.log;
+
+import simulador.configTempo.GerenciadorTempo;
+
+import java.io.PrintStream;
+
+/**
+ * Reproduz as tabelas de acompanhamento da simulação no formato legível
+ * usado desde as primeiras versões do simulador. Toda a formatação de textos
+ * e horários acontece aqui, na thread que esvazia o buffer de registros.
+ */
+public class RenderizadorTabelas implements RenderizadorRegistro {
+
+    private static final String BORDA = "+--------------------------------------------------+";
+    private static final String LINHA = "| %-18s | %-28s |%n";
+    private static final String LINHA_NUMERO = "| %-18s | %-28d |%n";
+
+    @Override
+    public void renderizar(Registro r, PrintStream saida) {
+        switch (r.getTipo()) {
+            case INICIO_DIA:
+                saida.println();
+                saida.println("---------------- COLETA DIA " + r.getValor(0) + " ------------");
+                saida.println("Gerando lixo nas zonas...");
+                break;
+            case PARAMETROS_RECARREGADOS:
+                saida.println("[Configuração] Parâmetros recarregados de " + r.getTexto1()
+                        + " para o dia " + r.getValor(0) + ".");
+                break;
+            case PARAMETROS_INVALIDOS:
+                saida.println("[Configuração] " + r.getTexto1() + " foi ignorado no dia " + r.getValor(0)
+                        + ": " + r.getTexto2() + ". Os parâmetros anteriores continuam valendo.");
+                break;
+            case ZONA_GEROU_LIXO:
+                saida.println("[Zona] " + r.getTexto1() + " gerou " + r.getValor(0) + " toneladas de lixo.");
+                break;
+            case INICIO_COLETA:
+                saida.println("Iniciando coleta...\n");
+                break;
+            case RESUMO_CABECALHO:
+                saida.println();
+                saida.println(BORDA);
+                saida.println("|              RESUMO DO DIA " + r.getValor(0) + "                    |");
+                saida.println(BORDA);
+                saida.printf(LINHA, "Tempo Total", GerenciadorTempo.formatarDuracao(r.getValor(1)));
+                saida.printf(LINHA, "Horário Encerramento", GerenciadorTempo.formatarHorarioSimulado(r.getValor(1)));
+                break;
+            case RESUMO_ZONA:
+                saida.printf(LINHA, "Lixo em " + r.getTexto1(), r.getValor(0) + " toneladas");
+                break;
+            case RESUMO_VALOR:
+                saida.printf(LINHA_NUMERO, r.getTexto1(), r.getValor(0));
+                break;
+            case RESUMO_ESTACAO:
+                saida.printf(LINHA, "Estação " + r.getTexto1(), r.getValor(0) + " descargas");
+                saida.printf(LINHA, "  Espera méd/máx", r.getValor(1) + " / " + r.getValor(2) + " min");
+                saida.printf(LINHA, "  Descarga méd/máx", r.getValor(3) + " / " + r.getValor(4) + " min");
+                break;
+            case RESUMO_FIM:
+            case FIM_TABELA:
+                saida.println(BORDA);
+                saida.println();
+                break;
+            case FIM_SIMULACAO:
+                saida.println();
+                saida.println("=============== FIM DA SIMULAÇÃO ===============");
+                break;
+
+            case ZONA_LIMPA:
+                saida.println("  • Zona " + r.getTexto1() + " está limpa. Nenhuma coleta realizada pelo caminhão " + r.getTexto2());
+                break;
+            case REDIRECIONAMENTO:
+                saida.println("[CAMINHÃO " + r.getTexto1() + "] Redirecionado para zona " + r.getTexto2());
+                break;
+            case ROTA_LIMPA:
+                saida.println("  • Todas as zonas da rota do caminhão " + r.getTexto1() + " estão limpas.");
+                break;
+            case COLETA_INICIO:
+                saida.println(BORDA);
+                saida.println("|                  COLETA DE LIXO                  |");
+                saida.println(BORDA);
+                saida.printf(LINHA, "Horário Inicial", GerenciadorTempo.formatarHorarioSimulado(r.getValor(0)));
+                saida.printf(LINHA, "Caminhão", r.getTexto1());
+                saida.printf(LINHA, "Zona", r.getTexto2());
+                saida.printf(LINHA_NUMERO, "Viagens Restantes", r.getValor(1));
+                break;
+            case COLETA_QUANTIDADE:
+                saida.printf(LINHA, "Quantidade Coletada", r.getValor(0) + " toneladas (Carga: " + r.getValor(1) + "/" + r.getValor(2) + ")");
+                break;
+            case CARGA_MAXIMA:
+                saida.println("[CAMINHÃO " + r.getTexto1() + "] Carga máxima atingida.");
+                break;
+            case COLETA_FIM:
+                saida.printf(LINHA, "Tempo de Coleta", GerenciadorTempo.formatarDuracao(r.getValor(0)));
+                saida.printf(LINHA, "Tempo Total", GerenciadorTempo.formatarDuracao(r.getValor(1)));
+                saida.printf(LINHA, "Horário Final", GerenciadorTempo.formatarHorarioSimulado(r.getValor(2)));
+                saida.println(BORDA);
+                saida.println();
+                break;
+
+            case TRANSFERENCIA:
+                saida.println(BORDA);
+                saida.println("|          TRANSFERÊNCIA PARA ESTAÇÃO              |");
+                saida.println(BORDA);
+                saida.printf(LINHA, "Horário Inicial", GerenciadorTempo.formatarHorarioSimulado(r.getValor(0)));
+                saida.printf(LINHA, "Caminhão", r.getTexto1());
+                saida.printf(LINHA, "Estação Destino", r.getTexto2());
+                saida.printf(LINHA, "Tempo de Trajeto", GerenciadorTempo.formatarDuracao(r.getValor(1)));
+                if (r.getValor(2) > 0) {
+                    saida.printf(LINHA, "Tempo Extra Carga", GerenciadorTempo.formatarDuracao(r.getValor(2)));
+                }
+                saida.printf(LINHA, "Tempo Total", GerenciadorTempo.formatarDuracao(r.getValor(3)));
+                saida.printf(LINHA, "Horário de Chegada", GerenciadorTempo.formatarHorarioSimulado(r.getValor(0) + r.getValor(3)));
+                saida.println(BORDA);
+                saida.println();
+                break;
+
+            case CHEGADA_ESTACAO:
+                saida.println(BORDA);
+                saida.println("|          DESCARREGAMENTO NA ESTAÇÃO              |");
+                saida.println(BORDA);
+                saida.printf(LINHA, "Horário de Chegada", GerenciadorTempo.formatarHorarioSimulado(r.getValor(0)));
+                saida.printf(LINHA, "Estação", r.getTexto1());
+                saida.printf(LINHA, "Caminhão", r.getTexto2());
+                saida.printf(LINHA, "Status", "Chegada confirmada");
+                break;
+            case ENFILEIRADO:
+                saida.printf(LINHA_NUMERO, "Tamanho da Fila", r.getValor(0));
+                break;
+            case GERACAO_AGENDADA:
+                saida.printf(LINHA, "Evento Agendado", "Caminhão grande às " + GerenciadorTempo.formatarHorarioSimulado(r.getValor(0)));
+                break;
+            case GERACAO_CANCELADA:
+                saida.printf(LINHA, "Evento Cancelado", "Geração de caminhão grande");
+                break;
+            case DESCARGA:
+                saida.printf(LINHA, "Carga Descarregada", r.getValor(0) + " toneladas (Carga: " + r.getValor(1) + "/" + r.getValor(2) + ")");
+                saida.printf(LINHA, "Tempo de Descarga", GerenciadorTempo.formatarDuracao(r.getValor(3)));
+                saida.printf(LINHA, "Horário de Conclusão", GerenciadorTempo.formatarHorarioSimulado(r.getValor(4)));
+                break;
+            case TOLERANCIA_AGENDADA:
+                saida.printf(LINHA, "Tolerância Acionada", "Verificação às " + GerenciadorTempo.formatarHorarioSimulado(r.getValor(0)));
+                break;
+            case VOLTA_COLETA:
+                saida.printf(LINHA, "Próxima Ação", "Volta para coleta");
+                break;
+            case FIM_ATIVIDADES:
+                saida.printf(LINHA, "Status do Caminhão", "Finalizou atividades do dia");
+                break;
+            case GRANDE_CHEIO:
+                saida.printf(LINHA, "Caminhão Grande", "Cheio");
+                saida.printf(LINHA, "Ação", "Caminhão Grande " + r.getValor(0) + " partiu para aterro");
+                break;
+            case DESCARGA_FILA:
+                saida.println("[ESTAÇÃO " + r.getTexto1() + "] Caminhão pequeno " + r.getTexto2() + " da fila descarregou " + r.getValor(0) + " toneladas.");
+                break;
+
+            case TOLERANCIA_ATINGIDA:
+                saida.println();
+                saida.println(BORDA);
+                saida.println("|           TOLERÂNCIA DE ESPERA ATINGIDA          |");
+                saida.println(BORDA);
+                saida.printf(LINHA, "Estação", r.getTexto1());
+                saida.printf(LINHA, "Caminhão Grande", r.getValor(0));
+                saida.printf(LINHA, "Ação", "Partindo com carga parcial");
+                saida.printf(LINHA, "Carga", r.getValor(1) + " toneladas");
+                saida.println(BORDA);
+                saida.println();
+                break;
+            case GERACAO_GRANDE:
+                saida.println("[GERAÇÃO] Tempo máximo de espera atingido. Criando caminhão grande.");
+                break;
+            case NOVO_GRANDE:
+                saida.println("[ESTAÇÃO " + r.getTexto1() + "] Novo caminhão grande criado.");
+                break;
+            case DESPACHO_GRANDE:
+                saida.println("Caminhão grande #" + r.getValor(0) + " foi para o aterro com " + r.getValor(1) + " unidades de lixo.");
+                break;
+        }
+    }
+}
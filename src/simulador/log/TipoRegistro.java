@@ -0,0 +1,111 @@
+package simulador.log;
+
+/**
+ * Tipos de registro emitidos pela simulação. Cada tipo corresponde a uma
+ * mensagem (ou a um trecho de tabela) e define o nível mínimo de log em que
+ * ela é produzida. O significado dos campos de texto e dos valores inteiros
+ * de cada tipo está descrito ao lado da constante.
+ */
+public enum TipoRegistro {
+
+    /* ==================== DIA ==================== */
+
+    /** Início de um dia. Valores: dia. */
+    INICIO_DIA(NivelLog.RESUMO),
+    /** Lixo gerado em uma zona. Texto: zona. Valores: toneladas. */
+    ZONA_GEROU_LIXO(NivelLog.DETALHADO),
+    /** Início do processamento dos eventos do dia. */
+    INICIO_COLETA(NivelLog.DETALHADO),
+    /** Cabeçalho do resumo diário. Valores: dia, tempo final. */
+    RESUMO_CABECALHO(NivelLog.RESUMO),
+    /** Lixo restante em uma zona no resumo. Texto: zona. Valores: toneladas. */
+    RESUMO_ZONA(NivelLog.RESUMO),
+    /** Linha numérica do resumo. Texto: rótulo. Valores: valor. */
+    RESUMO_VALOR(NivelLog.RESUMO),
+    /**
+     * Atendimento de uma estação no resumo. Texto: estação. Valores: descargas,
+     * espera média, maior espera, descarga média, maior descarga (minutos).
+     */
+    RESUMO_ESTACAO(NivelLog.RESUMO),
+    /** Fecha uma tabela do resumo diário. */
+    RESUMO_FIM(NivelLog.RESUMO),
+    /** Fim da simulação. */
+    FIM_SIMULACAO(NivelLog.RESUMO),
+    /** Parâmetros relidos do arquivo de configuração. Texto: arquivo. Valores: dia. */
+    PARAMETROS_RECARREGADOS(NivelLog.RESUMO),
+    /** Arquivo de configuração alterado, mas rejeitado. Textos: arquivo, motivo. Valores: dia. */
+    PARAMETROS_INVALIDOS(NivelLog.RESUMO),
+
+    /* ==================== COLETA ==================== */
+
+    /** Zona sem lixo. Textos: zona, caminhão. */
+    ZONA_LIMPA(NivelLog.DETALHADO),
+    /** Caminhão redirecionado. Textos: caminhão, zona. */
+    REDIRECIONAMENTO(NivelLog.DETALHADO),
+    /** Todas as zonas da rota estão limpas. Texto: caminhão. */
+    ROTA_LIMPA(NivelLog.DETALHADO),
+    /** Cabeçalho da tabela de coleta. Textos: caminhão, zona. Valores: tempo, viagens restantes. */
+    COLETA_INICIO(NivelLog.DETALHADO),
+    /** Quantidade coletada. Valores: quantidade, carga, capacidade. */
+    COLETA_QUANTIDADE(NivelLog.DETALHADO),
+    /** Caminhão sem espaço para a coleta. Texto: caminhão. */
+    CARGA_MAXIMA(NivelLog.DETALHADO),
+    /** Tempos da coleta, fecha a tabela. Valores: tempo de coleta, tempo total, horário final. */
+    COLETA_FIM(NivelLog.DETALHADO),
+
+    /* ==================== TRANSFERÊNCIA ==================== */
+
+    /** Tabela de transferência. Textos: caminhão, estação. Valores: tempo, deslocamento, extra, total. */
+    TRANSFERENCIA(NivelLog.DETALHADO),
+
+    /* ==================== ESTAÇÃO ==================== */
+
+    /** Cabeçalho do descarregamento. Textos: estação, caminhão. Valores: tempo. */
+    CHEGADA_ESTACAO(NivelLog.DETALHADO),
+    /** Caminhão entrou na fila. Valores: tamanho da fila. */
+    ENFILEIRADO(NivelLog.DETALHADO),
+    /** Geração de caminhão grande agendada. Valores: horário limite. */
+    GERACAO_AGENDADA(NivelLog.DETALHADO),
+    /** Geração de caminhão grande cancelada. */
+    GERACAO_CANCELADA(NivelLog.DETALHADO),
+    /** Carga descarregada. Valores: carga, carga do caminhão, capacidade, tempo de descarga, conclusão. */
+    DESCARGA(NivelLog.DETALHADO),
+    /** Verificação de tolerância agendada. Valores: horário da verificação. */
+    TOLERANCIA_AGENDADA(NivelLog.DETALHADO),
+    /** Caminhão volta para a coleta. */
+    VOLTA_COLETA(NivelLog.DETALHADO),
+    /** Caminhão encerrou as viagens do dia. */
+    FIM_ATIVIDADES(NivelLog.DETALHADO),
+    /** Caminhão grande cheio partiu. Valores: ID do caminhão grande. */
+    GRANDE_CHEIO(NivelLog.DETALHADO),
+    /** Fecha a tabela de descarregamento. */
+    FIM_TABELA(NivelLog.DETALHADO),
+    /** Caminhão da fila descarregou. Textos: estação, caminhão. Valores: carga. */
+    DESCARGA_FILA(NivelLog.DETALHADO),
+
+    /* ==================== CAMINHÕES GRANDES ==================== */
+
+    /** Tolerância de espera atingida. Texto: estação. Valores: ID do caminhão grande, carga. */
+    TOLERANCIA_ATINGIDA(NivelLog.DETALHADO),
+    /** Tempo máximo de espera na fila atingido. */
+    GERACAO_GRANDE(NivelLog.DETALHADO),
+    /** Novo caminhão grande na estação. Texto: estação. */
+    NOVO_GRANDE(NivelLog.DETALHADO),
+    /** Caminhão grande partiu para o aterro. Valores: ID, carga. */
+    DESPACHO_GRANDE(NivelLog.DETALHADO);
+
+    private final NivelLog nivel;
+
+    TipoRegistro(NivelLog nivel) {
+        this.nivel = nivel;
+    }
+
+    /**
+     * Retorna o nível mínimo em que este tipo de registro é produzido.
+     *
+     * @return O nível do tipo.
+     */
+    public NivelLog getNivel() {
+        return nivel;
+    }
+}
@@ -0,0 +1,191 @@
+package simulador.metricas;
+
+import java.util.Arrays;
+
+/**
+ * Histograma de valores inteiros não negativos com faixas de largura
+ * logarítmica, no estilo do HdrHistogram: informa média, extremos e
+ * percentis sem guardar as amostras.
+ * <p>
+ * Os valores menores que {@value #LIMITE_EXATO} têm uma faixa cada um e são
+ * exatos. A partir daí, cada potência de dois é dividida em
+ * {@value #SUBFAIXAS} faixas iguais, de modo que o erro de um percentil é de
+ * no máximo 1/{@value #SUBFAIXAS} do valor. Todo o intervalo de {@code int}
+ * cabe em {@link #QUANTIDADE_FAIXAS} contadores; o vetor só cresce até a maior
+ * faixa já usada, então copiar ou somar um histograma de tempos curtos custa
+ * poucas dezenas de posições.
+ * <p>
+ * Não é seguro para uso concorrente: cada simulação registra no seu próprio
+ * histograma, e os de simulações diferentes são somados com
+ * {@link #acumular(Histograma)} depois que elas terminam.
+ */
+public class Histograma {
+
+    /** Bits de precisão de cada faixa: o valor é guardado com os seus 5 bits mais significativos. */
+    private static final int BITS_PRECISAO = 5;
+
+    /** Quantidade de faixas em que cada potência de dois é dividida. */
+    static final int SUBFAIXAS = 1 << (BITS_PRECISAO - 1);
+
+    /** Valores abaixo deste limite têm uma faixa só para eles. */
+    static final int LIMITE_EXATO = 2 * SUBFAIXAS;
+
+    /** Quantidade de faixas necessária para representar qualquer {@code int} não negativo. */
+    public static final int QUANTIDADE_FAIXAS = indice(Integer.MAX_VALUE) + 1;
+
+    /** Contagem de cada faixa, ou {@code null} antes do primeiro registro. */
+    private long[] contagens;
+
+    private long quantidade;
+    private long soma;
+    private int minimo = Integer.MAX_VALUE;
+    private int maximo = 0;
+
+    /**
+     * Registra uma ocorrência de um valor.
+     *
+     * @param valor O valor observado.
+     * @throws IllegalArgumentException se o valor for negativo.
+     */
+    public void registrar(int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("O histograma só aceita valores não negativos: " + valor);
+        }
+        int faixa = indice(valor);
+        garantirFaixa(faixa);
+        contagens[faixa]++;
+        quantidade++;
+        soma += valor;
+        minimo = Math.min(minimo, valor);
+        maximo = Math.max(maximo, valor);
+    }
+
+    /**
+     * Soma a este histograma as ocorrências de outro, como se tivessem sido
+     * registradas aqui. O outro histograma não é alterado.
+     *
+     * @param outro O histograma a ser somado.
+     */
+    public void acumular(Histograma outro) {
+        if (outro.quantidade == 0) {
+            return;
+        }
+        int ultima = indice(outro.maximo);
+        garantirFaixa(ultima);
+        for (int i = 0; i <= ultima; i++) {
+            contagens[i] += outro.contagens[i];
+        }
+        quantidade += outro.quantidade;
+        soma += outro.soma;
+        minimo = Math.min(minimo, outro.minimo);
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    /**
+     * Retorna quantos valores foram registrados.
+     *
+     * @return A quantidade de ocorrências.
+     */
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Retorna a média exata dos valores registrados.
+     *
+     * @return A média, ou zero se nada foi registrado.
+     */
+    public double getMedia() {
+        return quantidade == 0 ? 0 : (double) soma / quantidade;
+    }
+
+    /**
+     * Retorna o menor valor registrado.
+     *
+     * @return O mínimo exato, ou zero se nada foi registrado.
+     */
+    public int getMinimo() {
+        return quantidade == 0 ? 0 : minimo;
+    }
+
+    /**
+     * Retorna o maior valor registrado.
+     *
+     * @return O máximo exato, ou zero se nada foi registrado.
+     */
+    public int getMaximo() {
+        return maximo;
+    }
+
+    /**
+     * Retorna o percentil informado: o maior valor da faixa em que cai a
+     * ocorrência de posição {@code ceil(percentil / 100 * quantidade)}, limitado
+     * ao mínimo e ao máximo registrados.
+     *
+     * @param percentil O percentil desejado, entre 0 e 100.
+     * @return O valor do percentil, ou zero se nada foi registrado.
+     * @throws IllegalArgumentException se o percentil estiver fora do intervalo.
+     */
+    public int percentil(double percentil) {
+        if (percentil < 0 || percentil > 100) {
+            throw new IllegalArgumentException("Percentil fora do intervalo [0, 100]: " + percentil);
+        }
+        if (quantidade == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(percentil / 100 * quantidade));
+        long acumulado = 0;
+        int ultima = indice(maximo);
+        for (int i = 0; i <= ultima; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= posicao) {
+                return Math.max(minimo, Math.min(maximo, limiteSuperior(i)));
+            }
+        }
+        return maximo;
+    }
+
+    /**
+     * Descarta todos os registros, mantendo o vetor de contagens para reuso.
+     */
+    public void resetar() {
+        if (contagens != null) {
+            Arrays.fill(contagens, 0);
+        }
+        quantidade = 0;
+        soma = 0;
+        minimo = Integer.MAX_VALUE;
+        maximo = 0;
+    }
+
+    /** Garante que o vetor de contagens alcance a faixa informada. */
+    private void garantirFaixa(int faixa) {
+        if (contagens == null) {
+            contagens = new long[Math.max(LIMITE_EXATO, faixa + 1)];
+        } else if (faixa >= contagens.length) {
+            contagens = Arrays.copyOf(contagens, Math.min(QUANTIDADE_FAIXAS, Math.max(faixa + 1, 2 * contagens.length)));
+        }
+    }
+
+    /**
+     * Retorna a faixa de um valor: o próprio valor abaixo de {@link #LIMITE_EXATO}
+     * e, acima dele, {@link #SUBFAIXAS} faixas por potência de dois.
+     */
+    static int indice(int valor) {
+        if (valor < LIMITE_EXATO) {
+            return valor;
+        }
+        int deslocamento = (31 - Integer.numberOfLeadingZeros(valor)) - (BITS_PRECISAO - 1);
+        return deslocamento * SUBFAIXAS + (valor >>> deslocamento);
+    }
+
+    /** Retorna o maior valor que cai na faixa informada. */
+    static int limiteSuperior(int faixa) {
+        if (faixa < LIMITE_EXATO) {
+            return faixa;
+        }
+        int deslocamento = faixa / SUBFAIXAS - 1;
+        int inicio = (faixa % SUBFAIXAS + SUBFAIXAS) << deslocamento;
+        return inicio + ((1 << deslocamento) - 1);
+    }
+}
@@ -0,0 +1,50 @@
+package simulador.metricas;
+
+/**
+ * As distribuições que a simulação registra em um {@link Histograma}, além
+ * dos totais do dia.
+ */
+public enum Metrica {
+
+    /** Tempo que cada caminhão pequeno esperou na fila da estação antes de descarregar, inclusive zero. */
+    ESPERA_FILA("Espera na fila", "min"),
+
+    /** Tempo entre a primeira carga de um caminhão grande e a sua partida para o aterro. */
+    TEMPO_ENCHIMENTO("Enchimento", "min"),
+
+    /** Duração de cada viagem de coleta de um caminhão pequeno. */
+    DURACAO_VIAGEM("Viagem de coleta", "min"),
+
+    /**
+     * Tempo de descarga de cada estação no dia sobre o tempo disponível nas
+     * vagas do pátio até o último evento. Como as descargas de uma estação não
+     * esperam umas pelas outras, o valor pode passar de 100.
+     */
+    UTILIZACAO_ESTACAO("Uso da estação", "%");
+
+    private final String descricao;
+    private final String unidade;
+
+    Metrica(String descricao, String unidade) {
+        this.descricao = descricao;
+        this.unidade = unidade;
+    }
+
+    /**
+     * Retorna o nome da métrica para exibição.
+     *
+     * @return A descrição curta.
+     */
+    public String getDescricao() {
+        return descricao;
+    }
+
+    /**
+     * Retorna a unidade dos valores registrados.
+     *
+     * @return A unidade, como {@code "min"} ou {@code "%"}.
+     */
+    public String getUnidade() {
+        return unidade;
+    }
+}
@@ -0,0 +1,125 @@
+package simulador.motor;
+
+import simulador.EstatisticasDia;
+import simulador.caminhoes.CaminhaoPequeno;
+import simulador.estacoes.EstacaoDeTransferencia;
+import simulador.eventos.Evento;
+import simulador.zona.Zona;
+
+import java.util.Comparator;
+
+/**
+ * Um evento agendado na execução otimista, com tudo o que é preciso para
+ * desfazê-lo: a chave que o ordena, o estado salvo antes da sua execução, os
+ * eventos que ele agendou e os que ele cancelou.
+ * <p>
+ * A chave reproduz a da agenda única do {@link MotorSequencial}: tempo, classe
+ * de prioridade e a ordem em que o evento foi agendado. Essa ordem é a do
+ * evento que o agendou e, entre os agendados pelo mesmo evento, a posição
+ * dele; os primeiros eventos do dia vêm antes de todos os outros. Assim, no
+ * mesmo tempo e prioridade, a comparação sobe pelos eventos que agendaram cada
+ * um até encontrar uma diferença, e a ordem não depende de quando cada
+ * partição recebeu cada mensagem. Um evento confirmado recebe o seu número na
+ * ordem de confirmação, que é a mesma, e deixa de precisar de quem o agendou.
+ * Um {@link AvisoZonaLimpa} vem logo depois da coleta que o enviou.
+ */
+final class Agendamento {
+
+    /** Ordem de execução dos agendamentos. */
+    static final Comparator<Agendamento> ORDEM = Agendamento::comparar;
+
+    Evento evento;
+    final int tempo;
+    final int prioridade;
+    /** O evento que agendou este, ou {@code null} para um dos primeiros eventos do dia ou depois da confirmação. */
+    Agendamento pai;
+    /** A posição entre os eventos agendados pelo pai, ou entre os primeiros eventos do dia. */
+    final int ordem;
+    final boolean aviso;
+    final int destino;
+
+    /** Cancelado pela simulação (ex.: geração de caminhão grande que deixou de ser necessária). */
+    boolean cancelado;
+    /** Desfeito por quem o agendou; nunca será executado. */
+    boolean anulado;
+    /** Retirado da fila de pendentes e executado (ou descartado, se cancelado). */
+    boolean processado;
+    /** Abaixo do GVT; não pode mais ser desfeito. */
+    boolean confirmado;
+    /** A posição na ordem de confirmação de todas as partições. */
+    long ordemConfirmacao;
+
+    /* Encadeamentos: lista de processados da partição, saídas e cancelamentos do agendamento que o criou. */
+    Agendamento anteriorProcessado;
+    Agendamento proximoProcessado;
+    Agendamento proximaSaida;
+    Agendamento proximoCancelado;
+
+    /* O que foi feito pela execução: eventos agendados e eventos cancelados. */
+    Agendamento saidas;
+    Agendamento cancelados;
+
+    /* Quantos eventos a execução agendou até agora. */
+    int agendados;
+
+    /* Estado salvo antes da execução, apenas das entidades que o evento altera. */
+    CaminhaoPequeno caminhao;
+    CaminhaoPequeno.Estado estadoCaminhao;
+    Zona zona;
+    Zona.Estado estadoZona;
+    EstatisticasDia estatisticas;
+    EstacaoDeTransferencia.Estado estadoEstacao;
+    int caminhoesGrandesCriados;
+    Zona zonaAvisada;
+    boolean zonaLimpaAntes;
+
+    Agendamento(Evento evento, Agendamento pai, int ordem, int destino) {
+        this.evento = evento;
+        this.tempo = evento.getTempo();
+        this.prioridade = evento.getPrioridade().ordinal();
+        this.pai = pai;
+        this.ordem = ordem;
+        this.aviso = evento instanceof AvisoZonaLimpa;
+        this.destino = destino;
+    }
+
+    /** Descarta o estado salvo e as listas de saídas e cancelamentos. */
+    void esquecerExecucao() {
+        saidas = null;
+        cancelados = null;
+        caminhao = null;
+        estadoCaminhao = null;
+        zona = null;
+        estadoZona = null;
+        estatisticas = null;
+        estadoEstacao = null;
+        zonaAvisada = null;
+    }
+
+    /** Confirma o agendamento na posição informada e solta a referência a quem o agendou. */
+    void confirmar(long ordemConfirmacao) {
+        confirmado = true;
+        this.ordemConfirmacao = ordemConfirmacao;
+        pai = null;
+    }
+
+    private static int comparar(Agendamento a, Agendamento b) {
+        if (a == b) return 0;
+        if (a.tempo != b.tempo) return Integer.compare(a.tempo, b.tempo);
+        if (a.prioridade != b.prioridade) return Integer.compare(a.prioridade, b.prioridade);
+        if (a.confirmado || b.confirmado) {
+            if (a.confirmado && b.confirmado) return Long.compare(a.ordemConfirmacao, b.ordemConfirmacao);
+            return a.confirmado ? -1 : 1;
+        }
+        if (a.aviso || b.aviso) {
+            int comparacao = comparar(a.aviso ? a.pai : a, b.aviso ? b.pai : b);
+            if (comparacao != 0) return comparacao;
+            if (a.aviso && b.aviso) return Integer.compare(a.ordem, b.ordem);
+            return a.aviso ? 1 : -1;
+        }
+        if (a.pai == b.pai) return Integer.compare(a.ordem, b.ordem);
+        if (a.pai == null) return -1;
+        if (b.pai == null) return 1;
+        return comparar(a.pai, b.pai);
+    }
+}
@@ -0,0 +1,33 @@
+package simulador.motor;
+
+import simulador.ContextoSimulacao;
+import simulador.eventos.Evento;
+import simulador.eventos.PrioridadeEvento;
+import simulador.zona.Zona;
+
+/**
+ * Mensagem da execução otimista que avisa uma partição de que uma zona de
+ * outra estação ficou limpa. É enviada pela partição dona da zona no mesmo
+ * minuto da coleta que a esvaziou e, como qualquer mensagem, é anulada se essa
+ * coleta for desfeita.
+ */
+final class AvisoZonaLimpa extends Evento {
+
+    private final Zona zona;
+    private final ParticaoOtimista destino;
+
+    AvisoZonaLimpa(int tempo, Zona zona, ParticaoOtimista destino) {
+        super(tempo, PrioridadeEvento.CAMINHAO);
+        this.zona = zona;
+        this.destino = destino;
+    }
+
+    Zona getZona() {
+        return zona;
+    }
+
+    @Override
+    public void executar(ContextoSimulacao contexto) {
+        destino.marcarZonaLimpa(zona, true);
+    }
+}
@@ -0,0 +1,100 @@
+package simulador.motor;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Executa as partições de um motor paralelo em rodadas separadas por uma
+ * barreira. Antes de cada rodada, com todas as threads paradas, o motor
+ * prepara a rodada seguinte; durante a rodada, cada thread trabalha nas
+ * partições {@code primeira}, {@code primeira + passo}, e assim por diante.
+ * Com uma única thread, tudo roda na thread que chamou, sem barreira.
+ * <p>
+ * Uma falha em qualquer thread rompe a barreira, encerra as demais e é
+ * relançada na thread que chamou.
+ */
+final class ExecucaoEmRodadas {
+
+    /** O trabalho de uma thread em uma rodada. */
+    interface Trabalho {
+        void executar(int primeira, int passo);
+    }
+
+    private final BooleanSupplier abrirRodada;
+    private final Trabalho trabalho;
+
+    /* Escritos na ação da barreira e lidos pelas threads depois dela. */
+    private boolean encerrado;
+    private Throwable falha;
+
+    private ExecucaoEmRodadas(BooleanSupplier abrirRodada, Trabalho trabalho) {
+        this.abrirRodada = abrirRodada;
+        this.trabalho = trabalho;
+    }
+
+    /**
+     * Executa rodadas até que {@code abrirRodada} devolva {@code false}.
+     *
+     * @param threads     O número de threads.
+     * @param abrirRodada Prepara a próxima rodada; roda sempre em uma única
+     *                    thread, com as demais paradas.
+     * @param trabalho    O que cada thread faz em uma rodada.
+     */
+    static void executar(int threads, BooleanSupplier abrirRodada, Trabalho trabalho) {
+        if (threads == 1) {
+            while (abrirRodada.getAsBoolean()) {
+                trabalho.executar(0, 1);
+            }
+            return;
+        }
+        new ExecucaoEmRodadas(abrirRodada, trabalho).executarEmParalelo(threads);
+    }
+
+    private void executarEmParalelo(int quantidade) {
+        CyclicBarrier barreira = new CyclicBarrier(quantidade, () -> encerrado = !abrirRodada.getAsBoolean());
+        Thread[] auxiliares = new Thread[quantidade - 1];
+        for (int t = 1; t < quantidade; t++) {
+            int primeira = t;
+            auxiliares[t - 1] = new Thread(() -> trabalhar(primeira, quantidade, barreira), "particao-" + t);
+            auxiliares[t - 1].setDaemon(true);
+            auxiliares[t - 1].start();
+        }
+        trabalhar(0, quantidade, barreira);
+        for (Thread auxiliar : auxiliares) {
+            try {
+                auxiliar.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Execução particionada interrompida", e);
+            }
+        }
+        if (falha instanceof RuntimeException) {
+            throw (RuntimeException) falha;
+        }
+        if (falha instanceof Error) {
+            throw (Error) falha;
+        }
+        if (falha != null) {
+            throw new IllegalStateException("Falha na execução particionada", falha);
+        }
+    }
+
+    /** Laço de uma thread: espera a rodada ser aberta e executa o seu trabalho. */
+    private void trabalhar(int primeira, int passo, CyclicBarrier barreira) {
+        try {
+            while (true) {
+                barreira.await();
+                if (encerrado) return;
+                trabalho.executar(primeira, passo);
+            }
+        } catch (BrokenBarrierException e) {
+            // Outra thread falhou e já registrou o motivo
+        } catch (Throwable t) {
+            synchronized (this) {
+                if (falha == null) falha = t;
+            }
+            barreira.reset();
+        }
+    }
+}
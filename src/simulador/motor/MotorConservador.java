@@ -0,0 +1,241 @@
+package simulador.motor;
+
+import simulador.ContextoSimulacao;
+import simulador.EstatisticasDia;
+import simulador.caminhoes.CaminhaoPequeno;
+import simulador.configTempo.GerenciadorTempo;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.eventos.AgendaEventos;
+import simulador.eventos.EventoColeta;
+import simulador.zona.GerenciadorZonas;
+
+/**
+ * Executa um dia em paralelo, com uma partição por estação de transferência.
+ * <p>
+ * Cada estação, com as zonas que atende, tem o seu próprio contexto e a sua
+ * própria agenda (ver {@link ContextoSimulacao#criarParticao}). Os caminhões
+ * passam de uma partição para outra quando seguem para uma zona de outra
+ * estação; só nesse momento as partições trocam eventos. A execução avança
+ * em janelas: entre duas janelas as partições se sincronizam, os eventos
+ * trocados são entregues e o motor calcula até onde todas podem avançar sem
+ * que nenhuma receba um evento do seu passado. Esse limite vem do menor
+ * atraso entre um evento de caminhão e a chegada a outra partição: o tempo
+ * mínimo de viagem ({@code TEMPO_MIN_*}) ou o redirecionamento para a zona
+ * seguinte. Eventos de estação podem liberar um caminhão no mesmo minuto e
+ * limitam a janela ao seu próprio horário; no minuto do limite ainda rodam
+ * os eventos que vêm antes de qualquer coleta nova.
+ * <p>
+ * Os empates entre partições seguem a chave da agenda única: tempo,
+ * {@link simulador.eventos.PrioridadeEvento prioridade} e número de
+ * sequência. Entre duas janelas, o motor intercala os eventos executados por
+ * todas as partições nessa ordem e dá a cada evento agendado por eles a
+ * sequência que ele teria no {@link MotorSequencial}; os eventos trocados
+ * entre partições chegam com essa sequência. A intercalação só avança até o
+ * primeiro evento executado que tem, em alguma agenda, um evento pendente
+ * anterior a ele. As zonas que ficam limpas são avisadas às outras partições
+ * com a chave da coleta que as esvaziou, e os caminhões grandes recebem os
+ * identificadores na ordem em que são intercalados (ver {@link Particao}).
+ * <p>
+ * Assim, cada partição executa os seus eventos na mesma ordem relativa e vendo
+ * o mesmo estado que na execução sequencial, e os resultados são idênticos aos
+ * do {@link MotorSequencial}, qualquer que seja o número de threads. As
+ * partições não têm registro nem visualização: só os resumos do dia, escritos
+ * pelo simulador, aparecem no log.
+ */
+public class MotorConservador implements MotorEventos {
+
+    private final int threads;
+    private ContextoSimulacao contexto;
+    private Particao[] particoes;
+    private GerenciadorZonas gerenciador;
+
+    /** A última sequência usada na agenda única que a execução reproduz. */
+    private long ultimaSequencia;
+
+    private int lookahead;
+    private int janelas;
+
+    private int tempoUltimoEvento;
+    private int eventosExecutados;
+    private int eventosCancelados;
+
+    /**
+     * Cria um motor que usa até o número de threads informado.
+     *
+     * @param threads O número máximo de threads; não passa do número de estações.
+     * @throws IllegalArgumentException se o número de threads não for positivo.
+     */
+    public MotorConservador(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Número de threads deve ser positivo: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    @Override
+    public void iniciar(ContextoSimulacao contexto, int estacoes) {
+        this.contexto = contexto;
+        this.particoes = new Particao[estacoes];
+        this.ultimaSequencia = 0;
+        for (int i = 0; i < estacoes; i++) {
+            particoes[i] = new Particao(i, contexto.criarParticao());
+        }
+    }
+
+    @Override
+    public ContextoSimulacao getContextoEstacao(int estacao) {
+        return particoes[estacao].getContexto();
+    }
+
+    @Override
+    public void setGerenciadorZonas(GerenciadorZonas gerenciador) {
+        this.gerenciador = gerenciador;
+        for (Particao particao : particoes) {
+            particao.setGerenciadorZonas(gerenciador);
+            // Os caminhões grandes do pátio, criados com as estações, na ordem das estações
+            particao.getContexto().numerarCaminhoesGrandes(particao.getContexto().getCaminhoesGrandesSemId());
+        }
+        // Os primeiros eventos do dia, agendados no contexto principal, vão direto para a partição da zona
+        contexto.getAgenda().setEncaminhador(evento -> {
+            if (!(evento instanceof EventoColeta)) {
+                throw new IllegalStateException("Evento sem partição: " + evento);
+            }
+            particoes[Particao.destino((EventoColeta) evento, gerenciador)].getContexto().getAgenda()
+                    .adicionarEvento(evento, ++ultimaSequencia);
+            return true;
+        });
+    }
+
+    @Override
+    public void processarDia() {
+        ParametrosSimulacao parametros = contexto.getParametros();
+        for (Particao particao : particoes) {
+            particao.getContexto().setParametros(parametros);
+            particao.iniciarDia();
+        }
+        lookahead = Math.min(CaminhaoPequeno.ATRASO_REDIRECIONAMENTO, GerenciadorTempo.tempoMinimoViagem(parametros));
+        janelas = 0;
+
+        ExecucaoEmRodadas.executar(Math.min(threads, particoes.length), this::abrirJanela, (primeira, passo) -> {
+            for (int i = primeira; i < particoes.length; i += passo) {
+                particoes[i].processar();
+            }
+        });
+
+        EstatisticasDia estatisticas = contexto.getEstatisticas();
+        tempoUltimoEvento = 0;
+        eventosExecutados = 0;
+        eventosCancelados = 0;
+        for (Particao particao : particoes) {
+            AgendaEventos agenda = particao.getContexto().getAgenda();
+            estatisticas.acumular(particao.getContexto().getEstatisticas());
+            tempoUltimoEvento = Math.max(tempoUltimoEvento, agenda.getTempoUltimoEvento());
+            eventosExecutados += agenda.getEventosExecutados();
+            eventosCancelados += agenda.getEventosCancelados();
+        }
+    }
+
+    /**
+     * Conclui a janela anterior e calcula a próxima. Roda sempre em uma única
+     * thread, com as partições paradas.
+     *
+     * @return {@code false} se não houver mais eventos em nenhuma partição.
+     */
+    private boolean abrirJanela() {
+        concluirJanela();
+        boolean pendente = false;
+        int fim = Integer.MAX_VALUE;
+        long base = ultimaSequencia + 1;
+        for (Particao particao : particoes) {
+            pendente |= particao.temPendente();
+            fim = Math.min(fim, particao.limiteEnvio(lookahead));
+            particao.calcularPendente(base);
+        }
+        if (!pendente) {
+            return false;
+        }
+        for (Particao particao : particoes) {
+            fim = Math.min(fim, particao.anotarEnviosPendentes(base, particoes));
+        }
+        for (Particao particao : particoes) {
+            particao.abrirJanela(fim, base, particoes);
+        }
+        janelas++;
+        return true;
+    }
+
+    /**
+     * Intercala os eventos executados pelas partições, na ordem da agenda
+     * única, para dar a sequência definitiva aos eventos que eles agendaram, e
+     * entrega os eventos trocados. Cada partição executou os seus em ordem,
+     * então o próximo evento a intercalar é sempre o menor entre os primeiros
+     * de cada partição que já têm sequência definitiva. A intercalação para
+     * quando uma agenda ainda tem um evento anterior a ele: os eventos
+     * executados depois desse ponto ficam para o fim da próxima janela.
+     */
+    private void concluirJanela() {
+        while (true) {
+            Particao escolhida = null;
+            for (Particao particao : particoes) {
+                if (particao.temIntercalavel() && (escolhida == null || particao.compararIntercalavel(escolhida) < 0)) {
+                    escolhida = particao;
+                }
+            }
+            if (escolhida == null || algumaPendenteAntes(escolhida)) {
+                break;
+            }
+            ultimaSequencia = escolhida.intercalarProximo(ultimaSequencia, particoes);
+        }
+        for (Particao particao : particoes) {
+            particao.compactar();
+        }
+    }
+
+    private boolean algumaPendenteAntes(Particao escolhida) {
+        for (Particao particao : particoes) {
+            if (particao.temPendenteAntes(escolhida)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Retorna em quantas janelas o último dia foi dividido.
+     *
+     * @return O número de sincronizações do último dia.
+     */
+    public int getJanelas() {
+        return janelas;
+    }
+
+    @Override
+    public int getTempoUltimoEvento() {
+        return tempoUltimoEvento;
+    }
+
+    @Override
+    public int getEventosExecutados() {
+        return eventosExecutados;
+    }
+
+    @Override
+    public int getEventosCancelados() {
+        return eventosCancelados;
+    }
+
+    /** Os caminhões grandes das partições recebem os identificadores do contexto principal. */
+    @Override
+    public int getCaminhoesGrandesCriados() {
+        return contexto.getNumeroCaminhoesGrandesCriados();
+    }
+
+    @Override
+    public void resetarDia() {
+        contexto.getAgenda().resetar();
+        ultimaSequencia = 0;
+        for (Particao particao : particoes) {
+            particao.resetar();
+        }
+    }
+}
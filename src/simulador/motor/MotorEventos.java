@@ -0,0 +1,81 @@
+package simulador.motor;
+
+import simulador.ContextoSimulacao;
+import simulador.zona.GerenciadorZonas;
+
+/**
+ * Define como o {@link simulador.Simulador} executa os eventos de cada dia.
+ * <p>
+ * O simulador cria as estações ligadas aos contextos devolvidos por
+ * {@link #getContextoEstacao(int)}, agenda os primeiros eventos do dia na
+ * agenda do contexto principal e chama {@link #processarDia()}. Ao final, as
+ * estatísticas do dia estão no contexto principal e os contadores do motor
+ * descrevem o dia inteiro, qualquer que seja a forma de execução.
+ *
+ * @see MotorSequencial
+ * @see MotorConservador
+ */
+public interface MotorEventos {
+
+    /**
+     * Prepara o motor para uma nova simulação.
+     *
+     * @param contexto O contexto principal da simulação.
+     * @param estacoes O número de estações de transferência.
+     */
+    void iniciar(ContextoSimulacao contexto, int estacoes);
+
+    /**
+     * Retorna o contexto ao qual a estação informada deve ser ligada.
+     *
+     * @param estacao O índice da estação, na ordem do {@link GerenciadorZonas}.
+     * @return O contexto da estação.
+     */
+    ContextoSimulacao getContextoEstacao(int estacao);
+
+    /**
+     * Informa a divisão das zonas entre as estações. Chamado depois que as
+     * rotas foram calculadas e antes do primeiro dia.
+     *
+     * @param gerenciador O gerenciador de zonas da simulação.
+     */
+    void setGerenciadorZonas(GerenciadorZonas gerenciador);
+
+    /**
+     * Executa todos os eventos do dia e soma as estatísticas ao contexto principal.
+     */
+    void processarDia();
+
+    /**
+     * Retorna o tempo do último evento executado no dia.
+     *
+     * @return O tempo em minutos.
+     */
+    int getTempoUltimoEvento();
+
+    /**
+     * Retorna quantos eventos foram executados no dia.
+     *
+     * @return O número de eventos executados.
+     */
+    int getEventosExecutados();
+
+    /**
+     * Retorna quantos eventos foram cancelados no dia.
+     *
+     * @return O número de eventos cancelados.
+     */
+    int getEventosCancelados();
+
+    /**
+     * Retorna quantos caminhões grandes foram criados desde o início da simulação.
+     *
+     * @return O total de caminhões grandes.
+     */
+    int getCaminhoesGrandesCriados();
+
+    /**
+     * Descarta o que sobrou do dia e prepara as agendas para o dia seguinte.
+     */
+    void resetarDia();
+}
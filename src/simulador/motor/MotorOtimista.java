@@ -0,0 +1,354 @@
+package simulador.motor;
+
+import simulador.ContextoSimulacao;
+import simulador.EstatisticasDia;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.eventos.EventoColeta;
+import simulador.zona.GerenciadorZonas;
+
+import java.io.PrintStream;
+
+/**
+ * Executa um dia em paralelo de forma otimista (Time Warp), com uma partição
+ * por estação de transferência.
+ * <p>
+ * Ao contrário do {@link MotorConservador}, as partições não esperam umas
+ * pelas outras: cada uma executa os seus eventos assim que pode, guarda o
+ * estado do que cada evento altera e, quando recebe uma mensagem do passado,
+ * desfaz os eventos posteriores a ela e envia antimensagens para anular o que
+ * eles enviaram (ver {@link ParticaoOtimista}). As mensagens são entregues
+ * diretamente na caixa de entrada da partição de destino, a qualquer momento.
+ * <p>
+ * A execução avança em rodadas. Entre duas rodadas, com as threads paradas,
+ * as caixas de entrada são esvaziadas e o motor calcula o GVT, o evento
+ * pendente de menor chave entre todas as partições. Nada anterior a ele pode
+ * mais ser desfeito: esses eventos são confirmados e o estado guardado para
+ * eles é descartado. Durante a rodada, uma partição só executa eventos até
+ * {@code janela} minutos depois do GVT, o que limita o quanto ela pode se
+ * adiantar às outras e o quanto pode ter de desfazer.
+ * <p>
+ * A chave de cada evento reproduz a ordem da agenda única do
+ * {@link MotorSequencial}, inclusive entre eventos do mesmo minuto (ver
+ * {@link Agendamento}). Os eventos confirmados são sempre os mesmos, na mesma
+ * ordem, e os resultados são idênticos aos do motor sequencial, qualquer que
+ * seja o número de threads ou a janela; só o número de eventos desfeitos
+ * varia. Os caminhões grandes são numerados por partição, então os
+ * identificadores não são os da execução sequencial. Os caminhões pequenos passam de uma
+ * partição para outra por cópia, então os da lista do gerenciador não mostram
+ * o estado final do dia. As partições não têm registro nem visualização.
+ */
+public class MotorOtimista implements MotorEventos {
+
+    /** Janela de otimismo padrão, em minutos à frente do GVT. */
+    public static final int JANELA_PADRAO = 30;
+
+    private final int threads;
+    private final int janela;
+    private ContextoSimulacao contexto;
+    private ParticaoOtimista[] particoes;
+    private GerenciadorZonas gerenciador;
+    private int agendadosIniciais;
+    private long confirmados;
+
+    /* Escrito na ação da barreira e lido pelas threads depois dela. */
+    private int limite;
+    private int rodadas;
+
+    private int tempoUltimoEvento;
+    private int eventosExecutados;
+    private int eventosCancelados;
+    private long eventosProcessados;
+    private long eventosDesfeitos;
+    private long rollbacks;
+    private long antimensagens;
+    private long duracaoNanos;
+
+    /**
+     * Cria um motor com a janela de otimismo padrão.
+     *
+     * @param threads O número máximo de threads; não passa do número de estações.
+     * @throws IllegalArgumentException se o número de threads não for positivo.
+     */
+    public MotorOtimista(int threads) {
+        this(threads, JANELA_PADRAO);
+    }
+
+    /**
+     * Cria um motor que usa até o número de threads informado.
+     *
+     * @param threads O número máximo de threads; não passa do número de estações.
+     * @param janela  Até quantos minutos depois do GVT uma partição pode executar.
+     * @throws IllegalArgumentException se o número de threads ou a janela não forem positivos.
+     */
+    public MotorOtimista(int threads, int janela) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Número de threads deve ser positivo: " + threads);
+        }
+        if (janela < 1) {
+            throw new IllegalArgumentException("Janela de otimismo deve ser positiva: " + janela);
+        }
+        this.threads = threads;
+        this.janela = janela;
+    }
+
+    @Override
+    public void iniciar(ContextoSimulacao contexto, int estacoes) {
+        this.contexto = contexto;
+        this.particoes = new ParticaoOtimista[estacoes];
+        for (int i = 0; i < estacoes; i++) {
+            particoes[i] = new ParticaoOtimista(i, contexto.criarParticao(i, estacoes));
+        }
+    }
+
+    @Override
+    public ContextoSimulacao getContextoEstacao(int estacao) {
+        return particoes[estacao].getContexto();
+    }
+
+    @Override
+    public void setGerenciadorZonas(GerenciadorZonas gerenciador) {
+        this.gerenciador = gerenciador;
+        for (ParticaoOtimista particao : particoes) {
+            particao.setGerenciadorZonas(gerenciador, particoes);
+        }
+        // Os primeiros eventos do dia, agendados no contexto principal, vão direto para a partição da zona
+        contexto.getAgenda().setEncaminhador(evento -> {
+            if (!(evento instanceof EventoColeta)) {
+                throw new IllegalStateException("Evento sem partição: " + evento);
+            }
+            int destino = Particao.destino((EventoColeta) evento, gerenciador);
+            particoes[destino].agendarInicial(new Agendamento(evento, null, agendadosIniciais++, destino));
+            return true;
+        });
+    }
+
+    @Override
+    public void processarDia() {
+        ParametrosSimulacao parametros = contexto.getParametros();
+        for (ParticaoOtimista particao : particoes) {
+            particao.getContexto().setParametros(parametros);
+            particao.iniciarDia();
+        }
+        rodadas = 0;
+
+        long inicio = System.nanoTime();
+        ExecucaoEmRodadas.executar(Math.min(threads, particoes.length), this::abrirRodada, this::avancar);
+        duracaoNanos = System.nanoTime() - inicio;
+
+        EstatisticasDia estatisticas = contexto.getEstatisticas();
+        tempoUltimoEvento = 0;
+        eventosExecutados = 0;
+        eventosCancelados = 0;
+        eventosProcessados = 0;
+        eventosDesfeitos = 0;
+        rollbacks = 0;
+        antimensagens = 0;
+        for (ParticaoOtimista particao : particoes) {
+            estatisticas.acumular(particao.getContexto().getEstatisticas());
+            tempoUltimoEvento = Math.max(tempoUltimoEvento, particao.getTempoUltimoEvento());
+            eventosExecutados += particao.getConfirmados();
+            eventosCancelados += particao.getCanceladosConfirmados();
+            eventosProcessados += particao.getProcessados();
+            eventosDesfeitos += particao.getDesfeitos();
+            rollbacks += particao.getRollbacks();
+            antimensagens += particao.getAntimensagens();
+        }
+    }
+
+    /**
+     * Trabalho de uma thread em uma rodada: executa, um evento de cada vez e
+     * alternando entre elas, as partições {@code primeira}, {@code primeira + passo},
+     * e assim por diante, até que nenhuma tenha eventos antes do limite.
+     */
+    private void avancar(int primeira, int passo) {
+        boolean progresso = true;
+        while (progresso) {
+            progresso = false;
+            for (int i = primeira; i < particoes.length; i += passo) {
+                progresso |= particoes[i].processarProximo(limite);
+            }
+        }
+    }
+
+    /**
+     * Esvazia as caixas de entrada, calcula o GVT, confirma os eventos
+     * anteriores a ele e define o limite da próxima rodada. Roda sempre em uma
+     * única thread, com as partições paradas.
+     *
+     * @return {@code false} se não houver mais eventos em nenhuma partição.
+     */
+    private boolean abrirRodada() {
+        // Uma mensagem pode desfazer eventos e gerar antimensagens para outras partições
+        boolean recebeu = true;
+        while (recebeu) {
+            recebeu = false;
+            for (ParticaoOtimista particao : particoes) {
+                recebeu |= particao.receberMensagens();
+            }
+        }
+        Agendamento gvt = null;
+        for (ParticaoOtimista particao : particoes) {
+            Agendamento proximo = particao.proximoPendente();
+            if (proximo != null && (gvt == null || Agendamento.ORDEM.compare(proximo, gvt) < 0)) {
+                gvt = proximo;
+            }
+        }
+        confirmarAte(gvt);
+        if (gvt == null) {
+            return false;
+        }
+        limite = (int) Math.min((long) gvt.tempo + janela, Integer.MAX_VALUE);
+        rodadas++;
+        return true;
+    }
+
+    /**
+     * Confirma os eventos processados com chave menor que o GVT, na ordem
+     * dessa chave entre todas as partições. Cada partição processou os seus
+     * em ordem, então o próximo a confirmar é sempre o menor entre os
+     * primeiros de cada partição.
+     * Os anulados saem antes dos pendentes, porque a confirmação muda a
+     * comparação entre eles e os agendamentos refeitos no lugar deles.
+     */
+    private void confirmarAte(Agendamento gvt) {
+        for (ParticaoOtimista particao : particoes) {
+            particao.descartarAnulados();
+        }
+        while (true) {
+            ParticaoOtimista escolhida = null;
+            for (ParticaoOtimista particao : particoes) {
+                if (particao.temConfirmavel(gvt) && (escolhida == null || particao.compararConfirmavel(escolhida) < 0)) {
+                    escolhida = particao;
+                }
+            }
+            if (escolhida == null) {
+                break;
+            }
+            escolhida.confirmarPrimeiro(++confirmados);
+        }
+        for (ParticaoOtimista particao : particoes) {
+            particao.esquecerCancelaveisEncerrados();
+        }
+    }
+
+    /**
+     * Retorna em quantas rodadas o último dia foi dividido.
+     *
+     * @return O número de cálculos do GVT no último dia.
+     */
+    public int getRodadas() {
+        return rodadas;
+    }
+
+    /**
+     * Retorna quantas execuções de eventos houve no último dia, contando as
+     * que foram desfeitas depois.
+     *
+     * @return O número de eventos processados.
+     */
+    public long getEventosProcessados() {
+        return eventosProcessados;
+    }
+
+    /**
+     * Retorna quantas execuções de eventos foram desfeitas no último dia.
+     *
+     * @return O número de eventos desfeitos.
+     */
+    public long getEventosDesfeitos() {
+        return eventosDesfeitos;
+    }
+
+    /**
+     * Retorna quantas vezes alguma partição teve de voltar no tempo no último dia.
+     *
+     * @return O número de rollbacks.
+     */
+    public long getRollbacks() {
+        return rollbacks;
+    }
+
+    /**
+     * Retorna quantas antimensagens foram enviadas no último dia.
+     *
+     * @return O número de antimensagens.
+     */
+    public long getAntimensagens() {
+        return antimensagens;
+    }
+
+    /**
+     * Retorna a fração das execuções do último dia que foi desfeita.
+     *
+     * @return Eventos desfeitos sobre eventos processados, entre 0 e 1.
+     */
+    public double getRazaoRollback() {
+        return eventosProcessados == 0 ? 0 : (double) eventosDesfeitos / eventosProcessados;
+    }
+
+    /**
+     * Retorna a vazão de eventos confirmados no último dia.
+     *
+     * @return Eventos confirmados por segundo de execução.
+     */
+    public double getVazaoConfirmada() {
+        return duracaoNanos == 0 ? 0 : eventosExecutados / (duracaoNanos / 1e9);
+    }
+
+    /**
+     * Imprime os indicadores da execução otimista do último dia.
+     *
+     * @param saida Onde o quadro será impresso.
+     */
+    public void imprimirDesempenho(PrintStream saida) {
+        saida.println("+--------------------------------------------------+");
+        saida.printf("| %-48s |%n", "EXECUÇÃO OTIMISTA");
+        saida.println("+--------------------------------------------------+");
+        saida.printf("| %-28s | %17d |%n", "Partições", particoes.length);
+        saida.printf("| %-28s | %17d |%n", "Threads", Math.min(threads, particoes.length));
+        saida.printf("| %-28s | %13d min |%n", "Janela de otimismo", janela);
+        saida.printf("| %-28s | %17d |%n", "Rodadas (GVT)", rodadas);
+        saida.printf("| %-28s | %17d |%n", "Eventos confirmados", eventosExecutados);
+        saida.printf("| %-28s | %17d |%n", "Eventos processados", eventosProcessados);
+        saida.printf("| %-28s | %17d |%n", "Eventos desfeitos", eventosDesfeitos);
+        saida.printf("| %-28s | %17d |%n", "Rollbacks", rollbacks);
+        saida.printf("| %-28s | %17d |%n", "Antimensagens", antimensagens);
+        saida.printf("| %-28s | %15.1f %% |%n", "Razão de rollback", getRazaoRollback() * 100);
+        saida.printf("| %-28s | %11.0f ev/s |%n", "Vazão confirmada", getVazaoConfirmada());
+        saida.println("+--------------------------------------------------+");
+    }
+
+    @Override
+    public int getTempoUltimoEvento() {
+        return tempoUltimoEvento;
+    }
+
+    @Override
+    public int getEventosExecutados() {
+        return eventosExecutados;
+    }
+
+    @Override
+    public int getEventosCancelados() {
+        return eventosCancelados;
+    }
+
+    @Override
+    public int getCaminhoesGrandesCriados() {
+        int total = contexto.getNumeroCaminhoesGrandesCriados();
+        for (ParticaoOtimista particao : particoes) {
+            total += particao.getContexto().getNumeroCaminhoesGrandesCriados();
+        }
+        return total;
+    }
+
+    @Override
+    public void resetarDia() {
+        contexto.getAgenda().resetar();
+        agendadosIniciais = 0;
+        confirmados = 0;
+        for (ParticaoOtimista particao : particoes) {
+            particao.resetar();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package simulador.motor;
+
+import simulador.ContextoSimulacao;
+import simulador.zona.GerenciadorZonas;
+
+/**
+ * Executa todos os eventos em uma única agenda, a do contexto principal,
+ * na thread que chamou o simulador. É o motor padrão.
+ */
+public class MotorSequencial implements MotorEventos {
+
+    private ContextoSimulacao contexto;
+
+    @Override
+    public void iniciar(ContextoSimulacao contexto, int estacoes) {
+        this.contexto = contexto;
+        contexto.getAgenda().setEncaminhador(null);
+    }
+
+    @Override
+    public ContextoSimulacao getContextoEstacao(int estacao) {
+        return contexto;
+    }
+
+    @Override
+    public void setGerenciadorZonas(GerenciadorZonas gerenciador) {
+    }
+
+    @Override
+    public void processarDia() {
+        contexto.getAgenda().processarEventos(contexto);
+    }
+
+    @Override
+    public int getTempoUltimoEvento() {
+        return contexto.getAgenda().getTempoUltimoEvento();
+    }
+
+    @Override
+    public int getEventosExecutados() {
+        return contexto.getAgenda().getEventosExecutados();
+    }
+
+    @Override
+    public int getEventosCancelados() {
+        return contexto.getAgenda().getEventosCancelados();
+    }
+
+    @Override
+    public int getCaminhoesGrandesCriados() {
+        return contexto.getNumeroCaminhoesGrandesCriados();
+    }
+
+    @Override
+    public void resetarDia() {
+        contexto.getAgenda().resetar();
+    }
+}
@@ -0,0 +1,531 @@
+package simulador.motor;
+
+import estruturas.filas.FilaPrioridade;
+import estruturas.lista.EstruturaLista;
+import simulador.ContextoSimulacao;
+import simulador.caminhoes.CaminhaoPequeno;
+import simulador.eventos.AgendaEventos;
+import simulador.eventos.EncaminhadorEventos;
+import simulador.eventos.Evento;
+import simulador.eventos.EventoColeta;
+import simulador.eventos.MonitorEventos;
+import simulador.eventos.PrioridadeEvento;
+import simulador.zona.GerenciadorZonas;
+import simulador.zona.VisaoZonas;
+import simulador.zona.Zona;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Uma estação de transferência e as zonas que ela atende, com agenda própria.
+ * <p>
+ * Todo evento agendado por um evento executado na partição passa por ela, que
+ * o anota na ordem de agendamento e lhe dá um número de sequência provisório,
+ * maior que todos os definitivos. A {@link EventoColeta} de um caminhão que
+ * segue para uma zona de outra estação não entra na agenda: fica anotada até
+ * ter a sequência definitiva. Entre duas janelas, o {@link MotorConservador}
+ * intercala os eventos executados por todas as partições na ordem da execução
+ * sequencial, e cada evento agendado por eles recebe a sequência que teria na
+ * agenda única; as coletas anotadas são entregues às partições de destino
+ * assim que a recebem. A intercalação para no primeiro evento executado que
+ * ainda tem, em alguma agenda, um evento pendente anterior a ele; o restante
+ * fica para o fim da janela seguinte.
+ * <p>
+ * Os caminhões da partição veem as próprias zonas como estão. Uma zona de
+ * outra estação só conta como limpa depois de um {@link #receberAviso aviso},
+ * que traz a chave (tempo, prioridade e sequência) da coleta que a esvaziou, e
+ * só para eventos com chave maior que essa. Para que nenhum aviso chegue
+ * atrasado, a coleta em uma zona já limpa, cujo caminhão vai procurar a
+ * próxima zona da rota, para a partição se a busca puder chegar a uma zona de
+ * outra estação ainda sem aviso: ela só é executada quando nenhuma outra
+ * partição tem evento anterior a ela, pendente, em trânsito ou executado e
+ * ainda não intercalado.
+ * <p>
+ * Os caminhões grandes criados na partição ficam sem identificador até a
+ * intercalação de quem os criou (ver {@link ContextoSimulacao#criarParticao()}).
+ */
+class Particao implements EncaminhadorEventos, MonitorEventos, VisaoZonas {
+
+    private static final int CAPACIDADE_INICIAL = 64;
+
+    /** Classe de prioridade das coletas, os únicos eventos que passam de uma partição para outra. */
+    private static final int PRIORIDADE_ENVIO = PrioridadeEvento.CAMINHAO.ordinal();
+
+    /** A primeira sequência provisória; as definitivas vêm todas antes dela. */
+    private static final long SEQUENCIA_PROVISORIA = 1L << 62;
+
+    private final int indice;
+    private final ContextoSimulacao contexto;
+    private final FilaPrioridade<Integer> temposEstacao = new FilaPrioridade<>(Integer::compare);
+    private final Predicate<Evento> podeExecutar = this::podeExecutar;
+    private GerenciadorZonas gerenciador;
+
+    /* Chave da coleta que esvaziou cada zona de outra estação; tempo MAX_VALUE enquanto ela tem lixo. */
+    private int[] tempoLimpeza;
+    private int[] prioridadeLimpeza;
+    private long[] sequenciaLimpeza;
+
+    /*
+     * Eventos agendados por eventos ainda não intercalados, na ordem de agendamento: a provisória
+     * do i-ésimo é SEQUENCIA_PROVISORIA + primeiroProvisorio + i, e a definitiva fica 0 até a
+     * intercalação de quem o agendou.
+     */
+    private Evento[] agendados = new Evento[CAPACIDADE_INICIAL];
+    private boolean[] enviados = new boolean[CAPACIDADE_INICIAL];
+    private long[] sequenciasDefinitivas = new long[CAPACIDADE_INICIAL];
+    private int quantidadeAgendados;
+    private long primeiroProvisorio;
+
+    /* Eventos executados e ainda não esquecidos, na ordem de execução; os objetos são reaproveitados. */
+    private Execucao[] executados = new Execucao[CAPACIDADE_INICIAL];
+    private int quantidadeExecutados;
+    private int proximoIntercalado;
+    private Execucao atual;
+
+    /* Limites da janela, escritos pelo motor entre as janelas. */
+    private long sequenciaBase;
+    private int fimJanela;
+    private int tempoLeitura;
+    private int prioridadeLeitura;
+    private long sequenciaLeitura;
+
+    /* Limite inferior da chave de tudo que ainda pode esvaziar uma zona desta partição. */
+    private int tempoPendente;
+    private int prioridadePendente;
+    private long sequenciaPendente;
+
+    /** Um evento executado e o trecho de {@code agendados} que ele agendou. */
+    private static final class Execucao {
+        int tempo;
+        int prioridade;
+        long sequencia;
+        int primeiroAgendado;
+        int fimAgendados;
+        int caminhoesGrandesCriados;
+        Zona zonaColeta;
+        Zona zonaEsvaziada;
+    }
+
+    Particao(int indice, ContextoSimulacao contexto) {
+        this.indice = indice;
+        this.contexto = contexto;
+        contexto.getAgenda().setEncaminhador(this);
+        contexto.getAgenda().setMonitor(this);
+        contexto.setVisaoZonas(this);
+    }
+
+    ContextoSimulacao getContexto() {
+        return contexto;
+    }
+
+    void setGerenciadorZonas(GerenciadorZonas gerenciador) {
+        this.gerenciador = gerenciador;
+        int zonas = gerenciador.getZonas().getTamanho();
+        tempoLimpeza = new int[zonas];
+        prioridadeLimpeza = new int[zonas];
+        sequenciaLimpeza = new long[zonas];
+    }
+
+    /**
+     * Copia o estado das zonas no início do dia, com todas as partições
+     * paradas: as que já estão limpas contam como limpas para qualquer evento.
+     */
+    void iniciarDia() {
+        for (Zona zona : gerenciador.getZonas()) {
+            tempoLimpeza[zona.getId()] = zona.estaLimpa() ? -1 : Integer.MAX_VALUE;
+            prioridadeLimpeza[zona.getId()] = 0;
+            sequenciaLimpeza[zona.getId()] = 0;
+        }
+    }
+
+    @Override
+    public boolean estaLimpa(Zona zona) {
+        int id = zona.getId();
+        if (gerenciador.getIndiceEstacao(id) == indice) {
+            return zona.estaLimpa();
+        }
+        if (atual == null) {
+            throw new IllegalStateException("Zona de outra estação consultada fora da execução de um evento: " + zona.getNome());
+        }
+        return comparar(tempoLimpeza[id], prioridadeLimpeza[id], sequenciaLimpeza[id],
+                atual.tempo, atual.prioridade, atual.sequencia) < 0;
+    }
+
+    /** Anota a limpeza de uma zona de outra estação; chamado entre as janelas. */
+    void receberAviso(Zona zona, int tempo, int prioridade, long sequencia) {
+        tempoLimpeza[zona.getId()] = tempo;
+        prioridadeLimpeza[zona.getId()] = prioridade;
+        sequenciaLimpeza[zona.getId()] = sequencia;
+    }
+
+    /**
+     * Retorna a partição que deve executar um evento de coleta: a da estação
+     * que atende a zona do evento.
+     */
+    static int destino(EventoColeta evento, GerenciadorZonas gerenciador) {
+        return gerenciador.getIndiceEstacao(evento.getZona().getId());
+    }
+
+    /**
+     * Anota o evento e o agenda aqui com a sequência provisória, ou o guarda
+     * para a partição de destino.
+     */
+    @Override
+    public boolean encaminhar(Evento evento) {
+        if (atual == null) {
+            throw new IllegalStateException("Evento agendado fora da execução de um evento: " + evento);
+        }
+        int posicao = quantidadeAgendados++;
+        if (posicao == agendados.length) {
+            agendados = Arrays.copyOf(agendados, 2 * posicao);
+            enviados = Arrays.copyOf(enviados, 2 * posicao);
+            sequenciasDefinitivas = Arrays.copyOf(sequenciasDefinitivas, 2 * posicao);
+        }
+        agendados[posicao] = evento;
+        sequenciasDefinitivas[posicao] = 0;
+        enviados[posicao] = evento instanceof EventoColeta && destino((EventoColeta) evento, gerenciador) != indice;
+        if (!enviados[posicao]) {
+            if (evento.getPrioridade() == PrioridadeEvento.ESTACAO) {
+                temposEstacao.adicionar(evento.getTempo());
+            }
+            contexto.getAgenda().adicionarEvento(evento, sequenciaProvisoria(posicao));
+        }
+        return true;
+    }
+
+    private long sequenciaProvisoria(int posicao) {
+        return SEQUENCIA_PROVISORIA + primeiroProvisorio + posicao;
+    }
+
+    @Override
+    public void antesDeExecutar(Evento evento, ContextoSimulacao contexto) {
+        if (quantidadeExecutados == executados.length) {
+            executados = Arrays.copyOf(executados, 2 * quantidadeExecutados);
+        }
+        Execucao execucao = executados[quantidadeExecutados];
+        if (execucao == null) {
+            execucao = executados[quantidadeExecutados] = new Execucao();
+        }
+        quantidadeExecutados++;
+        execucao.tempo = evento.getTempo();
+        execucao.prioridade = evento.getPrioridade().ordinal();
+        execucao.sequencia = evento.getSequencia();
+        execucao.primeiroAgendado = quantidadeAgendados;
+        execucao.caminhoesGrandesCriados = contexto.getNumeroCaminhoesGrandesCriados();
+        execucao.zonaColeta = evento instanceof EventoColeta && !((EventoColeta) evento).getZona().estaLimpa()
+                ? ((EventoColeta) evento).getZona() : null;
+        execucao.zonaEsvaziada = null;
+        atual = execucao;
+    }
+
+    @Override
+    public void depoisDeExecutar(Evento evento, ContextoSimulacao contexto) {
+        atual.fimAgendados = quantidadeAgendados;
+        atual.caminhoesGrandesCriados = contexto.getNumeroCaminhoesGrandesCriados() - atual.caminhoesGrandesCriados;
+        if (atual.zonaColeta != null && atual.zonaColeta.estaLimpa()) {
+            atual.zonaEsvaziada = atual.zonaColeta;
+        }
+        atual.zonaColeta = null;
+        atual = null;
+    }
+
+    /**
+     * Calcula até quando as outras partições podem avançar sem receber nada
+     * desta: um evento de caminhão só chega a outra partição depois de uma
+     * viagem ou de um redirecionamento, mas um evento de estação pode liberar
+     * um caminhão para outra partição no mesmo minuto.
+     *
+     * @param lookahead O menor atraso entre um evento de caminhão e um envio.
+     * @return O primeiro minuto em que esta partição pode ter enviado um evento.
+     */
+    int limiteEnvio(int lookahead) {
+        int proximo = contexto.getAgenda().getTempoProximoEvento();
+        if (proximo == Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        while (!temposEstacao.estaVazia() && temposEstacao.getMinimo() < proximo) {
+            temposEstacao.removerMinimo();
+        }
+        int limite = (int) Math.min((long) proximo + lookahead, Integer.MAX_VALUE);
+        if (!temposEstacao.estaVazia()) {
+            limite = Math.min(limite, temposEstacao.getMinimo());
+        }
+        return limite;
+    }
+
+    /**
+     * Verifica se sobrou algo do dia nesta partição: um evento na agenda ou um
+     * evento executado e ainda não intercalado.
+     */
+    boolean temPendente() {
+        return contexto.getAgenda().temEventos() || proximoIntercalado < quantidadeExecutados;
+    }
+
+    /**
+     * Calcula, entre as janelas, o limite inferior da chave de tudo o que esta
+     * partição ainda vai executar ou intercalar: o próximo evento da agenda e o
+     * primeiro evento executado ainda não intercalado. Uma sequência ainda
+     * desconhecida é, no mínimo, {@code sequenciaBase}.
+     *
+     * @param sequenciaBase O primeiro número de sequência ainda não usado na agenda única.
+     */
+    void calcularPendente(long sequenciaBase) {
+        tempoPendente = Integer.MAX_VALUE;
+        prioridadePendente = 0;
+        sequenciaPendente = 0;
+        Evento proximo = contexto.getAgenda().getProximoEvento();
+        if (proximo != null) {
+            long sequencia = proximo.getSequencia();
+            reduzirPendente(proximo.getTempo(), proximo.getPrioridade().ordinal(),
+                    sequencia < SEQUENCIA_PROVISORIA ? sequencia : sequenciaBase);
+        }
+        if (proximoIntercalado < quantidadeExecutados) {
+            Execucao execucao = executados[proximoIntercalado];
+            long sequencia = sequenciaDefinitiva(execucao);
+            reduzirPendente(execucao.tempo, execucao.prioridade, sequencia != 0 ? sequencia : sequenciaBase);
+        }
+    }
+
+    /**
+     * Inclui no limite das partições de destino as coletas enviadas por esta
+     * e ainda não entregues.
+     *
+     * @param sequenciaBase O primeiro número de sequência ainda não usado na agenda única.
+     * @param particoes     Todas as partições do motor.
+     * @return O menor minuto dessas coletas, ou {@code Integer.MAX_VALUE} se não houver nenhuma.
+     */
+    int anotarEnviosPendentes(long sequenciaBase, Particao[] particoes) {
+        int menor = Integer.MAX_VALUE;
+        for (int i = 0; i < quantidadeAgendados; i++) {
+            if (enviados[i] && sequenciasDefinitivas[i] == 0) {
+                EventoColeta evento = (EventoColeta) agendados[i];
+                particoes[destino(evento, gerenciador)].reduzirPendente(evento.getTempo(), PRIORIDADE_ENVIO, sequenciaBase);
+                menor = Math.min(menor, evento.getTempo());
+            }
+        }
+        return menor;
+    }
+
+    private void reduzirPendente(int tempo, int prioridade, long sequencia) {
+        if (comparar(tempo, prioridade, sequencia, tempoPendente, prioridadePendente, sequenciaPendente) < 0) {
+            tempoPendente = tempo;
+            prioridadePendente = prioridade;
+            sequenciaPendente = sequencia;
+        }
+    }
+
+    /**
+     * Prepara a próxima janela, depois que todas as partições calcularam o
+     * seu limite (ver {@link #calcularPendente} e {@link #anotarEnviosPendentes}).
+     *
+     * @param fimJanela     O menor minuto em que alguma partição pode ter enviado uma coleta.
+     * @param sequenciaBase O primeiro número de sequência ainda não usado na agenda única.
+     * @param particoes     Todas as partições do motor.
+     */
+    void abrirJanela(int fimJanela, long sequenciaBase, Particao[] particoes) {
+        this.fimJanela = fimJanela;
+        this.sequenciaBase = sequenciaBase;
+        tempoLeitura = Integer.MAX_VALUE;
+        prioridadeLeitura = 0;
+        sequenciaLeitura = 0;
+        for (Particao outra : particoes) {
+            if (outra != this && comparar(outra.tempoPendente, outra.prioridadePendente, outra.sequenciaPendente,
+                    tempoLeitura, prioridadeLeitura, sequenciaLeitura) < 0) {
+                tempoLeitura = outra.tempoPendente;
+                prioridadeLeitura = outra.prioridadePendente;
+                sequenciaLeitura = outra.sequenciaPendente;
+            }
+        }
+    }
+
+    /**
+     * Executa os eventos desta partição até o fim da janela: os anteriores a
+     * uma coleta que outra partição ainda possa enviar, que tem o minuto
+     * {@code fimJanela} e uma sequência nova. Para antes, em uma coleta que
+     * pode consultar uma zona de outra estação ainda sem aviso, se alguma
+     * outra partição ainda pode esvaziar uma zona antes dela.
+     */
+    void processar() {
+        contexto.getAgenda().processarEventosEnquanto(podeExecutar, contexto);
+    }
+
+    private boolean podeExecutar(Evento evento) {
+        int prioridade = evento.getPrioridade().ordinal();
+        if (comparar(evento.getTempo(), prioridade, evento.getSequencia(), fimJanela, PRIORIDADE_ENVIO, sequenciaBase) >= 0) {
+            return false;
+        }
+        if (!evento.isCancelado() && evento instanceof EventoColeta
+                && comparar(evento.getTempo(), prioridade, evento.getSequencia(), tempoLeitura, prioridadeLeitura, sequenciaLeitura) >= 0) {
+            return !consultaZonaSemAviso((EventoColeta) evento);
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se a coleta pode levar o caminhão a procurar a próxima zona da
+     * rota (ver {@link simulador.caminhoes.CaminhaoPequeno#atualizarProximaZonaAlvo})
+     * e se essa busca chega a uma zona de outra estação da qual ainda não veio
+     * aviso, antes de encontrar uma zona com lixo.
+     */
+    private boolean consultaZonaSemAviso(EventoColeta coleta) {
+        CaminhaoPequeno caminhao = coleta.getCaminhao();
+        if (!coleta.getZona().estaLimpa() || !caminhao.podeRealizarNovaViagem()) {
+            return false;
+        }
+        EstruturaLista<Zona> rota = caminhao.getRota();
+        int tamanho = rota.getTamanho();
+        for (int i = 1; i <= tamanho; i++) {
+            Zona zona = rota.getValor((caminhao.getIndiceRota() + i) % tamanho);
+            int id = zona.getId();
+            boolean limpa;
+            if (gerenciador.getIndiceEstacao(id) == indice) {
+                limpa = zona.estaLimpa();
+            } else if (tempoLimpeza[id] == Integer.MAX_VALUE) {
+                return true;
+            } else {
+                limpa = comparar(tempoLimpeza[id], prioridadeLimpeza[id], sequenciaLimpeza[id],
+                        coleta.getTempo(), coleta.getPrioridade().ordinal(), coleta.getSequencia()) < 0;
+            }
+            if (!limpa) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se o próximo evento executado, na ordem desta partição, já tem
+     * a sequência definitiva, ou seja, se quem o agendou já foi intercalado.
+     */
+    boolean temIntercalavel() {
+        return proximoIntercalado < quantidadeExecutados && sequenciaDefinitiva(executados[proximoIntercalado]) != 0;
+    }
+
+    /** Compara o próximo evento a intercalar desta partição com o de outra. */
+    int compararIntercalavel(Particao outra) {
+        Execucao a = executados[proximoIntercalado];
+        Execucao b = outra.executados[outra.proximoIntercalado];
+        return comparar(a.tempo, a.prioridade, sequenciaDefinitiva(a), b.tempo, b.prioridade, outra.sequenciaDefinitiva(b));
+    }
+
+    /**
+     * Verifica se a agenda desta partição tem um evento com sequência
+     * definitiva anterior ao próximo evento a intercalar de outra partição.
+     * Esse evento ainda vai ser executado e vem antes na agenda única, então a
+     * intercalação tem que esperar por ele. Um evento com sequência provisória
+     * não conta: quem o agendou, e portanto ele também, vem depois.
+     */
+    boolean temPendenteAntes(Particao outra) {
+        Evento proximo = contexto.getAgenda().getProximoEvento();
+        if (proximo == null || proximo.getSequencia() >= SEQUENCIA_PROVISORIA) {
+            return false;
+        }
+        Execucao execucao = outra.executados[outra.proximoIntercalado];
+        return comparar(proximo.getTempo(), proximo.getPrioridade().ordinal(), proximo.getSequencia(),
+                execucao.tempo, execucao.prioridade, outra.sequenciaDefinitiva(execucao)) < 0;
+    }
+
+    /**
+     * Intercala o próximo evento executado: os eventos que ele agendou recebem
+     * as sequências seguintes da agenda única, as coletas que ele enviou são
+     * entregues às partições de destino, os caminhões grandes que ele criou
+     * recebem os identificadores seguintes e, se ele esvaziou uma zona, as
+     * outras partições são avisadas.
+     *
+     * @param ultimaSequencia A última sequência usada na agenda única.
+     * @param particoes       Todas as partições do motor.
+     * @return A nova última sequência usada.
+     */
+    long intercalarProximo(long ultimaSequencia, Particao[] particoes) {
+        Execucao execucao = executados[proximoIntercalado++];
+        AgendaEventos agenda = contexto.getAgenda();
+        for (int i = execucao.primeiroAgendado; i < execucao.fimAgendados; i++) {
+            long sequencia = ++ultimaSequencia;
+            sequenciasDefinitivas[i] = sequencia;
+            if (enviados[i]) {
+                EventoColeta evento = (EventoColeta) agendados[i];
+                particoes[destino(evento, gerenciador)].contexto.getAgenda().adicionarEvento(evento, sequencia);
+            } else if (agendados[i].getSequencia() == sequenciaProvisoria(i)) {
+                // A ordem na agenda não muda: a nova sequência vem depois das definitivas e antes das provisórias.
+                // Um evento da fábrica já executado e reaproveitado tem outra sequência e fica como está.
+                agenda.renumerarEvento(agendados[i], sequencia);
+            }
+        }
+        contexto.numerarCaminhoesGrandes(execucao.caminhoesGrandesCriados);
+        if (execucao.zonaEsvaziada != null) {
+            long sequencia = sequenciaDefinitiva(execucao);
+            for (Particao outra : particoes) {
+                if (outra != this) {
+                    outra.receberAviso(execucao.zonaEsvaziada, execucao.tempo, execucao.prioridade, sequencia);
+                }
+            }
+        }
+        return ultimaSequencia;
+    }
+
+    /**
+     * Esquece os eventos já intercalados e o que eles agendaram. Os eventos
+     * executados ainda não intercalados que já têm a sequência definitiva
+     * passam a guardá-la, porque a anotação de quem os agendou é esquecida.
+     */
+    void compactar() {
+        int corte = proximoIntercalado < quantidadeExecutados
+                ? executados[proximoIntercalado].primeiroAgendado : quantidadeAgendados;
+        int restantes = quantidadeExecutados - proximoIntercalado;
+        for (int i = 0; i < restantes; i++) {
+            Execucao execucao = executados[proximoIntercalado + i];
+            if (execucao.sequencia >= SEQUENCIA_PROVISORIA && execucao.sequencia < sequenciaProvisoria(corte)) {
+                execucao.sequencia = sequenciaDefinitiva(execucao);
+            }
+            execucao.primeiroAgendado -= corte;
+            execucao.fimAgendados -= corte;
+            // Troca com um objeto já intercalado, para reaproveitá-lo
+            executados[proximoIntercalado + i] = executados[i];
+            executados[i] = execucao;
+        }
+        for (int i = restantes; i < quantidadeExecutados; i++) {
+            executados[i].zonaEsvaziada = null;
+        }
+        quantidadeExecutados = restantes;
+        proximoIntercalado = 0;
+
+        int agendadosRestantes = quantidadeAgendados - corte;
+        System.arraycopy(agendados, corte, agendados, 0, agendadosRestantes);
+        System.arraycopy(enviados, corte, enviados, 0, agendadosRestantes);
+        System.arraycopy(sequenciasDefinitivas, corte, sequenciasDefinitivas, 0, agendadosRestantes);
+        Arrays.fill(agendados, agendadosRestantes, quantidadeAgendados, null);
+        quantidadeAgendados = agendadosRestantes;
+        primeiroProvisorio += corte;
+    }
+
+    private long sequenciaDefinitiva(Execucao execucao) {
+        return execucao.sequencia < SEQUENCIA_PROVISORIA
+                ? execucao.sequencia
+                : sequenciasDefinitivas[(int) (execucao.sequencia - SEQUENCIA_PROVISORIA - primeiroProvisorio)];
+    }
+
+    /** Compara duas chaves de evento: tempo, classe de prioridade e sequência. */
+    private static int comparar(int tempoA, int prioridadeA, long sequenciaA, int tempoB, int prioridadeB, long sequenciaB) {
+        if (tempoA != tempoB) return Integer.compare(tempoA, tempoB);
+        if (prioridadeA != prioridadeB) return Integer.compare(prioridadeA, prioridadeB);
+        return Long.compare(sequenciaA, sequenciaB);
+    }
+
+    /** Descarta o que sobrou do dia. */
+    void resetar() {
+        AgendaEventos agenda = contexto.getAgenda();
+        agenda.resetar();
+        contexto.getEstatisticas().resetar();
+        temposEstacao.limpar();
+        Arrays.fill(agendados, 0, quantidadeAgendados, null);
+        quantidadeAgendados = 0;
+        primeiroProvisorio = 0;
+        for (int i = 0; i < quantidadeExecutados; i++) {
+            executados[i].zonaEsvaziada = null;
+        }
+        quantidadeExecutados = 0;
+        proximoIntercalado = 0;
+        atual = null;
+    }
+}
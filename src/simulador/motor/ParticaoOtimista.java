@@ -0,0 +1,490 @@
+package simulador.motor;
+
+import estruturas.filas.FilaCircular;
+import estruturas.filas.FilaPrioridade;
+import estruturas.lista.EstruturaLista;
+import estruturas.lista.ListaArray;
+import simulador.ContextoSimulacao;
+import simulador.EstatisticasDia;
+import simulador.estacoes.EstacaoDeTransferencia;
+import simulador.eventos.EncaminhadorEventos;
+import simulador.eventos.Evento;
+import simulador.eventos.EventoChegadaEstacao;
+import simulador.eventos.EventoColeta;
+import simulador.eventos.EventoGerarCaminhaoGrande;
+import simulador.eventos.EventoIniciarTransferencia;
+import simulador.eventos.EventoVerificarEsperaCaminhaoGrande;
+import simulador.zona.GerenciadorZonas;
+import simulador.zona.VisaoZonas;
+import simulador.zona.Zona;
+
+/**
+ * Uma estação de transferência e as zonas que ela atende, executadas de forma
+ * especulativa pelo {@link MotorOtimista}.
+ * <p>
+ * A partição executa os seus eventos em ordem, sem esperar as outras. Antes de
+ * cada evento, guarda o estado das entidades que ele altera: o caminhão e a
+ * zona de uma coleta, o caminhão de uma transferência, ou a estação (pátio,
+ * fila e indicadores) e o caminhão que chega, nos eventos de estação. Se chega
+ * uma mensagem com chave menor que a do último evento executado, os eventos
+ * posteriores a ela são desfeitos do último para o primeiro: o estado é
+ * restaurado, os cancelamentos feitos por eles são revertidos, os eventos que
+ * agendaram aqui são anulados e os que enviaram a outras partições recebem uma
+ * antimensagem.
+ * <p>
+ * Um caminhão que segue para uma zona de outra estação é enviado por valor:
+ * a mensagem leva uma cópia do caminhão feita depois do evento que a enviou,
+ * e só a partição de destino mexe nela. As zonas de outras estações são vistas
+ * por uma cópia local do estado de cada uma: no início do dia, ela é igual ao
+ * estado real, e depois é atualizada pelos {@link AvisoZonaLimpa avisos} que a
+ * dona de cada zona envia quando uma coleta a esvazia.
+ * <p>
+ * Cada partição é executada por uma thread de cada vez; apenas a caixa de
+ * entrada é compartilhada.
+ */
+class ParticaoOtimista implements EncaminhadorEventos, VisaoZonas {
+
+    private final int indice;
+    private final ContextoSimulacao contexto;
+    private GerenciadorZonas gerenciador;
+    private EstacaoDeTransferencia estacao;
+    private ParticaoOtimista[] particoes;
+    /** Se cada zona está limpa; só as de outras estações são consultadas aqui. */
+    private boolean[] zonasLimpas;
+
+    private final FilaPrioridade<Agendamento> pendentes = new FilaPrioridade<>(Agendamento.ORDEM);
+    private Agendamento primeiroProcessado;
+    private Agendamento ultimoProcessado;
+    /** Gerações e verificações de caminhão grande ainda não confirmadas, que a estação pode cancelar. */
+    private EstruturaLista<Agendamento> cancelaveis = new ListaArray<>();
+    private Agendamento atual;
+
+    /* Caixa de entrada, escrita pelas outras partições. */
+    private final Object trava = new Object();
+    private final FilaCircular<Agendamento> entradaPositivas = new FilaCircular<>();
+    private final FilaCircular<Agendamento> entradaAnuladas = new FilaCircular<>();
+    private volatile boolean temMensagens;
+    private final FilaCircular<Agendamento> recebidasPositivas = new FilaCircular<>();
+    private final FilaCircular<Agendamento> recebidasAnuladas = new FilaCircular<>();
+
+    private long processados;
+    private long desfeitos;
+    private long rollbacks;
+    private long antimensagens;
+    private int confirmados;
+    private int canceladosConfirmados;
+    private int tempoUltimoEvento;
+
+    ParticaoOtimista(int indice, ContextoSimulacao contexto) {
+        this.indice = indice;
+        this.contexto = contexto;
+        contexto.getAgenda().setEncaminhador(this);
+        contexto.setVisaoZonas(this);
+        // Os eventos executados ficam na lista de processados até serem confirmados
+        contexto.getFabricaEventos().setReciclagemAtiva(false);
+    }
+
+    ContextoSimulacao getContexto() {
+        return contexto;
+    }
+
+    /**
+     * @param gerenciador O gerenciador com a divisão das zonas.
+     * @param particoes   Todas as partições, para o envio de mensagens.
+     */
+    void setGerenciadorZonas(GerenciadorZonas gerenciador, ParticaoOtimista[] particoes) {
+        this.gerenciador = gerenciador;
+        this.estacao = gerenciador.getEstacao(indice);
+        this.particoes = particoes;
+        this.zonasLimpas = new boolean[gerenciador.getZonas().getTamanho()];
+    }
+
+    /** Copia o estado das zonas no início do dia, com todas as partições paradas. */
+    void iniciarDia() {
+        for (Zona zona : gerenciador.getZonas()) {
+            zonasLimpas[zona.getId()] = zona.estaLimpa();
+        }
+    }
+
+    @Override
+    public boolean estaLimpa(Zona zona) {
+        if (gerenciador.getIndiceEstacao(zona.getId()) == indice) {
+            return zona.estaLimpa();
+        }
+        return zonasLimpas[zona.getId()];
+    }
+
+    /** Atualiza a cópia local do estado de uma zona de outra estação. */
+    void marcarZonaLimpa(Zona zona, boolean limpa) {
+        zonasLimpas[zona.getId()] = limpa;
+    }
+
+    /** Recebe um dos primeiros eventos do dia, antes do início da execução. */
+    void agendarInicial(Agendamento agendamento) {
+        inserirPendente(agendamento);
+    }
+
+    @Override
+    public boolean encaminhar(Evento evento) {
+        if (atual == null) {
+            throw new IllegalStateException("Evento agendado fora da execução de um evento: " + evento);
+        }
+        int destino = evento instanceof EventoColeta ? Particao.destino((EventoColeta) evento, gerenciador) : indice;
+        agendarSaida(evento, destino);
+        return true;
+    }
+
+    /** Registra um evento agendado pelo evento em execução, para que possa ser anulado se ele for desfeito. */
+    private void agendarSaida(Evento evento, int destino) {
+        Agendamento agendamento = new Agendamento(evento, atual, atual.agendados++, destino);
+        if (Agendamento.ORDEM.compare(agendamento, atual) <= 0) {
+            throw new IllegalStateException("Evento agendado antes do evento que o agendou: " + evento);
+        }
+        agendamento.proximaSaida = atual.saidas;
+        atual.saidas = agendamento;
+        if (destino == indice) {
+            inserirPendente(agendamento);
+        }
+    }
+
+    @Override
+    public boolean cancelar(Evento evento) {
+        for (Agendamento agendamento : cancelaveis) {
+            if (agendamento.evento == evento && !agendamento.processado
+                    && !agendamento.cancelado && !agendamento.anulado) {
+                agendamento.cancelado = true;
+                agendamento.proximoCancelado = atual.cancelados;
+                atual.cancelados = agendamento;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void inserirPendente(Agendamento agendamento) {
+        pendentes.adicionar(agendamento);
+        if (agendamento.evento instanceof EventoGerarCaminhaoGrande
+                || agendamento.evento instanceof EventoVerificarEsperaCaminhaoGrande) {
+            cancelaveis.adicionar(cancelaveis.getTamanho(), agendamento);
+        }
+    }
+
+    /**
+     * Retorna o próximo agendamento pendente, descartando os anulados.
+     *
+     * @return O agendamento de menor chave, ou {@code null} se não houver nenhum.
+     */
+    Agendamento proximoPendente() {
+        while (!pendentes.estaVazia() && pendentes.getMinimo().anulado) {
+            pendentes.removerMinimo();
+        }
+        return pendentes.getMinimo();
+    }
+
+    /**
+     * Recebe as mensagens pendentes e executa o próximo evento, se ele for
+     * anterior ao limite de otimismo.
+     *
+     * @param limite O primeiro minuto que não deve ser executado.
+     * @return {@code true} se um evento foi processado.
+     */
+    boolean processarProximo(int limite) {
+        receberMensagens();
+        Agendamento agendamento = proximoPendente();
+        if (agendamento == null || agendamento.tempo >= limite) {
+            return false;
+        }
+        pendentes.removerMinimo();
+        agendamento.processado = true;
+        if (!agendamento.cancelado) {
+            executar(agendamento);
+        }
+        agendamento.anteriorProcessado = ultimoProcessado;
+        if (ultimoProcessado == null) {
+            primeiroProcessado = agendamento;
+        } else {
+            ultimoProcessado.proximoProcessado = agendamento;
+        }
+        ultimoProcessado = agendamento;
+        return true;
+    }
+
+    private void executar(Agendamento agendamento) {
+        salvarEstado(agendamento);
+        agendamento.agendados = 0;
+        boolean zonaJaLimpa = agendamento.zona != null && agendamento.zona.estaLimpa();
+        atual = agendamento;
+        try {
+            agendamento.evento.executar(contexto);
+            if (agendamento.zona != null && !zonaJaLimpa && agendamento.zona.estaLimpa()) {
+                for (int destino = 0; destino < particoes.length; destino++) {
+                    if (destino != indice) {
+                        agendarSaida(new AvisoZonaLimpa(agendamento.tempo, agendamento.zona, particoes[destino]), destino);
+                    }
+                }
+            }
+        } finally {
+            atual = null;
+        }
+        processados++;
+        for (Agendamento saida = agendamento.saidas; saida != null; saida = saida.proximaSaida) {
+            if (saida.destino == indice) continue;
+            if (saida.evento instanceof EventoColeta) {
+                // O caminhão segue por valor: a partição de destino recebe uma cópia só dela
+                EventoColeta coleta = (EventoColeta) saida.evento;
+                saida.evento = new EventoColeta(saida.tempo, coleta.getCaminhao().copiar(), coleta.getZona(), gerenciador);
+            }
+            particoes[saida.destino].entregar(saida, false);
+        }
+    }
+
+    private void salvarEstado(Agendamento agendamento) {
+        Evento evento = agendamento.evento;
+        if (evento instanceof EventoColeta) {
+            EventoColeta coleta = (EventoColeta) evento;
+            agendamento.caminhao = coleta.getCaminhao();
+            agendamento.zona = coleta.getZona();
+            agendamento.estadoZona = agendamento.zona.salvarEstado();
+            salvarEstatisticas(agendamento);
+        } else if (evento instanceof EventoIniciarTransferencia) {
+            agendamento.caminhao = ((EventoIniciarTransferencia) evento).getCaminhao();
+        } else if (evento instanceof AvisoZonaLimpa) {
+            agendamento.zonaAvisada = ((AvisoZonaLimpa) evento).getZona();
+            agendamento.zonaLimpaAntes = zonasLimpas[agendamento.zonaAvisada.getId()];
+        } else {
+            // Eventos de estação: chegada, geração e verificação de caminhão grande
+            agendamento.estadoEstacao = estacao.salvarEstado();
+            salvarEstatisticas(agendamento); // A estação registra esperas e enchimentos
+            agendamento.caminhoesGrandesCriados = contexto.getNumeroCaminhoesGrandesCriados();
+            if (evento instanceof EventoChegadaEstacao) {
+                agendamento.caminhao = ((EventoChegadaEstacao) evento).getCaminhao();
+            }
+        }
+        if (agendamento.caminhao != null) {
+            agendamento.estadoCaminhao = agendamento.caminhao.salvarEstado();
+        }
+    }
+
+    private void salvarEstatisticas(Agendamento agendamento) {
+        agendamento.estatisticas = new EstatisticasDia();
+        agendamento.estatisticas.acumular(contexto.getEstatisticas());
+    }
+
+    private void restaurarEstado(Agendamento agendamento) {
+        if (agendamento.estadoEstacao != null) {
+            estacao.restaurarEstado(agendamento.estadoEstacao);
+            contexto.restaurarCaminhoesGrandesCriados(agendamento.caminhoesGrandesCriados);
+        }
+        if (agendamento.caminhao != null) {
+            agendamento.caminhao.restaurarEstado(agendamento.estadoCaminhao);
+        }
+        if (agendamento.zona != null) {
+            agendamento.zona.restaurarEstado(agendamento.estadoZona);
+        }
+        if (agendamento.zonaAvisada != null) {
+            marcarZonaLimpa(agendamento.zonaAvisada, agendamento.zonaLimpaAntes);
+        }
+        if (agendamento.estatisticas != null) {
+            contexto.getEstatisticas().resetar();
+            contexto.getEstatisticas().acumular(agendamento.estatisticas);
+        }
+    }
+
+    /**
+     * Desfaz, do último para o primeiro, os eventos processados com chave maior
+     * ou igual à do agendamento informado e os devolve aos pendentes.
+     */
+    private void voltarAte(Agendamento limite) {
+        if (ultimoProcessado == null || Agendamento.ORDEM.compare(ultimoProcessado, limite) < 0) {
+            return;
+        }
+        rollbacks++;
+        while (ultimoProcessado != null && Agendamento.ORDEM.compare(ultimoProcessado, limite) >= 0) {
+            desfazer(ultimoProcessado);
+        }
+    }
+
+    private void desfazer(Agendamento agendamento) {
+        if (!agendamento.cancelado) {
+            restaurarEstado(agendamento);
+            for (Agendamento cancelado = agendamento.cancelados; cancelado != null; cancelado = cancelado.proximoCancelado) {
+                cancelado.cancelado = false;
+            }
+            for (Agendamento saida = agendamento.saidas; saida != null; saida = saida.proximaSaida) {
+                if (saida.destino == indice) {
+                    saida.anulado = true;
+                } else {
+                    particoes[saida.destino].entregar(saida, true);
+                    antimensagens++;
+                }
+            }
+            agendamento.esquecerExecucao();
+            desfeitos++;
+        }
+        ultimoProcessado = agendamento.anteriorProcessado;
+        if (ultimoProcessado == null) {
+            primeiroProcessado = null;
+        } else {
+            ultimoProcessado.proximoProcessado = null;
+        }
+        agendamento.anteriorProcessado = null;
+        agendamento.processado = false;
+        pendentes.adicionar(agendamento);
+    }
+
+    /** Coloca uma mensagem ou antimensagem na caixa de entrada; chamado pela partição de origem. */
+    private void entregar(Agendamento agendamento, boolean anulacao) {
+        synchronized (trava) {
+            (anulacao ? entradaAnuladas : entradaPositivas).enqueue(agendamento);
+            temMensagens = true;
+        }
+    }
+
+    /**
+     * Trata as mensagens da caixa de entrada: uma mensagem do passado desfaz
+     * os eventos posteriores a ela, e uma antimensagem anula a mensagem
+     * correspondente, desfazendo-a antes se ela já tiver sido processada.
+     * As mensagens de uma mesma origem chegam na ordem de envio, então uma
+     * antimensagem nunca chega antes da sua mensagem.
+     *
+     * @return {@code true} se havia alguma mensagem.
+     */
+    boolean receberMensagens() {
+        if (!temMensagens) {
+            return false;
+        }
+        synchronized (trava) {
+            while (!entradaPositivas.isEmpty()) {
+                recebidasPositivas.enqueue(entradaPositivas.poll());
+            }
+            while (!entradaAnuladas.isEmpty()) {
+                recebidasAnuladas.enqueue(entradaAnuladas.poll());
+            }
+            temMensagens = false;
+        }
+        while (!recebidasPositivas.isEmpty()) {
+            Agendamento mensagem = recebidasPositivas.poll();
+            voltarAte(mensagem);
+            inserirPendente(mensagem);
+        }
+        while (!recebidasAnuladas.isEmpty()) {
+            Agendamento mensagem = recebidasAnuladas.poll();
+            if (mensagem.processado) {
+                voltarAte(mensagem);
+            }
+            mensagem.anulado = true;
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se o primeiro evento processado e ainda não confirmado tem
+     * chave menor que o GVT, de modo que nenhuma mensagem pode mais desfazê-lo.
+     *
+     * @param gvt O agendamento pendente de menor chave entre todas as
+     *            partições, ou {@code null} se não houver nenhum.
+     */
+    boolean temConfirmavel(Agendamento gvt) {
+        return primeiroProcessado != null && (gvt == null || Agendamento.ORDEM.compare(primeiroProcessado, gvt) < 0);
+    }
+
+    /** Compara o primeiro evento a confirmar desta partição com o de outra. */
+    int compararConfirmavel(ParticaoOtimista outra) {
+        return Agendamento.ORDEM.compare(primeiroProcessado, outra.primeiroProcessado);
+    }
+
+    /**
+     * Confirma o primeiro evento processado e descarta o estado guardado para ele.
+     *
+     * @param ordem A posição dele na ordem de confirmação de todas as partições.
+     */
+    void confirmarPrimeiro(long ordem) {
+        Agendamento agendamento = primeiroProcessado;
+        primeiroProcessado = agendamento.proximoProcessado;
+        if (primeiroProcessado == null) {
+            ultimoProcessado = null;
+        } else {
+            primeiroProcessado.anteriorProcessado = null;
+        }
+        agendamento.proximoProcessado = null;
+        agendamento.confirmar(ordem);
+        if (agendamento.cancelado) {
+            canceladosConfirmados++;
+        } else {
+            confirmados++;
+            tempoUltimoEvento = Math.max(tempoUltimoEvento, agendamento.tempo);
+        }
+        agendamento.esquecerExecucao();
+    }
+
+    /**
+     * Tira dos pendentes os agendamentos anulados. Um anulado tem a mesma
+     * chave que o agendamento refeito no lugar dele até que os ancestrais do
+     * refeito sejam confirmados; depois disso os dois passam a ser comparados
+     * pela ordem de confirmação, e o anulado deixaria o heap fora de ordem.
+     */
+    void descartarAnulados() {
+        pendentes.removerSe(agendamento -> agendamento.anulado);
+    }
+
+    /** Esquece os eventos canceláveis já confirmados ou anulados. */
+    void esquecerCancelaveisEncerrados() {
+        EstruturaLista<Agendamento> restantes = new ListaArray<>(cancelaveis.getTamanho());
+        for (Agendamento agendamento : cancelaveis) {
+            if (!agendamento.confirmado && !agendamento.anulado) {
+                restantes.adicionar(restantes.getTamanho(), agendamento);
+            }
+        }
+        cancelaveis = restantes;
+    }
+
+    /** Descarta o que sobrou do dia e zera os contadores. */
+    void resetar() {
+        pendentes.limpar();
+        primeiroProcessado = null;
+        ultimoProcessado = null;
+        cancelaveis = new ListaArray<>();
+        synchronized (trava) {
+            while (!entradaPositivas.isEmpty()) entradaPositivas.poll();
+            while (!entradaAnuladas.isEmpty()) entradaAnuladas.poll();
+            temMensagens = false;
+        }
+        contexto.getAgenda().resetar();
+        contexto.getEstatisticas().resetar();
+        processados = 0;
+        desfeitos = 0;
+        rollbacks = 0;
+        antimensagens = 0;
+        confirmados = 0;
+        canceladosConfirmados = 0;
+        tempoUltimoEvento = 0;
+    }
+
+    long getProcessados() {
+        return processados;
+    }
+
+    long getDesfeitos() {
+        return desfeitos;
+    }
+
+    long getRollbacks() {
+        return rollbacks;
+    }
+
+    long getAntimensagens() {
+        return antimensagens;
+    }
+
+    int getConfirmados() {
+        return confirmados;
+    }
+
+    int getCanceladosConfirmados() {
+        return canceladosConfirmados;
+    }
+
+    int getTempoUltimoEvento() {
+        return tempoUltimoEvento;
+    }
+}
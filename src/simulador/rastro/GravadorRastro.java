@@ -0,0 +1,290 @@
+package simulador.rastro;
+
+import simulador.ContextoSimulacao;
+import simulador.EstatisticasDia;
+import simulador.caminhoes.CaminhaoGrande;
+import simulador.caminhoes.CaminhaoPequeno;
+import simulador.estacoes.EstacaoDeTransferencia;
+import simulador.eventos.Evento;
+import simulador.eventos.EventoChegadaEstacao;
+import simulador.eventos.EventoColeta;
+import simulador.eventos.EventoGerarCaminhaoGrande;
+import simulador.eventos.EventoIniciarTransferencia;
+import simulador.eventos.EventoVerificarEsperaCaminhaoGrande;
+import simulador.eventos.MonitorEventos;
+import simulador.zona.GerenciadorZonas;
+import simulador.zona.Zona;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grava cada evento executado como um {@link RegistroRastro} de tamanho fixo
+ * em um arquivo mapeado em memória. Depois, o {@link LeitorRastro} e o
+ * {@link ReprodutorRastro} reveem a execução sem simular de novo.
+ * <p>
+ * O arquivo começa com um cabeçalho (identificação, versão, número de
+ * registros e os nomes das zonas e estações) seguido dos registros, na ordem
+ * de execução. O arquivo é mapeado em blocos de
+ * {@value #REGISTROS_POR_BLOCO} registros: gravar um registro é escrever na
+ * memória, e o sistema operacional leva as páginas ao disco. O número de
+ * registros do cabeçalho é atualizado a cada registro, então o arquivo é
+ * legível mesmo que a simulação seja interrompida; o que passa dele, no fim do
+ * último bloco, é ignorado.
+ * <p>
+ * O gravador é um {@link MonitorEventos} da agenda do contexto principal e só
+ * funciona com o {@link simulador.motor.MotorSequencial}: é o
+ * {@link simulador.Simulador} que o liga e desliga. Quem cria o gravador deve
+ * fechá-lo.
+ */
+public class GravadorRastro implements MonitorEventos, Closeable {
+
+    /** Identifica um arquivo de rastro ("RSTR"). */
+    static final int MAGICO = 0x52535452;
+
+    /** Versão do formato do arquivo. */
+    static final int VERSAO = 1;
+
+    /** Quantos registros cabem em cada região mapeada do arquivo. */
+    static final int REGISTROS_POR_BLOCO = 1 << 16;
+
+    /** Tamanho de cada região mapeada, em bytes. */
+    static final long TAMANHO_BLOCO = (long) REGISTROS_POR_BLOCO * RegistroRastro.TAMANHO;
+
+    /** Posição, no cabeçalho, do número de registros gravados. */
+    static final int POSICAO_QUANTIDADE = 16;
+
+    /** Os registros começam em um múltiplo deste valor. */
+    private static final int ALINHAMENTO = 64;
+
+    private final FileChannel canal;
+    private MappedByteBuffer cabecalho;
+    private MappedByteBuffer bloco;
+    private long inicioRegistros;
+    private long quantidade;
+
+    private GerenciadorZonas gerenciador;
+    private int dia;
+
+    /* Registro em montagem: preenchido antes da execução e completado depois. */
+    private final RegistroRastro registro = new RegistroRastro();
+    private CaminhaoPequeno caminhao;
+    private CaminhaoGrande caminhaoGrande;
+    private EstacaoDeTransferencia estacao;
+    private int[] patioAntes = new int[0];
+    private int despachosAntes;
+    private int filaAntes;
+    private int lixoAntes;
+    private int viagensAntes;
+    private int tempoColetaAntes;
+
+    /**
+     * Cria o arquivo de rastro, substituindo um arquivo existente.
+     *
+     * @param arquivo O arquivo de destino.
+     * @throws IOException se o arquivo não puder ser criado.
+     */
+    public GravadorRastro(Path arquivo) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Grava o cabeçalho com os nomes das zonas e estações. Chamado pelo
+     * simulador uma única vez, antes do primeiro dia.
+     *
+     * @param gerenciador O gerenciador de zonas da simulação.
+     * @throws IOException se o cabeçalho não puder ser gravado.
+     * @throws IllegalStateException se o rastro já tiver sido iniciado.
+     */
+    public void iniciar(GerenciadorZonas gerenciador) throws IOException {
+        if (this.gerenciador != null) {
+            throw new IllegalStateException("O rastro já foi iniciado");
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream saida = new DataOutputStream(bytes);
+        saida.writeInt(MAGICO);
+        saida.writeInt(VERSAO);
+        saida.writeInt(RegistroRastro.TAMANHO);
+        saida.writeInt(0); // início dos registros, preenchido abaixo
+        saida.writeLong(0); // quantidade de registros
+        saida.writeInt(gerenciador.getZonas().getTamanho());
+        for (Zona zona : gerenciador.getZonas()) {
+            saida.writeUTF(zona.getNome());
+        }
+        saida.writeInt(gerenciador.getQuantidadeEstacoes());
+        for (int i = 0; i < gerenciador.getQuantidadeEstacoes(); i++) {
+            saida.writeUTF(gerenciador.getEstacao(i).getNomeEstacao());
+        }
+        while (saida.size() % ALINHAMENTO != 0) {
+            saida.writeByte(0);
+        }
+        ByteBuffer conteudo = ByteBuffer.wrap(bytes.toByteArray());
+        conteudo.putInt(12, conteudo.capacity());
+        while (conteudo.hasRemaining()) {
+            canal.write(conteudo, conteudo.position());
+        }
+
+        this.inicioRegistros = conteudo.capacity();
+        this.cabecalho = canal.map(FileChannel.MapMode.READ_WRITE, 0, POSICAO_QUANTIDADE + Long.BYTES);
+        this.gerenciador = gerenciador;
+        int maiorPatio = 0;
+        for (int i = 0; i < gerenciador.getQuantidadeEstacoes(); i++) {
+            maiorPatio = Math.max(maiorPatio, gerenciador.getEstacao(i).getQuantidadeCaminhoesGrandes());
+        }
+        this.patioAntes = new int[maiorPatio];
+    }
+
+    /**
+     * Informa o dia cujos eventos serão gravados a seguir.
+     *
+     * @param dia O dia, a partir de 1.
+     */
+    public void iniciarDia(int dia) {
+        this.dia = dia;
+    }
+
+    /**
+     * Retorna quantos registros já foram gravados.
+     *
+     * @return O número de registros.
+     */
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    @Override
+    public void antesDeExecutar(Evento evento, ContextoSimulacao contexto) {
+        registro.limpar();
+        registro.dia = dia;
+        registro.tempo = evento.getTempo();
+        caminhao = null;
+        caminhaoGrande = null;
+        estacao = null;
+
+        if (evento instanceof EventoColeta) {
+            EventoColeta coleta = (EventoColeta) evento;
+            registro.tipo = TipoEventoRastro.COLETA;
+            registro.local = coleta.getZona().getId();
+            caminhao = coleta.getCaminhao();
+        } else if (evento instanceof EventoIniciarTransferencia) {
+            EventoIniciarTransferencia transferencia = (EventoIniciarTransferencia) evento;
+            registro.tipo = TipoEventoRastro.TRANSFERENCIA;
+            registro.local = gerenciador.getIndiceEstacao(transferencia.getZonaOrigem().getId());
+            caminhao = transferencia.getCaminhao();
+        } else if (evento instanceof EventoChegadaEstacao) {
+            EventoChegadaEstacao chegada = (EventoChegadaEstacao) evento;
+            registro.tipo = TipoEventoRastro.CHEGADA_ESTACAO;
+            estacao = chegada.getEstacao();
+            caminhao = chegada.getCaminhao();
+        } else if (evento instanceof EventoGerarCaminhaoGrande) {
+            registro.tipo = TipoEventoRastro.GERACAO_CAMINHAO_GRANDE;
+            estacao = ((EventoGerarCaminhaoGrande) evento).getEstacao();
+        } else if (evento instanceof EventoVerificarEsperaCaminhaoGrande) {
+            EventoVerificarEsperaCaminhaoGrande verificacao = (EventoVerificarEsperaCaminhaoGrande) evento;
+            registro.tipo = TipoEventoRastro.VERIFICACAO_ESPERA;
+            estacao = verificacao.getEstacao();
+            caminhaoGrande = verificacao.getCaminhaoGrande();
+            registro.caminhao = caminhaoGrande.getId();
+            registro.cargaAntes = caminhaoGrande.getCargaAtual();
+        }
+
+        if (caminhao != null) {
+            registro.caminhao = numero(caminhao.getId());
+            registro.capacidade = caminhao.getCapacidadeMaxima();
+            registro.cargaAntes = caminhao.getCargaAtual();
+        }
+        if (estacao != null) {
+            registro.local = gerenciador.getIndice(estacao);
+            despachosAntes = estacao.getEstatisticas().getDespachos();
+            filaAntes = estacao.getFilaCaminhoes().size();
+            for (int vaga = 0; vaga < estacao.getQuantidadeCaminhoesGrandes(); vaga++) {
+                CaminhaoGrande noPatio = estacao.getCaminhaoGrande(vaga);
+                patioAntes[vaga] = noPatio == null ? 0 : noPatio.getId();
+            }
+        }
+        EstatisticasDia estatisticas = contexto.getEstatisticas();
+        lixoAntes = estatisticas.getTotalLixoColetado();
+        viagensAntes = estatisticas.getTotalViagensColeta();
+        tempoColetaAntes = estatisticas.getTempoTotalColeta();
+    }
+
+    @Override
+    public void depoisDeExecutar(Evento evento, ContextoSimulacao contexto) {
+        if (caminhao != null) {
+            registro.cargaDepois = caminhao.getCargaAtual();
+        } else if (caminhaoGrande != null) {
+            registro.cargaDepois = caminhaoGrande.getCargaAtual();
+        }
+        if (estacao != null) {
+            registro.enfileirado = caminhao != null && estacao.getFilaCaminhoes().size() > filaAntes;
+            // Um evento troca no máximo um caminhão grande do pátio
+            for (int vaga = 0; vaga < estacao.getQuantidadeCaminhoesGrandes(); vaga++) {
+                CaminhaoGrande noPatio = estacao.getCaminhaoGrande(vaga);
+                int id = noPatio == null ? 0 : noPatio.getId();
+                if (id != patioAntes[vaga]) {
+                    registro.grandeNovo = id;
+                    if (estacao.getEstatisticas().getDespachos() > despachosAntes) {
+                        registro.grandeDespachado = patioAntes[vaga];
+                    }
+                }
+            }
+        }
+        EstatisticasDia estatisticas = contexto.getEstatisticas();
+        registro.lixoColetado = estatisticas.getTotalLixoColetado() - lixoAntes;
+        registro.viagens = estatisticas.getTotalViagensColeta() - viagensAntes;
+        registro.tempoColeta = estatisticas.getTempoTotalColeta() - tempoColetaAntes;
+        gravar();
+    }
+
+    private void gravar() {
+        int indiceNoBloco = (int) (quantidade % REGISTROS_POR_BLOCO);
+        if (indiceNoBloco == 0) {
+            try {
+                bloco = canal.map(FileChannel.MapMode.READ_WRITE,
+                        inicioRegistros + (quantidade / REGISTROS_POR_BLOCO) * TAMANHO_BLOCO, TAMANHO_BLOCO);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        registro.escrever(bloco, indiceNoBloco * RegistroRastro.TAMANHO);
+        quantidade++;
+        cabecalho.putLong(POSICAO_QUANTIDADE, quantidade);
+    }
+
+    /** Extrai o número do ID de um caminhão pequeno ({@code "C12"} é 12), sem alocar. */
+    private static int numero(String id) {
+        int numero = 0;
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c >= '0' && c <= '9') {
+                numero = numero * 10 + (c - '0');
+            }
+        }
+        return numero;
+    }
+
+    /**
+     * Leva ao disco o que foi gravado e fecha o arquivo.
+     *
+     * @throws IOException se o arquivo não puder ser fechado.
+     */
+    @Override
+    public void close() throws IOException {
+        if (cabecalho != null) {
+            cabecalho.force();
+        }
+        if (bloco != null) {
+            bloco.force();
+        }
+        canal.close();
+    }
+}
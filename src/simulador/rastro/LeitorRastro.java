@@ -0,0 +1,218 @@
+package simulador.rastro;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lê um arquivo gravado pelo {@link GravadorRastro}, mapeado em memória
+ * somente para leitura. Qualquer registro é lido em tempo constante, sem
+ * percorrer os anteriores, e a busca por dia e horário é binária, já que os
+ * registros estão na ordem de execução: saltar para qualquer ponto de uma
+ * execução de várias semanas é imediato.
+ */
+public class LeitorRastro implements Closeable {
+
+    private final FileChannel canal;
+    private final long quantidade;
+    private final MappedByteBuffer[] blocos;
+    private final String[] nomesZonas;
+    private final String[] nomesEstacoes;
+
+    /**
+     * Abre um arquivo de rastro.
+     *
+     * @param arquivo O arquivo gravado pelo {@link GravadorRastro}.
+     * @throws IOException se o arquivo não puder ser lido ou não for um rastro válido.
+     */
+    public LeitorRastro(Path arquivo) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            ByteBuffer inicio = ByteBuffer.allocate(GravadorRastro.POSICAO_QUANTIDADE + Long.BYTES);
+            lerCompleto(inicio, 0);
+            if (inicio.getInt(0) != GravadorRastro.MAGICO) {
+                throw new IOException("Não é um arquivo de rastro: " + arquivo);
+            }
+            if (inicio.getInt(4) != GravadorRastro.VERSAO || inicio.getInt(8) != RegistroRastro.TAMANHO) {
+                throw new IOException("Versão de rastro não suportada: " + inicio.getInt(4));
+            }
+            int inicioRegistros = inicio.getInt(12);
+            this.quantidade = inicio.getLong(GravadorRastro.POSICAO_QUANTIDADE);
+            if (canal.size() < inicioRegistros + quantidade * RegistroRastro.TAMANHO) {
+                throw new IOException("Rastro truncado: " + arquivo);
+            }
+
+            ByteBuffer nomes = ByteBuffer.allocate(inicioRegistros - inicio.capacity());
+            lerCompleto(nomes, inicio.capacity());
+            DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(nomes.array()));
+            this.nomesZonas = new String[entrada.readInt()];
+            for (int i = 0; i < nomesZonas.length; i++) {
+                nomesZonas[i] = entrada.readUTF();
+            }
+            this.nomesEstacoes = new String[entrada.readInt()];
+            for (int i = 0; i < nomesEstacoes.length; i++) {
+                nomesEstacoes[i] = entrada.readUTF();
+            }
+
+            int quantidadeBlocos = (int) ((quantidade + GravadorRastro.REGISTROS_POR_BLOCO - 1)
+                    / GravadorRastro.REGISTROS_POR_BLOCO);
+            this.blocos = new MappedByteBuffer[quantidadeBlocos];
+            for (int b = 0; b < quantidadeBlocos; b++) {
+                long primeiro = (long) b * GravadorRastro.REGISTROS_POR_BLOCO;
+                long registros = Math.min(GravadorRastro.REGISTROS_POR_BLOCO, quantidade - primeiro);
+                blocos[b] = canal.map(FileChannel.MapMode.READ_ONLY,
+                        inicioRegistros + b * GravadorRastro.TAMANHO_BLOCO, registros * RegistroRastro.TAMANHO);
+            }
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    private void lerCompleto(ByteBuffer destino, long posicao) throws IOException {
+        while (destino.hasRemaining()) {
+            if (canal.read(destino, posicao + destino.position()) < 0) {
+                throw new IOException("Fim inesperado do arquivo de rastro");
+            }
+        }
+    }
+
+    /**
+     * Retorna quantos registros o rastro tem.
+     *
+     * @return O número de eventos gravados.
+     */
+    public long getQuantidade() {
+        return quantidade;
+    }
+
+    /**
+     * Lê um registro.
+     *
+     * @param indice  A posição do registro, de 0 a {@code getQuantidade() - 1}.
+     * @param destino Onde os campos serão lidos; pode ser reaproveitado.
+     * @return O próprio {@code destino}.
+     * @throws IndexOutOfBoundsException se o índice estiver fora do rastro.
+     */
+    public RegistroRastro ler(long indice, RegistroRastro destino) {
+        verificarIndice(indice);
+        destino.ler(bloco(indice), posicao(indice));
+        return destino;
+    }
+
+    /**
+     * Encontra o primeiro registro a partir de um dia e horário.
+     *
+     * @param dia   O dia, a partir de 1.
+     * @param tempo O horário, em minutos desde o início do dia.
+     * @return O índice do primeiro registro com dia e tempo iguais ou
+     * posteriores aos informados, ou {@link #getQuantidade()} se não houver.
+     */
+    public long buscar(int dia, int tempo) {
+        long inicio = 0;
+        long fim = quantidade;
+        while (inicio < fim) {
+            long meio = (inicio + fim) >>> 1;
+            ByteBuffer bloco = bloco(meio);
+            int posicao = posicao(meio);
+            int diaMeio = RegistroRastro.lerDia(bloco, posicao);
+            if (diaMeio < dia || (diaMeio == dia && RegistroRastro.lerTempo(bloco, posicao) < tempo)) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+
+    /**
+     * Compara este rastro com outro, registro a registro.
+     *
+     * @param outro O outro rastro.
+     * @return O índice do primeiro registro diferente, o tamanho do menor rastro
+     * se um for o começo do outro, ou -1 se forem iguais.
+     */
+    public long primeiraDiferenca(LeitorRastro outro) {
+        long comum = Math.min(quantidade, outro.quantidade);
+        for (long i = 0; i < comum; i++) {
+            ByteBuffer a = bloco(i);
+            ByteBuffer b = outro.bloco(i);
+            int pa = posicao(i);
+            int pb = outro.posicao(i);
+            for (int desloc = 0; desloc < RegistroRastro.TAMANHO; desloc += Long.BYTES) {
+                if (a.getLong(pa + desloc) != b.getLong(pb + desloc)) {
+                    return i;
+                }
+            }
+        }
+        return quantidade == outro.quantidade ? -1 : comum;
+    }
+
+    /**
+     * Retorna quantas zonas havia na simulação gravada.
+     *
+     * @return O número de zonas.
+     */
+    public int getQuantidadeZonas() {
+        return nomesZonas.length;
+    }
+
+    /**
+     * Retorna o nome de uma zona.
+     *
+     * @param indice O índice da zona, como em {@link RegistroRastro#getLocal()}.
+     * @return O nome da zona.
+     */
+    public String getNomeZona(int indice) {
+        return nomesZonas[indice];
+    }
+
+    /**
+     * Retorna quantas estações havia na simulação gravada.
+     *
+     * @return O número de estações.
+     */
+    public int getQuantidadeEstacoes() {
+        return nomesEstacoes.length;
+    }
+
+    /**
+     * Retorna o nome de uma estação.
+     *
+     * @param indice O índice da estação, como em {@link RegistroRastro#getLocal()}.
+     * @return O nome da estação.
+     */
+    public String getNomeEstacao(int indice) {
+        return nomesEstacoes[indice];
+    }
+
+    private void verificarIndice(long indice) {
+        if (indice < 0 || indice >= quantidade) {
+            throw new IndexOutOfBoundsException("Registro " + indice + " fora do rastro de " + quantidade);
+        }
+    }
+
+    private ByteBuffer bloco(long indice) {
+        return blocos[(int) (indice / GravadorRastro.REGISTROS_POR_BLOCO)];
+    }
+
+    private int posicao(long indice) {
+        return (int) (indice % GravadorRastro.REGISTROS_POR_BLOCO) * RegistroRastro.TAMANHO;
+    }
+
+    /**
+     * Fecha o arquivo. Os registros já lidos continuam válidos.
+     *
+     * @throws IOException se o arquivo não puder ser fechado.
+     */
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
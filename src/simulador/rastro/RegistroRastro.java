@@ -0,0 +1,277 @@
+package simulador.rastro;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Um registro do rastro: o que um evento executado fez, em campos inteiros de
+ * tamanho fixo. O mesmo objeto pode ser reaproveitado para ler vários
+ * registros, sem alocação.
+ * <p>
+ * Os caminhões pequenos são identificados pelo número do ID ({@code C12} é 12)
+ * e pela capacidade, já que cada classe de capacidade numera os seus caminhões
+ * a partir de 1. As cargas, o lixo coletado e o tempo de coleta vêm de antes e
+ * depois da execução, então refletem exatamente o efeito do evento.
+ */
+public class RegistroRastro {
+
+    /** Tamanho de um registro no arquivo, em bytes. */
+    static final int TAMANHO = 48;
+
+    private static final int DIA = 0;
+    private static final int TEMPO = 4;
+    private static final int TIPO = 8;
+    private static final int VIAGENS = 9;
+    private static final int ENFILEIRADO = 10;
+    private static final int CAMINHAO = 12;
+    private static final int CAPACIDADE = 16;
+    private static final int LOCAL = 20;
+    private static final int CARGA_ANTES = 24;
+    private static final int CARGA_DEPOIS = 28;
+    private static final int LIXO_COLETADO = 32;
+    private static final int TEMPO_COLETA = 36;
+    private static final int GRANDE_DESPACHADO = 40;
+    private static final int GRANDE_NOVO = 44;
+
+    private static final TipoEventoRastro[] TIPOS = TipoEventoRastro.values();
+
+    int dia;
+    int tempo;
+    TipoEventoRastro tipo = TipoEventoRastro.OUTRO;
+    int viagens;
+    boolean enfileirado;
+    int caminhao;
+    int capacidade;
+    int local;
+    int cargaAntes;
+    int cargaDepois;
+    int lixoColetado;
+    int tempoColeta;
+    int grandeDespachado;
+    int grandeNovo;
+
+    /** Grava os campos em {@code destino}, a partir da posição informada, sem mover a posição do buffer. */
+    void escrever(ByteBuffer destino, int posicao) {
+        destino.putInt(posicao + DIA, dia);
+        destino.putInt(posicao + TEMPO, tempo);
+        destino.put(posicao + TIPO, (byte) tipo.ordinal());
+        destino.put(posicao + VIAGENS, (byte) viagens);
+        destino.put(posicao + ENFILEIRADO, (byte) (enfileirado ? 1 : 0));
+        destino.put(posicao + ENFILEIRADO + 1, (byte) 0);
+        destino.putInt(posicao + CAMINHAO, caminhao);
+        destino.putInt(posicao + CAPACIDADE, capacidade);
+        destino.putInt(posicao + LOCAL, local);
+        destino.putInt(posicao + CARGA_ANTES, cargaAntes);
+        destino.putInt(posicao + CARGA_DEPOIS, cargaDepois);
+        destino.putInt(posicao + LIXO_COLETADO, lixoColetado);
+        destino.putInt(posicao + TEMPO_COLETA, tempoColeta);
+        destino.putInt(posicao + GRANDE_DESPACHADO, grandeDespachado);
+        destino.putInt(posicao + GRANDE_NOVO, grandeNovo);
+    }
+
+    /** Lê os campos de {@code origem}, a partir da posição informada, sem mover a posição do buffer. */
+    void ler(ByteBuffer origem, int posicao) {
+        dia = origem.getInt(posicao + DIA);
+        tempo = origem.getInt(posicao + TEMPO);
+        int ordinal = origem.get(posicao + TIPO);
+        tipo = ordinal >= 0 && ordinal < TIPOS.length ? TIPOS[ordinal] : TipoEventoRastro.OUTRO;
+        viagens = origem.get(posicao + VIAGENS);
+        enfileirado = origem.get(posicao + ENFILEIRADO) != 0;
+        caminhao = origem.getInt(posicao + CAMINHAO);
+        capacidade = origem.getInt(posicao + CAPACIDADE);
+        local = origem.getInt(posicao + LOCAL);
+        cargaAntes = origem.getInt(posicao + CARGA_ANTES);
+        cargaDepois = origem.getInt(posicao + CARGA_DEPOIS);
+        lixoColetado = origem.getInt(posicao + LIXO_COLETADO);
+        tempoColeta = origem.getInt(posicao + TEMPO_COLETA);
+        grandeDespachado = origem.getInt(posicao + GRANDE_DESPACHADO);
+        grandeNovo = origem.getInt(posicao + GRANDE_NOVO);
+    }
+
+    /** Lê apenas o dia de um registro gravado na posição informada. */
+    static int lerDia(ByteBuffer origem, int posicao) {
+        return origem.getInt(posicao + DIA);
+    }
+
+    /** Lê apenas o tempo de um registro gravado na posição informada. */
+    static int lerTempo(ByteBuffer origem, int posicao) {
+        return origem.getInt(posicao + TEMPO);
+    }
+
+    /** Volta todos os campos ao valor inicial. */
+    void limpar() {
+        dia = 0;
+        tempo = 0;
+        tipo = TipoEventoRastro.OUTRO;
+        viagens = 0;
+        enfileirado = false;
+        caminhao = 0;
+        capacidade = 0;
+        local = 0;
+        cargaAntes = 0;
+        cargaDepois = 0;
+        lixoColetado = 0;
+        tempoColeta = 0;
+        grandeDespachado = 0;
+        grandeNovo = 0;
+    }
+
+    /**
+     * Retorna o dia da simulação em que o evento ocorreu.
+     *
+     * @return O dia, a partir de 1.
+     */
+    public int getDia() {
+        return dia;
+    }
+
+    /**
+     * Retorna o tempo do evento.
+     *
+     * @return O tempo em minutos desde o início do dia.
+     */
+    public int getTempo() {
+        return tempo;
+    }
+
+    /**
+     * Retorna o tipo do evento.
+     *
+     * @return O tipo do evento.
+     */
+    public TipoEventoRastro getTipo() {
+        return tipo;
+    }
+
+    /**
+     * Retorna quantas viagens de coleta o evento registrou nas estatísticas do dia.
+     *
+     * @return 0 ou 1.
+     */
+    public int getViagens() {
+        return viagens;
+    }
+
+    /**
+     * Informa se o caminhão pequeno entrou na fila de espera da estação, em
+     * vez de descarregar.
+     *
+     * @return {@code true} se o evento colocou o caminhão na fila.
+     */
+    public boolean isEnfileirado() {
+        return enfileirado;
+    }
+
+    /**
+     * Retorna o caminhão do evento.
+     *
+     * @return O número do caminhão pequeno, o ID do caminhão grande em
+     * {@link TipoEventoRastro#VERIFICACAO_ESPERA}, ou 0 se não houver caminhão.
+     */
+    public int getCaminhao() {
+        return caminhao;
+    }
+
+    /**
+     * Retorna a capacidade do caminhão pequeno.
+     *
+     * @return A capacidade em toneladas, ou 0.
+     */
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    /**
+     * Retorna o local do evento.
+     *
+     * @return O índice da zona ou da estação, conforme o {@link #getTipo() tipo}.
+     */
+    public int getLocal() {
+        return local;
+    }
+
+    /**
+     * Retorna a carga do caminhão antes do evento.
+     *
+     * @return A carga em toneladas.
+     */
+    public int getCargaAntes() {
+        return cargaAntes;
+    }
+
+    /**
+     * Retorna a carga do caminhão depois do evento.
+     *
+     * @return A carga em toneladas.
+     */
+    public int getCargaDepois() {
+        return cargaDepois;
+    }
+
+    /**
+     * Retorna o lixo que o evento somou às estatísticas do dia.
+     *
+     * @return O lixo coletado, em toneladas.
+     */
+    public int getLixoColetado() {
+        return lixoColetado;
+    }
+
+    /**
+     * Retorna o tempo de coleta que o evento somou às estatísticas do dia.
+     *
+     * @return O tempo em minutos.
+     */
+    public int getTempoColeta() {
+        return tempoColeta;
+    }
+
+    /**
+     * Retorna o caminhão grande que o evento mandou ao aterro.
+     *
+     * @return O ID do caminhão, ou 0.
+     */
+    public int getGrandeDespachado() {
+        return grandeDespachado;
+    }
+
+    /**
+     * Retorna o caminhão grande que o evento colocou no pátio.
+     *
+     * @return O ID do caminhão, ou 0.
+     */
+    public int getGrandeNovo() {
+        return grandeNovo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RegistroRastro)) return false;
+        RegistroRastro outro = (RegistroRastro) o;
+        return dia == outro.dia && tempo == outro.tempo && tipo == outro.tipo && viagens == outro.viagens
+                && enfileirado == outro.enfileirado
+                && caminhao == outro.caminhao && capacidade == outro.capacidade && local == outro.local
+                && cargaAntes == outro.cargaAntes && cargaDepois == outro.cargaDepois
+                && lixoColetado == outro.lixoColetado && tempoColeta == outro.tempoColeta
+                && grandeDespachado == outro.grandeDespachado && grandeNovo == outro.grandeNovo;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 31 * dia + tempo;
+        h = 31 * h + tipo.ordinal();
+        h = 31 * h + caminhao;
+        h = 31 * h + capacidade;
+        h = 31 * h + local;
+        h = 31 * h + cargaAntes;
+        return 31 * h + cargaDepois;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("dia %d | %4d min | %-23s | caminhão %d (%dt) | local %d | carga %d -> %d%s"
+                        + " | coletado %d em %d min | grande -%d +%d",
+                dia, tempo, tipo, caminhao, capacidade, local, cargaAntes, cargaDepois, enfileirado ? " (fila)" : "",
+                lixoColetado, tempoColeta, grandeDespachado, grandeNovo);
+    }
+}
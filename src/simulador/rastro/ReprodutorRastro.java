@@ -0,0 +1,108 @@
+package simulador.rastro;
+
+import simulador.EstatisticasDia;
+import simulador.visualizacao.ObservadorSimulacao;
+
+/**
+ * Revê uma execução a partir do seu rastro, sem simular de novo: anima a
+ * interface gráfica pelo {@link ObservadorSimulacao} ou refaz as estatísticas
+ * de um dia.
+ * <p>
+ * As notificações enviadas ao observador são as mesmas que a simulação
+ * enviaria, com os mesmos textos, e uma pausa depois de cada uma que a
+ * simulação também pausaria. Como qualquer trecho do rastro pode ser
+ * reproduzido, é possível começar em qualquer dia e horário.
+ */
+public class ReprodutorRastro {
+
+    private final LeitorRastro leitor;
+
+    /**
+     * Cria um reprodutor para um rastro aberto.
+     *
+     * @param leitor O rastro a ser reproduzido.
+     */
+    public ReprodutorRastro(LeitorRastro leitor) {
+        this.leitor = leitor;
+    }
+
+    /**
+     * Envia ao observador, em ordem, as notificações dos registros de um trecho do rastro.
+     *
+     * @param inicio     O primeiro registro (ver {@link LeitorRastro#buscar(int, int)}).
+     * @param fim        O registro seguinte ao último.
+     * @param observador Quem recebe as notificações.
+     */
+    public void reproduzir(long inicio, long fim, ObservadorSimulacao observador) {
+        RegistroRastro registro = new RegistroRastro();
+        for (long i = inicio; i < fim && !Thread.currentThread().isInterrupted(); i++) {
+            leitor.ler(i, registro);
+            notificar(registro, observador);
+        }
+    }
+
+    private void notificar(RegistroRastro registro, ObservadorSimulacao observador) {
+        switch (registro.getTipo()) {
+            case COLETA:
+                observador.atualizarCaminhao("C" + registro.getCaminhao(), "Coletando",
+                        leitor.getNomeZona(registro.getLocal()));
+                observador.pausar();
+                return;
+            case TRANSFERENCIA:
+                String estacao = leitor.getNomeEstacao(registro.getLocal());
+                observador.atualizarCaminhao("C" + registro.getCaminhao(), "Indo p/ Estação " + estacao, estacao);
+                observador.pausar();
+                return;
+            case CHEGADA_ESTACAO:
+                observador.atualizarCaminhao("C" + registro.getCaminhao(),
+                        registro.isEnfileirado() ? "Na Fila" : "Descarregando",
+                        "Estacao " + leitor.getNomeEstacao(registro.getLocal()));
+                break;
+            case GERACAO_CAMINHAO_GRANDE:
+            case VERIFICACAO_ESPERA:
+                break;
+            default:
+                return;
+        }
+        if (registro.getGrandeDespachado() != 0) {
+            observador.atualizarCaminhao("G" + registro.getGrandeDespachado(), "Indo p/ Aterro", "Aterro");
+            observador.pausar();
+        }
+        if (registro.getGrandeNovo() != 0) {
+            observador.atualizarCaminhao("G" + registro.getGrandeNovo(), "Aguardando",
+                    "Estacao " + leitor.getNomeEstacao(registro.getLocal()));
+            observador.pausar();
+        }
+    }
+
+    /**
+     * Soma às estatísticas as coletas registradas em um trecho do rastro.
+     *
+     * @param inicio       O primeiro registro.
+     * @param fim          O registro seguinte ao último.
+     * @param estatisticas Onde as coletas serão somadas.
+     */
+    public void acumularEstatisticas(long inicio, long fim, EstatisticasDia estatisticas) {
+        RegistroRastro registro = new RegistroRastro();
+        for (long i = inicio; i < fim; i++) {
+            leitor.ler(i, registro);
+            if (registro.getViagens() > 0) {
+                estatisticas.registrarColeta(registro.getLixoColetado(), registro.getTempoColeta());
+            }
+        }
+    }
+
+    /**
+     * Refaz as estatísticas de um dia a partir do rastro.
+     *
+     * @param dia O dia, a partir de 1.
+     * @return As estatísticas do dia, com os totais e a duração das viagens
+     * iguais aos que a simulação produziu; as métricas das estações não
+     * estão no rastro e ficam vazias.
+     */
+    public EstatisticasDia getEstatisticasDia(int dia) {
+        EstatisticasDia estatisticas = new EstatisticasDia();
+        acumularEstatisticas(leitor.buscar(dia, 0), leitor.buscar(dia + 1, 0), estatisticas);
+        return estatisticas;
+    }
+}
@@ -0,0 +1,29 @@
+package simulador.rastro;
+
+/**
+ * Os tipos de evento gravados no rastro. O valor gravado é o {@code ordinal},
+ * então novos tipos só podem ser acrescentados no fim.
+ */
+public enum TipoEventoRastro {
+
+    /** {@link simulador.eventos.EventoColeta}: local é a zona. */
+    COLETA,
+
+    /** {@link simulador.eventos.EventoIniciarTransferencia}: local é a estação de destino. */
+    TRANSFERENCIA,
+
+    /** {@link simulador.eventos.EventoChegadaEstacao}: local é a estação. */
+    CHEGADA_ESTACAO,
+
+    /** {@link simulador.eventos.EventoGerarCaminhaoGrande}: local é a estação. */
+    GERACAO_CAMINHAO_GRANDE,
+
+    /**
+     * {@link simulador.eventos.EventoVerificarEsperaCaminhaoGrande}: local é a
+     * estação e o caminhão é o caminhão grande verificado.
+     */
+    VERIFICACAO_ESPERA,
+
+    /** Qualquer outro evento; só o dia e o tempo são significativos. */
+    OUTRO
+}
@@ -0,0 +1,161 @@
+package simulador.replicacao;
+
+import simulador.ContextoSimulacao;
+import simulador.ResumoDia;
+import simulador.Simulador;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.log.RegistroSimulacao;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Executa várias replicações independentes da simulação em paralelo, para
+ * que os resultados possam ser apresentados com intervalos de confiança.
+ * <p>
+ * Cada replicação recebe o seu próprio {@link ContextoSimulacao}, com uma semente
+ * derivada da semente base e do índice da replicação. Como as replicações não
+ * compartilham estado, o trabalho é distribuído em um {@link ForkJoinPool}
+ * sem nenhuma sincronização além da junção final, e a mesma semente base
+ * sempre produz os mesmos resultados, qualquer que seja o número de threads.
+ */
+public class ExecutorReplicacoes {
+
+    /** Quantidade de dias simulados em cada replicação. */
+    private final int dias;
+
+    /** Semente a partir da qual as sementes das replicações são derivadas. */
+    private final long sementeBase;
+
+    /** Número de threads usadas na execução. */
+    private final int paralelismo;
+
+    /** Os parâmetros usados em todas as replicações. */
+    private final ParametrosSimulacao parametros;
+
+    /**
+     * Cria um executor que usa todos os processadores disponíveis.
+     *
+     * @param dias        O número de dias de cada replicação.
+     * @param sementeBase A semente base do experimento.
+     */
+    public ExecutorReplicacoes(int dias, long sementeBase) {
+        this(dias, sementeBase, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Cria um executor com o nível de paralelismo informado.
+     *
+     * @param dias        O número de dias de cada replicação.
+     * @param sementeBase A semente base do experimento.
+     * @param paralelismo O número de threads a serem usadas.
+     * @throws IllegalArgumentException se dias ou paralelismo não forem positivos.
+     */
+    public ExecutorReplicacoes(int dias, long sementeBase, int paralelismo) {
+        this(dias, sementeBase, paralelismo, ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria um executor que simula o cenário descrito pelos parâmetros informados.
+     * Executores com a mesma semente base e cenários diferentes usam as mesmas
+     * sementes em cada replicação, o que reduz a variância da comparação entre
+     * os cenários (números aleatórios comuns).
+     *
+     * @param dias        O número de dias de cada replicação.
+     * @param sementeBase A semente base do experimento.
+     * @param paralelismo O número de threads a serem usadas.
+     * @param parametros  Os parâmetros do cenário.
+     * @throws IllegalArgumentException se dias ou paralelismo não forem positivos,
+     *                                  ou se os parâmetros forem nulos.
+     */
+    public ExecutorReplicacoes(int dias, long sementeBase, int paralelismo, ParametrosSimulacao parametros) {
+        if (dias <= 0 || paralelismo <= 0) {
+            throw new IllegalArgumentException("Dias e paralelismo devem ser positivos");
+        }
+        if (parametros == null) {
+            throw new IllegalArgumentException("Parâmetros não podem ser nulos");
+        }
+        this.dias = dias;
+        this.sementeBase = sementeBase;
+        this.paralelismo = paralelismo;
+        this.parametros = parametros;
+    }
+
+    /**
+     * Executa as replicações e consolida os resultados.
+     *
+     * @param replicacoes O número de replicações.
+     * @return Os resultados de todas as replicações.
+     * @throws IllegalArgumentException se o número de replicações não for positivo.
+     */
+    public ResultadoReplicacoes executar(int replicacoes) {
+        if (replicacoes <= 0) {
+            throw new IllegalArgumentException("O número de replicações deve ser positivo");
+        }
+        ResumoDia[][] resumos = new ResumoDia[replicacoes][];
+        long inicio = System.nanoTime();
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            pool.invoke(new TarefaReplicacoes(resumos, 0, replicacoes));
+        } finally {
+            pool.shutdown();
+        }
+        return new ResultadoReplicacoes(resumos, System.nanoTime() - inicio);
+    }
+
+    /**
+     * Executa uma única replicação, sem mensagens de acompanhamento.
+     *
+     * @param indice O índice da replicação.
+     * @return Os resumos diários da replicação.
+     */
+    public ResumoDia[] executarReplicacao(int indice) {
+        ContextoSimulacao contexto = new ContextoSimulacao(sementeDaReplicacao(indice), RegistroSimulacao.silencioso());
+        return new Simulador(contexto, parametros).iniciarSimulacao(dias);
+    }
+
+    /**
+     * Deriva a semente de uma replicação misturando a semente base com o índice
+     * (função de finalização do SplitMix64), para que replicações vizinhas
+     * recebam sementes sem correlação aparente.
+     *
+     * @param indice O índice da replicação.
+     * @return A semente da replicação.
+     */
+    public long sementeDaReplicacao(int indice) {
+        long z = sementeBase + (indice + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Tarefa que divide o intervalo de replicações ao meio até restar uma só,
+     * que então é executada na thread corrente.
+     */
+    private class TarefaReplicacoes extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ResumoDia[][] resumos;
+        private final int inicio;
+        private final int fim;
+
+        TarefaReplicacoes(ResumoDia[][] resumos, int inicio, int fim) {
+            this.resumos = resumos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio == 1) {
+                resumos[inicio] = executarReplicacao(inicio);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new TarefaReplicacoes(resumos, inicio, meio),
+                    new TarefaReplicacoes(resumos, meio, fim));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package simulador.replicacao;
+
+import simulador.ResumoDia;
+import simulador.configTempo.GerenciadorTempo;
+import simulador.metricas.Histograma;
+import simulador.metricas.Metrica;
+
+import java.io.PrintStream;
+
+/**
+ * Guarda os resumos diários de todas as replicações de um experimento e
+ * consolida cada indicador em um {@link ResumoEstatistico} por dia. As
+ * distribuições de cada {@link Metrica} são consolidadas somando os
+ * histogramas de todos os dias de todas as replicações.
+ */
+public class ResultadoReplicacoes {
+
+    /** Resumos brutos, indexados por replicação e depois por dia. */
+    private final ResumoDia[][] resumos;
+
+    /** Tempo de parede gasto para executar todas as replicações, em nanossegundos. */
+    private final long duracaoNanos;
+
+    /**
+     * Cria o resultado a partir dos resumos de cada replicação.
+     *
+     * @param resumos      Os resumos diários, um vetor por replicação.
+     * @param duracaoNanos O tempo de parede total da execução.
+     */
+    public ResultadoReplicacoes(ResumoDia[][] resumos, long duracaoNanos) {
+        this.resumos = resumos;
+        this.duracaoNanos = duracaoNanos;
+    }
+
+    /**
+     * Retorna o número de replicações executadas.
+     *
+     * @return A quantidade de replicações.
+     */
+    public int getReplicacoes() {
+        return resumos.length;
+    }
+
+    /**
+     * Retorna o número de dias simulados em cada replicação.
+     *
+     * @return A quantidade de dias.
+     */
+    public int getDias() {
+        return resumos.length == 0 ? 0 : resumos[0].length;
+    }
+
+    /**
+     * Retorna o resumo bruto de um dia de uma replicação.
+     *
+     * @param replicacao O índice da replicação (0-based).
+     * @param dia        O número do dia (a partir de 1).
+     * @return O {@link ResumoDia} correspondente.
+     */
+    public ResumoDia getResumo(int replicacao, int dia) {
+        return resumos[replicacao][dia - 1];
+    }
+
+    /**
+     * Retorna o tempo de parede gasto na execução.
+     *
+     * @return A duração em nanossegundos.
+     */
+    public long getDuracaoNanos() {
+        return duracaoNanos;
+    }
+
+    /**
+     * Consolida o lixo coletado em um dia, em toneladas.
+     *
+     * @param dia O número do dia (a partir de 1).
+     * @return O resumo estatístico entre as replicações.
+     */
+    public ResumoEstatistico getLixoColetado(int dia) {
+        double[] valores = new double[resumos.length];
+        for (int r = 0; r < resumos.length; r++) {
+            valores[r] = resumos[r][dia - 1].getLixoColetado();
+        }
+        return new ResumoEstatistico(valores);
+    }
+
+    /**
+     * Consolida o horário de encerramento de um dia, em minutos.
+     *
+     * @param dia O número do dia (a partir de 1).
+     * @return O resumo estatístico entre as replicações.
+     */
+    public ResumoEstatistico getTempoEncerramento(int dia) {
+        double[] valores = new double[resumos.length];
+        for (int r = 0; r < resumos.length; r++) {
+            valores[r] = resumos[r][dia - 1].getTempoEncerramento();
+        }
+        return new ResumoEstatistico(valores);
+    }
+
+    /**
+     * Consolida a quantidade de caminhões grandes criados em um dia.
+     *
+     * @param dia O número do dia (a partir de 1).
+     * @return O resumo estatístico entre as replicações.
+     */
+    public ResumoEstatistico getCaminhoesGrandesCriados(int dia) {
+        double[] valores = new double[resumos.length];
+        for (int r = 0; r < resumos.length; r++) {
+            valores[r] = resumos[r][dia - 1].getCaminhoesGrandesCriados();
+        }
+        return new ResumoEstatistico(valores);
+    }
+
+    /**
+     * Soma os histogramas de uma métrica em todos os dias de todas as
+     * replicações. Cada replicação registrou no seu próprio histograma, então
+     * a soma não precisa de sincronização.
+     *
+     * @param metrica A métrica desejada.
+     * @return Um novo histograma com todas as ocorrências do experimento.
+     */
+    public Histograma getDistribuicao(Metrica metrica) {
+        Histograma total = new Histograma();
+        for (ResumoDia[] replicacao : resumos) {
+            for (ResumoDia resumo : replicacao) {
+                total.acumular(resumo.getEstatisticas().getHistograma(metrica));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Exibe uma tabela por dia com média, desvio padrão, intervalo de confiança
+     * e percentis de cada indicador, seguida das distribuições de cada
+     * {@link Metrica} em todo o experimento.
+     *
+     * @param saida O destino do texto.
+     */
+    public void imprimir(PrintStream saida) {
+        saida.println("+------------------------------------------------------------------------------------------+");
+        saida.printf("| %-88s |%n", "REPLICAÇÕES: " + getReplicacoes() + " | Tempo de execução: "
+                + String.format("%.2f s", duracaoNanos / 1e9));
+        saida.println("+------------------------------------------------------------------------------------------+");
+        for (int dia = 1; dia <= getDias(); dia++) {
+            saida.printf("| %-88s |%n", "DIA " + dia);
+            saida.printf("| %-22s | %9s | %9s | %10s | %9s | %9s | %9s |%n",
+                    "Indicador", "Média", "Desvio", "IC 95%", "P5", "P50", "P95");
+            imprimirLinha(saida, "Lixo coletado (t)", getLixoColetado(dia));
+            imprimirLinha(saida, "Encerramento (min)", getTempoEncerramento(dia));
+            imprimirLinha(saida, "Caminhões grandes", getCaminhoesGrandesCriados(dia));
+            ResumoEstatistico encerramento = getTempoEncerramento(dia);
+            saida.printf("| %-22s | %-63s |%n", "Horário médio",
+                    GerenciadorTempo.formatarHorarioSimulado((int) Math.round(encerramento.getMedia())));
+            saida.println("+------------------------------------------------------------------------------------------+");
+        }
+        saida.printf("| %-88s |%n", "DISTRIBUIÇÕES (todas as replicações e dias)");
+        saida.printf("| %-22s | %9s | %9s | %10s | %9s | %9s | %9s |%n",
+                "Métrica", "Amostras", "Média", "P50", "P95", "P99", "Máximo");
+        for (Metrica metrica : Metrica.values()) {
+            Histograma distribuicao = getDistribuicao(metrica);
+            saida.printf("| %-22s | %9d | %9.2f | %10d | %9d | %9d | %9d |%n",
+                    metrica.getDescricao() + " (" + metrica.getUnidade() + ")", distribuicao.getQuantidade(),
+                    distribuicao.getMedia(), distribuicao.percentil(50), distribuicao.percentil(95),
+                    distribuicao.percentil(99), distribuicao.getMaximo());
+        }
+        saida.println("+------------------------------------------------------------------------------------------+");
+    }
+
+    private void imprimirLinha(PrintStream saida, String nome, ResumoEstatistico resumo) {
+        saida.printf("| %-22s | %9.2f | %9.2f | ±%9.2f | %9.2f | %9.2f | %9.2f |%n",
+                nome, resumo.getMedia(), resumo.getDesvioPadrao(), resumo.getMeiaLarguraIC95(),
+                resumo.percentil(5), resumo.percentil(50), resumo.percentil(95));
+    }
+}
@@ -0,0 +1,118 @@
+package simulador.replicacao;
+
+import java.util.Arrays;
+
+/**
+ * Resumo estatístico de uma amostra de valores: média, desvio padrão,
+ * extremos, percentis e intervalo de confiança de 95% para a média.
+ * A amostra é copiada e ordenada na construção, por isso o objeto é imutável.
+ */
+public class ResumoEstatistico {
+
+    /** Quantil da normal padrão usado no intervalo de confiança de 95%. */
+    private static final double Z_95 = 1.959963984540054;
+
+    private final double[] ordenados;
+    private final double media;
+    private final double desvioPadrao;
+
+    /**
+     * Calcula o resumo de uma amostra.
+     *
+     * @param valores Os valores observados, um por replicação.
+     * @throws IllegalArgumentException se a amostra for nula ou vazia.
+     */
+    public ResumoEstatistico(double[] valores) {
+        if (valores == null || valores.length == 0) {
+            throw new IllegalArgumentException("A amostra não pode ser vazia");
+        }
+        this.ordenados = valores.clone();
+        Arrays.sort(this.ordenados);
+
+        double soma = 0;
+        for (double v : ordenados) {
+            soma += v;
+        }
+        this.media = soma / ordenados.length;
+
+        double somaQuadrados = 0;
+        for (double v : ordenados) {
+            double desvio = v - media;
+            somaQuadrados += desvio * desvio;
+        }
+        this.desvioPadrao = ordenados.length > 1 ? Math.sqrt(somaQuadrados / (ordenados.length - 1)) : 0;
+    }
+
+    /**
+     * Retorna o tamanho da amostra.
+     *
+     * @return O número de valores.
+     */
+    public int getTamanhoAmostra() {
+        return ordenados.length;
+    }
+
+    /**
+     * Retorna a média da amostra.
+     *
+     * @return A média aritmética.
+     */
+    public double getMedia() {
+        return media;
+    }
+
+    /**
+     * Retorna o desvio padrão amostral (com divisor n - 1).
+     *
+     * @return O desvio padrão, ou zero para amostras de um único valor.
+     */
+    public double getDesvioPadrao() {
+        return desvioPadrao;
+    }
+
+    /**
+     * Retorna o menor valor da amostra.
+     *
+     * @return O valor mínimo.
+     */
+    public double getMinimo() {
+        return ordenados[0];
+    }
+
+    /**
+     * Retorna o maior valor da amostra.
+     *
+     * @return O valor máximo.
+     */
+    public double getMaximo() {
+        return ordenados[ordenados.length - 1];
+    }
+
+    /**
+     * Retorna a meia largura do intervalo de confiança de 95% para a média,
+     * usando a aproximação normal.
+     *
+     * @return O valor a ser somado e subtraído da média.
+     */
+    public double getMeiaLarguraIC95() {
+        return Z_95 * desvioPadrao / Math.sqrt(ordenados.length);
+    }
+
+    /**
+     * Calcula um percentil por interpolação linear entre os valores ordenados.
+     *
+     * @param p O percentil desejado, entre 0 e 100.
+     * @return O valor do percentil.
+     * @throws IllegalArgumentException se p estiver fora do intervalo [0, 100].
+     */
+    public double percentil(double p) {
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException("Percentil deve estar entre 0 e 100");
+        }
+        double posicao = p / 100.0 * (ordenados.length - 1);
+        int inferior = (int) Math.floor(posicao);
+        int superior = (int) Math.ceil(posicao);
+        double fracao = posicao - inferior;
+        return ordenados[inferior] + (ordenados[superior] - ordenados[inferior]) * fracao;
+    }
+}
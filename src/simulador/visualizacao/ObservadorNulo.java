@@ -0,0 +1,20 @@
+package simulador.visualizacao;
+
+/**
+ * Observador que ignora todas as notificações.
+ * Usado nas execuções sem interface gráfica, para que a simulação rode
+ * na velocidade máxima, sem pausas e sem depender do JavaFX.
+ */
+public class ObservadorNulo implements ObservadorSimulacao {
+
+    /** Instância única, já que o observador não tem estado. */
+    public static final ObservadorNulo INSTANCIA = new ObservadorNulo();
+
+    @Override
+    public void atualizarCaminhao(String id, String status, String localizacao) {
+    }
+
+    @Override
+    public void pausar() {
+    }
+}
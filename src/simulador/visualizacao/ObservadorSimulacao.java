@@ -0,0 +1,25 @@
+package simulador.visualizacao;
+
+/**
+ * Recebe notificações da simulação sobre a movimentação dos caminhões.
+ * Separa o motor da simulação da forma como ela é exibida: a interface gráfica
+ * implementa este contrato para animar o mapa, enquanto execuções sem interface
+ * usam o {@link ObservadorNulo}.
+ */
+public interface ObservadorSimulacao {
+
+    /**
+     * Informa que um caminhão mudou de estado ou de destino.
+     *
+     * @param id          O identificador do caminhão (ex: "C1", "G2").
+     * @param status      O texto que descreve o estado atual do caminhão.
+     * @param localizacao O nome do local de destino (zona, estação ou aterro).
+     */
+    void atualizarCaminhao(String id, String status, String localizacao);
+
+    /**
+     * Chamado nos pontos em que a simulação pode aguardar para que a
+     * animação fique visível.
+     */
+    void pausar();
+}
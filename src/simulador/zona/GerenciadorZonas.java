@@ -1,6 +1,6 @@
 package simulador.zona;
 
-import estruturas.lista.Lista;
+import estruturas.lista.EstruturaLista;
 import simulador.caminhoes.CaminhaoPequeno;
 import simulador.estacoes.EstacaoDeTransferencia;
 
@@ -8,23 +8,35 @@ import simulador.estacoes.EstacaoDeTransferencia;
  * Mapeia zonas da cidade às suas respectivas estações de transferência.
  * Esta classe funciona como um objeto central de configuração que é instanciado
  * no início da simulação para gerenciar as relações geográficas e a frota.
+ * <p>
+ * Ao registrar as zonas, cada uma recebe um índice denso (0 a N-1) e a
+ * {@link PoliticaRoteamento} escolhe a estação de cada zona. O resultado fica
+ * em um vetor indexado pelo índice da zona, de modo que
+ * {@link #getEstacaoPara(Zona)} é um acesso direto, qualquer que seja o número
+ * de zonas e estações.
  */
 public class GerenciadorZonas {
 
-    private EstacaoDeTransferencia estacaoA;
-    private EstacaoDeTransferencia estacaoB;
-    private Lista<Zona> zonas;
-    private Lista<CaminhaoPequeno> caminhoes;
+    private final EstacaoDeTransferencia[] estacoes;
+    private PoliticaRoteamento politica = PoliticaRoteamento.MAIS_PROXIMA;
+    private EstruturaLista<Zona> zonas;
+    private double[][] distancias;
+    private EstacaoDeTransferencia[] rota = new EstacaoDeTransferencia[0];
+    private int[] indicesRota = new int[0];
+    private EstruturaLista<CaminhaoPequeno> caminhoes;
 
     /**
-     * Construtor que configura o gerenciador com as duas estações de transferência.
+     * Construtor que configura o gerenciador com as estações de transferência
+     * da cidade. Em Teresina: A (atende Leste, Norte, Centro) e B (atende Sul, Sudeste).
      *
-     * @param a Estação de Transferência A (atende Leste, Norte, Centro).
-     * @param b Estação de Transferência B (atende Sul, Sudeste).
+     * @param estacoes As estações, na ordem das colunas da matriz de distâncias.
+     * @throws IllegalArgumentException se não houver nenhuma estação.
      */
-    public GerenciadorZonas(EstacaoDeTransferencia a, EstacaoDeTransferencia b) {
-        this.estacaoA = a;
-        this.estacaoB = b;
+    public GerenciadorZonas(EstacaoDeTransferencia... estacoes) {
+        if (estacoes.length == 0) {
+            throw new IllegalArgumentException("É preciso pelo menos uma estação de transferência");
+        }
+        this.estacoes = estacoes.clone();
     }
 
     /**
@@ -32,29 +44,140 @@ public class GerenciadorZonas {
      *
      * @param zona A zona a ser verificada.
      * @return A instância da {@link EstacaoDeTransferencia} correspondente.
-     * @throws IllegalArgumentException se a zona não for mapeada para nenhuma estação.
+     * @throws IllegalArgumentException se a zona não estiver registrada neste gerenciador.
      */
     public EstacaoDeTransferencia getEstacaoPara(Zona zona) {
-        String nome = zona.getNome().toLowerCase();
-
-        if (nome.equals("leste") || nome.equals("norte") || nome.equals("centro")) {
-            return estacaoA;
+        int id = zona.getId();
+        if (id < 0 || id >= rota.length) {
+            throw new IllegalArgumentException("Zona desconhecida: " + zona.getNome());
         }
+        return rota[id];
+    }
 
-        if (nome.equals("sul") || nome.equals("sudeste")) {
-            return estacaoB;
+    /**
+     * Retorna a estação de transferência de um índice.
+     *
+     * @param indice O índice da estação, na ordem do construtor.
+     * @return A estação.
+     */
+    public EstacaoDeTransferencia getEstacao(int indice) {
+        return estacoes[indice];
+    }
+
+    /**
+     * Retorna o índice de uma estação de transferência.
+     *
+     * @param estacao A estação.
+     * @return O índice da estação, na ordem do construtor.
+     * @throws IllegalArgumentException se a estação não pertencer a este gerenciador.
+     */
+    public int getIndice(EstacaoDeTransferencia estacao) {
+        for (int i = 0; i < estacoes.length; i++) {
+            if (estacoes[i] == estacao) return i;
         }
+        throw new IllegalArgumentException("Estação desconhecida: " + estacao.getNomeEstacao());
+    }
 
-        throw new IllegalArgumentException("Zona desconhecida: " + zona.getNome());
+    /**
+     * Retorna o número de estações de transferência.
+     *
+     * @return A quantidade de estações.
+     */
+    public int getQuantidadeEstacoes() {
+        return estacoes.length;
+    }
+
+    /**
+     * Define a lista de zonas geográficas que fazem parte da simulação, com as
+     * distâncias aproximadas de Teresina ({@link Zonas#distanciasTeresina}).
+     *
+     * @param listaZonas A lista completa de zonas.
+     * @throws IllegalArgumentException se alguma zona não for de Teresina.
+     */
+    public void setZonas(EstruturaLista<Zona> listaZonas) {
+        setZonas(listaZonas, Zonas.distanciasTeresina(listaZonas));
     }
 
     /**
-     * Define a lista de zonas geográficas que fazem parte da simulação.
+     * Define as zonas da simulação e as suas distâncias às estações, atribui o
+     * índice de cada zona (a sua posição na lista) e calcula as rotas.
      *
      * @param listaZonas A lista completa de zonas.
+     * @param distancias A distância de cada zona (linha, na ordem da lista) a cada
+     *                   estação (coluna, na ordem do construtor).
+     * @throws IllegalArgumentException se a matriz não tiver uma linha por zona e
+     *                                  uma coluna por estação.
      */
-    public void setZonas(Lista<Zona> listaZonas) {
+    public void setZonas(EstruturaLista<Zona> listaZonas, double[][] distancias) {
+        if (distancias.length != listaZonas.getTamanho()) {
+            throw new IllegalArgumentException("A matriz de distâncias deve ter uma linha por zona");
+        }
+        for (double[] linha : distancias) {
+            if (linha.length != estacoes.length) {
+                throw new IllegalArgumentException("A matriz de distâncias deve ter uma coluna por estação");
+            }
+        }
+        int id = 0;
+        for (Zona zona : listaZonas) {
+            zona.setId(id++);
+        }
         this.zonas = listaZonas;
+        this.distancias = distancias;
+        calcularRotas();
+    }
+
+    /**
+     * Troca a política de roteamento e recalcula as rotas das zonas já registradas.
+     *
+     * @param politica A nova política.
+     * @throws IllegalArgumentException se a política for nula.
+     */
+    public void setPolitica(PoliticaRoteamento politica) {
+        if (politica == null) {
+            throw new IllegalArgumentException("Política não pode ser nula");
+        }
+        this.politica = politica;
+        if (zonas != null) {
+            calcularRotas();
+        }
+    }
+
+    /**
+     * Retorna a política de roteamento em uso.
+     *
+     * @return A política atual.
+     */
+    public PoliticaRoteamento getPolitica() {
+        return politica;
+    }
+
+    /**
+     * Retorna o índice da estação que atende a zona informada.
+     *
+     * @param idZona O índice da zona.
+     * @return O índice da estação, na ordem do construtor.
+     */
+    public int getIndiceEstacao(int idZona) {
+        return indicesRota[idZona];
+    }
+
+    private void calcularRotas() {
+        int[] indices = politica.atribuir(zonas, distancias, estacoes.length);
+        EstacaoDeTransferencia[] novaRota = new EstacaoDeTransferencia[indices.length];
+        for (int z = 0; z < indices.length; z++) {
+            novaRota[z] = estacoes[indices[z]];
+        }
+        this.rota = novaRota;
+        this.indicesRota = indices;
+    }
+
+    /**
+     * Retorna as zonas registradas, na ordem dos seus índices.
+     *
+     * @return A lista de zonas, ou {@code null} se ainda não foram definidas.
+     */
+    public EstruturaLista<Zona> getZonas() {
+        return zonas;
     }
 
     /**
@@ -62,8 +185,8 @@ public class GerenciadorZonas {
      *
      * @param listaCaminhoes A lista de caminhões pequenos a ser gerenciada.
      */
-    public void setCaminhoes(Lista<CaminhaoPequeno> listaCaminhoes) {
+    public void setCaminhoes(EstruturaLista<CaminhaoPequeno> listaCaminhoes) {
         this.caminhoes = listaCaminhoes;
     }
 
-}
\ No newline at end of file
+}
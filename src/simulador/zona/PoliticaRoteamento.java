@@ -0,0 +1,84 @@
+package simulador.zona;
+
+import estruturas.lista.EstruturaLista;
+
+/**
+ * Regras para decidir a estação de transferência de cada zona. A decisão é
+ * tomada uma única vez, quando as zonas são registradas no
+ * {@link GerenciadorZonas}, e fica guardada em um vetor indexado pelo
+ * {@link Zona#getId() índice da zona}.
+ */
+public enum PoliticaRoteamento {
+
+    /** Cada zona descarrega na estação mais próxima. */
+    MAIS_PROXIMA {
+        @Override
+        int[] atribuir(EstruturaLista<Zona> zonas, double[][] distancias, int estacoes) {
+            int[] rota = new int[zonas.getTamanho()];
+            for (int z = 0; z < rota.length; z++) {
+                int melhor = 0;
+                for (int e = 1; e < estacoes; e++) {
+                    if (distancias[z][e] < distancias[z][melhor]) {
+                        melhor = e;
+                    }
+                }
+                rota[z] = melhor;
+            }
+            return rota;
+        }
+    },
+
+    /**
+     * Divide as zonas entre as estações de modo que cada estação receba,
+     * em média, uma quantidade parecida de lixo. As zonas são atribuídas
+     * da maior para a menor geração média, cada uma à estação com menos
+     * carga até ali; empates são decididos pela distância.
+     */
+    BALANCEADA {
+        @Override
+        int[] atribuir(EstruturaLista<Zona> zonas, double[][] distancias, int estacoes) {
+            int n = zonas.getTamanho();
+            int[] ordem = new int[n];
+            double[] cargaZona = new double[n];
+            for (Zona zona : zonas) {
+                cargaZona[zona.getId()] = (zona.getLixoMinimo() + zona.getLixoMaximo()) / 2.0;
+                ordem[zona.getId()] = zona.getId();
+            }
+            // Ordenação por inserção: decrescente pela carga, estável pelo índice
+            for (int i = 1; i < n; i++) {
+                int atual = ordem[i];
+                int j = i - 1;
+                while (j >= 0 && cargaZona[ordem[j]] < cargaZona[atual]) {
+                    ordem[j + 1] = ordem[j];
+                    j--;
+                }
+                ordem[j + 1] = atual;
+            }
+
+            int[] rota = new int[n];
+            double[] cargaEstacao = new double[estacoes];
+            for (int z : ordem) {
+                int melhor = 0;
+                for (int e = 1; e < estacoes; e++) {
+                    if (cargaEstacao[e] < cargaEstacao[melhor]
+                            || (cargaEstacao[e] == cargaEstacao[melhor] && distancias[z][e] < distancias[z][melhor])) {
+                        melhor = e;
+                    }
+                }
+                rota[z] = melhor;
+                cargaEstacao[melhor] += cargaZona[z];
+            }
+            return rota;
+        }
+    };
+
+    /**
+     * Calcula a estação de cada zona.
+     *
+     * @param zonas      As zonas, já com os índices atribuídos.
+     * @param distancias A distância de cada zona (linha) a cada estação (coluna).
+     * @param estacoes   O número de estações.
+     * @return O índice da estação de cada zona, indexado pelo índice da zona.
+     */
+    abstract int[] atribuir(EstruturaLista<Zona> zonas, double[][] distancias, int estacoes);
+}
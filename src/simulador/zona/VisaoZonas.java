@@ -0,0 +1,21 @@
+package simulador.zona;
+
+/**
+ * Como um caminhão pequeno enxerga o estado das zonas da sua rota ao escolher
+ * a próxima zona com lixo. Na execução sequencial ele vê o estado atual de
+ * todas; na execução particionada, as zonas atendidas por outra estação são
+ * vistas pelos avisos que a partição dona envia quando uma delas fica limpa.
+ */
+public interface VisaoZonas {
+
+    /** Vê o estado atual de todas as zonas. */
+    VisaoZonas DIRETA = Zona::estaLimpa;
+
+    /**
+     * Verifica se a zona está limpa, do ponto de vista de quem consulta.
+     *
+     * @param zona A zona consultada.
+     * @return {@code true} se a zona deve ser tratada como limpa.
+     */
+    boolean estaLimpa(Zona zona);
+}
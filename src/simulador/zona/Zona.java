@@ -1,6 +1,10 @@
 package simulador.zona;
 
-import java.util.Random;
+import simulador.aleatorio.GeradorAleatorio;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 
 /**
  * Representa uma zona geográfica da cidade na simulação.
@@ -12,6 +16,9 @@ public class Zona {
     /** O nome identificador da zona (ex: "Sul", "Norte"). */
     private String nome;
 
+    /** Índice denso da zona (0 a N-1), atribuído pelo {@link GerenciadorZonas}; -1 até lá. */
+    private int id = -1;
+
     /** A quantidade mínima de lixo que pode ser gerada por dia. */
     private int lixoMinimo;
 
@@ -21,6 +28,9 @@ public class Zona {
     /** A quantidade atual de lixo acumulado na zona, em toneladas. */
     private int lixoAcomulado;
 
+    /** O gerador de números aleatórios próprio da zona. */
+    private GeradorAleatorio aleatorio;
+
     /**
      * Cria uma zona com um nome e limites para a geração de lixo.
      *
@@ -35,14 +45,47 @@ public class Zona {
         this.lixoAcomulado = 0;
     }
 
+    /**
+     * Altera os limites da geração diária de lixo. Vale a partir da próxima
+     * chamada de {@link #gerarLixoDiario()}; o lixo já acumulado não muda.
+     *
+     * @param lixoMinimo O mínimo de lixo (toneladas) gerado por dia.
+     * @param lixoMaximo O máximo de lixo (toneladas) gerado por dia.
+     * @throws IllegalArgumentException se o mínimo for negativo ou maior que o máximo.
+     */
+    public void setLimitesLixo(int lixoMinimo, int lixoMaximo) {
+        if (lixoMinimo < 0 || lixoMinimo > lixoMaximo) {
+            throw new IllegalArgumentException("Limites de lixo inválidos: " + lixoMinimo + ".." + lixoMaximo);
+        }
+        this.lixoMinimo = lixoMinimo;
+        this.lixoMaximo = lixoMaximo;
+    }
+
+    /**
+     * Define o gerador de números aleatórios usado pela zona.
+     * Cada zona deve ter o seu, para que a geração de lixo de zonas diferentes
+     * possa acontecer em paralelo sem alterar os valores sorteados.
+     *
+     * @param aleatorio O gerador próprio da zona.
+     */
+    public void setAleatorio(GeradorAleatorio aleatorio) {
+        this.aleatorio = aleatorio;
+    }
+
     /**
      * Simula a geração diária de lixo na zona.
      * Uma quantidade aleatória de lixo, baseada nos limites mínimo e máximo,
      * é definida como o total acumulado para o dia.
+     *
+     * @return A quantidade de lixo gerada, em toneladas.
+     * @throws IllegalStateException se a zona ainda não tiver um gerador definido.
      */
-    public void gerarLixoDiario() {
-        this.lixoAcomulado = new Random().nextInt(lixoMaximo - lixoMinimo + 1) + lixoMinimo;
-        System.out.println("[Zona] " + nome + " gerou " + lixoAcomulado + " toneladas de lixo.");
+    public int gerarLixoDiario() {
+        if (aleatorio == null) {
+            throw new IllegalStateException("Zona " + nome + " sem gerador de números aleatórios");
+        }
+        this.lixoAcomulado = aleatorio.proximoInt(lixoMaximo - lixoMinimo + 1) + lixoMinimo;
+        return lixoAcomulado;
     }
 
     /**
@@ -77,6 +120,100 @@ public class Zona {
         return lixoAcomulado == 0;
     }
 
+    /**
+     * Guarda o estado mutável da zona: o lixo acumulado e a posição do seu
+     * gerador de números aleatórios.
+     *
+     * @return O estado atual.
+     */
+    public Estado salvarEstado() {
+        return new Estado(this);
+    }
+
+    /**
+     * Volta a zona a um estado obtido com {@link #salvarEstado()}.
+     *
+     * @param estado O estado a ser restaurado.
+     */
+    public void restaurarEstado(Estado estado) {
+        this.lixoAcomulado = estado.lixoAcumulado;
+        if (aleatorio != null) {
+            aleatorio.restaurarEstado(estado.aleatorio);
+        }
+    }
+
+    /**
+     * Grava o estado da zona: os limites da geração diária, o lixo acumulado e
+     * o seu gerador de números aleatórios. O nome e o índice não fazem parte dele.
+     *
+     * @param saida Onde o estado é gravado.
+     * @throws IOException se a gravação falhar.
+     */
+    public void gravarEstado(DataOutput saida) throws IOException {
+        saida.writeInt(lixoMinimo);
+        saida.writeInt(lixoMaximo);
+        saida.writeInt(lixoAcomulado);
+        saida.writeBoolean(aleatorio != null);
+        if (aleatorio != null) {
+            aleatorio.gravarEstado(saida);
+        }
+    }
+
+    /**
+     * Volta a zona a um estado gravado com {@link #gravarEstado(DataOutput)}.
+     *
+     * @param entrada De onde o estado é lido.
+     * @throws IOException se a leitura falhar ou os limites gravados forem inválidos.
+     */
+    public void lerEstado(DataInput entrada) throws IOException {
+        int minimo = entrada.readInt();
+        int maximo = entrada.readInt();
+        int acumulado = entrada.readInt();
+        if (minimo < 0 || minimo > maximo || acumulado < 0) {
+            throw new IOException("Estado inválido para a zona " + nome);
+        }
+        this.lixoMinimo = minimo;
+        this.lixoMaximo = maximo;
+        this.lixoAcomulado = acumulado;
+        this.aleatorio = entrada.readBoolean() ? GeradorAleatorio.lerEstado(entrada) : null;
+    }
+
+    /**
+     * Retorna o índice denso da zona, usado para indexar as tabelas de rotas.
+     *
+     * @return O índice da zona, ou -1 se ela ainda não foi registrada em um gerenciador.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Define o índice da zona. Chamado pelo {@link GerenciadorZonas} ao registrar as zonas.
+     *
+     * @param id O índice da zona na lista de zonas.
+     */
+    void setId(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Retorna o mínimo de lixo gerado por dia.
+     *
+     * @return O limite inferior, em toneladas.
+     */
+    public int getLixoMinimo() {
+        return lixoMinimo;
+    }
+
+    /**
+     * Retorna o máximo de lixo gerado por dia.
+     *
+     * @return O limite superior, em toneladas.
+     */
+    public int getLixoMaximo() {
+        return lixoMaximo;
+    }
+
     /**
      * Retorna o nome da zona.
      *
@@ -85,4 +222,15 @@ public class Zona {
     public String getNome() {
         return nome;
     }
+
+    /** O estado mutável de uma zona em um instante da simulação. */
+    public static final class Estado {
+        private final int lixoAcumulado;
+        private final long aleatorio;
+
+        private Estado(Zona zona) {
+            this.lixoAcumulado = zona.lixoAcomulado;
+            this.aleatorio = zona.aleatorio == null ? 0 : zona.aleatorio.getEstado();
+        }
+    }
 }
\ No newline at end of file
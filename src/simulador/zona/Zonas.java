@@ -1,9 +1,13 @@
 package simulador.zona;
 
-import simulador.configuracao.configuracao;
+import estruturas.lista.EstruturaLista;
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
 
 /**
  * Fornece instâncias pré-configuradas de zonas da cidade.
+ * Os limites de geração de lixo vêm dos {@link ParametrosSimulacao}; as versões
+ * sem argumento usam os valores padrão.
  */
 public class Zonas {
 
@@ -13,7 +17,17 @@ public class Zonas {
      * @return Zona Sul configurada
      */
     public static Zona zonaSul() {
-        return new Zona("Sul", configuracao.LIXO_MIN_SUL, configuracao.LIXO_MAX_SUL);
+        return zonaSul(ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria a zona Sul com os limites dos parâmetros informados.
+     *
+     * @param parametros Parâmetros da simulação
+     * @return Zona Sul configurada
+     */
+    public static Zona zonaSul(ParametrosSimulacao parametros) {
+        return criar("Sul", parametros, Parametro.LIXO_MIN_SUL, Parametro.LIXO_MAX_SUL);
     }
 
     /**
@@ -22,7 +36,17 @@ public class Zonas {
      * @return Zona Norte configurada
      */
     public static Zona zonaNorte() {
-        return new Zona("Norte", configuracao.LIXO_MIN_NORTE, configuracao.LIXO_MAX_NORTE);
+        return zonaNorte(ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria a zona Norte com os limites dos parâmetros informados.
+     *
+     * @param parametros Parâmetros da simulação
+     * @return Zona Norte configurada
+     */
+    public static Zona zonaNorte(ParametrosSimulacao parametros) {
+        return criar("Norte", parametros, Parametro.LIXO_MIN_NORTE, Parametro.LIXO_MAX_NORTE);
     }
 
     /**
@@ -31,7 +55,17 @@ public class Zonas {
      * @return Zona Centro configurada
      */
     public static Zona zonaCentro() {
-        return new Zona("Centro", configuracao.LIXO_MIN_CENTRO, configuracao.LIXO_MAX_CENTRO);
+        return zonaCentro(ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria a zona Centro com os limites dos parâmetros informados.
+     *
+     * @param parametros Parâmetros da simulação
+     * @return Zona Centro configurada
+     */
+    public static Zona zonaCentro(ParametrosSimulacao parametros) {
+        return criar("Centro", parametros, Parametro.LIXO_MIN_CENTRO, Parametro.LIXO_MAX_CENTRO);
     }
 
     /**
@@ -40,7 +74,17 @@ public class Zonas {
      * @return Zona Leste configurada
      */
     public static Zona zonaLeste() {
-        return new Zona("Leste", configuracao.LIXO_MIN_LESTE, configuracao.LIXO_MAX_LESTE);
+        return zonaLeste(ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria a zona Leste com os limites dos parâmetros informados.
+     *
+     * @param parametros Parâmetros da simulação
+     * @return Zona Leste configurada
+     */
+    public static Zona zonaLeste(ParametrosSimulacao parametros) {
+        return criar("Leste", parametros, Parametro.LIXO_MIN_LESTE, Parametro.LIXO_MAX_LESTE);
     }
 
     /**
@@ -49,6 +93,92 @@ public class Zonas {
      * @return Zona Sudeste configurada
      */
     public static Zona zonaSudeste() {
-        return new Zona("Sudeste", configuracao.LIXO_MIN_SUDESTE, configuracao.LIXO_MAX_SUDESTE);
+        return zonaSudeste(ParametrosSimulacao.padrao());
+    }
+
+    /**
+     * Cria a zona Sudeste com os limites dos parâmetros informados.
+     *
+     * @param parametros Parâmetros da simulação
+     * @return Zona Sudeste configurada
+     */
+    public static Zona zonaSudeste(ParametrosSimulacao parametros) {
+        return criar("Sudeste", parametros, Parametro.LIXO_MIN_SUDESTE, Parametro.LIXO_MAX_SUDESTE);
+    }
+
+    /**
+     * Aplica a uma zona já criada os limites dos parâmetros informados,
+     * localizando-os pelo nome da zona. Usado quando a configuração é
+     * recarregada no meio da simulação.
+     *
+     * @param zona       A zona a ser reconfigurada
+     * @param parametros Os novos parâmetros
+     * @throws IllegalArgumentException se a zona não for uma das zonas conhecidas
+     */
+    public static void reconfigurar(Zona zona, ParametrosSimulacao parametros) {
+        switch (zona.getNome()) {
+            case "Sul":
+                aplicar(zona, parametros, Parametro.LIXO_MIN_SUL, Parametro.LIXO_MAX_SUL);
+                break;
+            case "Norte":
+                aplicar(zona, parametros, Parametro.LIXO_MIN_NORTE, Parametro.LIXO_MAX_NORTE);
+                break;
+            case "Centro":
+                aplicar(zona, parametros, Parametro.LIXO_MIN_CENTRO, Parametro.LIXO_MAX_CENTRO);
+                break;
+            case "Leste":
+                aplicar(zona, parametros, Parametro.LIXO_MIN_LESTE, Parametro.LIXO_MAX_LESTE);
+                break;
+            case "Sudeste":
+                aplicar(zona, parametros, Parametro.LIXO_MIN_SUDESTE, Parametro.LIXO_MAX_SUDESTE);
+                break;
+            default:
+                throw new IllegalArgumentException("Zona desconhecida: " + zona.getNome());
+        }
+    }
+
+    /**
+     * Monta a matriz de distâncias das zonas de Teresina às estações A e B.
+     * Os valores são aproximados, em quilômetros, e reproduzem a divisão
+     * original: a estação A fica mais perto de Leste, Norte e Centro, e a
+     * estação B, de Sul e Sudeste.
+     *
+     * @param zonas As zonas, na ordem das linhas da matriz.
+     * @return A distância de cada zona às estações A (coluna 0) e B (coluna 1).
+     * @throws IllegalArgumentException se alguma zona não for de Teresina.
+     */
+    public static double[][] distanciasTeresina(EstruturaLista<Zona> zonas) {
+        double[][] distancias = new double[zonas.getTamanho()][];
+        int linha = 0;
+        for (Zona zona : zonas) {
+            switch (zona.getNome()) {
+                case "Sul":
+                    distancias[linha++] = new double[]{14, 4};
+                    break;
+                case "Sudeste":
+                    distancias[linha++] = new double[]{11, 5};
+                    break;
+                case "Centro":
+                    distancias[linha++] = new double[]{5, 8};
+                    break;
+                case "Leste":
+                    distancias[linha++] = new double[]{6, 10};
+                    break;
+                case "Norte":
+                    distancias[linha++] = new double[]{4, 15};
+                    break;
+                default:
+                    throw new IllegalArgumentException("Zona desconhecida: " + zona.getNome());
+            }
+        }
+        return distancias;
+    }
+
+    private static Zona criar(String nome, ParametrosSimulacao parametros, Parametro minimo, Parametro maximo) {
+        return new Zona(nome, parametros.getInt(minimo), parametros.getInt(maximo));
+    }
+
+    private static void aplicar(Zona zona, ParametrosSimulacao parametros, Parametro minimo, Parametro maximo) {
+        zona.setLimitesLixo(parametros.getInt(minimo), parametros.getInt(maximo));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package estruturas.filas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Confere a ordem dos elementos de {@link FilaCircular} contra uma
+ * {@link ArrayDeque}, principalmente quando o vetor cresce com a fila dando a
+ * volta no fim dele.
+ */
+class FilaCircularTest {
+
+    private static List<Integer> emOrdem(Iterable<Integer> fila) {
+        List<Integer> lista = new ArrayList<>();
+        for (Integer valor : fila) {
+            lista.add(valor);
+        }
+        return lista;
+    }
+
+    private static void conferir(ArrayDeque<Integer> referencia, FilaCircular<Integer> fila) {
+        assertEquals(referencia.size(), fila.size());
+        assertEquals(referencia.peekFirst(), fila.peek());
+        assertEquals(emOrdem(referencia), emOrdem(fila));
+    }
+
+    @Test
+    void cresceComOInicioNoMeioDoVetor() {
+        FilaCircular<Integer> fila = new FilaCircular<>(8);
+        ArrayDeque<Integer> referencia = new ArrayDeque<>();
+        int proximo = 0;
+
+        // Avança o início até o meio do vetor
+        for (int i = 0; i < 5; i++) {
+            fila.enqueue(proximo);
+            referencia.addLast(proximo++);
+        }
+        for (int i = 0; i < 5; i++) {
+            assertEquals(referencia.pollFirst(), fila.dequeue());
+        }
+
+        // Enche o vetor, dando a volta no fim dele
+        for (int i = 0; i < 8; i++) {
+            fila.enqueue(proximo);
+            referencia.addLast(proximo++);
+        }
+        assertEquals(8, fila.getCapacidade());
+        conferir(referencia, fila);
+
+        // O próximo elemento força o crescimento com a fila dividida em dois trechos
+        fila.enqueue(proximo);
+        referencia.addLast(proximo++);
+        assertEquals(16, fila.getCapacidade());
+        conferir(referencia, fila);
+
+        while (!referencia.isEmpty()) {
+            assertEquals(referencia.pollFirst(), fila.dequeue());
+        }
+        assertNull(fila.dequeue());
+        assertEquals(0, fila.size());
+    }
+
+    @Test
+    void mesmaOrdemQueArrayDequeEmOperacoesAleatorias() {
+        SplittableRandom aleatorio = new SplittableRandom(10L);
+        FilaCircular<Integer> fila = new FilaCircular<>(8);
+        ArrayDeque<Integer> referencia = new ArrayDeque<>();
+        int proximo = 0;
+        for (int i = 0; i < 20_000; i++) {
+            // Entradas um pouco mais frequentes que saídas, para a fila crescer em várias posições do início
+            if (aleatorio.nextInt(100) < 55) {
+                fila.enqueue(proximo);
+                referencia.addLast(proximo++);
+            } else {
+                assertEquals(referencia.pollFirst(), fila.dequeue());
+            }
+            if (i % 97 == 0) {
+                conferir(referencia, fila);
+            }
+        }
+        conferir(referencia, fila);
+    }
+}
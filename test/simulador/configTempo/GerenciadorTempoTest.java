@@ -0,0 +1,103 @@
+package simulador.configTempo;
+
+import org.junit.jupiter.api.Test;
+import simulador.configuracao.Parametro;
+import simulador.configuracao.ParametrosSimulacao;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Confere o cálculo por intervalos de {@link GerenciadorTempo#estimarTempoViagem}
+ * contra o laço minuto a minuto que ele substituiu, usado aqui como oráculo.
+ */
+class GerenciadorTempoTest {
+
+    /** Limites das janelas de pico, em minutos desde 00:00; os intervalos são fechados. */
+    private static final int[] LIMITES_PICO = {360, 540, 1020, 1200};
+
+    /** Minuto do dia (desde 00:00) que corresponde ao tempo zero da simulação. */
+    private static final int HORA_INICIAL = 420;
+
+    private static final int CASOS_ALEATORIOS = 200_000;
+
+    /** O laço minuto a minuto que {@code estimarTempoViagem} usava antes do cálculo por intervalos. */
+    private static int lacoPorMinuto(int tempoSimulacao, int duracaoPadrao, ParametrosSimulacao parametros) {
+        int minutosRestantes = duracaoPadrao;
+        int tempoAcumulado = 0;
+        int tempoAtual = HORA_INICIAL + tempoSimulacao;
+        while (minutosRestantes > 0) {
+            boolean pico = (tempoAtual >= 360 && tempoAtual <= 540) || (tempoAtual >= 1020 && tempoAtual <= 1200);
+            double fatorTrafego = pico
+                    ? parametros.getDouble(Parametro.MULTIPLICADOR_TEMPO_PICO)
+                    : parametros.getDouble(Parametro.MULTIPLICADOR_TEMPO_FORA_PICO);
+            tempoAcumulado += (int) Math.ceil(fatorTrafego);
+            tempoAtual++;
+            minutosRestantes--;
+        }
+        return tempoAcumulado;
+    }
+
+    private static void conferir(int tempoSimulacao, int duracao, ParametrosSimulacao parametros) {
+        assertEquals(lacoPorMinuto(tempoSimulacao, duracao, parametros),
+                GerenciadorTempo.estimarTempoViagem(tempoSimulacao, duracao, parametros),
+                () -> "início " + tempoSimulacao + ", duração " + duracao);
+    }
+
+    private static void conferirAleatorios(ParametrosSimulacao parametros, long semente) {
+        SplittableRandom aleatorio = new SplittableRandom(semente);
+        for (int i = 0; i < CASOS_ALEATORIOS; i++) {
+            conferir(aleatorio.nextInt(2500), aleatorio.nextInt(600), parametros);
+        }
+    }
+
+    @Test
+    void igualAoLacoEmViagensAleatorias() {
+        conferirAleatorios(ParametrosSimulacao.padrao(), 20240601L);
+    }
+
+    @Test
+    void igualAoLacoComMultiplicadoresFracionarios() {
+        ParametrosSimulacao parametros = ParametrosSimulacao.padrao()
+                .com(Parametro.MULTIPLICADOR_TEMPO_PICO, 2.3)
+                .com(Parametro.MULTIPLICADOR_TEMPO_FORA_PICO, 1.1);
+        conferirAleatorios(parametros, 7L);
+    }
+
+    /**
+     * Viagens que começam ou terminam em um limite de pico, ou a poucos
+     * minutos dele. O minuto 360 fica antes do início da simulação, então só
+     * é alcançado como limite de viagens que começam no tempo zero.
+     */
+    @Test
+    void igualAoLacoNosLimitesDosPicos() {
+        ParametrosSimulacao parametros = ParametrosSimulacao.padrao();
+        for (int limite : LIMITES_PICO) {
+            for (int desvio = -2; desvio <= 2; desvio++) {
+                int minuto = limite + desvio;
+                for (int duracao = 0; duracao <= 400; duracao++) {
+                    // Começa no minuto
+                    int inicio = minuto - HORA_INICIAL;
+                    if (inicio >= 0) {
+                        conferir(inicio, duracao, parametros);
+                    }
+                    // Termina no minuto: o último minuto da viagem é inicio + duracao - 1
+                    int inicioAteMinuto = minuto - HORA_INICIAL - duracao + 1;
+                    if (inicioAteMinuto >= 0) {
+                        conferir(inicioAteMinuto, duracao, parametros);
+                    }
+                }
+            }
+        }
+        conferir(0, 0, parametros);
+        conferir(0, 1, parametros);
+    }
+
+    @Test
+    void recusaTemposNegativos() {
+        assertThrows(IllegalArgumentException.class, () -> GerenciadorTempo.estimarTempoViagem(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> GerenciadorTempo.estimarTempoViagem(10, -1));
+    }
+}
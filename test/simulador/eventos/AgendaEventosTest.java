@@ -0,0 +1,51 @@
+package simulador.eventos;
+
+import org.junit.jupiter.api.Test;
+import simulador.ContextoSimulacao;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Confere a contagem de cancelamentos pendentes da {@link AgendaEventos}
+ * quando {@link AgendaEventos#resetar()} descarta eventos ainda agendados.
+ */
+class AgendaEventosTest {
+
+    private static final class EventoVazio extends Evento {
+        EventoVazio(int tempo) {
+            super(tempo);
+        }
+
+        @Override
+        public void executar(ContextoSimulacao contexto) {
+        }
+    }
+
+    @Test
+    void eventoDescartadoNoResetNaoContaComoCancelamento() {
+        AgendaEventos agenda = new AgendaEventos();
+        Evento descartado = new EventoVazio(100);
+        agenda.adicionarEvento(descartado);
+        agenda.resetar();
+
+        assertFalse(descartado.estaAgendado());
+        assertFalse(agenda.removerEvento(descartado));
+
+        agenda.adicionarEvento(new EventoVazio(10));
+        assertTrue(agenda.temEventos());
+    }
+
+    @Test
+    void eventoDescartadoNoResetPodeSerAgendadoDeNovo() {
+        AgendaEventos agenda = new AgendaEventos();
+        Evento evento = new EventoVazio(100);
+        agenda.adicionarEvento(evento);
+        agenda.resetar();
+
+        agenda.adicionarEvento(evento);
+        assertTrue(evento.estaAgendado());
+        assertTrue(agenda.removerEvento(evento));
+        assertFalse(agenda.temEventos());
+    }
+}
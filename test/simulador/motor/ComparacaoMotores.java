@@ -0,0 +1,92 @@
+package simulador.motor;
+
+import simulador.ContextoSimulacao;
+import simulador.ResumoDia;
+import simulador.Simulador;
+import simulador.configuracao.ParametrosSimulacao;
+import simulador.log.RegistroSimulacao;
+import simulador.metricas.Histograma;
+import simulador.metricas.Metrica;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara, dia a dia, os resumos de um motor paralelo com os do
+ * {@link MotorSequencial} em várias sementes, frotas e números de estações.
+ */
+final class ComparacaoMotores {
+
+    static final int DIAS = 5;
+    static final int SEMENTES = 30;
+    static final int[] FATORES_FROTA = {1, 3};
+
+    /** Números de estações; 0 usa as estações padrão do simulador. */
+    static final int[] ESTACOES = {0, 1, 3, 4, 5};
+
+    private ComparacaoMotores() {
+    }
+
+    /**
+     * Confere que o motor criado pela fábrica dá os mesmos resumos que o
+     * sequencial em todas as combinações.
+     */
+    static void conferir(String nome, Supplier<MotorEventos> fabrica) {
+        for (int estacoes : ESTACOES) {
+            for (int fator : FATORES_FROTA) {
+                for (long semente = 1; semente <= SEMENTES; semente++) {
+                    String caso = nome + ", " + estacoes + " estações, frota x" + fator + ", semente " + semente;
+                    ResumoDia[] esperado = simular(new MotorSequencial(), semente, fator, estacoes);
+                    ResumoDia[] obtido = simular(fabrica.get(), semente, fator, estacoes);
+                    for (int dia = 0; dia < DIAS; dia++) {
+                        assertEquals(descrever(esperado[dia]), descrever(obtido[dia]), caso + ", dia " + (dia + 1));
+                    }
+                }
+            }
+        }
+    }
+
+    private static ResumoDia[] simular(MotorEventos motor, long semente, int fator, int estacoes) {
+        ContextoSimulacao contexto = new ContextoSimulacao(semente, RegistroSimulacao.silencioso());
+        Simulador simulador = new Simulador(contexto, ParametrosSimulacao.padrao().comFrotaEscalada(fator));
+        if (estacoes > 0) {
+            String[] nomes = new String[estacoes];
+            for (int i = 0; i < estacoes; i++) {
+                nomes[i] = "E" + i;
+            }
+            simulador.setEstacoes(nomes, distancias(simulador.inicializarZonas().getTamanho(), estacoes));
+        }
+        simulador.setMotor(motor);
+        return simulador.iniciarSimulacao(DIAS);
+    }
+
+    /** Espalha as estações ao longo das zonas, para que os caminhões passem de uma para outra. */
+    private static double[][] distancias(int zonas, int estacoes) {
+        double[][] distancias = new double[zonas][estacoes];
+        for (int z = 0; z < zonas; z++) {
+            for (int e = 0; e < estacoes; e++) {
+                distancias[z][e] = Math.abs(z - e * (double) zonas / estacoes) + 0.1 * e;
+            }
+        }
+        return distancias;
+    }
+
+    private static String descrever(ResumoDia resumo) {
+        StringBuilder texto = new StringBuilder()
+                .append("lixo coletado ").append(resumo.getLixoColetado())
+                .append(", viagens ").append(resumo.getViagensColeta())
+                .append(", encerramento ").append(resumo.getTempoEncerramento())
+                .append(", caminhões grandes ").append(resumo.getCaminhoesGrandesCriados())
+                .append(", lixo restante ").append(resumo.getLixoRestante());
+        for (Metrica metrica : Metrica.values()) {
+            Histograma histograma = resumo.getEstatisticas().getHistograma(metrica);
+            texto.append(", ").append(metrica).append(' ')
+                    .append(histograma.getQuantidade()).append('/')
+                    .append(histograma.getMedia()).append('/')
+                    .append(histograma.getMinimo()).append('/')
+                    .append(histograma.getMaximo());
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package simulador.motor;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Confere que o {@link MotorConservador} reproduz o {@link MotorSequencial},
+ * com uma e com várias threads.
+ */
+class MotorConservadorTest {
+
+    @Test
+    void mesmosResumosQueOMotorSequencialComUmaThread() {
+        ComparacaoMotores.conferir("conservador, 1 thread", () -> new MotorConservador(1));
+    }
+
+    @Test
+    void mesmosResumosQueOMotorSequencialComQuatroThreads() {
+        ComparacaoMotores.conferir("conservador, 4 threads", () -> new MotorConservador(4));
+    }
+}
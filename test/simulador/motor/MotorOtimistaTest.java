@@ -0,0 +1,26 @@
+package simulador.motor;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Confere que o {@link MotorOtimista} reproduz o {@link MotorSequencial},
+ * com uma e com várias threads e com uma janela curta, que força mais
+ * eventos desfeitos.
+ */
+class MotorOtimistaTest {
+
+    @Test
+    void mesmosResumosQueOMotorSequencialComUmaThread() {
+        ComparacaoMotores.conferir("otimista, 1 thread", () -> new MotorOtimista(1));
+    }
+
+    @Test
+    void mesmosResumosQueOMotorSequencialComQuatroThreads() {
+        ComparacaoMotores.conferir("otimista, 4 threads", () -> new MotorOtimista(4));
+    }
+
+    @Test
+    void mesmosResumosQueOMotorSequencialComJanelaCurta() {
+        ComparacaoMotores.conferir("otimista, 4 threads, janela 5", () -> new MotorOtimista(4, 5));
+    }
+}